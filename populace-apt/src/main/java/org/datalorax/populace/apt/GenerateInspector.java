@@ -0,0 +1,39 @@
+/*
+ * Copyright (c) 2015 Andrew Coates
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.datalorax.populace.apt;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a class for which the {@link InspectorProcessor} should generate an inspector at build time.
+ * <p>
+ * The generated inspector reads and writes the fields the class declares directly, rather than via reflection, where
+ * the field is accessible from the class's package, and is registered into the
+ * {@link org.datalorax.populace.core.walk.inspector.Inspectors#defaults() default inspectors} via
+ * {@link java.util.ServiceLoader}.
+ *
+ * @author Andrew Coates - 17/10/2026.
+ */
+@Documented
+@Retention(RetentionPolicy.CLASS)
+@Target(ElementType.TYPE)
+public @interface GenerateInspector {
+}
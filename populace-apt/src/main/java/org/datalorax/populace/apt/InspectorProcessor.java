@@ -0,0 +1,379 @@
+/*
+ * Copyright (c) 2015 Andrew Coates
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.datalorax.populace.apt;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.Messager;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.annotation.processing.SupportedOptions;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Types;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardLocation;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * Annotation processor that generates a {@link org.datalorax.populace.core.walk.inspector.DirectFieldInspector} for
+ * each class annotated with {@link GenerateInspector}, or listed, comma separated, in the {@value #TYPES_OPTION}
+ * compiler option.
+ * <p>
+ * Inspectors are generated into the package of the class they inspect, so that they can read and write any field that
+ * is not private directly. Private and final fields, and fields whose type can not be named from the package, fall back
+ * to the {@link org.datalorax.populace.core.walk.field.RawFieldFactory} of the walker's inspectors. Final fields can't
+ * be assigned directly and may have been inlined as constants, so are left to reflection entirely. Generated inspectors are
+ * listed in {@code META-INF/services}, so that they are picked up by
+ * {@link org.datalorax.populace.core.walk.inspector.Inspectors#defaults()}.
+ * <p>
+ * Inspectors can not be generated for collections, maps or map entries: a generated inspector would take precedence over
+ * the inspector installed for the container, and so hide the container's elements from walks.
+ *
+ * @author Andrew Coates - 17/10/2026.
+ */
+@SupportedAnnotationTypes("org.datalorax.populace.apt.GenerateInspector")
+@SupportedOptions(InspectorProcessor.TYPES_OPTION)
+public class InspectorProcessor extends AbstractProcessor {
+    public static final String TYPES_OPTION = "populace.inspect";
+    public static final String INSPECTOR_SUFFIX = "_PopulaceInspector";
+
+    private static final String SERVICE_FILE =
+        "META-INF/services/org.datalorax.populace.core.walk.inspector.InspectorRegistration";
+
+    private static final String[] GENERATED_ANNOTATIONS = {
+        "javax.annotation.processing.Generated", "javax.annotation.Generated"};
+
+    private static final String[] CONTAINER_TYPES = {"java.util.Collection", "java.util.Map", "java.util.Map.Entry"};
+
+    private final Set<String> generated = new LinkedHashSet<>();
+    private boolean optionProcessed;
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(final Set<? extends TypeElement> annotations, final RoundEnvironment roundEnv) {
+        if (roundEnv.processingOver()) {
+            writeServiceFile();
+            return false;
+        }
+
+        if (!optionProcessed) {
+            optionProcessed = true;
+            processTypesOption();
+        }
+
+        for (Element element : roundEnv.getElementsAnnotatedWith(GenerateInspector.class)) {
+            generateInspector((TypeElement) element);
+        }
+        return false;
+    }
+
+    private void processTypesOption() {
+        final String types = processingEnv.getOptions().get(TYPES_OPTION);
+        if (types == null) {
+            return;
+        }
+
+        for (String name : types.split(",")) {
+            if (name.trim().isEmpty()) {
+                continue;
+            }
+
+            final TypeElement type = processingEnv.getElementUtils().getTypeElement(name.trim());
+            if (type == null) {
+                messager().printMessage(Diagnostic.Kind.ERROR,
+                    "Unknown type in " + TYPES_OPTION + " option: " + name.trim());
+                continue;
+            }
+
+            generateInspector(type);
+        }
+    }
+
+    private void generateInspector(final TypeElement type) {
+        if (type.getKind() != ElementKind.CLASS && type.getKind() != ElementKind.ENUM) {
+            messager().printMessage(Diagnostic.Kind.ERROR, "Inspectors can only be generated for classes", type);
+            return;
+        }
+
+        if (!isAccessibleFromOwnPackage(type)) {
+            messager().printMessage(Diagnostic.Kind.ERROR,
+                "Inspectors can not be generated for private, local or anonymous classes", type);
+            return;
+        }
+
+        final String container = getContainerType(type);
+        if (container != null) {
+            messager().printMessage(Diagnostic.Kind.ERROR, "Inspectors can not be generated for sub-types of " +
+                container + ", as they would hide the container's elements from walks", type);
+            return;
+        }
+
+        final String packageName = processingEnv.getElementUtils().getPackageOf(type).getQualifiedName().toString();
+        final String simpleName = simpleInspectorName(type);
+        final String inspectorName = packageName.isEmpty() ? simpleName : packageName + "." + simpleName;
+        if (!generated.add(inspectorName)) {
+            return;
+        }
+
+        try {
+            final JavaFileObject file = processingEnv.getFiler().createSourceFile(inspectorName, type);
+            try (Writer writer = file.openWriter()) {
+                writer.write(generateSource(packageName, type));
+            }
+        } catch (IOException e) {
+            messager().printMessage(Diagnostic.Kind.ERROR, "Failed to write inspector: " + e.getMessage(), type);
+        }
+    }
+
+    private String generateSource(final String packageName, final TypeElement type) {
+        final String typeName = type.getQualifiedName().toString();
+        final StringBuilder fields = new StringBuilder();
+        final StringBuilder collect = new StringBuilder();
+
+        for (VariableElement field : ElementFilter.fieldsIn(type.getEnclosedElements())) {
+            final String name = field.getSimpleName().toString();
+            final String lookup = typeName + ".class.getDeclaredField(\"" + name + "\")";
+
+            if (!isDirectlyAccessible(packageName, field)) {
+                collect.append("        collected.add(inspectors.getRawFieldFactory().createField(")
+                    .append(lookup).append(", annotationInspector));\n");
+                continue;
+            }
+
+            collect.append("        collected.add(new Field_").append(name).append('(')
+                .append(lookup).append(", annotationInspector));\n");
+            appendField(fields, typeName, field);
+        }
+
+        final StringBuilder source = new StringBuilder();
+        if (!packageName.isEmpty()) {
+            source.append("package ").append(packageName).append(";\n\n");
+        }
+        source.append("/**\n")
+            .append(" * Inspector for {@link ").append(typeName).append("}, generated by {@link ")
+            .append(InspectorProcessor.class.getName()).append("}.\n")
+            .append(" */\n")
+            .append(generatedAnnotation())
+            .append("@SuppressWarnings({\"rawtypes\", \"unchecked\"})\n")
+            .append("public final class ").append(simpleInspectorName(type))
+            .append(" extends org.datalorax.populace.core.walk.inspector.DirectFieldInspector {\n")
+            .append("    public ").append(simpleInspectorName(type)).append("() {\n")
+            .append("        super(").append(typeName).append(".class);\n")
+            .append("    }\n\n")
+            .append("    @Override\n")
+            .append("    protected void collectFields(final org.datalorax.populace.core.walk.inspector.Inspectors inspectors,\n")
+            .append("                                 final java.util.List<org.datalorax.populace.core.walk.field.RawField> collected)\n")
+            .append("        throws ReflectiveOperationException {\n")
+            .append("        final org.datalorax.populace.core.walk.inspector.annotation.AnnotationInspector annotationInspector =\n")
+            .append("            inspectors.getAnnotationInspector();\n")
+            .append(collect)
+            .append("    }\n")
+            .append(fields)
+            .append("}\n");
+        return source.toString();
+    }
+
+    /**
+     * The {@code Generated} annotation moved to {@code javax.annotation.processing} in Java 9, and was removed from
+     * {@code javax.annotation} in Java 11, so use whichever is available, if any.
+     */
+    private String generatedAnnotation() {
+        for (String name : GENERATED_ANNOTATIONS) {
+            if (processingEnv.getElementUtils().getTypeElement(name) != null) {
+                return "@" + name + "(\"" + InspectorProcessor.class.getName() + "\")\n";
+            }
+        }
+        return "";
+    }
+
+    private void appendField(final StringBuilder out, final String typeName, final VariableElement field) {
+        final String name = field.getSimpleName().toString();
+        final boolean isStatic = field.getModifiers().contains(Modifier.STATIC);
+        final TypeMirror fieldType = processingEnv.getTypeUtils().erasure(field.asType());
+        final String fieldTypeName = typeName(fieldType);
+        final String access = isStatic ? typeName + "." + name : "((" + typeName + ") owningInstance)." + name;
+
+        out.append('\n')
+            .append("    private static final class Field_").append(name)
+            .append(" extends org.datalorax.populace.core.walk.field.StdRawField {\n")
+            .append("        Field_").append(name).append("(final java.lang.reflect.Field field,\n")
+            .append("                final org.datalorax.populace.core.walk.inspector.annotation.AnnotationInspector annotationInspector) {\n")
+            .append("            super(field, annotationInspector);\n")
+            .append("        }\n\n")
+            .append("        @Override\n")
+            .append("        public Object getValue(final Object owningInstance) {\n")
+            .append("            return ").append(access).append(";\n")
+            .append("        }\n");
+
+        final String valueType = fieldType.getKind().isPrimitive() ? boxedTypeName(fieldType) : fieldTypeName;
+        out.append('\n')
+            .append("        @Override\n")
+            .append("        public void setValue(final Object owningInstance, final Object value) {\n")
+            .append("            ").append(access).append(" = (").append(valueType).append(") value;\n")
+            .append("        }\n");
+
+        if (fieldType.getKind().isPrimitive()) {
+            final String accessorName = primitiveAccessorName(fieldType);
+            out.append('\n')
+                .append("        @Override\n")
+                .append("        public ").append(fieldTypeName).append(" get").append(accessorName)
+                .append("(final Object owningInstance) {\n")
+                .append("            return ").append(access).append(";\n")
+                .append("        }\n\n")
+                .append("        @Override\n")
+                .append("        public void set").append(accessorName).append("(final Object owningInstance, final ")
+                .append(fieldTypeName).append(" value) {\n")
+                .append("            ").append(access).append(" = value;\n")
+                .append("        }\n");
+        }
+
+        out.append("    }\n");
+    }
+
+    /**
+     * @return the name of the container type {@code type} implements, or {@code null} if it is not a container.
+     */
+    private String getContainerType(final TypeElement type) {
+        final Types types = processingEnv.getTypeUtils();
+        final TypeMirror erased = types.erasure(type.asType());
+        for (String name : CONTAINER_TYPES) {
+            final TypeElement container = processingEnv.getElementUtils().getTypeElement(name);
+            if (container != null && types.isAssignable(erased, types.erasure(container.asType()))) {
+                return name;
+            }
+        }
+        return null;
+    }
+
+    private String simpleInspectorName(final TypeElement type) {
+        final String binaryName = processingEnv.getElementUtils().getBinaryName(type).toString();
+        final String packageName = processingEnv.getElementUtils().getPackageOf(type).getQualifiedName().toString();
+        final String localName = packageName.isEmpty() ? binaryName : binaryName.substring(packageName.length() + 1);
+        return localName.replace('$', '_') + INSPECTOR_SUFFIX;
+    }
+
+    private String typeName(final TypeMirror type) {
+        switch (type.getKind()) {
+            case ARRAY:
+                return typeName(((ArrayType) type).getComponentType()) + "[]";
+            case DECLARED:
+                return ((TypeElement) ((DeclaredType) type).asElement()).getQualifiedName().toString();
+            case TYPEVAR:
+                return typeName(processingEnv.getTypeUtils().erasure(type));
+            default:
+                // Primitives:
+                return type.getKind().name().toLowerCase();
+        }
+    }
+
+    private String boxedTypeName(final TypeMirror primitive) {
+        final Types types = processingEnv.getTypeUtils();
+        return types.boxedClass(types.getPrimitiveType(primitive.getKind())).getQualifiedName().toString();
+    }
+
+    private static String primitiveAccessorName(final TypeMirror primitive) {
+        final String name = primitive.getKind().name();
+        return name.charAt(0) + name.substring(1).toLowerCase();
+    }
+
+    private boolean isDirectlyAccessible(final String packageName, final VariableElement field) {
+        final Set<Modifier> modifiers = field.getModifiers();
+        return !modifiers.contains(Modifier.PRIVATE) && !modifiers.contains(Modifier.FINAL)
+            && isNameableFrom(packageName, field.asType());
+    }
+
+    private boolean isNameableFrom(final String packageName, final TypeMirror type) {
+        switch (type.getKind()) {
+            case ARRAY:
+                return isNameableFrom(packageName, ((ArrayType) type).getComponentType());
+            case DECLARED:
+                return isAccessibleFrom(packageName, (TypeElement) ((DeclaredType) type).asElement());
+            case TYPEVAR:
+                return isNameableFrom(packageName, processingEnv.getTypeUtils().erasure(type));
+            default:
+                return type.getKind().isPrimitive();
+        }
+    }
+
+    private boolean isAccessibleFromOwnPackage(final TypeElement type) {
+        final String packageName = processingEnv.getElementUtils().getPackageOf(type).getQualifiedName().toString();
+        return isAccessibleFrom(packageName, type);
+    }
+
+    private boolean isAccessibleFrom(final String packageName, final TypeElement type) {
+        final boolean samePackage =
+            processingEnv.getElementUtils().getPackageOf(type).getQualifiedName().contentEquals(packageName);
+
+        Element element = type;
+        while (element instanceof TypeElement) {
+            final TypeElement typeElement = (TypeElement) element;
+            final NestingKind nesting = typeElement.getNestingKind();
+            if (nesting != NestingKind.TOP_LEVEL && nesting != NestingKind.MEMBER) {
+                return false;
+            }
+
+            final Set<Modifier> modifiers = typeElement.getModifiers();
+            if (modifiers.contains(Modifier.PRIVATE) || (!samePackage && !modifiers.contains(Modifier.PUBLIC))) {
+                return false;
+            }
+
+            element = typeElement.getEnclosingElement();
+        }
+        return true;
+    }
+
+    private void writeServiceFile() {
+        if (generated.isEmpty()) {
+            return;
+        }
+
+        try {
+            final FileObject file = processingEnv.getFiler()
+                .createResource(StandardLocation.CLASS_OUTPUT, "", SERVICE_FILE);
+            try (Writer writer = file.openWriter()) {
+                for (String inspector : generated) {
+                    writer.write(inspector);
+                    writer.write('\n');
+                }
+            }
+        } catch (IOException e) {
+            messager().printMessage(Diagnostic.Kind.ERROR, "Failed to write " + SERVICE_FILE + ": " + e.getMessage());
+        }
+    }
+
+    private Messager messager() {
+        return processingEnv.getMessager();
+    }
+}
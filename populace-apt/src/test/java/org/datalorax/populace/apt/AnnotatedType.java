@@ -0,0 +1,45 @@
+/*
+ * Copyright (c) 2015 Andrew Coates
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.datalorax.populace.apt;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Test fixture: inspector generated via {@link GenerateInspector}.
+ *
+ * @author Andrew Coates - 17/10/2026.
+ */
+@SuppressWarnings("UnusedDeclaration")
+@GenerateInspector
+public class AnnotatedType {
+    static Integer staticField;
+    public final long finalField = 1L;
+    String packageField = "package";
+    protected List<String> genericField = new ArrayList<>();
+    int primitiveField = 2;
+    Hidden hiddenTypeField = new Hidden();
+    private String privateField = "private";
+
+    private static final class Hidden {
+    }
+
+    @GenerateInspector
+    static class Nested {
+        double value;
+    }
+}
@@ -0,0 +1,330 @@
+/*
+ * Copyright (c) 2015 Andrew Coates
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.datalorax.populace.apt;
+
+import org.apache.commons.lang3.Validate;
+import org.datalorax.populace.core.populate.GraphPopulator;
+import org.datalorax.populace.core.util.TypeUtils;
+import org.datalorax.populace.core.walk.GraphWalker;
+import org.datalorax.populace.core.walk.field.RawField;
+import org.datalorax.populace.core.walk.field.RawFieldFactory;
+import org.datalorax.populace.core.walk.inspector.annotation.AnnotationInspector;
+import org.datalorax.populace.core.walk.inspector.DirectFieldInspector;
+import org.datalorax.populace.core.walk.inspector.FieldInspector;
+import org.datalorax.populace.core.walk.inspector.Inspector;
+import org.datalorax.populace.core.walk.inspector.Inspectors;
+import org.datalorax.populace.core.walk.visitor.SetAccessibleFieldVisitor;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+import java.io.File;
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+/**
+ * The fixtures in this package are run through the {@link InspectorProcessor} when the tests are compiled.
+ *
+ * @author Andrew Coates - 17/10/2026.
+ */
+public class InspectorProcessorTest {
+    private Inspectors inspectors;
+    private AnnotatedType instance;
+
+    @BeforeMethod
+    public void setUp() throws Exception {
+        inspectors = Inspectors.defaults();
+        instance = new AnnotatedType();
+    }
+
+    @Test
+    public void shouldRegisterInspectorForAnnotatedType() throws Exception {
+        assertThat(inspectors.get(AnnotatedType.class), is(instanceOf(AnnotatedType_PopulaceInspector.class)));
+    }
+
+    @Test
+    public void shouldRegisterInspectorForAnnotatedNestedType() throws Exception {
+        assertThat(inspectors.get(AnnotatedType.Nested.class), is(instanceOf(AnnotatedType_Nested_PopulaceInspector.class)));
+    }
+
+    @Test
+    public void shouldRegisterInspectorForAnyParameterisationOfGenericType() throws Exception {
+        assertThat(inspectors.get(GenericType.class), is(instanceOf(GenericType_PopulaceInspector.class)));
+        assertThat(inspectors.get(TypeUtils.parameterise(GenericType.class, String.class)),
+            is(instanceOf(GenericType_PopulaceInspector.class)));
+    }
+
+    @Test
+    public void shouldWalkGenericTypeUsingGeneratedInspector() throws Exception {
+        // Given:
+        final List<Field> created = new ArrayList<>();
+        final RawFieldFactory factory = inspectors.getRawFieldFactory();
+        final Inspectors recording = Inspectors.newBuilder()
+            .withRawFieldFactory(new RawFieldFactory() {
+                @Override
+                public RawField createField(final Field field, final AnnotationInspector annotationInspector) {
+                    created.add(field);
+                    return factory.createField(field, annotationInspector);
+                }
+
+                @Override
+                public RawField createProperty(final String name, final Method getter, final Method setter,
+                                               final AnnotationInspector annotationInspector) {
+                    return factory.createProperty(name, getter, setter, annotationInspector);
+                }
+
+                @Override
+                public RawField createImmutableProperty(final String name, final Method getter,
+                                                        final AnnotationInspector annotationInspector) {
+                    return factory.createImmutableProperty(name, getter, annotationInspector);
+                }
+            })
+            .build();
+        final GraphWalker walker = GraphWalker.newBuilder().withInspectors(recording).build();
+
+        // When:
+        walker.walk(new WithGenericType(), SetAccessibleFieldVisitor.INSTANCE, element -> {});
+
+        // Then:
+        assertThat(created, hasItem(WithGenericType.class.getDeclaredField("generic")));
+        assertThat(created, not(hasItem(GenericType.class.getDeclaredField("label"))));
+    }
+
+    @Test
+    public void shouldRegisterInspectorForConfiguredType() throws Exception {
+        assertThat(inspectors.get(ConfiguredType.class), is(instanceOf(ConfiguredType_PopulaceInspector.class)));
+    }
+
+    @Test
+    public void shouldExposeSameFieldsAsFieldInspector() throws Exception {
+        // When:
+        final Set<String> generated = fieldNames(inspectors.get(AnnotatedType.class));
+
+        // Then:
+        assertThat(generated, is(fieldNames(FieldInspector.INSTANCE)));
+    }
+
+    @Test
+    public void shouldAccessNonPrivateFieldsDirectly() throws Exception {
+        assertThat(isDirect("staticField"), is(true));
+        assertThat(isDirect("packageField"), is(true));
+        assertThat(isDirect("genericField"), is(true));
+        assertThat(isDirect("primitiveField"), is(true));
+    }
+
+    @Test
+    public void shouldFallBackToRawFieldFactoryForPrivateFields() throws Exception {
+        assertThat(isDirect("privateField"), is(false));
+    }
+
+    @Test
+    public void shouldFallBackToRawFieldFactoryForFinalFields() throws Exception {
+        assertThat(isDirect("finalField"), is(false));
+    }
+
+    @Test
+    public void shouldFallBackToRawFieldFactoryForFieldsOfTypesThatCanNotBeNamed() throws Exception {
+        assertThat(isDirect("hiddenTypeField"), is(false));
+    }
+
+    @Test
+    public void shouldGetAndSetFieldDirectly() throws Exception {
+        // Given:
+        final RawField field = getField("packageField");
+
+        // When:
+        field.setValue(instance, "new value");
+
+        // Then:
+        assertThat(instance.packageField, is("new value"));
+        assertThat(field.getValue(instance), is("new value"));
+    }
+
+    @Test
+    public void shouldGetAndSetPrimitiveFieldDirectly() throws Exception {
+        // Given:
+        final RawField field = getField("primitiveField");
+
+        // When:
+        field.setInt(instance, 42);
+
+        // Then:
+        assertThat(instance.primitiveField, is(42));
+        assertThat(field.getInt(instance), is(42));
+        assertThat(field.getValue(instance), is(42));
+    }
+
+    @Test
+    public void shouldSetBoxedValueOfPrimitiveFieldDirectly() throws Exception {
+        // When:
+        getField("primitiveField").setValue(instance, 24);
+
+        // Then:
+        assertThat(instance.primitiveField, is(24));
+    }
+
+    @Test
+    public void shouldPopulateUsingGeneratedInspectors() throws Exception {
+        // When:
+        final AnnotatedType populated = GraphPopulator.newBuilder().build().populate(new AnnotatedType());
+
+        // Then:
+        assertThat(populated.packageField, is(not("package")));
+        assertThat(populated.primitiveField, is(not(2)));
+    }
+
+    @Test
+    public void shouldGenerateSourceThatCompilesWithoutJavaxAnnotationApi() throws Exception {
+        // Given:
+        final Path dir = Files.createTempDirectory("populace-apt");
+
+        // When:
+        final boolean compiled = compileFixture(dir, new DiagnosticCollector<>(),
+            "package fixture;",
+            "@org.datalorax.populace.apt.GenerateInspector",
+            "public class Fixture {",
+            "    String field;",
+            "}");
+
+        // Then:
+        assertThat(compiled, is(true));
+        assertThat(Files.exists(dir.resolve("fixture").resolve("Fixture_PopulaceInspector.class")), is(true));
+    }
+
+    @Test
+    public void shouldRejectContainerTypes() throws Exception {
+        // Given:
+        final Path dir = Files.createTempDirectory("populace-apt");
+        final DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+
+        // When:
+        final boolean compiled = compileFixture(dir, diagnostics,
+            "package fixture;",
+            "@org.datalorax.populace.apt.GenerateInspector",
+            "public class Fixture extends java.util.ArrayList<String> {",
+            "    String field;",
+            "}");
+
+        // Then:
+        assertThat(compiled, is(false));
+        assertThat(errors(diagnostics), hasItem(containsString("sub-types of java.util.Collection")));
+        assertThat(Files.exists(dir.resolve("fixture").resolve("Fixture_PopulaceInspector.java")), is(false));
+    }
+
+    @Test
+    public void shouldRejectMapAndMapEntryTypes() throws Exception {
+        // Given:
+        final DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+
+        // When:
+        compileFixture(Files.createTempDirectory("populace-apt"), diagnostics,
+            "package fixture;",
+            "@org.datalorax.populace.apt.GenerateInspector",
+            "public abstract class Fixture<K, V> implements java.util.Map<K, V> {",
+            "    @org.datalorax.populace.apt.GenerateInspector",
+            "    public abstract static class Entry implements java.util.Map.Entry<String, String> {",
+            "    }",
+            "}");
+
+        // Then:
+        assertThat(errors(diagnostics), hasItems(
+            containsString("sub-types of java.util.Map,"),
+            containsString("sub-types of java.util.Map.Entry")));
+    }
+
+    private static boolean compileFixture(final Path dir, final DiagnosticCollector<JavaFileObject> diagnostics,
+                                          final String... lines) throws IOException {
+        final JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        final Path source = Files.createDirectories(dir.resolve("fixture")).resolve("Fixture.java");
+        Files.write(source, Arrays.asList(lines), StandardCharsets.UTF_8);
+
+        // Only the classes the generated source needs, i.e. no javax.annotation-api:
+        final String classPath = Stream.of(InspectorProcessor.class, DirectFieldInspector.class, Validate.class)
+            .map(InspectorProcessorTest::codeSource)
+            .collect(Collectors.joining(File.pathSeparator));
+
+        final StandardJavaFileManager fileManager = compiler.getStandardFileManager(null, null, StandardCharsets.UTF_8);
+        final JavaCompiler.CompilationTask task = compiler.getTask(null, fileManager, diagnostics,
+            Arrays.asList("-classpath", classPath, "-d", dir.toString(), "-s", dir.toString()), null,
+            fileManager.getJavaFileObjects(source.toFile()));
+        task.setProcessors(Collections.singletonList(new InspectorProcessor()));
+        return task.call();
+    }
+
+    private static List<String> errors(final DiagnosticCollector<JavaFileObject> diagnostics) {
+        return diagnostics.getDiagnostics().stream()
+            .filter(diagnostic -> diagnostic.getKind() == Diagnostic.Kind.ERROR)
+            .map(diagnostic -> diagnostic.getMessage(null))
+            .collect(Collectors.toList());
+    }
+
+    @SuppressWarnings("UnusedDeclaration")
+    private static class WithGenericType {
+        private GenericType<String> generic = new GenericType<>();
+    }
+
+    private static String codeSource(final Class<?> type) {
+        try {
+            return Paths.get(type.getProtectionDomain().getCodeSource().getLocation().toURI()).toString();
+        } catch (URISyntaxException e) {
+            throw new AssertionError(e);
+        }
+    }
+
+    private RawField getField(final String name) {
+        for (RawField field : inspectors.get(AnnotatedType.class).getFields(AnnotatedType.class, inspectors)) {
+            if (field.getName().equals(name)) {
+                return field;
+            }
+        }
+        throw new AssertionError("no field: " + name);
+    }
+
+    private boolean isDirect(final String name) {
+        return AnnotatedType_PopulaceInspector.class.equals(getField(name).getClass().getEnclosingClass());
+    }
+
+    private Set<String> fieldNames(final Inspector inspector) {
+        final Set<String> names = new HashSet<>();
+        for (RawField field : inspector.getFields(AnnotatedType.class, inspectors)) {
+            names.add(field.getName());
+        }
+        return names;
+    }
+}
@@ -0,0 +1,185 @@
+/*
+ * Copyright (c) 2015 Andrew Coates
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.datalorax.populace.core.jfr;
+
+import org.datalorax.populace.core.walk.GraphComponent;
+
+import java.lang.reflect.Type;
+
+/**
+ * Hooks used by the walker and populator to record Java Flight Recorder events, where the JVM supports JFR.
+ * <p>
+ * The following events are recorded, each only if it takes longer than its threshold:
+ * <ul>
+ * <li>{@value #WALK_EVENT}: a whole call to {@link org.datalorax.populace.core.walk.GraphWalker#walk}. Default
+ * threshold 20 ms.</li>
+ * <li>{@value #MUTATE_EVENT}: a call to {@link org.datalorax.populace.core.populate.Mutator#mutate} by the populator.
+ * Default threshold 1 ms.</li>
+ * <li>{@value #CREATE_INSTANCE_EVENT}: a call to
+ * {@link org.datalorax.populace.core.populate.instance.InstanceFactory#createInstance} by the populator. Default
+ * threshold 1 ms.</li>
+ * </ul>
+ * Thresholds can be changed, and events disabled, through the usual JFR settings, e.g. {@code
+ * -XX:StartFlightRecording:settings=populace.jfc}, or {@link jdk.jfr.Recording#enable(String)}.
+ * <p>
+ * Where JFR is not supported, e.g. Java 8 builds before 8u262, the hooks do nothing. Where it is supported, but the
+ * events are not enabled, the hooks only check whether the events are enabled.
+ *
+ * @author Andrew Coates - 17/10/2026.
+ */
+public final class JfrEvents {
+    public static final String WALK_EVENT = "org.datalorax.populace.Walk";
+    public static final String MUTATE_EVENT = "org.datalorax.populace.Mutate";
+    public static final String CREATE_INSTANCE_EVENT = "org.datalorax.populace.CreateInstance";
+
+    private static final Recorder RECORDER = createRecorder();
+
+    private JfrEvents() {
+    }
+
+    /**
+     * @return true if the JVM supports JFR, and hence these events can be recorded.
+     */
+    public static boolean isAvailable() {
+        return RECORDER != NoOpRecorder.INSTANCE;
+    }
+
+    /**
+     * Call before starting a walk.
+     *
+     * @return the event to pass to {@link #endWalk}, or {@code null} if the event is not enabled.
+     */
+    public static Object beginWalk() {
+        return RECORDER.beginWalk();
+    }
+
+    /**
+     * Call once a walk is complete, successfully or not.
+     *
+     * @param event the event returned from {@link #beginWalk()}
+     * @param root  the root of the graph that was walked.
+     */
+    public static void endWalk(final Object event, final Object root) {
+        if (event != null) {
+            RECORDER.endWalk(event, root);
+        }
+    }
+
+    /**
+     * Call before mutating the value of a component.
+     *
+     * @param component the field or element being mutated.
+     * @return the event to pass to {@link #endMutate}, or {@code null} if the event is not enabled.
+     */
+    public static Object beginMutate(final GraphComponent component) {
+        return RECORDER.beginMutate(component);
+    }
+
+    /**
+     * Call once a mutation is complete, successfully or not.
+     *
+     * @param event the event returned from {@link #beginMutate}
+     * @param type  the type that was mutated.
+     */
+    public static void endMutate(final Object event, final Type type) {
+        if (event != null) {
+            RECORDER.endMutate(event, type);
+        }
+    }
+
+    /**
+     * Call before creating an instance. Instances created while mutating a component are recorded against the path of
+     * the component.
+     *
+     * @return the event to pass to {@link #endCreateInstance}, or {@code null} if the event is not enabled.
+     */
+    public static Object beginCreateInstance() {
+        return RECORDER.beginCreateInstance();
+    }
+
+    /**
+     * Call once an instance has been created, successfully or not.
+     *
+     * @param event the event returned from {@link #beginCreateInstance()}
+     * @param type  the type that was requested.
+     */
+    public static void endCreateInstance(final Object event, final Type type) {
+        if (event != null) {
+            RECORDER.endCreateInstance(event, type);
+        }
+    }
+
+    private static Recorder createRecorder() {
+        try {
+            Class.forName("jdk.jfr.Event");
+            // Loaded by name so that the JFR event classes are never loaded if JFR is not supported:
+            return (Recorder) Class.forName(JfrEvents.class.getPackage().getName() + ".JfrRecorder")
+                .getDeclaredConstructor().newInstance();
+        } catch (ReflectiveOperationException | LinkageError e) {
+            return NoOpRecorder.INSTANCE;
+        }
+    }
+
+    /**
+     * Records events. Implementations return {@code null} from begin methods if the event is not enabled, and are only
+     * passed non-null events in end methods.
+     */
+    interface Recorder {
+        Object beginWalk();
+
+        void endWalk(Object event, Object root);
+
+        Object beginMutate(GraphComponent component);
+
+        void endMutate(Object event, Type type);
+
+        Object beginCreateInstance();
+
+        void endCreateInstance(Object event, Type type);
+    }
+
+    private enum NoOpRecorder implements Recorder {
+        INSTANCE;
+
+        @Override
+        public Object beginWalk() {
+            return null;
+        }
+
+        @Override
+        public void endWalk(final Object event, final Object root) {
+        }
+
+        @Override
+        public Object beginMutate(final GraphComponent component) {
+            return null;
+        }
+
+        @Override
+        public void endMutate(final Object event, final Type type) {
+        }
+
+        @Override
+        public Object beginCreateInstance() {
+            return null;
+        }
+
+        @Override
+        public void endCreateInstance(final Object event, final Type type) {
+        }
+    }
+}
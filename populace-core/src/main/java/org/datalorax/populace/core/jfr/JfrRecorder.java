@@ -0,0 +1,104 @@
+/*
+ * Copyright (c) 2015 Andrew Coates
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.datalorax.populace.core.jfr;
+
+import org.datalorax.populace.core.walk.GraphComponent;
+
+import java.lang.reflect.Type;
+
+/**
+ * The JFR backed {@link JfrEvents.Recorder}. Only loaded if the JVM supports JFR.
+ *
+ * @author Andrew Coates - 17/10/2026.
+ */
+final class JfrRecorder implements JfrEvents.Recorder {
+    // Whether an event is enabled does not depend on the instance, so shared instances are used to check:
+    private static final WalkEvent WALK = new WalkEvent();
+    private static final MutateEvent MUTATE = new MutateEvent();
+    private static final CreateInstanceEvent CREATE_INSTANCE = new CreateInstanceEvent();
+
+    private final ThreadLocal<GraphComponent> mutating = new ThreadLocal<>();
+
+    @Override
+    public Object beginWalk() {
+        if (!WALK.isEnabled()) {
+            return null;
+        }
+
+        final WalkEvent event = new WalkEvent();
+        event.begin();
+        return event;
+    }
+
+    @Override
+    public void endWalk(final Object event, final Object root) {
+        final WalkEvent walk = (WalkEvent) event;
+        walk.end();
+        if (walk.shouldCommit()) {
+            walk.rootClass = root == null ? null : root.getClass();
+            walk.commit();
+        }
+    }
+
+    @Override
+    public Object beginMutate(final GraphComponent component) {
+        if (!MUTATE.isEnabled() && !CREATE_INSTANCE.isEnabled()) {
+            return null;
+        }
+
+        mutating.set(component);    // So instances created while mutating can be recorded against the component's path
+        final MutateEvent event = new MutateEvent();
+        event.component = component;
+        event.begin();
+        return event;
+    }
+
+    @Override
+    public void endMutate(final Object event, final Type type) {
+        mutating.remove();
+        final MutateEvent mutate = (MutateEvent) event;
+        mutate.end();
+        if (mutate.shouldCommit()) {
+            mutate.type = type.getTypeName();
+            mutate.path = mutate.component.getPath();
+            mutate.commit();
+        }
+    }
+
+    @Override
+    public Object beginCreateInstance() {
+        if (!CREATE_INSTANCE.isEnabled()) {
+            return null;
+        }
+
+        final CreateInstanceEvent event = new CreateInstanceEvent();
+        event.begin();
+        return event;
+    }
+
+    @Override
+    public void endCreateInstance(final Object event, final Type type) {
+        final CreateInstanceEvent create = (CreateInstanceEvent) event;
+        create.end();
+        if (create.shouldCommit()) {
+            final GraphComponent component = mutating.get();
+            create.type = type.getTypeName();
+            create.path = component == null ? null : component.getPath();
+            create.commit();
+        }
+    }
+}
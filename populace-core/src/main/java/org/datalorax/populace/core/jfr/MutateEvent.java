@@ -0,0 +1,45 @@
+/*
+ * Copyright (c) 2015 Andrew Coates
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.datalorax.populace.core.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Threshold;
+import org.datalorax.populace.core.walk.GraphComponent;
+
+/**
+ * JFR event for a call to a Mutator while populating a graph.
+ *
+ * @author Andrew Coates - 17/10/2026.
+ */
+@Name(JfrEvents.MUTATE_EVENT)
+@Label("Mutate")
+@Description("A call to a Mutator while populating a graph.")
+@Category("Populace")
+@Threshold("1 ms")
+final class MutateEvent extends Event {
+    @Label("Type")
+    String type;
+
+    @Label("Path")
+    String path;
+
+    transient GraphComponent component;     // Not recorded: used to get the path only if the event is committed
+}
@@ -0,0 +1,39 @@
+/*
+ * Copyright (c) 2015 Andrew Coates
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.datalorax.populace.core.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Threshold;
+
+/**
+ * JFR event for a call to GraphWalker.walk, including parallel and offloaded walks.
+ *
+ * @author Andrew Coates - 17/10/2026.
+ */
+@Name(JfrEvents.WALK_EVENT)
+@Label("Graph Walk")
+@Description("A call to GraphWalker.walk, including parallel and offloaded walks.")
+@Category("Populace")
+@Threshold("20 ms")
+final class WalkEvent extends Event {
+    @Label("Root Class")
+    Class<?> rootClass;
+}
@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) 2015 Andrew Coates
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.datalorax.populace.core.metrics;
+
+import org.apache.commons.lang3.Validate;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * An immutable snapshot of the {@link WalkMetrics metrics} recorded up to a point in time.
+ *
+ * @author Andrew Coates - 17/10/2026.
+ */
+public final class MetricsSnapshot {
+    private final Map<Class<?>, Map<WalkMetrics.Step, Timing>> timings;
+
+    MetricsSnapshot(final Map<Class<?>, Map<WalkMetrics.Step, Timing>> timings) {
+        Validate.notNull(timings, "timings null");
+        final Map<Class<?>, Map<WalkMetrics.Step, Timing>> copy = new HashMap<>();
+        timings.forEach((type, typeTimings) -> copy.put(type, Collections.unmodifiableMap(new EnumMap<>(typeTimings))));
+        this.timings = Collections.unmodifiableMap(copy);
+    }
+
+    /**
+     * @return the set of classes for which at least one step has been recorded.
+     */
+    public Set<Class<?>> getTypes() {
+        return timings.keySet();
+    }
+
+    /**
+     * @param type the class to get the timings of.
+     * @return the timings of each step recorded for the {@code type}.
+     */
+    public Map<WalkMetrics.Step, Timing> getTimings(final Class<?> type) {
+        final Map<WalkMetrics.Step, Timing> typeTimings = timings.get(type);
+        return typeTimings == null ? Collections.emptyMap() : typeTimings;
+    }
+
+    /**
+     * @param type the class to get the timing of.
+     * @param step the step to get the timing of.
+     * @return the timing of the {@code step} for the {@code type}, which is {@link Timing#ZERO} if never recorded.
+     */
+    public Timing get(final Class<?> type, final WalkMetrics.Step step) {
+        return getTimings(type).getOrDefault(step, Timing.ZERO);
+    }
+
+    /**
+     * @param step the step to get the timing of.
+     * @return the timing of the {@code step} summed across all classes.
+     */
+    public Timing getTotal(final WalkMetrics.Step step) {
+        Timing total = Timing.ZERO;
+        for (Map<WalkMetrics.Step, Timing> typeTimings : timings.values()) {
+            total = total.plus(typeTimings.getOrDefault(step, Timing.ZERO));
+        }
+        return total;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+
+        final MetricsSnapshot that = (MetricsSnapshot) o;
+        return timings.equals(that.timings);
+    }
+
+    @Override
+    public int hashCode() {
+        return timings.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return "MetricsSnapshot{" +
+            "timings=" + timings +
+            '}';
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * Copyright (c) 2015 Andrew Coates
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.datalorax.populace.core.metrics;
+
+/**
+ * The number of times a step was taken and the cumulative time it took. Immutable.
+ *
+ * @author Andrew Coates - 17/10/2026.
+ */
+public final class Timing {
+    public static final Timing ZERO = new Timing(0, 0);
+
+    private final long count;
+    private final long totalNanos;
+
+    public Timing(final long count, final long totalNanos) {
+        this.count = count;
+        this.totalNanos = totalNanos;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public long getTotalNanos() {
+        return totalNanos;
+    }
+
+    /**
+     * @return the mean time taken, in nanoseconds, or zero if the step has not been taken.
+     */
+    public double getMeanNanos() {
+        return count == 0 ? 0 : (double) totalNanos / count;
+    }
+
+    /**
+     * @param other the timing to add
+     * @return the sum of this and the {@code other} timing.
+     */
+    public Timing plus(final Timing other) {
+        return new Timing(count + other.count, totalNanos + other.totalNanos);
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+
+        final Timing that = (Timing) o;
+        return count == that.count && totalNanos == that.totalNanos;
+    }
+
+    @Override
+    public int hashCode() {
+        int result = (int) (count ^ (count >>> 32));
+        result = 31 * result + (int) (totalNanos ^ (totalNanos >>> 32));
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return "Timing{" +
+            "count=" + count +
+            ", totalNanos=" + totalNanos +
+            '}';
+    }
+}
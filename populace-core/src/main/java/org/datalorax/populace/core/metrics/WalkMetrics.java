@@ -0,0 +1,170 @@
+/*
+ * Copyright (c) 2015 Andrew Coates
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.datalorax.populace.core.metrics;
+
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Thread-safe recorder of the number of times, and the cumulative time taken, for each {@link Step step} of walking
+ * and populating graphs, broken down by class.
+ * <p>
+ * Metrics are opt-in: install an instance via
+ * {@link org.datalorax.populace.core.walk.GraphWalker.Builder#withMetrics(WalkMetrics)} or
+ * {@link org.datalorax.populace.core.populate.GraphPopulator.Builder#withMetrics(WalkMetrics)}. Walkers and populators
+ * without metrics installed do not read the clock or record anything. The same instance can be shared between
+ * walkers, populators and threads.
+ * <p>
+ * Read the totals via {@link #snapshot()}, or expose them over JMX by registering {@link #asMXBean()}.
+ *
+ * @author Andrew Coates - 17/10/2026.
+ */
+public final class WalkMetrics {
+    private static final Step[] STEPS = Step.values();
+
+    private final ConcurrentMap<Class<?>, Counters> counters = new ConcurrentHashMap<>();
+    private final WalkMetricsMXBean mxBean = new WalkMetricsMXBeanAdapter(this);
+
+    /**
+     * Record a single occurrence of a step.
+     *
+     * @param step  the step that was taken
+     * @param type  the class the step was taken for
+     * @param nanos the time the step took, in nanoseconds
+     */
+    public void record(final Step step, final Class<?> type, final long nanos) {
+        Counters typeCounters = counters.get(type);
+        if (typeCounters == null) {
+            typeCounters = counters.computeIfAbsent(type, t -> new Counters());
+        }
+        typeCounters.add(step, nanos);
+    }
+
+    /**
+     * Take a snapshot of the metrics recorded so far. Steps recorded while the snapshot is being taken may or may not be
+     * included.
+     *
+     * @return the snapshot.
+     */
+    public MetricsSnapshot snapshot() {
+        final Map<Class<?>, Map<Step, Timing>> timings = new HashMap<>();
+        counters.forEach((type, typeCounters) -> timings.put(type, typeCounters.toTimings()));
+        return new MetricsSnapshot(timings);
+    }
+
+    /**
+     * Discard all metrics recorded so far.
+     */
+    public void reset() {
+        counters.clear();
+    }
+
+    /**
+     * @return a view of these metrics suitable for registering with an MBean server, e.g. the
+     * {@link java.lang.management.ManagementFactory#getPlatformMBeanServer() platform MBean server}.
+     */
+    public WalkMetricsMXBean asMXBean() {
+        return mxBean;
+    }
+
+    @Override
+    public String toString() {
+        return "WalkMetrics{" +
+            "types=" + counters.size() +
+            '}';
+    }
+
+    /**
+     * The steps of walking and populating a graph that are timed.
+     */
+    public enum Step {
+        /**
+         * Looking up the {@link org.datalorax.populace.core.walk.inspector.Inspector inspector} for a class. Done once
+         * per class per walker.
+         */
+        INSPECTOR_LOOKUP,
+
+        /**
+         * Obtaining the fields of a class from its inspector. Done once per class per walker.
+         */
+        GET_FIELDS,
+
+        /**
+         * Evaluating the field filter against a field of an instance of the class.
+         */
+        FIELD_FILTER,
+
+        /**
+         * Evaluating the element filter against an element of a container of the class.
+         */
+        ELEMENT_FILTER,
+
+        /**
+         * Visiting a field of an instance of the class.
+         */
+        VISIT_FIELD,
+
+        /**
+         * Visiting an element of a container of the class.
+         */
+        VISIT_ELEMENT,
+
+        /**
+         * Mutating a value of the class, via {@link org.datalorax.populace.core.populate.Mutator#mutate}.
+         */
+        MUTATE,
+
+        /**
+         * Creating an instance of the class, via
+         * {@link org.datalorax.populace.core.populate.instance.InstanceFactory#createInstance}.
+         */
+        CREATE_INSTANCE
+    }
+
+    private static final class Counters {
+        private final LongAdder[] counts = newAdders();
+        private final LongAdder[] nanos = newAdders();
+
+        private void add(final Step step, final long elapsed) {
+            counts[step.ordinal()].increment();
+            nanos[step.ordinal()].add(elapsed);
+        }
+
+        private Map<Step, Timing> toTimings() {
+            final Map<Step, Timing> timings = new EnumMap<>(Step.class);
+            for (Step step : STEPS) {
+                final long count = counts[step.ordinal()].sum();
+                if (count != 0) {
+                    timings.put(step, new Timing(count, nanos[step.ordinal()].sum()));
+                }
+            }
+            return timings;
+        }
+
+        private static LongAdder[] newAdders() {
+            final LongAdder[] adders = new LongAdder[STEPS.length];
+            for (int i = 0; i != adders.length; ++i) {
+                adders[i] = new LongAdder();
+            }
+            return adders;
+        }
+    }
+}
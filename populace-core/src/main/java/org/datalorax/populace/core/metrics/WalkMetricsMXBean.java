@@ -0,0 +1,46 @@
+/*
+ * Copyright (c) 2015 Andrew Coates
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.datalorax.populace.core.metrics;
+
+import java.util.Map;
+
+/**
+ * JMX view of {@link WalkMetrics}. Obtain an instance via {@link WalkMetrics#asMXBean()} and register it with an MBean
+ * server, e.g.:
+ * <pre>{@code
+ * ManagementFactory.getPlatformMBeanServer()
+ *     .registerMBean(metrics.asMXBean(), new ObjectName("org.datalorax.populace:type=WalkMetrics,name=orders"));
+ * }</pre>
+ *
+ * @author Andrew Coates - 17/10/2026.
+ */
+public interface WalkMetricsMXBean {
+    /**
+     * @return the timing of each {@link WalkMetrics.Step step}, summed across all classes, keyed by step name.
+     */
+    Map<String, Timing> getTotals();
+
+    /**
+     * @return the timing of each {@link WalkMetrics.Step step}, keyed by class name and then step name.
+     */
+    Map<String, Map<String, Timing>> getTimingsByType();
+
+    /**
+     * Discard all metrics recorded so far.
+     */
+    void reset();
+}
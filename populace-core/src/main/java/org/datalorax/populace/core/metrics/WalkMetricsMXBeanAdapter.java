@@ -0,0 +1,64 @@
+/*
+ * Copyright (c) 2015 Andrew Coates
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.datalorax.populace.core.metrics;
+
+import org.apache.commons.lang3.Validate;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Adapts {@link WalkMetrics} to the {@link WalkMetricsMXBean} interface.
+ *
+ * @author Andrew Coates - 17/10/2026.
+ */
+final class WalkMetricsMXBeanAdapter implements WalkMetricsMXBean {
+    private final WalkMetrics metrics;
+
+    WalkMetricsMXBeanAdapter(final WalkMetrics metrics) {
+        Validate.notNull(metrics, "metrics null");
+        this.metrics = metrics;
+    }
+
+    @Override
+    public Map<String, Timing> getTotals() {
+        final MetricsSnapshot snapshot = metrics.snapshot();
+        final Map<String, Timing> totals = new LinkedHashMap<>();
+        for (WalkMetrics.Step step : WalkMetrics.Step.values()) {
+            totals.put(step.name(), snapshot.getTotal(step));
+        }
+        return totals;
+    }
+
+    @Override
+    public Map<String, Map<String, Timing>> getTimingsByType() {
+        final MetricsSnapshot snapshot = metrics.snapshot();
+        final Map<String, Map<String, Timing>> byType = new HashMap<>();
+        for (Class<?> type : snapshot.getTypes()) {
+            // Classes of the same name from different class loaders are combined:
+            final Map<String, Timing> typeTimings = byType.computeIfAbsent(type.getName(), name -> new LinkedHashMap<>());
+            snapshot.getTimings(type).forEach((step, timing) -> typeTimings.merge(step.name(), timing, Timing::plus));
+        }
+        return byType;
+    }
+
+    @Override
+    public void reset() {
+        metrics.reset();
+    }
+}
@@ -17,13 +17,19 @@
 package org.datalorax.populace.core.populate;
 
 import org.apache.commons.lang3.Validate;
+import org.datalorax.populace.core.jfr.JfrEvents;
+import org.datalorax.populace.core.metrics.WalkMetrics;
 import org.datalorax.populace.core.populate.instance.InstanceFactories;
 import org.datalorax.populace.core.populate.mutator.Mutators;
+import org.datalorax.populace.core.walk.GraphComponent;
 import org.datalorax.populace.core.walk.GraphWalker;
+import org.datalorax.populace.core.walk.WalkBudget;
+import org.datalorax.populace.core.walk.WalkSession;
 import org.datalorax.populace.core.walk.element.ElementInfo;
 import org.datalorax.populace.core.walk.field.FieldInfo;
 import org.datalorax.populace.core.walk.field.filter.FieldFilter;
 import org.datalorax.populace.core.walk.inspector.Inspectors;
+import org.datalorax.populace.core.walk.listener.WalkListener;
 import org.datalorax.populace.core.walk.visitor.ElementVisitor;
 import org.datalorax.populace.core.walk.visitor.FieldVisitor;
 import org.datalorax.populace.core.walk.visitor.FieldVisitors;
@@ -31,6 +37,7 @@ import org.datalorax.populace.core.walk.visitor.SetAccessibleFieldVisitor;
 
 import java.lang.reflect.Modifier;
 import java.lang.reflect.Type;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.Predicate;
 
 /**
@@ -41,6 +48,8 @@ import java.util.function.Predicate;
 public final class GraphPopulator {
     private final GraphWalker walker;
     private final PopulatorContext config;
+    private final Visitor visitor = new Visitor();
+    private final FieldVisitor fieldVisitor = FieldVisitors.chain(SetAccessibleFieldVisitor.INSTANCE, visitor);
 
     GraphPopulator(final GraphWalker walker, final PopulatorContext config) {
         Validate.notNull(walker, "walker null");
@@ -69,8 +78,6 @@ public final class GraphPopulator {
      */
     public <T> T populate(final T instance) {
         // Todo(ac): needs a TypeReference<T> parameter to pass along generic info of the top level object
-        final Visitor visitor = new Visitor();
-        final FieldVisitor fieldVisitor = FieldVisitors.chain(SetAccessibleFieldVisitor.INSTANCE, visitor);
         walker.walk(instance, fieldVisitor, visitor);
         return instance;
     }
@@ -84,9 +91,34 @@ public final class GraphPopulator {
      * @return the populated instance
      */
     public <T> T populate(final Class<T> type) {
+        return populate(newInstance(type));
+    }
+
+    /**
+     * Start a session for populating many graphs, one after another, on the calling thread. The session reuses the
+     * buffers of its {@link WalkSession walk session} from one graph to the next, greatly reducing the garbage generated
+     * by each population.
+     *
+     * @return a new session.
+     */
+    public PopulatorSession newSession() {
+        return new PopulatorSession(this, walker.newSession());
+    }
+
+    /**
+     * Populate the supplied {@code instance} using the supplied walk {@code session}.
+     */
+    <T> T populate(final T instance, final WalkSession session) {
+        session.walk(instance, fieldVisitor, visitor);
+        return instance;
+    }
+
+    /**
+     * Create an instance of the supplied {@code type}, ready to be populated.
+     */
+    <T> T newInstance(final Class<T> type) {
         Validate.isTrue(isNotInnerClass(type), "Non-static inner classes are not supported");
-        final T instance = createInstance(type);
-        return populate(instance);
+        return createInstance(type);
     }
 
     public PopulatorContext getConfig() {
@@ -232,6 +264,54 @@ public final class GraphPopulator {
          */
         InstanceFactories.Builder instanceFactoriesBuilder();
 
+        /**
+         * Populate graphs in parallel, using the supplied {@code pool}. By default graphs are populated sequentially on
+         * the calling thread.
+         * <p>
+         * When populating in parallel the installed {@link Mutator mutators} and
+         * {@link org.datalorax.populace.core.populate.instance.InstanceFactory instance factories} are called
+         * concurrently and so must be thread-safe.
+         *
+         * @param pool the pool to populate graphs on.
+         * @return the builder
+         * @see org.datalorax.populace.core.walk.GraphWalker.Builder#withParallelism(java.util.concurrent.ForkJoinPool)
+         */
+        Builder withParallelism(final ForkJoinPool pool);
+
+        /**
+         * Limit the resources each populate may use, e.g. the number of fields and elements populated or the time
+         * taken. By default populates are unlimited.
+         * <p>
+         * A populate that exceeds its budget stops, leaving the graph partially populated, and throws a
+         * {@link org.datalorax.populace.core.walk.WalkBudgetExceededException}.
+         *
+         * @param budget the budget to limit each populate to.
+         * @return the builder
+         * @see org.datalorax.populace.core.walk.GraphWalker.Builder#withWalkBudget(WalkBudget)
+         */
+        Builder withWalkBudget(final WalkBudget budget);
+
+        /**
+         * Record the number of, and time taken by, the steps of each populate, broken down by class, to the supplied
+         * {@code metrics}. This includes the steps of the walk, and the calls to {@link Mutator mutators} and
+         * {@link org.datalorax.populace.core.populate.instance.InstanceFactory instance factories}. By default metrics
+         * are not recorded.
+         *
+         * @param metrics the metrics to record to.
+         * @return the builder
+         * @see org.datalorax.populace.core.walk.GraphWalker.Builder#withMetrics(WalkMetrics)
+         */
+        Builder withMetrics(final WalkMetrics metrics);
+
+        /**
+         * Trace each populate to the supplied {@code listener}. By default populates are not traced.
+         *
+         * @param listener the listener to trace the walk of each populate to.
+         * @return the builder
+         * @see org.datalorax.populace.core.walk.GraphWalker.Builder#withWalkListener(WalkListener)
+         */
+        Builder withWalkListener(final WalkListener listener);
+
         /**
          * Build an immutable instance of {@link GraphPopulator} from the configuration provided.
          *
@@ -244,10 +324,18 @@ public final class GraphPopulator {
         @Override
         public void visit(final FieldInfo field) {
             try {
+                final Class<?> rawType = field.getType();
+                if (rawType.isPrimitive()) {
+                    final Mutator mutator = config.getMutator(rawType);
+                    if (mutator instanceof PrimitiveMutator) {
+                        mutatePrimitive(field, (PrimitiveMutator) mutator);
+                        return;
+                    }
+                }
+
                 final Type type = field.getGenericType();
                 final Object currentValue = field.getValue();
-                final Mutator mutator = config.getMutator(type);
-                final Object mutated = mutator.mutate(type, currentValue, field.getOwningInstance(), config);
+                final Object mutated = mutate(field, type, currentValue, field.getOwningInstance());
                 if (mutated != currentValue) {
                     field.setValue(mutated);
                 }
@@ -261,8 +349,7 @@ public final class GraphPopulator {
             try {
                 final Type type = element.getGenericType();
                 final Object currentValue = element.getValue();
-                final Mutator mutator = config.getMutator(type);
-                final Object mutated = mutator.mutate(type, currentValue, null, config);
+                final Object mutated = mutate(element, type, currentValue, null);
                 if (mutated != currentValue) {
                     element.setValue(mutated);
                 }
@@ -270,5 +357,33 @@ public final class GraphPopulator {
                 throw new PopulatorException("Failed to populate element: " + element, e);
             }
         }
+
+        private Object mutate(final GraphComponent component, final Type type, final Object currentValue, final Object parent) {
+            final Object event = JfrEvents.beginMutate(component);
+            try {
+                return config.mutate(type, currentValue, parent);
+            } finally {
+                JfrEvents.endMutate(event, type);
+            }
+        }
+
+        private void mutatePrimitive(final FieldInfo field, final PrimitiveMutator mutator) {
+            final Object event = JfrEvents.beginMutate(field);
+            try {
+                config.mutatePrimitive(field, mutator);
+            } finally {
+                JfrEvents.endMutate(event, field.getType());
+            }
+        }
+
+        @Override
+        public boolean isThreadSafe() {
+            return true;    // Mutators and instance factories must be thread-safe if populating in parallel
+        }
+
+        @Override
+        public boolean acceptsFlyweights() {
+            return true;    // Mutators and instance factories are passed values, not fields or elements
+        }
     }
 }
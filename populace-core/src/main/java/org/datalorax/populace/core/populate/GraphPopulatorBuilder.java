@@ -17,19 +17,23 @@
 package org.datalorax.populace.core.populate;
 
 import org.apache.commons.lang3.Validate;
+import org.datalorax.populace.core.metrics.WalkMetrics;
 import org.datalorax.populace.core.populate.inspector.LoggingCollectionInspector;
 import org.datalorax.populace.core.populate.instance.InstanceFactories;
 import org.datalorax.populace.core.populate.mutator.Mutators;
 import org.datalorax.populace.core.walk.GraphWalker;
+import org.datalorax.populace.core.walk.WalkBudget;
 import org.datalorax.populace.core.walk.element.ElementInfo;
 import org.datalorax.populace.core.walk.field.FieldInfo;
 import org.datalorax.populace.core.walk.field.filter.FieldFilter;
 import org.datalorax.populace.core.walk.field.filter.FieldFilters;
 import org.datalorax.populace.core.walk.inspector.Inspectors;
 import org.datalorax.populace.core.walk.inspector.MapValueInspector;
+import org.datalorax.populace.core.walk.listener.WalkListener;
 
 import java.util.Collection;
 import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.Predicate;
 
 /**
@@ -48,6 +52,7 @@ final class GraphPopulatorBuilder implements GraphPopulator.Builder {
             .build());
     private Mutators mutators = Mutators.defaults();
     private InstanceFactories instanceFactories = InstanceFactories.defaults();
+    private WalkMetrics metrics = null;
 
     @Override
     public GraphPopulatorBuilder withFieldFilter(final Predicate<FieldInfo> filter) {
@@ -108,6 +113,31 @@ final class GraphPopulatorBuilder implements GraphPopulator.Builder {
         return InstanceFactories.asBuilder(instanceFactories);
     }
 
+    @Override
+    public GraphPopulatorBuilder withParallelism(final ForkJoinPool pool) {
+        walkerBuilder.withParallelism(pool);
+        return this;
+    }
+
+    @Override
+    public GraphPopulatorBuilder withWalkBudget(final WalkBudget budget) {
+        walkerBuilder.withWalkBudget(budget);
+        return this;
+    }
+
+    @Override
+    public GraphPopulatorBuilder withMetrics(final WalkMetrics metrics) {
+        walkerBuilder.withMetrics(metrics);
+        this.metrics = metrics;
+        return this;
+    }
+
+    @Override
+    public GraphPopulatorBuilder withWalkListener(final WalkListener listener) {
+        walkerBuilder.withWalkListener(listener);
+        return this;
+    }
+
     @Override
     public GraphPopulator build() {
         final GraphWalker walker = walkerBuilder.build();
@@ -115,6 +145,6 @@ final class GraphPopulatorBuilder implements GraphPopulator.Builder {
     }
 
     private PopulatorContext buildPopulatorContext() {
-        return new PopulatorContext(mutators, instanceFactories);
+        return new PopulatorContext(mutators, instanceFactories, metrics);
     }
 }
@@ -17,14 +17,18 @@
 package org.datalorax.populace.core.populate;
 
 import org.apache.commons.lang3.Validate;
+import org.datalorax.populace.core.jfr.JfrEvents;
+import org.datalorax.populace.core.metrics.WalkMetrics;
 import org.datalorax.populace.core.populate.instance.InstanceFactories;
 import org.datalorax.populace.core.populate.instance.InstanceFactory;
 import org.datalorax.populace.core.populate.mutator.Mutators;
 import org.datalorax.populace.core.util.TypeUtils;
+import org.datalorax.populace.core.walk.field.FieldInfo;
 
 import java.lang.reflect.Type;
 import java.lang.reflect.TypeVariable;
 import java.lang.reflect.WildcardType;
+import java.util.Objects;
 import java.util.Optional;
 
 /**
@@ -35,30 +39,88 @@ import java.util.Optional;
 public class PopulatorContext {
     private final Mutators mutators;
     private final InstanceFactories instanceFactories;
+    private final WalkMetrics metrics;
 
     public PopulatorContext(final Mutators mutators,
                             final InstanceFactories instanceFactories) {
+        this(mutators, instanceFactories, null);
+    }
+
+    PopulatorContext(final Mutators mutators,
+                     final InstanceFactories instanceFactories,
+                     final WalkMetrics metrics) {
         Validate.notNull(mutators, "mutators null");
         Validate.notNull(instanceFactories, "instanceFactories null");
         this.mutators = mutators;
         this.instanceFactories = instanceFactories;
+        this.metrics = metrics;
     }
 
     public Mutator getMutator(final Type type) {
         return mutators.get(type);
     }
 
-    public Object createInstance(final Type type, final Object parent) {
-        if (type instanceof WildcardType) {
-            return createInstanceFromWildcard((WildcardType) type, parent);
+    /**
+     * @return the metrics to record population to, or {@code Optional.empty()} if metrics are not recorded.
+     */
+    public Optional<WalkMetrics> getMetrics() {
+        return Optional.ofNullable(metrics);
+    }
+
+    /**
+     * Mutate the {@code currentValue} using the {@link Mutator} registered for the {@code type}.
+     *
+     * @param type         the type of the value to mutate
+     * @param currentValue the current value, which may be null
+     * @param parent       the instance that owns the value, if any
+     * @return the mutated value
+     * @see Mutator#mutate(Type, Object, Object, PopulatorContext)
+     */
+    public Object mutate(final Type type, final Object currentValue, final Object parent) {
+        final Mutator mutator = getMutator(type);
+        if (metrics == null) {
+            return mutator.mutate(type, currentValue, parent, this);
         }
-        if (type instanceof TypeVariable) {
-            return createInstance(Object.class, parent);
+
+        final long start = System.nanoTime();
+        final Object mutated = mutator.mutate(type, currentValue, parent, this);
+        metrics.record(WalkMetrics.Step.MUTATE, metricsKey(type, mutated), System.nanoTime() - start);
+        return mutated;
+    }
+
+    /**
+     * Mutate the value of the primitive {@code field} in place, without boxing, using the supplied {@code mutator}.
+     *
+     * @param field   the primitive field to mutate.
+     * @param mutator the mutator registered for the type of the field.
+     * @see PrimitiveMutator
+     */
+    public void mutatePrimitive(final FieldInfo field, final PrimitiveMutator mutator) {
+        if (metrics == null) {
+            doMutatePrimitive(field, mutator);
+            return;
         }
 
-        final Class<?> rawType = TypeUtils.getRawType(type, null);
-        final InstanceFactory factory = instanceFactories.get(type);
-        return factory.createInstance(rawType, parent, instanceFactories);
+        final long start = System.nanoTime();
+        doMutatePrimitive(field, mutator);
+        metrics.record(WalkMetrics.Step.MUTATE, TypeUtils.getBoxedTypeForPrimitive(field.getType()),
+            System.nanoTime() - start);
+    }
+
+    public Object createInstance(final Type type, final Object parent) {
+        final Object event = JfrEvents.beginCreateInstance();
+        try {
+            if (metrics == null) {
+                return doCreateInstance(type, parent);
+            }
+
+            final long start = System.nanoTime();
+            final Object instance = doCreateInstance(type, parent);
+            metrics.record(WalkMetrics.Step.CREATE_INSTANCE, metricsKey(type, instance), System.nanoTime() - start);
+            return instance;
+        } finally {
+            JfrEvents.endCreateInstance(event, type);
+        }
     }
 
     @Override
@@ -67,13 +129,16 @@ public class PopulatorContext {
         if (o == null || getClass() != o.getClass()) return false;
 
         final PopulatorContext that = (PopulatorContext) o;
-        return instanceFactories.equals(that.instanceFactories) && mutators.equals(that.mutators);
+        return instanceFactories.equals(that.instanceFactories)
+            && mutators.equals(that.mutators)
+            && Objects.equals(metrics, that.metrics);
     }
 
     @Override
     public int hashCode() {
         int result = mutators.hashCode();
         result = 31 * result + instanceFactories.hashCode();
+        result = 31 * result + Objects.hashCode(metrics);
         return result;
     }
 
@@ -82,9 +147,93 @@ public class PopulatorContext {
         return "PopulatorContext{" +
             "mutators=" + mutators +
             ", instanceFactories=" + instanceFactories +
+            (metrics == null ? "" : ", metrics=" + metrics) +
             '}';
     }
 
+    /**
+     * @param type  the type that was populated
+     * @param value the value it was populated with
+     * @return the class to record metrics against: the class of the {@code value}, if not null, else the raw class of
+     * the {@code type}.
+     */
+    private static Class<?> metricsKey(final Type type, final Object value) {
+        if (value != null) {
+            return value.getClass();
+        }
+        final Class<?> rawType = TypeUtils.getRawType(type, null);
+        return rawType == null ? Object.class : rawType;
+    }
+
+    private void doMutatePrimitive(final FieldInfo field, final PrimitiveMutator mutator) {
+        final Class<?> type = field.getType();
+        final Object parent = field.getOwningInstance();
+        if (type == boolean.class) {
+            final boolean currentValue = field.getBoolean();
+            final boolean mutated = mutator.mutateBoolean(currentValue, parent, this);
+            if (mutated != currentValue) {
+                field.setBoolean(mutated);
+            }
+        } else if (type == byte.class) {
+            final byte currentValue = field.getByte();
+            final byte mutated = mutator.mutateByte(currentValue, parent, this);
+            if (mutated != currentValue) {
+                field.setByte(mutated);
+            }
+        } else if (type == char.class) {
+            final char currentValue = field.getChar();
+            final char mutated = mutator.mutateChar(currentValue, parent, this);
+            if (mutated != currentValue) {
+                field.setChar(mutated);
+            }
+        } else if (type == short.class) {
+            final short currentValue = field.getShort();
+            final short mutated = mutator.mutateShort(currentValue, parent, this);
+            if (mutated != currentValue) {
+                field.setShort(mutated);
+            }
+        } else if (type == int.class) {
+            final int currentValue = field.getInt();
+            final int mutated = mutator.mutateInt(currentValue, parent, this);
+            if (mutated != currentValue) {
+                field.setInt(mutated);
+            }
+        } else if (type == long.class) {
+            final long currentValue = field.getLong();
+            final long mutated = mutator.mutateLong(currentValue, parent, this);
+            if (mutated != currentValue) {
+                field.setLong(mutated);
+            }
+        } else if (type == float.class) {
+            final float currentValue = field.getFloat();
+            final float mutated = mutator.mutateFloat(currentValue, parent, this);
+            if (mutated != currentValue) {
+                field.setFloat(mutated);
+            }
+        } else if (type == double.class) {
+            final double currentValue = field.getDouble();
+            final double mutated = mutator.mutateDouble(currentValue, parent, this);
+            if (mutated != currentValue) {
+                field.setDouble(mutated);
+            }
+        } else {
+            throw new IllegalArgumentException("Not a primitive field: " + field);
+        }
+    }
+
+    private Object doCreateInstance(final Type type, final Object parent) {
+        if (type instanceof WildcardType) {
+            return createInstanceFromWildcard((WildcardType) type, parent);
+        }
+        if (type instanceof TypeVariable) {
+            return doCreateInstance(Object.class, parent);
+        }
+
+        final Class<?> rawType = TypeUtils.getRawType(type, null);
+        final InstanceFactory factory = instanceFactories.get(type);
+        return factory.createInstance(rawType, parent, instanceFactories);
+    }
+
     private Object createInstanceFromWildcard(final WildcardType type, final Object parent) {
         final Type[] upperBounds = type.getUpperBounds();
         final Optional<InstanceFactory> factory = upperBounds.length == 1 ? instanceFactories.getSpecific(type) : Optional.empty();
@@ -95,9 +244,9 @@ public class PopulatorContext {
         }
 
         if (upperBounds.length == 1) {
-            return createInstance(upperBounds[0], parent);
+            return doCreateInstance(upperBounds[0], parent);
         }
 
-        return createInstance(Object.class, parent);
+        return doCreateInstance(Object.class, parent);
     }
 }
@@ -0,0 +1,68 @@
+/*
+ * Copyright (c) 2015 Andrew Coates
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.datalorax.populace.core.populate;
+
+import org.apache.commons.lang3.Validate;
+import org.datalorax.populace.core.walk.WalkSession;
+
+/**
+ * A session for populating many graphs, one after another, with the same {@link GraphPopulator}. Obtain one via
+ * {@link GraphPopulator#newSession()}.
+ * <p>
+ * The session walks each graph with a single {@link WalkSession}, so that its buffers, and the flyweight fields and
+ * elements the populator visits, are reused from one graph to the next. Sessions are not thread-safe.
+ *
+ * @author Andrew Coates - 17/10/2026.
+ */
+public final class PopulatorSession {
+    private final GraphPopulator populator;
+    private final WalkSession session;
+
+    PopulatorSession(final GraphPopulator populator, final WalkSession session) {
+        Validate.notNull(populator, "populator null");
+        Validate.notNull(session, "session null");
+        this.populator = populator;
+        this.session = session;
+    }
+
+    /**
+     * @param instance the instance to populate
+     * @param <T>      the type of the instance to populate
+     * @return the populated instance.
+     * @see GraphPopulator#populate(Object)
+     */
+    public <T> T populate(final T instance) {
+        return populator.populate(instance, session);
+    }
+
+    /**
+     * @param type the type to instantiate
+     * @param <T>  the type to instantiate
+     * @return the populated instance
+     * @see GraphPopulator#populate(Class)
+     */
+    public <T> T populate(final Class<T> type) {
+        return populate(populator.newInstance(type));
+    }
+
+    @Override
+    public String toString() {
+        return "PopulatorSession{" +
+            "populator=" + populator +
+            '}';
+    }
+}
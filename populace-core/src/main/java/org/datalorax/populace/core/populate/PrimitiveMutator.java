@@ -0,0 +1,145 @@
+/*
+ * Copyright (c) 2015 Andrew Coates
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.datalorax.populace.core.populate;
+
+import java.lang.reflect.Type;
+
+/**
+ * A {@link Mutator} that can mutate primitive values without boxing them.
+ * <p>
+ * When the mutator registered for the type of a primitive field implements this interface the populator reads the
+ * field, mutates the value and writes it back via the typed methods, e.g.
+ * {@link org.datalorax.populace.core.walk.field.FieldInfo#getInt()}, {@link #mutateInt} and
+ * {@link org.datalorax.populace.core.walk.field.FieldInfo#setInt(int)}, so that no boxes are allocated. Values of
+ * boxed types, and primitive values held in containers, are still passed to
+ * {@link #mutate(Type, Object, Object, PopulatorContext)}.
+ *
+ * @author Andrew Coates - 17/10/2026.
+ */
+public interface PrimitiveMutator extends Mutator {
+    /**
+     * Called to mutate a {@code boolean} value.
+     * <p>
+     * The default implementation boxes the value and calls {@link #mutate(Type, Object, Object, PopulatorContext)}.
+     *
+     * @param currentValue the current value.
+     * @param parent       the object that owns the value.
+     * @param config       the populator config
+     * @return the mutated value.
+     */
+    default boolean mutateBoolean(final boolean currentValue, final Object parent, final PopulatorContext config) {
+        return (Boolean) mutate(boolean.class, currentValue, parent, config);
+    }
+
+    /**
+     * Called to mutate a {@code byte} value.
+     * <p>
+     * The default implementation boxes the value and calls {@link #mutate(Type, Object, Object, PopulatorContext)}.
+     *
+     * @param currentValue the current value.
+     * @param parent       the object that owns the value.
+     * @param config       the populator config
+     * @return the mutated value.
+     */
+    default byte mutateByte(final byte currentValue, final Object parent, final PopulatorContext config) {
+        return (Byte) mutate(byte.class, currentValue, parent, config);
+    }
+
+    /**
+     * Called to mutate a {@code char} value.
+     * <p>
+     * The default implementation boxes the value and calls {@link #mutate(Type, Object, Object, PopulatorContext)}.
+     *
+     * @param currentValue the current value.
+     * @param parent       the object that owns the value.
+     * @param config       the populator config
+     * @return the mutated value.
+     */
+    default char mutateChar(final char currentValue, final Object parent, final PopulatorContext config) {
+        return (Character) mutate(char.class, currentValue, parent, config);
+    }
+
+    /**
+     * Called to mutate a {@code short} value.
+     * <p>
+     * The default implementation boxes the value and calls {@link #mutate(Type, Object, Object, PopulatorContext)}.
+     *
+     * @param currentValue the current value.
+     * @param parent       the object that owns the value.
+     * @param config       the populator config
+     * @return the mutated value.
+     */
+    default short mutateShort(final short currentValue, final Object parent, final PopulatorContext config) {
+        return (Short) mutate(short.class, currentValue, parent, config);
+    }
+
+    /**
+     * Called to mutate a {@code int} value.
+     * <p>
+     * The default implementation boxes the value and calls {@link #mutate(Type, Object, Object, PopulatorContext)}.
+     *
+     * @param currentValue the current value.
+     * @param parent       the object that owns the value.
+     * @param config       the populator config
+     * @return the mutated value.
+     */
+    default int mutateInt(final int currentValue, final Object parent, final PopulatorContext config) {
+        return (Integer) mutate(int.class, currentValue, parent, config);
+    }
+
+    /**
+     * Called to mutate a {@code long} value.
+     * <p>
+     * The default implementation boxes the value and calls {@link #mutate(Type, Object, Object, PopulatorContext)}.
+     *
+     * @param currentValue the current value.
+     * @param parent       the object that owns the value.
+     * @param config       the populator config
+     * @return the mutated value.
+     */
+    default long mutateLong(final long currentValue, final Object parent, final PopulatorContext config) {
+        return (Long) mutate(long.class, currentValue, parent, config);
+    }
+
+    /**
+     * Called to mutate a {@code float} value.
+     * <p>
+     * The default implementation boxes the value and calls {@link #mutate(Type, Object, Object, PopulatorContext)}.
+     *
+     * @param currentValue the current value.
+     * @param parent       the object that owns the value.
+     * @param config       the populator config
+     * @return the mutated value.
+     */
+    default float mutateFloat(final float currentValue, final Object parent, final PopulatorContext config) {
+        return (Float) mutate(float.class, currentValue, parent, config);
+    }
+
+    /**
+     * Called to mutate a {@code double} value.
+     * <p>
+     * The default implementation boxes the value and calls {@link #mutate(Type, Object, Object, PopulatorContext)}.
+     *
+     * @param currentValue the current value.
+     * @param parent       the object that owns the value.
+     * @param config       the populator config
+     * @return the mutated value.
+     */
+    default double mutateDouble(final double currentValue, final Object parent, final PopulatorContext config) {
+        return (Double) mutate(double.class, currentValue, parent, config);
+    }
+}
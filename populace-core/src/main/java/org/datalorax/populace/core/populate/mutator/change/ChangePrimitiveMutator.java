@@ -18,6 +18,7 @@ package org.datalorax.populace.core.populate.mutator.change;
 
 import org.datalorax.populace.core.populate.Mutator;
 import org.datalorax.populace.core.populate.PopulatorContext;
+import org.datalorax.populace.core.populate.PrimitiveMutator;
 
 import java.lang.reflect.Type;
 
@@ -26,7 +27,7 @@ import java.lang.reflect.Type;
  *
  * @author Andrew Coates - 27/02/2015.
  */
-public class ChangePrimitiveMutator implements Mutator {
+public class ChangePrimitiveMutator implements PrimitiveMutator {
     public static final Mutator INSTANCE = new ChangePrimitiveMutator();
 
     @Override
@@ -36,33 +37,73 @@ public class ChangePrimitiveMutator implements Mutator {
         }
 
         if (type.equals(boolean.class) || type.equals(Boolean.class)) {
-            return !((Boolean) currentValue);
+            return mutateBoolean((Boolean) currentValue, parent, config);
         }
         if (type.equals(byte.class) || type.equals(Byte.class)) {
-            return (byte) (((Byte) currentValue) + 42);
+            return mutateByte((Byte) currentValue, parent, config);
         }
         if (type.equals(char.class) || type.equals(Character.class)) {
-            return (char) (((Character) currentValue) + 1);
+            return mutateChar((Character) currentValue, parent, config);
         }
         if (type.equals(short.class) || type.equals(Short.class)) {
-            return (short) (((Short) currentValue) + 42);
+            return mutateShort((Short) currentValue, parent, config);
         }
         if (type.equals(int.class) || type.equals(Integer.class)) {
-            return ((Integer) currentValue) + 42;
+            return mutateInt((Integer) currentValue, parent, config);
         }
         if (type.equals(long.class) || type.equals(Long.class)) {
-            return ((Long) currentValue) + 42L;
+            return mutateLong((Long) currentValue, parent, config);
         }
         if (type.equals(float.class) || type.equals(Float.class)) {
-            return ((Float) currentValue) * 4.2f;
+            return mutateFloat((Float) currentValue, parent, config);
         }
         if (type.equals(double.class) || type.equals(Double.class)) {
-            return ((Double) currentValue) * 4.2;
+            return mutateDouble((Double) currentValue, parent, config);
         }
 
         throw new IllegalArgumentException("Unsupported type: " + type);
     }
 
+    @Override
+    public boolean mutateBoolean(final boolean currentValue, final Object parent, final PopulatorContext config) {
+        return !currentValue;
+    }
+
+    @Override
+    public byte mutateByte(final byte currentValue, final Object parent, final PopulatorContext config) {
+        return (byte) (currentValue + 42);
+    }
+
+    @Override
+    public char mutateChar(final char currentValue, final Object parent, final PopulatorContext config) {
+        return (char) (currentValue + 1);
+    }
+
+    @Override
+    public short mutateShort(final short currentValue, final Object parent, final PopulatorContext config) {
+        return (short) (currentValue + 42);
+    }
+
+    @Override
+    public int mutateInt(final int currentValue, final Object parent, final PopulatorContext config) {
+        return currentValue + 42;
+    }
+
+    @Override
+    public long mutateLong(final long currentValue, final Object parent, final PopulatorContext config) {
+        return currentValue + 42L;
+    }
+
+    @Override
+    public float mutateFloat(final float currentValue, final Object parent, final PopulatorContext config) {
+        return currentValue * 4.2f;
+    }
+
+    @Override
+    public double mutateDouble(final double currentValue, final Object parent, final PopulatorContext config) {
+        return currentValue * 4.2;
+    }
+
     @Override
     public boolean equals(final Object that) {
         return this == that || (that != null && getClass() == that.getClass());
@@ -18,10 +18,10 @@ package org.datalorax.populace.core.util;
 
 import org.apache.commons.lang3.Validate;
 
+import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
-import java.util.Collections;
-import java.util.HashMap;
-import java.util.Map;
+import java.util.*;
+import java.util.stream.Collectors;
 
 /**
  * Immutable collection of handlers for specific and more generic types. Values can be registered against a
@@ -29,7 +29,9 @@ import java.util.Map;
  * <ul>
  * <li>
  * Specific - meaning they match the exact registered {@link java.lang.reflect.Type type}. This includes specific array types and
- * parameterised types. Use {@link ImmutableTypeMap.Builder#withSpecificType} to register.
+ * parameterised types. A parameterised type whose type arguments are its own type variables, e.g. {@code List<E>},
+ * matches any parameterisation of its raw type not registered more specifically. Use
+ * {@link ImmutableTypeMap.Builder#withSpecificType} to register.
  * </li>
  * <li>
  * Super - meaning they match any sub-type of the registered raw {@link java.lang.Class class}
@@ -53,9 +55,26 @@ import java.util.Map;
 public class ImmutableTypeMap<V> {
     private final Map<Type, V> specificValues;
     private final Map<Class<?>, V> superValues;
-    private final Map<String, V> packageValues;    // Todo(ac): perfect candidate for TriMap
+    private final Map<String, V> packageValues;
     private final V arrayDefaultValue;
     private final V defaultValue;
+    private final Set<Class<?>> parameterisedSpecificRawTypes;
+    private final Set<Class<?>> anyParameterisationRawTypes;
+    private final Map<Class<?>, Integer> superOrder;
+    private final boolean hasPrimitiveSuperKeys;
+    private final PrefixTrie<V> packageTrie;
+    private final ClassValue<Optional<V>> superMatches = new ClassValue<Optional<V>>() {
+        @Override
+        protected Optional<V> computeValue(final Class<?> type) {
+            return Optional.ofNullable(findSuper(type));
+        }
+    };
+    private final ClassValue<V> classValues = new ClassValue<V>() {
+        @Override
+        protected V computeValue(final Class<?> type) {
+            return lookUp(type);
+        }
+    };
 
     ImmutableTypeMap(final Map<Type, V> specificValues, final Map<Class<?>, V> superValues,
                      final Map<String, V> packageValues, final V arrayDefaultValue, final V defaultValue) {
@@ -63,11 +82,23 @@ public class ImmutableTypeMap<V> {
         Validate.notNull(superValues, "superValues null");
         Validate.notNull(packageValues, "packageValues null");
         Validate.notNull(defaultValue, "defaultValue null");
-        this.specificValues = Collections.unmodifiableMap(new HashMap<>(specificValues));
+        this.specificValues = Collections.unmodifiableMap(internKeys(specificValues));
         this.superValues = Collections.unmodifiableMap(new HashMap<>(superValues));
         this.packageValues = Collections.unmodifiableMap(new HashMap<>(packageValues));
         this.arrayDefaultValue = arrayDefaultValue;
         this.defaultValue = defaultValue;
+        this.parameterisedSpecificRawTypes = Collections.unmodifiableSet(this.specificValues.keySet().stream()
+            .filter(key -> key instanceof ParameterizedType && !isParameterisedByOwnTypeVariables(key))
+            .map(key -> TypeUtils.getRawType(key, null))
+            .collect(Collectors.toSet()));
+        this.anyParameterisationRawTypes = Collections.unmodifiableSet(this.specificValues.keySet().stream()
+            .filter(ImmutableTypeMap::isParameterisedByOwnTypeVariables)
+            .map(key -> TypeUtils.getRawType(key, null))
+            .collect(Collectors.toSet()));
+        this.superOrder = new HashMap<>();
+        this.superValues.keySet().forEach(type -> superOrder.put(type, superOrder.size()));
+        this.hasPrimitiveSuperKeys = this.superValues.keySet().stream().anyMatch(Class::isPrimitive);
+        this.packageTrie = new PrefixTrie<>(this.packageValues);
     }
 
     public static <T> Builder<T> newBuilder(final T defaultHandler) {
@@ -90,11 +121,25 @@ public class ImmutableTypeMap<V> {
      */
     // Todo(ac): If this can return null change to return optional in v2.x
     public V get(final Type key) {
+        if (key instanceof Class) {
+            return classValues.get((Class<?>) key);   // Memoized
+        }
+        return lookUp(key);
+    }
+
+    private V lookUp(final Type key) {
         V value = getSpecific(key);
         if (value != null) {
             return value;
         }
 
+        if (key instanceof ParameterizedType) {
+            final Class<?> rawType = TypeUtils.getRawType(key, null);
+            if (anyParameterisationRawTypes.contains(rawType)) {
+                return getSpecific(TypeUtils.parameterise(rawType, rawType.getTypeParameters()));
+            }
+        }
+
         if (TypeUtils.isArrayType(key)) {
             return arrayDefaultValue == null ? getDefault() : getArrayDefault();
         }
@@ -124,8 +169,23 @@ public class ImmutableTypeMap<V> {
     // Todo(ac): Switch to Optional in v2.x
     public V getSpecific(final Type key) {
         Validate.notNull(key, "key null");
-        final Type consistentKey = TypeUtils.ensureConsistentType(key);
-        return specificValues.get(consistentKey);
+        return specificValues.get(TypeInterner.intern(key));
+    }
+
+    /**
+     * Returns true if any specific value is registered against a {@link java.lang.reflect.ParameterizedType parameterised}
+     * version of {@code rawType}, e.g. {@code List<String>} for {@code List.class}. If not, then the value returned from
+     * {@link #get(java.lang.reflect.Type)} for any parameterisation of {@code rawType} does not depend on its type arguments.
+     * <p>
+     * A value registered against {@code rawType} parameterised by its own type variables, e.g. {@code List<E>}, matches
+     * any parameterisation, so is not counted.
+     *
+     * @param rawType the raw class to check
+     * @return true if a value is registered against a parameterised version of {@code rawType}, false otherwise.
+     */
+    public boolean hasSpecificParameterisationsOf(final Class<?> rawType) {
+        Validate.notNull(rawType, "rawType null");
+        return parameterisedSpecificRawTypes.contains(rawType);
     }
 
     /**
@@ -141,20 +201,7 @@ public class ImmutableTypeMap<V> {
     // Todo(ac): Switch to Optional in v2.x
     public V getSuper(final Class<?> key) {
         Validate.notNull(key, "key null");
-        Map.Entry<Class<?>, V> bestMatch = null;
-
-        for (Map.Entry<Class<?>, V> entry : superValues.entrySet()) {
-            if (!TypeUtils.isAssignable(key, entry.getKey())) {
-                continue;
-            }
-
-            if (bestMatch == null || TypeUtils.isAssignable(entry.getKey(), bestMatch.getKey())) {
-                // First, or more specific match found:
-                bestMatch = entry;
-            }
-        }
-
-        return bestMatch == null ? null : bestMatch.getValue();
+        return superMatches.get(key).orElse(null);   // Memoized
     }
 
     /**
@@ -170,21 +217,7 @@ public class ImmutableTypeMap<V> {
     // Todo(ac): Switch to Optional in v2.x
     public V getPackage(final String packageName) {
         Validate.notEmpty(packageName, "packageName empty");
-
-        Map.Entry<String, V> bestMatch = null;
-
-        for (Map.Entry<String, V> entry : packageValues.entrySet()) {
-            if (!packageName.startsWith(entry.getKey())) {
-                continue;
-            }
-
-            if (bestMatch == null || entry.getKey().length() > bestMatch.getKey().length()) {
-                // First, or more specific match found:
-                bestMatch = entry;
-            }
-        }
-
-        return bestMatch == null ? null : bestMatch.getValue();
+        return packageTrie.getLongestPrefixOf(packageName);
     }
 
     /**
@@ -240,6 +273,80 @@ public class ImmutableTypeMap<V> {
             '}';
     }
 
+    private static boolean isParameterisedByOwnTypeVariables(final Type key) {
+        if (!(key instanceof ParameterizedType)) {
+            return false;
+        }
+
+        final Class<?> rawType = TypeUtils.getRawType(key, null);
+        return Arrays.equals(((ParameterizedType) key).getActualTypeArguments(), rawType.getTypeParameters());
+    }
+
+    private V findSuper(final Class<?> key) {
+        if (superValues.isEmpty()) {
+            return null;
+        }
+
+        // Primitives and arrays can be assignable to types outside their hierarchy, e.g. through autoboxing:
+        final Collection<Class<?>> candidates = key.isPrimitive() || key.isArray() || hasPrimitiveSuperKeys
+            ? superValues.keySet()
+            : getRegisteredSuperTypes(key);
+
+        Class<?> bestMatch = null;
+        for (Class<?> candidate : candidates) {
+            if (!TypeUtils.isAssignable(key, candidate)) {
+                continue;
+            }
+
+            if (bestMatch == null || TypeUtils.isAssignable(candidate, bestMatch)) {
+                // First, or more specific match found:
+                bestMatch = candidate;
+            }
+        }
+
+        return bestMatch == null ? null : superValues.get(bestMatch);
+    }
+
+    /**
+     * @return the super types of {@code key}, including itself, that have a value registered, in the order they are
+     * held in {@code superValues}, so that the choice between unrelated matches is the same as a linear scan.
+     */
+    private Collection<Class<?>> getRegisteredSuperTypes(final Class<?> key) {
+        final Set<Class<?>> visited = new HashSet<>();
+        final List<Class<?>> registered = new ArrayList<>();
+        final Deque<Class<?>> pending = new ArrayDeque<>();
+        pending.add(key);
+        if (key.isInterface()) {
+            pending.add(Object.class);
+        }
+
+        while (!pending.isEmpty()) {
+            final Class<?> type = pending.remove();
+            if (!visited.add(type)) {
+                continue;
+            }
+
+            if (superOrder.containsKey(type)) {
+                registered.add(type);
+            }
+
+            if (type.getSuperclass() != null) {
+                pending.add(type.getSuperclass());
+            }
+            Collections.addAll(pending, type.getInterfaces());
+        }
+
+        registered.sort(Comparator.comparing(superOrder::get));
+        return registered;
+    }
+
+    private static <V> Map<Type, V> internKeys(final Map<Type, V> values) {
+        // Keys are interned, so can be looked up by identity:
+        final Map<Type, V> interned = new IdentityHashMap<>(values.size());
+        values.forEach((type, value) -> interned.put(TypeInterner.intern(type), value));
+        return interned;
+    }
+
     private V getPackage(final Class<?> rawType) {
         if (rawType.isPrimitive()) {
             return getPackage("java.lang");
@@ -54,8 +54,7 @@ final class ImmutableTypeMapBuilder<T> implements ImmutableTypeMap.Builder<T> {
     public ImmutableTypeMapBuilder<T> withSpecificType(final Type type, final T handler) {
         Validate.notNull(type, "type null");
         Validate.notNull(handler, "handler null");
-        final Type consistentType = TypeUtils.ensureConsistentType(type);
-        specificValues.put(consistentType, handler);
+        specificValues.put(TypeInterner.intern(type), handler);
         return this;
     }
 
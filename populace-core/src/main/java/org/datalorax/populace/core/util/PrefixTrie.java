@@ -0,0 +1,69 @@
+/*
+ * Copyright (c) 2015 Andrew Coates
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.datalorax.populace.core.util;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * An immutable trie of string keys, supporting lookup of the value of the longest key that is a prefix of some string.
+ *
+ * @param <V> the type of the values
+ * @author Andrew Coates - 17/10/2026.
+ */
+final class PrefixTrie<V> {
+    private final Node<V> root = new Node<>();
+
+    PrefixTrie(final Map<String, V> values) {
+        values.forEach(this::put);
+    }
+
+    /**
+     * Find the value of the longest key that is a prefix of {@code string}, or equal to it.
+     *
+     * @param string the string to match
+     * @return the value of the longest matching key, or {@code null} if no key matches.
+     */
+    V getLongestPrefixOf(final String string) {
+        V bestMatch = root.value;
+        Node<V> node = root;
+        for (int i = 0; i != string.length(); ++i) {
+            node = node.children.get(string.charAt(i));
+            if (node == null) {
+                break;
+            }
+
+            if (node.value != null) {
+                bestMatch = node.value;
+            }
+        }
+        return bestMatch;
+    }
+
+    private void put(final String key, final V value) {
+        Node<V> node = root;
+        for (int i = 0; i != key.length(); ++i) {
+            node = node.children.computeIfAbsent(key.charAt(i), c -> new Node<>());
+        }
+        node.value = value;
+    }
+
+    private static final class Node<V> {
+        private final Map<Character, Node<V>> children = new HashMap<>(4);
+        private V value;
+    }
+}
@@ -0,0 +1,70 @@
+/*
+ * Copyright (c) 2015 Andrew Coates
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.datalorax.populace.core.util;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.collect.Interner;
+import com.google.common.collect.Interners;
+import org.apache.commons.lang3.Validate;
+
+import java.lang.reflect.Type;
+
+/**
+ * Maps structurally equal {@link Type types} to a single canonical instance, so that interned types can be compared
+ * by identity, and used as keys in identity based maps, which use the JVM's cached identity hash.
+ * <p>
+ * The first time an instance is interned it is converted to a {@link TypeUtils#ensureConsistentType consistent}
+ * implementation and looked up by value. The result is remembered against the instance, so interning the same instance
+ * again is a single identity based lookup that neither allocates nor compares types deeply. Generic types tend to be
+ * long lived, e.g. those of fields, so most lookups on the hot path take the fast route.
+ * <p>
+ * Both the canonical instances and the remembered results are weakly held, so interning never keeps a type, or its
+ * class, loaded.
+ *
+ * @author Andrew Coates - 17/10/2026.
+ */
+public final class TypeInterner {
+    private static final Interner<Type> CANONICAL = Interners.newWeakInterner();
+    private static final Cache<Type, Type> INTERNED = CacheBuilder.newBuilder().weakKeys().weakValues().build();
+
+    private TypeInterner() {
+    }
+
+    /**
+     * Get the canonical instance of the supplied {@code type}.
+     *
+     * @param type the type to intern.
+     * @return the canonical instance, which is equal to {@code type}, though not necessarily the same implementation.
+     * Classes are their own canonical instance.
+     */
+    public static Type intern(final Type type) {
+        Validate.notNull(type, "type null");
+        if (type instanceof Class) {
+            return type;
+        }
+
+        final Type known = INTERNED.getIfPresent(type);
+        if (known != null) {
+            return known;
+        }
+
+        final Type canonical = CANONICAL.intern(TypeUtils.ensureConsistentType(type));
+        INTERNED.put(type, canonical);
+        return canonical;
+    }
+}
@@ -16,15 +16,31 @@
 
 package org.datalorax.populace.core.util;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import org.apache.commons.lang3.Validate;
 
 import java.lang.reflect.*;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 /**
  * @author Andrew Coates - 04/03/2015.
  */
 public final class TypeUtils {
+    // Type arguments are cached per type: in a ClassValue for classes, so that the cache never keeps a class loaded,
+    // and otherwise weakly keyed, by identity, as generic types are typically long lived, e.g. those of fields:
+    private static final ClassValue<ConcurrentMap<TypeVariable<?>, Type>> CLASS_TYPE_ARGUMENTS =
+        new ClassValue<ConcurrentMap<TypeVariable<?>, Type>>() {
+            @Override
+            protected ConcurrentMap<TypeVariable<?>, Type> computeValue(final Class<?> type) {
+                return new ConcurrentHashMap<>();
+            }
+        };
+    private static final Cache<Type, ConcurrentMap<TypeVariable<?>, Type>> TYPE_ARGUMENTS =
+        CacheBuilder.newBuilder().weakKeys().build();
+
     private static final List<Class<?>> PRIMITIVE_TYPES = Collections.unmodifiableList(Arrays.asList(
         boolean.class, byte.class, char.class, short.class, int.class, long.class, float.class, double.class));
 
@@ -86,6 +102,33 @@ public final class TypeUtils {
      * @throws java.lang.IllegalArgumentException if {@code type} is not assignable to {@code toClass}.
      */
     public static Type getTypeArgument(final Type type, final TypeVariable<? extends Class<?>> typeVariable) {
+        final ConcurrentMap<TypeVariable<?>, Type> known = getTypeArgumentCache(type);
+        final Type cached = known.get(typeVariable);
+        if (cached != null) {
+            return cached;
+        }
+
+        final Type typeArg = computeTypeArgument(type, typeVariable);
+        known.putIfAbsent(typeVariable, typeArg);
+        return typeArg;
+    }
+
+    private static ConcurrentMap<TypeVariable<?>, Type> getTypeArgumentCache(final Type type) {
+        if (type instanceof Class) {
+            return CLASS_TYPE_ARGUMENTS.get((Class<?>) type);
+        }
+
+        final ConcurrentMap<TypeVariable<?>, Type> known = TYPE_ARGUMENTS.getIfPresent(type);
+        if (known != null) {
+            return known;
+        }
+
+        final ConcurrentMap<TypeVariable<?>, Type> created = new ConcurrentHashMap<>();
+        final ConcurrentMap<TypeVariable<?>, Type> existing = TYPE_ARGUMENTS.asMap().putIfAbsent(type, created);
+        return existing == null ? created : existing;
+    }
+
+    private static Type computeTypeArgument(final Type type, final TypeVariable<? extends Class<?>> typeVariable) {
         final Class<?> toClass = typeVariable.getGenericDeclaration();
         if (toClass.equals(type)) {
             return typeVariable;
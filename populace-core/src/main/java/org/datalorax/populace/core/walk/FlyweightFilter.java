@@ -0,0 +1,52 @@
+/*
+ * Copyright (c) 2015 Andrew Coates
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.datalorax.populace.core.walk;
+
+import java.util.function.Predicate;
+
+/**
+ * Implemented by field and element filters that only use the {@link org.datalorax.populace.core.walk.field.FieldInfo
+ * fields} and {@link org.datalorax.populace.core.walk.element.ElementInfo elements} they are passed during the call to
+ * test them.
+ * <p>
+ * Walks run from a {@link WalkSession session} only pass flyweight instances, which are reused for each field and
+ * element visited, where the walker's field and element filters, as well as its visitors, accept them. A filter that
+ * keeps hold of a field or element must either not implement this interface, or take a stable copy by calling its
+ * {@code snapshot()} method.
+ * <p>
+ * {@link org.datalorax.populace.core.walk.field.filter.StaticFieldFilter Static field filters} accept flyweights, as do
+ * {@link org.datalorax.populace.core.walk.field.filter.CompoundFieldFilter compound filters} whose operands all accept
+ * them. Lambdas can opt in with an intersection cast, e.g. {@code (Predicate<ElementInfo> & FlyweightFilter) e -> ...}.
+ *
+ * @author Andrew Coates - 17/10/2026.
+ */
+public interface FlyweightFilter {
+    /**
+     * @return true if the filter does not retain the fields and elements it tests, false otherwise. Default is true.
+     */
+    default boolean acceptsFlyweights() {
+        return true;
+    }
+
+    /**
+     * @param filter the field or element filter to check.
+     * @return true if the supplied {@code filter} accepts flyweight fields and elements.
+     */
+    static boolean acceptsFlyweights(final Predicate<?> filter) {
+        return filter instanceof FlyweightFilter && ((FlyweightFilter) filter).acceptsFlyweights();
+    }
+}
@@ -31,6 +31,19 @@ public interface GraphComponent {
      */
     int getDepth();
 
+    /**
+     * Get the path to this component from the root of the walk, e.g. {@code SomeType.someField[2]}
+     * <p>
+     * The fields and elements returned by walkers always have a path. The default implementation, for other
+     * implementations of this interface, throws.
+     *
+     * @return the path to the component.
+     * @throws UnsupportedOperationException if the component does not know its path.
+     */
+    default String getPath() {
+        throw new UnsupportedOperationException(getClass().getName() + " does not support getPath");
+    }
+
     /**
      * Get the generic type of the component
      *
@@ -17,35 +17,34 @@
 package org.datalorax.populace.core.walk;
 
 import org.apache.commons.lang3.Validate;
-import org.apache.commons.logging.Log;
-import org.apache.commons.logging.LogFactory;
+import org.datalorax.populace.core.jfr.JfrEvents;
+import org.datalorax.populace.core.metrics.WalkMetrics;
 import org.datalorax.populace.core.walk.element.ElementInfo;
-import org.datalorax.populace.core.walk.element.RawElement;
 import org.datalorax.populace.core.walk.field.FieldInfo;
 import org.datalorax.populace.core.walk.field.PathProvider;
-import org.datalorax.populace.core.walk.field.RawField;
 import org.datalorax.populace.core.walk.field.filter.FieldFilter;
-import org.datalorax.populace.core.walk.inspector.Inspector;
 import org.datalorax.populace.core.walk.inspector.Inspectors;
+import org.datalorax.populace.core.walk.listener.WalkListener;
 import org.datalorax.populace.core.walk.visitor.ElementVisitor;
+import org.datalorax.populace.core.walk.visitor.ElementVisitors;
 import org.datalorax.populace.core.walk.visitor.FieldVisitor;
+import org.datalorax.populace.core.walk.visitor.FieldVisitors;
+import org.datalorax.populace.core.walk.visitor.VisitResult;
 
-import java.lang.reflect.Type;
-import java.util.Iterator;
+import java.util.Optional;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.Predicate;
-
-import static org.datalorax.populace.core.util.TypeUtils.abbreviatedName;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
- * Type that recursively walks an object graph, calling back to the client code on the provided
+ * Type that walks an object graph, calling back to the client code on the provided
  * {@link org.datalorax.populace.core.walk.visitor.FieldVisitor field visitor} and
  * {@link org.datalorax.populace.core.walk.visitor.ElementVisitor element visitor} interfaces.
  *
  * @author Andrew Coates - 28/02/2015.
  */
 public class GraphWalker {
-    private static final Log LOG = LogFactory.getLog(GraphWalker.class);
-
     private final WalkerContext context;
 
     /**
@@ -71,126 +70,157 @@ public class GraphWalker {
     /**
      * Recursively walk the fields on {@code instance} and any objects it links too, calling back on {@code fieldVisitor}
      * for each field as it is discovered and {@code elementVisitor} for each child element of each collection field.
+     * <p>
+     * The walk does not recurse on the Java call stack, so graphs of any depth can be walked.
+     * <p>
+     * Visitors can prune the walk by implementing {@link
+     * org.datalorax.populace.core.walk.visitor.PruningFieldVisitor PruningFieldVisitor} or {@link
+     * org.datalorax.populace.core.walk.visitor.PruningElementVisitor PruningElementVisitor}, returning
+     * {@link VisitResult#SKIP_SUBTREE} to skip walking the value of the visited field or element, or
+     * {@link VisitResult#TERMINATE} to stop the walk.
+     * <p>
+     * If the walker was built {@link Builder#withParallelism with parallelism} the graph is walked on the configured
+     * pool, and this call blocks until the walk is complete. Visitors that are not {@link
+     * org.datalorax.populace.core.walk.visitor.Visitor#isThreadSafe() thread-safe} are never called concurrently.
+     * <p>
+     * If the walker was built {@link Builder#withVisitorOffload with visitor offload} the graph is walked on the calling
+     * thread, but the visitors are called on the configured executor. This call blocks until all visits are complete.
+     * <p>
+     * If the walker was built {@link Builder#withWalkBudget with a budget} the walk stops, and a
+     * {@link WalkBudgetExceededException} is thrown, should the budget be exceeded.
      *
      * @param instance       the instance to walk
      * @param fieldVisitor   the visitor to call back on for each discovered field.
      * @param elementVisitor the visitor to call back on for each element of a collection field.
      */
     public void walk(final Object instance, final FieldVisitor fieldVisitor, final ElementVisitor elementVisitor) {
-        final Visitors visitors = new Visitors(fieldVisitor, elementVisitor);
-        final WalkerStack walkerStack = WalkerStack.newStack(instance);
-        walk(instance.getClass(), instance, visitors, walkerStack);
+        final Object event = JfrEvents.beginWalk();
+        try {
+            doWalk(instance, fieldVisitor, elementVisitor);
+        } finally {
+            JfrEvents.endWalk(event, instance);
+        }
     }
 
-    @Override
-    public boolean equals(final Object o) {
-        if (this == o) return true;
-        if (o == null || getClass() != o.getClass()) return false;
+    private void doWalk(final Object instance, final FieldVisitor fieldVisitor, final ElementVisitor elementVisitor) {
+        final Optional<ForkJoinPool> pool = context.getParallelism();
+        if (pool.isPresent()) {
+            new ParallelWalk(context, pool.get(), new Visitors(fieldVisitor, elementVisitor, true, context)).walk(instance);
+            return;
+        }
 
-        final GraphWalker that = (GraphWalker) o;
-        return context.equals(that.context);
-    }
+        final Optional<VisitorOffload> offload = context.getVisitorOffload();
+        if (offload.isPresent()) {
+            new OffloadedWalk(context, offload.get(), new Visitors(fieldVisitor, elementVisitor, true, context)).walk(instance);
+            return;
+        }
 
-    @Override
-    public int hashCode() {
-        return context.hashCode();
+        walkSequentially(new WalkCursor(context, instance), new Visitors(fieldVisitor, elementVisitor, false, context));
     }
 
-    @Override
-    public String toString() {
-        return "GraphWalker{" +
-            "context=" + context +
-            '}';
+    /**
+     * Start a session for running many walks, one after another, on the calling thread. The session reuses its buffers
+     * from one walk to the next, and passes visitors that
+     * {@link org.datalorax.populace.core.walk.visitor.Visitor#acceptsFlyweights() accept flyweights} reused
+     * {@link FieldInfo} and {@link ElementInfo} instances, greatly reducing the garbage generated by each walk. Flyweights
+     * are only used if the walker's filters also accept them. See {@link FlyweightFilter}.
+     *
+     * @return a new session.
+     * @see WalkSession
+     */
+    public WalkSession newSession() {
+        return new WalkSession(this, context);
     }
 
-    private void walk(final Type type, final Object instance, final Visitors visitors, final WalkerStack stack) {
-        final Type resolvedType = stack.getTypeResolver().resolve(instance.getClass());
-        final Inspector inspector = context.getInspector(resolvedType);
-        logInfo("Walking type: " + abbreviatedName(type) + ", inspector: " + abbreviatedName(inspector.getClass()), stack);
-
-        walkFields(instance, visitors, inspector, stack);
-        walkElements(type, instance, visitors, inspector, stack);
+    /**
+     * @return true if walks run on the calling thread, i.e. with neither parallelism nor visitor offload configured.
+     */
+    boolean isSequential() {
+        return !context.getParallelism().isPresent() && !context.getVisitorOffload().isPresent();
     }
 
-    private void walkFields(final Object instance, final Visitors visitors, final Inspector inspector, final WalkerStack instanceStack) {
-        final Iterable<RawField> fields = inspector.getFields(instance.getClass(), context.getInspectors());
-        if (!fields.iterator().hasNext()) {
-            return;
-        }
-
-        for (RawField field : fields) {
-            final WalkerStack fieldStack = instanceStack.push(field);
-            final FieldInfo fieldInfo = new FieldInfo(field, instance, fieldStack.getTypeResolver(), fieldStack);
-
-            if (context.isExcludedField(fieldInfo)) {
-                logDebug("Skipping excluded field: " + fieldInfo.getName(), fieldStack);
-                continue;
-            }
-
-            logInfo("Visiting field: " + fieldInfo, fieldStack);
-
-            try {
-                visitors.visitField(fieldInfo);
-            } catch (Exception e) {
-                throw new WalkerException("Visitor threw exception while visiting field.", fieldStack, e);
-            }
-
-            final Object value = fieldInfo.getValue();
-            if (value == null) {
-                logDebug("Skipping null field: " + fieldInfo.getName(), fieldStack);
-                continue;
+    /**
+     * Walk the graph on the calling thread.
+     *
+     * @param cursor   the cursor, positioned at the root of the graph.
+     * @param visitors the visitors to call for each component.
+     */
+    void walkSequentially(final WalkCursor cursor, final Visitors visitors) {
+        final WalkBudget.Tracker budget = startBudget(context);
+        try {
+            for (GraphComponent component = cursor.next(); component != null; component = cursor.next()) {
+                if (budget != null) {
+                    budget.charge(cursor.getPath());
+                }
+
+                final VisitResult result = visitors.visit(component, cursor.getPath(), cursor.getOwner());
+                if (result == VisitResult.SKIP_SUBTREE) {
+                    cursor.skipCurrent();
+                } else if (result == VisitResult.TERMINATE) {
+                    cursor.unwind();
+                    return;
+                }
             }
-
-            walk(fieldInfo.getGenericType(), value, visitors, fieldStack);
+        } catch (WalkBudgetExceededException e) {
+            cursor.unwind();
+            throw e;
         }
     }
 
-    private void walkElements(final Type containerType, final Object instance, final Visitors visitors, final Inspector inspector, final WalkerStack stack) {
-        // Todo(ac): Figure out best return type and standardise...
-        final Iterator<RawElement> elements = inspector.getElements(instance, context.getInspectors());
-
-        int i = 0;
-        while (elements.hasNext()) {
-            final RawElement element = elements.next();
-            final WalkerStack elementStack = stack.push(element, i++);
-            final ElementInfo elementInfo = new ElementInfo(element, containerType, elementStack.getTypeResolver(), elementStack);
-
-            if (context.isExcludedElement(elementInfo)) {
-                logDebug("Skipping excluded element", elementStack);
-                continue;
-            }
-
-            logInfo("Visiting element: " + elementInfo, elementStack);
-
-            element.preWalk();
+    /**
+     * Get a lazy stream of the {@link FieldInfo fields} and {@link ElementInfo elements} of {@code instance} and any
+     * objects it links to, in the same order as {@link #walk} would visit them.
+     * <p>
+     * The graph is only walked as far as the stream is consumed, so short-circuiting operations such as
+     * {@link Stream#findFirst()}, {@link Stream#anyMatch} and {@link Stream#limit} stop the walk early. The value of each
+     * component is read, and walked, only once the next component is requested. All fields are made
+     * {@link FieldInfo#ensureAccessible() accessible} before being returned.
+     * <p>
+     * Parallel streams divide the elements of large lists, arrays and other
+     * {@link org.datalorax.populace.core.walk.inspector.IndexedInspector indexed} containers between threads, and visit
+     * components in no particular order.
+     * <p>
+     * Streams are for querying the graph: unlike {@link #walk}, they do not prepare containers for their elements to be
+     * changed, so leave containers, e.g. sets, untouched however much of the stream is consumed. Changes to the values
+     * of elements may be lost, and values should not be changed via the components of a parallel stream. The walker's
+     * {@link Builder#withParallelism parallelism}, {@link Builder#withVisitorOffload visitor offload} and
+     * {@link Builder#withWalkBudget budget} settings do not apply to streams.
+     *
+     * @param instance the instance to walk
+     * @return a lazy stream of the graph's components.
+     */
+    public Stream<GraphComponent> stream(final Object instance) {
+        Validate.notNull(instance, "instance null");
+        return StreamSupport.stream(new WalkSpliterator(context, instance), false);
+    }
 
-            try {
-                visitors.visitElement(elementInfo);
-            } catch (Exception e) {
-                throw new WalkerException("Visitor threw exception while visiting element.", elementStack, e);
-            }
+    /**
+     * @return the tracker for the budget of a new walk, or {@code null} if walks are unlimited.
+     */
+    static WalkBudget.Tracker startBudget(final WalkerContext context) {
+        final Optional<WalkBudget> budget = context.getWalkBudget();
+        return budget.isPresent() ? budget.get().start() : null;
+    }
 
-            final Object value = elementInfo.getValue();
-            if (value == null) {
-                logDebug("Skipping null child", stack);
-            } else {
-                walk(value.getClass(), value, visitors, elementStack);
-            }
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
 
-            element.postWalk();
-        }
+        final GraphWalker that = (GraphWalker) o;
+        return context.equals(that.context);
     }
 
-    private static void logDebug(String message, PathProvider path) {
-        if (LOG.isDebugEnabled()) {
-            LOG.debug(path.getPath() + " - " + message);
-        }
+    @Override
+    public int hashCode() {
+        return context.hashCode();
     }
 
-    private static void logInfo(String message, PathProvider path) {
-        if (LOG.isInfoEnabled()) {
-            LOG.info(path.getPath() + " - " + message);
-        }
+    @Override
+    public String toString() {
+        return "GraphWalker{" +
+            "context=" + context +
+            '}';
     }
 
     public interface Builder {
@@ -202,6 +232,10 @@ public class GraphWalker {
          * {@link java.util.function.Predicate}, such as logical
          * {@link java.util.function.Predicate#and AND} and
          * {@link java.util.function.Predicate#or OR}, etc.
+         * <p>
+         * Filters that depend only on a field's metadata should implement
+         * {@link org.datalorax.populace.core.walk.field.filter.StaticFieldFilter StaticFieldFilter}, as the walker
+         * evaluates them once per field of each class, rather than once per instance.
          *
          * @param filter the filter to install.
          * @return the builder
@@ -261,6 +295,80 @@ public class GraphWalker {
          */
         Inspectors.Builder inspectorsBuilder();
 
+        /**
+         * Walk graphs in parallel, using the supplied {@code pool}. By default graphs are walked sequentially on the
+         * calling thread.
+         * <p>
+         * Subtrees of the graph, and ranges of elements within large
+         * {@link org.datalorax.populace.core.walk.inspector.IndexedInspector indexed} containers, such as lists and
+         * arrays, are walked as separate tasks on the pool. The order in which fields and elements are visited is
+         * therefore not deterministic, though the {@link org.datalorax.populace.core.walk.element.RawElement#postWalk()
+         * post walk} of an element is still only called once its whole subtree has been walked.
+         * <p>
+         * Installed filters and inspectors must be thread-safe. Visitors should declare whether they are thread-safe via
+         * {@link org.datalorax.populace.core.walk.visitor.Visitor#isThreadSafe()}. Graphs that contain the same instance
+         * more than once, or cycles, should be walked with a
+         * {@link org.datalorax.populace.core.walk.instance.ConcurrentInstanceTracker} installed.
+         *
+         * @param pool the pool to walk graphs on.
+         * @return the builder itself
+         */
+        Builder withParallelism(final ForkJoinPool pool);
+
+        /**
+         * Offload calls to visitors from the walking thread to an executor, as configured by the supplied
+         * {@code offload}. By default visitors are called inline on the walking thread.
+         * <p>
+         * This is useful where visitors block, e.g. looking up reference data or writing to a channel, as the blocking
+         * time of different visits then overlaps, rather than adding up.
+         * <p>
+         * The walker does not wait for a visit to complete before continuing, so visitors should not change the values of
+         * fields or elements: such changes are not walked. The walker makes all fields
+         * {@link org.datalorax.populace.core.walk.field.FieldInfo#ensureAccessible() accessible} before reading them.
+         * Unless {@link VisitorOffload.Ordering#WALK_ORDER} is configured, calls to visitors that are
+         * {@link org.datalorax.populace.core.walk.visitor.Visitor#isThreadSafe() thread-safe} run concurrently.
+         * <p>
+         * Visitor offload can not be combined with {@link #withParallelism parallel walking}.
+         *
+         * @param offload the offload configuration.
+         * @return the builder itself
+         * @see VisitorOffload#defaults()
+         */
+        Builder withVisitorOffload(final VisitorOffload offload);
+
+        /**
+         * Limit the resources each walk may use, e.g. the number of fields and elements visited or the time taken. By
+         * default walks are unlimited.
+         * <p>
+         * A walk that exceeds its budget stops and throws a {@link WalkBudgetExceededException}, which details the
+         * limit exceeded and the path the walk had reached. The budget applies to {@link #withParallelism parallel} and
+         * {@link #withVisitorOffload offloaded} walks, but not to {@link GraphWalker#stream streams}, which are only
+         * walked as far as they are consumed.
+         *
+         * @param budget the budget to limit each walk to.
+         * @return the builder itself
+         */
+        Builder withWalkBudget(final WalkBudget budget);
+
+        /**
+         * Record the number of, and time taken by, the steps of each walk, broken down by class, to the supplied
+         * {@code metrics}. By default metrics are not recorded, and walks do not read the clock.
+         *
+         * @param metrics the metrics to record to.
+         * @return the builder itself
+         */
+        Builder withMetrics(final WalkMetrics metrics);
+
+        /**
+         * Trace each walk to the supplied {@code listener}, e.g. a
+         * {@link org.datalorax.populace.core.walk.listener.LoggingWalkListener} to log the walk. By default walks are
+         * not traced, and the walker makes no calls to trace them.
+         *
+         * @param listener the listener to trace walks to.
+         * @return the builder itself
+         */
+        Builder withWalkListener(final WalkListener listener);
+
         /**
          * Build an immutable instance of {@link GraphWalker} from the configuration provided.
          *
@@ -269,23 +377,97 @@ public class GraphWalker {
         GraphWalker build();
     }
 
-    private static class Visitors {
+    static final class Visitors {
         private final FieldVisitor fieldVisitor;
         private final ElementVisitor elementVisitor;
+        private final Object fieldLock;     // null if calls to the visitor need not be serialised
+        private final Object elementLock;   // null if calls to the visitor need not be serialised
+        private final WalkMetrics metrics;  // null if metrics are not recorded
 
-        private Visitors(final FieldVisitor fieldVisitor, final ElementVisitor elementVisitor) {
+        /**
+         * @param fieldVisitor   the field visitor.
+         * @param elementVisitor the element visitor.
+         * @param concurrent     true if visit methods may be called concurrently, in which case calls to visitors that
+         *                       are not thread-safe are serialised.
+         * @param context        the walkers configuration
+         */
+        Visitors(final FieldVisitor fieldVisitor, final ElementVisitor elementVisitor, final boolean concurrent,
+                 final WalkerContext context) {
             Validate.notNull(fieldVisitor, "fieldVisitor null");
             Validate.notNull(elementVisitor, "elementVisitor null");
             this.fieldVisitor = fieldVisitor;
             this.elementVisitor = elementVisitor;
+            this.fieldLock = concurrent && !fieldVisitor.isThreadSafe() ? this : null;
+            this.elementLock = concurrent && !elementVisitor.isThreadSafe() ? this : null;
+            this.metrics = context.getMetrics().orElse(null);
         }
 
-        public void visitField(final FieldInfo fieldInfo) {
-            fieldVisitor.visit(fieldInfo);
+        /**
+         * @return true if these visitors call the supplied {@code fieldVisitor} and {@code elementVisitor}.
+         */
+        boolean isFor(final FieldVisitor fieldVisitor, final ElementVisitor elementVisitor) {
+            return this.fieldVisitor == fieldVisitor && this.elementVisitor == elementVisitor;
+        }
+
+        /**
+         * @return true if both visitors accept flyweight fields and elements.
+         */
+        boolean acceptFlyweights() {
+            return fieldVisitor.acceptsFlyweights() && elementVisitor.acceptsFlyweights();
         }
 
-        public void visitElement(final ElementInfo elementInfo) {
-            elementVisitor.visit(elementInfo);
+        /**
+         * @param component the field or element to visit.
+         * @param path      the path to the component.
+         * @param owner     the instance owning the field, or the container of the element.
+         * @return the result of the visit.
+         */
+        public VisitResult visit(final GraphComponent component, final PathProvider path, final Object owner) {
+            if (metrics == null) {
+                return visit(component, path);
+            }
+
+            final long start = System.nanoTime();
+            try {
+                return visit(component, path);
+            } finally {
+                final WalkMetrics.Step step = component instanceof FieldInfo
+                    ? WalkMetrics.Step.VISIT_FIELD : WalkMetrics.Step.VISIT_ELEMENT;
+                metrics.record(step, owner.getClass(), System.nanoTime() - start);
+            }
+        }
+
+        private VisitResult visit(final GraphComponent component, final PathProvider path) {
+            if (component instanceof FieldInfo) {
+                return visitField((FieldInfo) component, path);
+            }
+            return visitElement((ElementInfo) component, path);
+        }
+
+        private VisitResult visitField(final FieldInfo fieldInfo, final PathProvider path) {
+            try {
+                if (fieldLock == null) {
+                    return FieldVisitors.visitWithResult(fieldVisitor, fieldInfo);
+                }
+                synchronized (fieldLock) {
+                    return FieldVisitors.visitWithResult(fieldVisitor, fieldInfo);
+                }
+            } catch (Exception e) {
+                throw new WalkerException("Visitor threw exception while visiting field.", path, e);
+            }
+        }
+
+        private VisitResult visitElement(final ElementInfo elementInfo, final PathProvider path) {
+            try {
+                if (elementLock == null) {
+                    return ElementVisitors.visitWithResult(elementVisitor, elementInfo);
+                }
+                synchronized (elementLock) {
+                    return ElementVisitors.visitWithResult(elementVisitor, elementInfo);
+                }
+            } catch (Exception e) {
+                throw new WalkerException("Visitor threw exception while visiting element.", path, e);
+            }
         }
     }
 }
\ No newline at end of file
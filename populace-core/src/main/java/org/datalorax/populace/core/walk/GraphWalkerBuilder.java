@@ -17,12 +17,16 @@
 package org.datalorax.populace.core.walk;
 
 import org.apache.commons.lang3.Validate;
+import org.datalorax.populace.core.metrics.WalkMetrics;
 import org.datalorax.populace.core.walk.element.ElementInfo;
 import org.datalorax.populace.core.walk.field.FieldInfo;
+import org.datalorax.populace.core.walk.field.filter.CompoundFieldFilter;
 import org.datalorax.populace.core.walk.field.filter.FieldFilter;
 import org.datalorax.populace.core.walk.field.filter.FieldFilters;
 import org.datalorax.populace.core.walk.inspector.Inspectors;
+import org.datalorax.populace.core.walk.listener.WalkListener;
 
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.Predicate;
 
 /**
@@ -31,8 +35,13 @@ import java.util.function.Predicate;
 public class GraphWalkerBuilder implements GraphWalker.Builder {
     private Predicate<FieldInfo> fieldFilter = FieldFilters.excludeStaticFields()
         .and(FieldFilters.excludeTransientFields());
-    private Predicate<ElementInfo> elementFilter = e -> true;
+    private Predicate<ElementInfo> elementFilter = (Predicate<ElementInfo> & FlyweightFilter) e -> true;
     private Inspectors inspectors = Inspectors.defaults();
+    private ForkJoinPool parallelism = null;
+    private VisitorOffload visitorOffload = null;
+    private WalkBudget walkBudget = null;
+    private WalkMetrics metrics = null;
+    private WalkListener walkListener = null;
 
     @Override
     public GraphWalkerBuilder withFieldFilter(final Predicate<FieldInfo> filter) {
@@ -44,7 +53,7 @@ public class GraphWalkerBuilder implements GraphWalker.Builder {
     @SuppressWarnings("deprecation")
     @Override
     public FieldFilter getFieldFilter() {
-        return fieldFilter::test;
+        return CompoundFieldFilter.of(fieldFilter);
     }
 
     @Override
@@ -71,12 +80,50 @@ public class GraphWalkerBuilder implements GraphWalker.Builder {
         return Inspectors.asBuilder(inspectors);
     }
 
+    @Override
+    public GraphWalkerBuilder withParallelism(final ForkJoinPool pool) {
+        Validate.notNull(pool, "pool null");
+        this.parallelism = pool;
+        return this;
+    }
+
+    @Override
+    public GraphWalkerBuilder withVisitorOffload(final VisitorOffload offload) {
+        Validate.notNull(offload, "offload null");
+        this.visitorOffload = offload;
+        return this;
+    }
+
+    @Override
+    public GraphWalkerBuilder withWalkBudget(final WalkBudget budget) {
+        Validate.notNull(budget, "budget null");
+        this.walkBudget = budget;
+        return this;
+    }
+
+    @Override
+    public GraphWalkerBuilder withMetrics(final WalkMetrics metrics) {
+        Validate.notNull(metrics, "metrics null");
+        this.metrics = metrics;
+        return this;
+    }
+
+    @Override
+    public GraphWalkerBuilder withWalkListener(final WalkListener listener) {
+        Validate.notNull(listener, "listener null");
+        this.walkListener = listener;
+        return this;
+    }
+
     @Override
     public GraphWalker build() {
         return new GraphWalker(buildConfig());
     }
 
     private WalkerContext buildConfig() {
-        return new WalkerContext(fieldFilter, elementFilter, inspectors);
+        Validate.validState(parallelism == null || visitorOffload == null,
+            "Parallel walking and visitor offload can not be combined");
+        return new WalkerContext(fieldFilter, elementFilter, inspectors, parallelism, visitorOffload, walkBudget, metrics,
+            walkListener);
     }
 }
@@ -0,0 +1,194 @@
+/*
+ * Copyright (c) 2015 Andrew Coates
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.datalorax.populace.core.walk;
+
+import org.apache.commons.lang3.Validate;
+import org.datalorax.populace.core.walk.field.FieldInfo;
+import org.datalorax.populace.core.walk.field.PathProvider;
+import org.datalorax.populace.core.walk.visitor.VisitResult;
+
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * A single walk of an object graph where the visitor calls are offloaded to an executor, as configured by a
+ * {@link VisitorOffload}.
+ * <p>
+ * The graph is walked on the calling thread. As the walker does not wait for a visit to complete before moving on,
+ * changes a visitor makes to the value of a field or element are not walked. The walker makes each field accessible
+ * itself before reading its value.
+ * <p>
+ * The number of visits in flight is limited by a semaphore, which blocks the walk when the limit is reached. The walk
+ * does not return until all visits have completed. The first exception thrown by a visitor stops the walk and is
+ * rethrown once all in flight visits have completed.
+ * <p>
+ * A visitor returning {@link VisitResult#TERMINATE} stops the walk as soon as the walker sees the result. As the walk
+ * will already have moved on, {@link VisitResult#SKIP_SUBTREE} is ignored.
+ * <p>
+ * The walk's {@link WalkBudget budget} is charged as components are submitted, rather than as they are visited. A walk
+ * that exceeds its budget stops submitting visits and throws once those in flight have completed.
+ *
+ * @author Andrew Coates - 17/10/2026.
+ */
+final class OffloadedWalk {
+    private final WalkerContext context;
+    private final VisitorOffload offload;
+    private final GraphWalker.Visitors visitors;
+    private final Semaphore inFlight;
+    private final WalkBudget.Tracker budget;
+    private final AtomicReference<Throwable> failure = new AtomicReference<>();
+    private volatile boolean terminated;
+
+    OffloadedWalk(final WalkerContext context, final VisitorOffload offload, final GraphWalker.Visitors visitors) {
+        Validate.notNull(context, "context null");
+        Validate.notNull(offload, "offload null");
+        Validate.notNull(visitors, "visitors null");
+        this.context = context;
+        this.offload = offload;
+        this.visitors = visitors;
+        this.inFlight = new Semaphore(offload.getMaxInFlight());
+        this.budget = GraphWalker.startBudget(context);
+    }
+
+    /**
+     * Walk the graph rooted at {@code root}, blocking until the walk, and all visits, are complete.
+     *
+     * @param root the root of the graph to walk.
+     */
+    void walk(final Object root) {
+        final ExecutorService owned = offload.getExecutor().isPresent() ? null : offload.newExecutor();
+        final Executor base = owned == null ? offload.getExecutor().get() : owned;
+        final Executor executor = offload.getOrdering() == VisitorOffload.Ordering.WALK_ORDER ? new SerialExecutor(base) : base;
+
+        try {
+            final WalkCursor cursor = new WalkCursor(context, root);
+            try {
+                for (GraphComponent component = cursor.next(); component != null; component = cursor.next()) {
+                    if (isStopped()) {
+                        cursor.unwind();
+                        break;
+                    }
+                    if (budget != null) {
+                        budget.charge(cursor.getPath());
+                    }
+                    if (component instanceof FieldInfo) {
+                        ((FieldInfo) component).ensureAccessible();
+                    }
+                    submit(executor, component, cursor.getPath(), cursor.getOwner());
+                }
+            } catch (WalkBudgetExceededException e) {
+                cursor.unwind();
+                throw e;
+            }
+        } finally {
+            awaitInFlight();
+            if (owned != null) {
+                owned.shutdown();
+            }
+        }
+
+        final Throwable t = failure.get();
+        if (t instanceof RuntimeException) {
+            throw (RuntimeException) t;
+        }
+        if (t instanceof Error) {
+            throw (Error) t;
+        }
+    }
+
+    private void submit(final Executor executor, final GraphComponent component, final PathProvider path,
+                        final Object owner) {
+        try {
+            inFlight.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new WalkerException("Interrupted waiting for visitors to complete.", path, e);
+        }
+
+        try {
+            executor.execute(() -> visit(component, path, owner));
+        } catch (RejectedExecutionException e) {
+            inFlight.release();
+            throw new WalkerException("Executor rejected visit.", path, e);
+        }
+    }
+
+    private void visit(final GraphComponent component, final PathProvider path, final Object owner) {
+        try {
+            if (!isStopped() && visitors.visit(component, path, owner) == VisitResult.TERMINATE) {
+                terminated = true;
+            }
+        } catch (RuntimeException | Error e) {
+            failure.compareAndSet(null, e);
+        } finally {
+            inFlight.release();
+        }
+    }
+
+    private boolean isStopped() {
+        return terminated || failure.get() != null;
+    }
+
+    private void awaitInFlight() {
+        final int permits = offload.getMaxInFlight();
+        inFlight.acquireUninterruptibly(permits);
+        inFlight.release(permits);
+    }
+
+    /**
+     * Runs tasks one at a time, in submission order, on an underlying executor.
+     */
+    private static final class SerialExecutor implements Executor {
+        private final Queue<Runnable> tasks = new ArrayDeque<>();
+        private final Executor executor;
+        private Runnable active;
+
+        SerialExecutor(final Executor executor) {
+            this.executor = executor;
+        }
+
+        @Override
+        public synchronized void execute(final Runnable task) {
+            tasks.add(() -> {
+                try {
+                    task.run();
+                } finally {
+                    scheduleNext();
+                }
+            });
+            if (active == null) {
+                scheduleNext();
+            }
+        }
+
+        private synchronized void scheduleNext() {
+            active = tasks.poll();
+            if (active != null) {
+                try {
+                    executor.execute(active);
+                } catch (RejectedExecutionException e) {
+                    active.run();   // Run rejected tasks on the calling thread, so none are lost
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,171 @@
+/*
+ * Copyright (c) 2015 Andrew Coates
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.datalorax.populace.core.walk;
+
+import org.apache.commons.lang3.Validate;
+import org.datalorax.populace.core.walk.visitor.VisitResult;
+
+import java.lang.reflect.Type;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * A single parallel walk of an object graph on a {@link ForkJoinPool}.
+ * <p>
+ * Each {@link WalkTask task} walks its part of the graph with its own {@link WalkCursor cursor}. While the pool is
+ * short of work cursors fork the subtrees of non-terminal field values, and split large indexed containers, e.g. lists
+ * and arrays, into ranges of elements, as new tasks. Forks that have not been stolen by the time the forking cursor
+ * needs them are reclaimed and walked by the same cursor.
+ * <p>
+ * The first exception thrown by any task aborts the walk and is rethrown from {@link #walk(Object)} once all running
+ * tasks have stopped. Exceeding the walk's {@link WalkBudget budget} aborts it in the same way. A visitor returning
+ * {@link VisitResult#TERMINATE} stops the walk too, but without an exception.
+ *
+ * @author Andrew Coates - 17/10/2026.
+ */
+final class ParallelWalk {
+    /**
+     * Containers with fewer elements than this are not split.
+     */
+    static final int MIN_SPLIT_SIZE = 128;
+
+    /**
+     * Cursors stop forking new tasks while the current worker has more than this many queued tasks no other worker has
+     * stolen.
+     */
+    private static final int MAX_SURPLUS_TASKS = 3;
+
+    private final WalkerContext context;
+    private final ForkJoinPool pool;
+    private final GraphWalker.Visitors visitors;
+    private final WalkBudget.Tracker budget;
+    private final AtomicReference<Throwable> failure = new AtomicReference<>();
+    private volatile boolean aborted;
+
+    ParallelWalk(final WalkerContext context, final ForkJoinPool pool, final GraphWalker.Visitors visitors) {
+        Validate.notNull(context, "context null");
+        Validate.notNull(pool, "pool null");
+        Validate.notNull(visitors, "visitors null");
+        this.context = context;
+        this.pool = pool;
+        this.visitors = visitors;
+        this.budget = GraphWalker.startBudget(context);
+    }
+
+    /**
+     * Walk the graph rooted at {@code root}, blocking until the walk is complete.
+     *
+     * @param root the root of the graph to walk.
+     */
+    void walk(final Object root) {
+        Validate.notNull(root, "root null");
+        pool.invoke(new WalkTask(WalkSeed.root(root)));
+
+        final Throwable t = failure.get();
+        if (t instanceof RuntimeException) {
+            throw (RuntimeException) t;
+        }
+        if (t instanceof Error) {
+            throw (Error) t;
+        }
+    }
+
+    /**
+     * @return true if the pool could do with more work.
+     */
+    boolean shouldFork() {
+        return !aborted && ForkJoinTask.getSurplusQueuedTaskCount() <= MAX_SURPLUS_TASKS;
+    }
+
+    /**
+     * @param elementCount the number of elements in the range that may be split.
+     * @return true if the range is large enough to split and the pool could do with more work.
+     */
+    boolean shouldSplit(final int elementCount) {
+        return elementCount > MIN_SPLIT_SIZE && shouldFork();
+    }
+
+    /**
+     * Fork a task to walk the fields and elements of the {@code instance}.
+     *
+     * @return the forked task.
+     */
+    WalkTask forkInstance(final Type type, final Object instance, final WalkerStack stack, final WalkPlan plan) {
+        final WalkTask task = new WalkTask(new WalkSeed(type, instance, stack, plan, 0, -1));
+        task.fork();
+        return task;
+    }
+
+    /**
+     * Fork a task to walk the elements in the range [{@code from}, {@code to}) of the container {@code instance}.
+     *
+     * @return the forked task.
+     */
+    WalkTask forkElements(final Type type, final Object instance, final WalkerStack stack, final WalkPlan plan,
+                          final int from, final int to) {
+        final WalkTask task = new WalkTask(new WalkSeed(type, instance, stack, plan, from, to));
+        task.fork();
+        return task;
+    }
+
+    private void abort(final Throwable t) {
+        failure.compareAndSet(null, t);
+        aborted = true;
+    }
+
+    /**
+     * A task to walk the part of the graph described by its {@link WalkSeed seed}.
+     */
+    final class WalkTask extends RecursiveAction {
+        final WalkSeed seed;
+
+        private WalkTask(final WalkSeed seed) {
+            this.seed = seed;
+        }
+
+        @Override
+        protected void compute() {
+            if (aborted) {
+                return;
+            }
+
+            final WalkCursor cursor = new WalkCursor(context, seed, ParallelWalk.this);
+            try {
+                for (GraphComponent component = cursor.next(); component != null && !aborted; component = cursor.next()) {
+                    if (budget != null) {
+                        budget.charge(cursor.getPath());
+                    }
+
+                    final VisitResult result = visitors.visit(component, cursor.getPath(), cursor.getOwner());
+                    if (result == VisitResult.SKIP_SUBTREE) {
+                        cursor.skipCurrent();
+                    } else if (result == VisitResult.TERMINATE) {
+                        aborted = true;
+                    }
+                }
+            } catch (RuntimeException | Error e) {
+                abort(e);
+            } finally {
+                if (aborted) {
+                    cursor.unwind();
+                }
+            }
+        }
+    }
+}
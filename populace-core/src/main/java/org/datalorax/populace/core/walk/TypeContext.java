@@ -0,0 +1,134 @@
+/*
+ * Copyright (c) 2015 Andrew Coates
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.datalorax.populace.core.walk;
+
+import com.google.common.reflect.TypeToken;
+import org.datalorax.populace.core.util.TypeResolver;
+import org.datalorax.populace.core.walk.field.TypeTable;
+
+import java.lang.reflect.Type;
+import java.lang.reflect.TypeVariable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * The generic context of a point in a walk, used to resolve type variables.
+ * <p>
+ * Type variables are resolved using only the generic types of the fields between the root of the walk and the current
+ * point. Every instance at the same generic position in a graph therefore has the same context. For example, every
+ * element in a list held in a {@code List<Foo<String>>} field shares a context. Contexts are interned per walk, so each
+ * context is built once, and each type it resolves is resolved once. Later lookups are cache hits.
+ * <p>
+ * Contexts are thread-safe, as parts of a walk can be walked in parallel.
+ *
+ * @author Andrew Coates - 17/10/2026.
+ */
+final class TypeContext implements TypeTable {
+    private final TypeContext parent;
+    private final Type genericType;
+    private final ConcurrentMap<Type, TypeContext> children = new ConcurrentHashMap<>();
+    private final ConcurrentMap<TypeVariable, Type> variables = new ConcurrentHashMap<>();
+    private final ConcurrentMap<Type, Type> resolved = new ConcurrentHashMap<>();
+    private final TypeResolver typeResolver = new CachingTypeResolver();
+    private volatile TypeToken<?> typeToken;
+
+    private TypeContext(final TypeContext parent, final Type genericType) {
+        this.parent = parent;
+        this.genericType = genericType;
+    }
+
+    /**
+     * @return a new root context. Use a new root for each walk.
+     */
+    static TypeContext newRoot() {
+        return new TypeContext(null, null);
+    }
+
+    /**
+     * Get the context within a field of the supplied generic type.
+     *
+     * @param fieldType the generic type of the field.
+     * @return the context, which is shared by all fields of the same type in this context.
+     */
+    TypeContext push(final Type fieldType) {
+        final TypeContext child = children.get(fieldType);
+        if (child != null) {
+            return child;
+        }
+        return children.computeIfAbsent(fieldType, t -> new TypeContext(this, t));
+    }
+
+    /**
+     * @return a resolver that uses this context, and caches what it resolves.
+     */
+    TypeResolver getTypeResolver() {
+        return typeResolver;
+    }
+
+    @Override
+    public Type resolveTypeVariable(final TypeVariable variable) {
+        final Type known = variables.get(variable);
+        if (known != null) {
+            return known;
+        }
+
+        Type result = variable;     // Not enough type information to resolve
+        for (TypeContext context = this; context != null; context = context.parent) {
+            final Type local = context.resolveTypeVariableLocally(variable);
+            if (local != null) {
+                result = local;
+                break;
+            }
+        }
+
+        variables.putIfAbsent(variable, result);
+        return result;
+    }
+
+    private Type resolveTypeVariableLocally(final TypeVariable variable) {
+        if (genericType == null) {
+            return null;
+        }
+
+        TypeToken<?> token = typeToken;
+        if (token == null) {
+            token = typeToken = TypeToken.of(genericType);
+        }
+
+        final Type local = token.resolveType(variable).getType();
+        return local.equals(variable) ? null : local;
+    }
+
+    private final class CachingTypeResolver extends TypeResolver {
+        private CachingTypeResolver() {
+            super(TypeContext.this);
+        }
+
+        @Override
+        public Type resolve(final Type type) {
+            final Type known = resolved.get(type);
+            if (known != null) {
+                return known;
+            }
+
+            // Not computeIfAbsent: resolving a type can recursively resolve others in the same context
+            final Type result = super.resolve(type);
+            resolved.putIfAbsent(type, result);
+            return result;
+        }
+    }
+}
@@ -0,0 +1,210 @@
+/*
+ * Copyright (c) 2015 Andrew Coates
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.datalorax.populace.core.walk;
+
+import org.apache.commons.lang3.Validate;
+
+import java.lang.reflect.Method;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Configuration for offloading {@link org.datalorax.populace.core.walk.visitor.FieldVisitor field} and
+ * {@link org.datalorax.populace.core.walk.visitor.ElementVisitor element} visitor calls from the walking thread to an
+ * executor, allowing visitors that block, e.g. on I/O, to overlap rather than stall the walk.
+ * <p>
+ * By default visits are run on a new virtual-thread-per-task executor, where the JVM supports virtual threads, or on a
+ * bounded pool of daemon platform threads where it does not. A custom executor can be supplied instead.
+ * <p>
+ * Use {@link #newBuilder()} to build a custom configuration.
+ *
+ * @author Andrew Coates - 17/10/2026.
+ * @see GraphWalker.Builder#withVisitorOffload(VisitorOffload)
+ */
+public final class VisitorOffload {
+    static final int DEFAULT_MAX_IN_FLIGHT = 128;
+
+    private static final Method NEW_VIRTUAL_THREAD_EXECUTOR = findVirtualThreadExecutorFactory();
+    private static final VisitorOffload DEFAULTS = newBuilder().build();
+
+    private final int maxInFlight;
+    private final Ordering ordering;
+    private final Executor executor;
+
+    /**
+     * Construct via {@link #newBuilder()}
+     */
+    VisitorOffload(final int maxInFlight, final Ordering ordering, final Executor executor) {
+        Validate.isTrue(maxInFlight > 0, "maxInFlight must be positive");
+        Validate.notNull(ordering, "ordering null");
+        this.maxInFlight = maxInFlight;
+        this.ordering = ordering;
+        this.executor = executor;
+    }
+
+    /**
+     * @return the default offload configuration: unordered, with up to {@value #DEFAULT_MAX_IN_FLIGHT} visits in flight.
+     */
+    public static VisitorOffload defaults() {
+        return DEFAULTS;
+    }
+
+    /**
+     * @return a new builder, initialised with the defaults.
+     */
+    public static Builder newBuilder() {
+        return new VisitorOffloadBuilder();
+    }
+
+    /**
+     * @return the maximum number of visits that can be queued or running at any one time. The walk blocks when this
+     * limit is reached.
+     */
+    public int getMaxInFlight() {
+        return maxInFlight;
+    }
+
+    public Ordering getOrdering() {
+        return ordering;
+    }
+
+    /**
+     * @return the executor to run visits on, if one was supplied, otherwise {@code Optional.empty()}, indicating each
+     * walk will create, and shut down, its own.
+     */
+    public Optional<Executor> getExecutor() {
+        return Optional.ofNullable(executor);
+    }
+
+    /**
+     * @return true if the JVM supports virtual threads, and hence the default executor is virtual-thread-per-task.
+     */
+    public static boolean isVirtualThreadSupported() {
+        return NEW_VIRTUAL_THREAD_EXECUTOR != null;
+    }
+
+    /**
+     * Create the executor for a single walk, where no executor was supplied.
+     *
+     * @return a virtual-thread-per-task executor, if supported, else a pool of {@link #getMaxInFlight()} daemon threads.
+     */
+    ExecutorService newExecutor() {
+        if (NEW_VIRTUAL_THREAD_EXECUTOR != null) {
+            try {
+                return (ExecutorService) NEW_VIRTUAL_THREAD_EXECUTOR.invoke(null);
+            } catch (ReflectiveOperationException | RuntimeException e) {
+                // Fall through to platform threads, e.g. virtual threads are a disabled preview feature
+            }
+        }
+
+        final AtomicInteger threadCount = new AtomicInteger();
+        return Executors.newFixedThreadPool(maxInFlight, runnable -> {
+            final Thread thread = new Thread(runnable, "populace-visitor-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+
+        final VisitorOffload that = (VisitorOffload) o;
+        return maxInFlight == that.maxInFlight
+            && ordering == that.ordering
+            && Objects.equals(executor, that.executor);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = maxInFlight;
+        result = 31 * result + ordering.hashCode();
+        result = 31 * result + Objects.hashCode(executor);
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return "VisitorOffload{" +
+            "maxInFlight=" + maxInFlight +
+            ", ordering=" + ordering +
+            ", executor=" + (executor == null ? (isVirtualThreadSupported() ? "virtual-threads" : "platform-threads") : executor) +
+            '}';
+    }
+
+    private static Method findVirtualThreadExecutorFactory() {
+        try {
+            return Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+        } catch (NoSuchMethodException e) {
+            return null;    // Pre-JDK 21
+        }
+    }
+
+    /**
+     * Controls the order in which offloaded visits run.
+     */
+    public enum Ordering {
+        /**
+         * Visits may run in any order, and concurrently. This gives the most overlap of blocking visitors.
+         */
+        UNORDERED,
+
+        /**
+         * Visits run one at a time, in the order the walk discovers them. Visiting still overlaps with walking.
+         */
+        WALK_ORDER
+    }
+
+    public interface Builder {
+        /**
+         * Set the maximum number of visits that can be queued or running at any one time. The walk blocks until an
+         * earlier visit completes when this limit is reached. Where no executor is supplied, and virtual threads are not
+         * supported, this is also the size of the platform thread pool.
+         *
+         * @param maxInFlight the limit, which must be positive.
+         * @return the builder itself
+         */
+        Builder withMaxInFlight(final int maxInFlight);
+
+        /**
+         * @param ordering the order in which visits should run.
+         * @return the builder itself
+         */
+        Builder withOrdering(final Ordering ordering);
+
+        /**
+         * Run visits on the supplied {@code executor}, rather than on one created for each walk. The executor is not
+         * shut down by the walker.
+         *
+         * @param executor the executor to use.
+         * @return the builder itself
+         */
+        Builder withExecutor(final Executor executor);
+
+        /**
+         * Build an immutable instance of {@link VisitorOffload} from the configuration provided.
+         *
+         * @return the newly constructed {@link VisitorOffload} instance.
+         */
+        VisitorOffload build();
+    }
+}
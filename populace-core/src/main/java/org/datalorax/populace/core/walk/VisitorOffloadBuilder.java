@@ -0,0 +1,58 @@
+/*
+ * Copyright (c) 2015 Andrew Coates
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.datalorax.populace.core.walk;
+
+import org.apache.commons.lang3.Validate;
+
+import java.util.concurrent.Executor;
+
+/**
+ * Builder implementation for {@link VisitorOffload}
+ *
+ * @author Andrew Coates - 17/10/2026.
+ */
+final class VisitorOffloadBuilder implements VisitorOffload.Builder {
+    private int maxInFlight = VisitorOffload.DEFAULT_MAX_IN_FLIGHT;
+    private VisitorOffload.Ordering ordering = VisitorOffload.Ordering.UNORDERED;
+    private Executor executor = null;
+
+    @Override
+    public VisitorOffloadBuilder withMaxInFlight(final int maxInFlight) {
+        Validate.isTrue(maxInFlight > 0, "maxInFlight must be positive");
+        this.maxInFlight = maxInFlight;
+        return this;
+    }
+
+    @Override
+    public VisitorOffloadBuilder withOrdering(final VisitorOffload.Ordering ordering) {
+        Validate.notNull(ordering, "ordering null");
+        this.ordering = ordering;
+        return this;
+    }
+
+    @Override
+    public VisitorOffloadBuilder withExecutor(final Executor executor) {
+        Validate.notNull(executor, "executor null");
+        this.executor = executor;
+        return this;
+    }
+
+    @Override
+    public VisitorOffload build() {
+        return new VisitorOffload(maxInFlight, ordering, executor);
+    }
+}
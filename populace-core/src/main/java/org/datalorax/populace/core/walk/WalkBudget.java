@@ -0,0 +1,243 @@
+/*
+ * Copyright (c) 2015 Andrew Coates
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.datalorax.populace.core.walk;
+
+import org.apache.commons.lang3.Validate;
+import org.datalorax.populace.core.walk.field.PathProvider;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.OptionalLong;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Limits on the resources a single walk may use: the number of fields and elements visited, the depth of the walk, the
+ * time taken and a cooperative cancellation check.
+ * <p>
+ * Walks that exceed their budget stop, leaving any containers part way through being walked in a valid state, and
+ * throw a {@link WalkBudgetExceededException} detailing the limit exceeded and the path the walk had reached.
+ * <p>
+ * Node count and depth are checked as each field or element is visited. The timeout and cancellation are checked on the
+ * first visit and every {@value #CLOCK_CHECK_INTERVAL} visits after that, so the cost of reading the clock and polling
+ * the cancellation check is spread thinly. A walk may therefore overrun its timeout by the time it takes to visit that
+ * many components.
+ * <p>
+ * Use {@link #newBuilder()} to build a budget.
+ *
+ * @author Andrew Coates - 17/10/2026.
+ * @see GraphWalker.Builder#withWalkBudget(WalkBudget)
+ */
+public final class WalkBudget {
+    /**
+     * The number of visits between checks of the timeout and cancellation. Must be a power of two.
+     */
+    public static final int CLOCK_CHECK_INTERVAL = 64;
+
+    private final long maxNodes;
+    private final int maxDepth;
+    private final Duration timeout;
+    private final BooleanSupplier cancellation;
+
+    /**
+     * Construct via {@link #newBuilder()}
+     */
+    WalkBudget(final long maxNodes, final int maxDepth, final Duration timeout, final BooleanSupplier cancellation) {
+        Validate.isTrue(maxNodes > 0, "maxNodes must be positive");
+        Validate.isTrue(maxDepth > 0, "maxDepth must be positive");
+        this.maxNodes = maxNodes;
+        this.maxDepth = maxDepth;
+        this.timeout = timeout;
+        this.cancellation = cancellation;
+    }
+
+    /**
+     * @return a new builder, with no limits set.
+     */
+    public static Builder newBuilder() {
+        return new WalkBudgetBuilder();
+    }
+
+    /**
+     * @return the maximum number of fields and elements a walk may visit, if limited.
+     */
+    public OptionalLong getMaxNodes() {
+        return maxNodes == Long.MAX_VALUE ? OptionalLong.empty() : OptionalLong.of(maxNodes);
+    }
+
+    /**
+     * @return the maximum {@link WalkerStack#getDepth() depth} of any field or element a walk may visit, if limited.
+     */
+    public OptionalInt getMaxDepth() {
+        return maxDepth == Integer.MAX_VALUE ? OptionalInt.empty() : OptionalInt.of(maxDepth);
+    }
+
+    /**
+     * @return the maximum time a walk may take, if limited.
+     */
+    public Optional<Duration> getTimeout() {
+        return Optional.ofNullable(timeout);
+    }
+
+    /**
+     * @return the check polled to determine if the walk should be cancelled, if any.
+     */
+    public Optional<BooleanSupplier> getCancellation() {
+        return Optional.ofNullable(cancellation);
+    }
+
+    /**
+     * Start tracking the budget of a new walk.
+     *
+     * @return the tracker for the new walk.
+     */
+    Tracker start() {
+        return new Tracker();
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+
+        final WalkBudget that = (WalkBudget) o;
+        return maxNodes == that.maxNodes
+            && maxDepth == that.maxDepth
+            && Objects.equals(timeout, that.timeout)
+            && Objects.equals(cancellation, that.cancellation);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = (int) (maxNodes ^ (maxNodes >>> 32));
+        result = 31 * result + maxDepth;
+        result = 31 * result + Objects.hashCode(timeout);
+        result = 31 * result + Objects.hashCode(cancellation);
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return "WalkBudget{" +
+            "maxNodes=" + (maxNodes == Long.MAX_VALUE ? "unlimited" : maxNodes) +
+            ", maxDepth=" + (maxDepth == Integer.MAX_VALUE ? "unlimited" : maxDepth) +
+            ", timeout=" + (timeout == null ? "none" : timeout) +
+            (cancellation == null ? "" : ", cancellation=" + cancellation) +
+            '}';
+    }
+
+    /**
+     * The limits a walk can exceed.
+     */
+    public enum Limit {
+        /**
+         * The walk visited more than the maximum number of fields and elements.
+         */
+        MAX_NODES,
+
+        /**
+         * The walk reached a field or element deeper than the maximum depth.
+         */
+        MAX_DEPTH,
+
+        /**
+         * The walk took longer than the timeout.
+         */
+        TIMEOUT,
+
+        /**
+         * The cancellation check returned true.
+         */
+        CANCELLED
+    }
+
+    public interface Builder {
+        /**
+         * @param maxNodes the maximum number of fields and elements a walk may visit, which must be positive.
+         * @return the builder itself
+         */
+        Builder withMaxNodes(final long maxNodes);
+
+        /**
+         * @param maxDepth the maximum {@link WalkerStack#getDepth() depth} of any field or element a walk may visit,
+         *                 which must be positive. Fields of the root instance have a depth of one.
+         * @return the builder itself
+         */
+        Builder withMaxDepth(final int maxDepth);
+
+        /**
+         * @param timeout the maximum time a walk may take, measured from the start of each walk.
+         * @return the builder itself
+         */
+        Builder withTimeout(final Duration timeout);
+
+        /**
+         * Install a cancellation check, e.g. {@code Thread.currentThread()::isInterrupted} or
+         * {@code future::isCancelled}. The walk stops when the check returns true. The check must be thread-safe if
+         * walking in {@link GraphWalker.Builder#withParallelism parallel}.
+         *
+         * @param cancellation the check to poll.
+         * @return the builder itself
+         */
+        Builder withCancellation(final BooleanSupplier cancellation);
+
+        /**
+         * Build an immutable instance of {@link WalkBudget} from the configuration provided.
+         *
+         * @return the newly constructed {@link WalkBudget} instance.
+         */
+        WalkBudget build();
+    }
+
+    /**
+     * Tracks the budget used by a single walk. Thread-safe, so can be shared by the tasks of a parallel walk.
+     */
+    final class Tracker {
+        private final long startNanos = System.nanoTime();
+        private final long timeoutNanos = timeout == null ? 0 : timeout.toNanos();
+        private final AtomicLong nodes = new AtomicLong();
+
+        private Tracker() {
+        }
+
+        /**
+         * Charge the visit of a field or element to the budget.
+         *
+         * @param path the path of the field or element about to be visited.
+         * @throws WalkBudgetExceededException if the budget is exceeded.
+         */
+        void charge(final PathProvider path) {
+            final long count = nodes.incrementAndGet();
+            if (count > maxNodes) {
+                throw new WalkBudgetExceededException(Limit.MAX_NODES, count - 1, path);
+            }
+            if (path.getDepth() > maxDepth) {
+                throw new WalkBudgetExceededException(Limit.MAX_DEPTH, count - 1, path);
+            }
+            if ((count & (CLOCK_CHECK_INTERVAL - 1)) == 1) {
+                if (timeout != null && System.nanoTime() - startNanos > timeoutNanos) {
+                    throw new WalkBudgetExceededException(Limit.TIMEOUT, count - 1, path);
+                }
+                if (cancellation != null && cancellation.getAsBoolean()) {
+                    throw new WalkBudgetExceededException(Limit.CANCELLED, count - 1, path);
+                }
+            }
+        }
+    }
+}
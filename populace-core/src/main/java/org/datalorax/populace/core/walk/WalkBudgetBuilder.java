@@ -0,0 +1,68 @@
+/*
+ * Copyright (c) 2015 Andrew Coates
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.datalorax.populace.core.walk;
+
+import org.apache.commons.lang3.Validate;
+
+import java.time.Duration;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Builder implementation for {@link WalkBudget}
+ *
+ * @author Andrew Coates - 17/10/2026.
+ */
+final class WalkBudgetBuilder implements WalkBudget.Builder {
+    private long maxNodes = Long.MAX_VALUE;
+    private int maxDepth = Integer.MAX_VALUE;
+    private Duration timeout = null;
+    private BooleanSupplier cancellation = null;
+
+    @Override
+    public WalkBudgetBuilder withMaxNodes(final long maxNodes) {
+        Validate.isTrue(maxNodes > 0, "maxNodes must be positive");
+        this.maxNodes = maxNodes;
+        return this;
+    }
+
+    @Override
+    public WalkBudgetBuilder withMaxDepth(final int maxDepth) {
+        Validate.isTrue(maxDepth > 0, "maxDepth must be positive");
+        this.maxDepth = maxDepth;
+        return this;
+    }
+
+    @Override
+    public WalkBudgetBuilder withTimeout(final Duration timeout) {
+        Validate.notNull(timeout, "timeout null");
+        Validate.isTrue(!timeout.isNegative() && !timeout.isZero(), "timeout must be positive");
+        this.timeout = timeout;
+        return this;
+    }
+
+    @Override
+    public WalkBudgetBuilder withCancellation(final BooleanSupplier cancellation) {
+        Validate.notNull(cancellation, "cancellation null");
+        this.cancellation = cancellation;
+        return this;
+    }
+
+    @Override
+    public WalkBudget build() {
+        return new WalkBudget(maxNodes, maxDepth, timeout, cancellation);
+    }
+}
@@ -0,0 +1,53 @@
+/*
+ * Copyright (c) 2015 Andrew Coates
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.datalorax.populace.core.walk;
+
+import org.apache.commons.lang3.Validate;
+import org.datalorax.populace.core.walk.field.PathProvider;
+
+/**
+ * Thrown when a walk exceeds its {@link WalkBudget budget}. The walk is stopped, leaving a partially walked graph. Any
+ * containers part way through being walked are left in a valid state.
+ *
+ * @author Andrew Coates - 17/10/2026.
+ */
+public class WalkBudgetExceededException extends WalkerException {
+    private final WalkBudget.Limit limit;
+    private final long nodesVisited;
+
+    public WalkBudgetExceededException(final WalkBudget.Limit limit, final long nodesVisited, final PathProvider path) {
+        super("Walk budget exceeded: " + limit + " after visiting " + nodesVisited + " fields and elements.", path, null);
+        Validate.notNull(limit, "limit null");
+        this.limit = limit;
+        this.nodesVisited = nodesVisited;
+    }
+
+    /**
+     * @return the limit that was exceeded.
+     */
+    public WalkBudget.Limit getLimit() {
+        return limit;
+    }
+
+    /**
+     * @return the number of fields and elements the walk had visited when the budget was exceeded. For parallel walks
+     * this is approximate.
+     */
+    public long getNodesVisited() {
+        return nodesVisited;
+    }
+}
@@ -0,0 +1,772 @@
+/*
+ * Copyright (c) 2015 Andrew Coates
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.datalorax.populace.core.walk;
+
+import org.apache.commons.lang3.Validate;
+import org.datalorax.populace.core.metrics.WalkMetrics;
+import org.datalorax.populace.core.util.TypeResolver;
+import org.datalorax.populace.core.walk.element.ElementInfo;
+import org.datalorax.populace.core.walk.element.RawElement;
+import org.datalorax.populace.core.walk.field.FieldInfo;
+import org.datalorax.populace.core.walk.field.PathProvider;
+import org.datalorax.populace.core.walk.field.RawField;
+import org.datalorax.populace.core.walk.field.WalkPath;
+import org.datalorax.populace.core.walk.inspector.IndexedInspector;
+import org.datalorax.populace.core.walk.inspector.Inspector;
+import org.datalorax.populace.core.walk.listener.WalkListener;
+
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Predicate;
+
+/**
+ * Iterative traversal of an object graph, which keeps its position in the graph on its own growable stack of reusable
+ * frames, rather than on the Java call stack. This allows graphs of any depth to be walked.
+ * <p>
+ * Each call to {@link #next()} returns the next field or element in the walk that passes the configured filters. The
+ * value of the returned component is only read, and walked, on the following call to {@link #next()}, giving the
+ * caller the chance to visit, and potentially change, the component first.
+ * <p>
+ * Cursors are not thread-safe and walk a graph once. When part of a {@link ParallelWalk parallel walk} a cursor walks
+ * the part of the graph assigned to its task, forking parts of it off to other tasks as it goes. A cursor does not pop
+ * a frame until all the tasks forked from it have completed, so the
+ * {@link org.datalorax.populace.core.walk.element.RawElement#postWalk() post walk} of a containing element is always
+ * called after its whole subtree has been walked.
+ * <p>
+ * A {@link #isSplittable() splittable} cursor, as used by {@link WalkSpliterator}, can {@link #trySplit split} off part
+ * of the range of elements of an indexed container it is walking, to be walked by another cursor. Splittable cursors
+ * are read-only: they do not call {@link RawElement#preWalk()} or {@link RawElement#postWalk()}, so the walk leaves
+ * containers unchanged however far it gets.
+ * <p>
+ * The plans used to walk values are cached inline, per field and per container, as fields and containers typically hold
+ * values of a single class. Values whose plan is {@link WalkPlan#isTerminal() terminal} are not entered at all, unless
+ * a {@link WalkListener listener} needs to see them.
+ * <p>
+ * A cursor created for a {@link WalkSession session} is reused for many walks, and can be started with flyweights, in
+ * which case it returns the same {@link FieldInfo} and {@link ElementInfo} instance for each field and element, and
+ * only pushes a frame onto the {@link WalkerStack} of a component if its value is walked, or its path requested.
+ *
+ * @author Andrew Coates - 17/10/2026.
+ */
+final class WalkCursor {
+    private static final int INITIAL_CAPACITY = 16;
+
+    private final WalkerContext context;
+    private final ParallelWalk parallel;
+    private final boolean splittable;
+    private final boolean readOnly;
+    private final WalkMetrics metrics;
+    private final WalkListener listener;
+    private Frame[] frames = new Frame[INITIAL_CAPACITY];
+    private int top = -1;
+
+    private FieldInfo currentField;
+    private ElementInfo currentElement;
+    private RawElement currentRawElement;
+    private WalkerStack currentStack;           // null if the frame of a flyweight component has not been pushed yet
+    private TypeResolver currentTypeResolver;
+
+    private boolean flyweights;
+    private FlyweightFieldInfo flyweightField;
+    private FlyweightElementInfo flyweightElement;
+    private PendingPath pendingPath;
+
+    /**
+     * @param context the walkers configuration
+     * @param root    the root of the graph to walk.
+     */
+    WalkCursor(final WalkerContext context, final Object root) {
+        Validate.notNull(context, "context null");
+        Validate.notNull(root, "root null");
+        this.context = context;
+        this.parallel = null;
+        this.splittable = false;
+        this.readOnly = false;
+        this.metrics = context.getMetrics().orElse(null);
+        this.listener = context.getWalkListener().orElse(null);
+        push(root.getClass(), root, WalkerStack.newStack(root), null, null, false);
+    }
+
+    /**
+     * Create a cursor to be reused for many walks, each begun by calling {@link #start}.
+     *
+     * @param context the walkers configuration
+     */
+    WalkCursor(final WalkerContext context) {
+        Validate.notNull(context, "context null");
+        this.context = context;
+        this.parallel = null;
+        this.splittable = false;
+        this.readOnly = false;
+        this.metrics = context.getMetrics().orElse(null);
+        this.listener = context.getWalkListener().orElse(null);
+    }
+
+    /**
+     * @param context  the walkers configuration
+     * @param seed     the part of the graph the cursor should walk.
+     * @param parallel the parallel walk the cursor is part of.
+     */
+    WalkCursor(final WalkerContext context, final WalkSeed seed, final ParallelWalk parallel) {
+        this(context, seed, parallel, true);
+        Validate.notNull(parallel, "parallel null");
+    }
+
+    /**
+     * Create a splittable, read-only, cursor.
+     *
+     * @param context the walkers configuration
+     * @param seed    the part of the graph the cursor should walk.
+     */
+    WalkCursor(final WalkerContext context, final WalkSeed seed) {
+        this(context, seed, null, true);
+    }
+
+    private WalkCursor(final WalkerContext context, final WalkSeed seed, final ParallelWalk parallel,
+                       final boolean splittable) {
+        Validate.notNull(context, "context null");
+        Validate.notNull(seed, "seed null");
+        this.context = context;
+        this.parallel = parallel;
+        this.splittable = splittable;
+        this.readOnly = parallel == null;
+        this.metrics = context.getMetrics().orElse(null);
+        this.listener = context.getWalkListener().orElse(null);
+        push(seed);
+    }
+
+    /**
+     * Start a new walk, discarding the state of any previous walk that did not complete, e.g. because a visitor threw.
+     *
+     * @param root       the root of the graph to walk.
+     * @param flyweights true if the components returned from {@link #next()} may be flyweights. Ignored if the walk has
+     *                   a listener, as listeners may retain components.
+     */
+    void start(final Object root, final boolean flyweights) {
+        Validate.notNull(root, "root null");
+        Validate.validState(parallel == null && !splittable, "cursor can not be restarted");
+        clearCurrent();
+        for (; top >= 0; --top) {
+            frames[top].clear();
+        }
+
+        this.flyweights = flyweights && listener == null;
+        if (this.flyweights && flyweightField == null) {
+            flyweightField = new FlyweightFieldInfo();
+            flyweightElement = new FlyweightElementInfo();
+            pendingPath = new PendingPath();
+        }
+
+        push(root.getClass(), root, WalkerStack.newStack(root), null, null, false);
+    }
+
+    /**
+     * Move to the next component in the walk, first walking the value of the current component, if any.
+     *
+     * @return the next {@link FieldInfo field} or {@link ElementInfo element} in the walk, or {@code null} if the walk
+     * is complete.
+     */
+    GraphComponent next() {
+        descendIntoCurrent();
+
+        while (top >= 0) {
+            final Frame frame = frames[top];
+            if (frame.elements == null) {
+                final RawField[] fields = frame.plan.getFields();
+                if (frame.fieldIndex < fields.length) {
+                    if (moveToField(frame, fields, frame.fieldIndex++)) {
+                        return currentField;
+                    }
+                    continue;
+                }
+
+                frame.elements = getElements(frame);
+            }
+
+            if (frame.elements.hasNext()) {
+                if (moveToElement(frame, frame.elements.next())) {
+                    return currentElement;
+                }
+                continue;
+            }
+
+            pop();
+        }
+
+        return null;
+    }
+
+    /**
+     * @return the path to the component last returned from {@link #next()}.
+     */
+    PathProvider getPath() {
+        return currentStack == null ? pendingPath : currentStack;
+    }
+
+    /**
+     * @param path a path returned from {@link #getPath()}.
+     * @return a provider of the same path that will not change as the walk progresses.
+     */
+    static PathProvider stablePath(final PathProvider path) {
+        return path instanceof PendingPath ? ((PendingPath) path).getWalkPath() : path;
+    }
+
+    /**
+     * @return the instance that owns the component last returned from {@link #next()}, i.e. the instance of the field
+     * or the container of the element.
+     */
+    Object getOwner() {
+        return frames[top].instance;
+    }
+
+    /**
+     * @return true if the cursor tracks the element ranges of indexed containers, allowing them to be split.
+     */
+    boolean isSplittable() {
+        return splittable;
+    }
+
+    /**
+     * Split off the upper half of the elements yet to be walked from the shallowest
+     * {@link IndexedInspector indexed} container being walked that has more than {@code minSize} such elements.
+     * <p>
+     * Only containers whose walk does not need to complete before some enclosing element's
+     * {@link RawElement#postWalk() post walk} are considered, i.e. those only nested within fields and the elements of
+     * other indexed containers.
+     *
+     * @param minSize the minimum number of elements remaining for a container to be split.
+     * @return the seed to walk the split off elements, or {@code null} if there is no suitable container.
+     */
+    WalkSeed trySplit(final int minSize) {
+        Validate.validState(splittable, "cursor not splittable");
+        for (int i = 0; i <= top; ++i) {
+            final Frame frame = frames[i];
+            if (!frame.detachable) {
+                return null;
+            }
+
+            if (frame.elements == null || frame.elementEnd - frame.elementIndex <= minSize) {
+                continue;
+            }
+
+            final int mid = (frame.elementIndex + frame.elementEnd) >>> 1;
+            final WalkSeed seed = new WalkSeed(frame.type, frame.instance, frame.stack, frame.plan, mid, frame.elementEnd);
+            frame.elementEnd = mid;
+            frame.elements = ((IndexedInspector) frame.plan.getInspector())
+                .getElements(frame.instance, frame.elementIndex, mid, context.getInspectors());
+            return seed;
+        }
+        return null;
+    }
+
+    /**
+     * @param minSize the minimum number of elements remaining for a container to be split.
+     * @return true if a call to {@link #trySplit(int)} would split off some elements.
+     */
+    boolean canSplit(final int minSize) {
+        for (int i = 0; i <= top && frames[i].detachable; ++i) {
+            final Frame frame = frames[i];
+            if (frame.elements != null && frame.elementEnd - frame.elementIndex > minSize) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Skip walking the value of the component last returned from {@link #next()}.
+     */
+    void skipCurrent() {
+        currentField = null;
+        if (currentElement != null) {
+            final RawElement rawElement = currentRawElement;
+            currentElement = null;
+            currentRawElement = null;
+            postWalk(rawElement);
+        }
+    }
+
+    /**
+     * Stop the walk early, calling {@link RawElement#postWalk()} on any elements whose walk has started, but not
+     * completed, so that containers are left in a valid state. Any tasks forked by this cursor are waited on first.
+     */
+    void unwind() {
+        final RawElement rawElement = currentRawElement;
+        clearCurrent();
+        if (rawElement != null) {
+            postWalk(rawElement);
+        }
+
+        for (; top >= 0; --top) {
+            final Frame frame = frames[top];
+            if (frame.forks != null) {
+                for (int i = frame.forks.size() - 1; i >= 0; --i) {
+                    final ParallelWalk.WalkTask task = frame.forks.get(i);
+                    if (!task.tryUnfork()) {
+                        task.quietlyJoin();
+                    }
+                }
+            }
+
+            exit(frame);
+            final RawElement owningElement = frame.owningElement;
+            frame.clear();
+            if (owningElement != null) {
+                postWalk(owningElement);
+            }
+        }
+    }
+
+    private boolean moveToField(final Frame frame, final RawField[] fields, final int index) {
+        Predicate<FieldInfo> filter = frame.plan.getFieldFilter(index);
+        if (filter == WalkPlan.EXCLUDE_FIELD && listener == null) {
+            return false;
+        }
+
+        final RawField field = fields[index];
+        final WalkerStack fieldStack;
+        final TypeResolver typeResolver;
+        final FieldInfo fieldInfo;
+        if (flyweights) {
+            fieldStack = null;
+            typeResolver = frame.stack.getFieldTypeResolver(field);
+            fieldInfo = flyweightField.set(field, frame.instance, typeResolver, pendingPath.toField(frame.stack, field));
+        } else {
+            fieldStack = frame.stack.push(field);
+            typeResolver = fieldStack.getTypeResolver();
+            fieldInfo = new FieldInfo(field, frame.instance, typeResolver, fieldStack);
+        }
+
+        if (filter == null) {
+            filter = frame.plan.specialiseFieldFilter(index, fieldInfo);
+        }
+
+        if (isExcludedField(frame, filter, fieldInfo)) {
+            if (listener != null) {
+                listener.skipField(fieldInfo, WalkListener.SkipReason.EXCLUDED);
+            }
+            return false;
+        }
+
+        if (listener != null) {
+            listener.visitField(fieldInfo);
+        }
+
+        currentField = fieldInfo;
+        currentStack = fieldStack;
+        currentTypeResolver = typeResolver;
+        return true;
+    }
+
+    private boolean moveToElement(final Frame frame, final RawElement element) {
+        final int index = frame.elementIndex++;
+        final WalkerStack elementStack;
+        final TypeResolver typeResolver;
+        final ElementInfo elementInfo;
+        if (flyweights) {
+            elementStack = null;
+            typeResolver = frame.stack.getTypeResolver();
+            elementInfo = flyweightElement.set(element, frame.type, typeResolver,
+                pendingPath.toElement(frame.stack, element, index));
+        } else {
+            elementStack = frame.stack.push(element, index);
+            typeResolver = elementStack.getTypeResolver();
+            elementInfo = new ElementInfo(element, frame.type, typeResolver, elementStack);
+        }
+
+        if (isExcludedElement(frame, elementInfo)) {
+            if (listener != null) {
+                listener.skipElement(elementInfo, WalkListener.SkipReason.EXCLUDED);
+            }
+            return false;
+        }
+
+        if (listener != null) {
+            listener.visitElement(elementInfo);
+        }
+
+        if (!readOnly) {
+            element.preWalk();
+        }
+
+        currentElement = elementInfo;
+        currentRawElement = element;
+        currentStack = elementStack;
+        currentTypeResolver = typeResolver;
+        return true;
+    }
+
+    private boolean isExcludedField(final Frame frame, final Predicate<FieldInfo> filter, final FieldInfo field) {
+        if (metrics == null) {
+            return !filter.test(field);
+        }
+
+        final long start = System.nanoTime();
+        final boolean excluded = !filter.test(field);
+        metrics.record(WalkMetrics.Step.FIELD_FILTER, frame.instance.getClass(), System.nanoTime() - start);
+        return excluded;
+    }
+
+    private boolean isExcludedElement(final Frame frame, final ElementInfo element) {
+        if (metrics == null) {
+            return context.isExcludedElement(element);
+        }
+
+        final long start = System.nanoTime();
+        final boolean excluded = context.isExcludedElement(element);
+        metrics.record(WalkMetrics.Step.ELEMENT_FILTER, frame.instance.getClass(), System.nanoTime() - start);
+        return excluded;
+    }
+
+    private void descendIntoCurrent() {
+        if (currentField != null) {
+            final FieldInfo field = currentField;
+            currentField = null;
+
+            final Object value = field.getValue();
+            if (value == null) {
+                if (listener != null) {
+                    listener.skipField(field, WalkListener.SkipReason.NULL_VALUE);
+                }
+                return;
+            }
+
+            final WalkPlan plan = getFieldValuePlan(frames[top], value.getClass());
+            if (plan.isTerminal() && listener == null) {
+                return;
+            }
+
+            final WalkerStack stack = pushedCurrentStack();
+            if (parallel != null && !plan.isTerminal() && parallel.shouldFork()) {
+                frames[top].addFork(parallel.forkInstance(field.getGenericType(), value, stack, plan));
+                return;
+            }
+
+            push(field.getGenericType(), value, stack, plan, null, false);
+            return;
+        }
+
+        if (currentElement != null) {
+            final ElementInfo element = currentElement;
+            final RawElement rawElement = currentRawElement;
+            currentElement = null;
+            currentRawElement = null;
+
+            final Object value = element.getValue();
+            if (value == null) {
+                if (listener != null) {
+                    listener.skipElement(element, WalkListener.SkipReason.NULL_VALUE);
+                }
+                postWalk(rawElement);
+                return;
+            }
+
+            final WalkPlan plan = getElementValuePlan(frames[top], value.getClass());
+            if (plan.isTerminal() && listener == null) {
+                postWalk(rawElement);
+                return;
+            }
+
+            push(value.getClass(), value, pushedCurrentStack(), plan, rawElement, false);
+        }
+    }
+
+    private WalkerStack pushedCurrentStack() {
+        return currentStack == null ? pendingPath.materialise() : currentStack;
+    }
+
+    private void clearCurrent() {
+        currentField = null;
+        currentElement = null;
+        currentRawElement = null;
+        currentStack = null;
+        currentTypeResolver = null;
+    }
+
+    private WalkPlan getFieldValuePlan(final Frame frame, final Class<?> type) {
+        // The current field is the one last moved to in the frame:
+        final int index = frame.fieldIndex - 1;
+        final WalkPlan cached = frame.plan.getValuePlan(index);
+        final WalkPlan plan = context.getWalkPlan(type, currentTypeResolver, cached);
+        if (plan != cached && context.isCacheable(plan)) {
+            frame.plan.cacheValuePlan(index, plan);
+        }
+        return plan;
+    }
+
+    private WalkPlan getElementValuePlan(final Frame frame, final Class<?> type) {
+        final WalkPlan plan = context.getWalkPlan(type, currentTypeResolver, frame.elementValuePlan);
+        if (plan != frame.elementValuePlan && context.isCacheable(plan)) {
+            frame.elementValuePlan = plan;
+        }
+        return plan;
+    }
+
+    private Iterator<RawElement> getElements(final Frame frame) {
+        final Inspector inspector = frame.plan.getInspector();
+        if (!splittable || !(inspector instanceof IndexedInspector)) {
+            return inspector.getElements(frame.instance, context.getInspectors());
+        }
+
+        final IndexedInspector indexed = (IndexedInspector) inspector;
+        if (frame.elementEnd < 0) {
+            frame.elementEnd = indexed.getElementCount(frame.instance);
+        }
+
+        // Keep the lower half of the range, forking the upper half, until what's left is small enough to walk here:
+        while (parallel != null && parallel.shouldSplit(frame.elementEnd - frame.elementIndex)) {
+            final int mid = (frame.elementIndex + frame.elementEnd) >>> 1;
+            frame.addFork(parallel.forkElements(frame.type, frame.instance, frame.stack, frame.plan, mid, frame.elementEnd));
+            frame.elementEnd = mid;
+        }
+
+        return indexed.getElements(frame.instance, frame.elementIndex, frame.elementEnd, context.getInspectors());
+    }
+
+    private void push(final WalkSeed seed) {
+        // A seed holding a range of elements continues the walk of an instance entered by another cursor:
+        final Frame frame = push(seed.type, seed.instance, seed.stack, seed.plan, null, seed.hasElementRange());
+        if (seed.hasElementRange()) {
+            frame.fieldIndex = frame.plan.getFields().length;
+            frame.elementIndex = seed.fromElement;
+            frame.elementEnd = seed.toElement;
+        }
+    }
+
+    private Frame push(final Type type, final Object instance, final WalkerStack stack, final WalkPlan knownPlan,
+                       final RawElement owningElement, final boolean partial) {
+        final WalkPlan plan = knownPlan == null ? context.getWalkPlan(instance.getClass(), stack) : knownPlan;
+        if (listener != null && !partial) {
+            listener.enterInstance(instance, type, plan.getInspector(), stack);
+        }
+
+        // A frame is detachable if nothing but fields and the elements of indexed containers enclose it:
+        final boolean detachable = top < 0 || (frames[top].detachable
+            && (owningElement == null || frames[top].plan.getInspector() instanceof IndexedInspector));
+
+        if (++top == frames.length) {
+            frames = Arrays.copyOf(frames, frames.length * 2);
+        }
+
+        Frame frame = frames[top];
+        if (frame == null) {
+            frame = frames[top] = new Frame();
+        }
+
+        frame.set(type, instance, stack, plan, owningElement);
+        frame.detachable = detachable;
+        frame.partial = partial;
+        return frame;
+    }
+
+    private void pop() {
+        final Frame frame = frames[top];
+        if (frame.forks != null && reclaimOrJoinForks(frame.forks)) {
+            return;
+        }
+
+        --top;
+        exit(frame);
+        final RawElement owningElement = frame.owningElement;
+        frame.clear();
+
+        if (owningElement != null) {
+            postWalk(owningElement);
+        }
+    }
+
+    private void postWalk(final RawElement element) {
+        if (!readOnly) {
+            element.postWalk();
+        }
+    }
+
+    /**
+     * Waits for tasks forked from the frame to complete, most recent first. Forks that have yet to start are reclaimed,
+     * rather than waited on, and pushed onto this cursor's stack to be walked here.
+     *
+     * @return true if a fork was reclaimed and pushed, false if all forks have completed.
+     */
+    private boolean reclaimOrJoinForks(final List<ParallelWalk.WalkTask> forks) {
+        while (!forks.isEmpty()) {
+            final ParallelWalk.WalkTask task = forks.remove(forks.size() - 1);
+            if (task.tryUnfork()) {
+                push(task.seed);
+                return true;
+            }
+            task.quietlyJoin();
+        }
+        return false;
+    }
+
+    private void exit(final Frame frame) {
+        if (listener != null && !frame.partial) {
+            listener.exitInstance(frame.instance, frame.stack);
+        }
+    }
+
+    /**
+     * The path to the current flyweight component. The component's frame is only pushed onto the {@link WalkerStack}
+     * when its value is walked. Requests for its path extend the {@link WalkPath} of the parent frame.
+     */
+    private static final class PendingPath implements PathProvider {
+        private WalkerStack parent;
+        private RawField field;
+        private RawElement element;
+        private int index;
+        private WalkerStack pushed;
+
+        private PendingPath toField(final WalkerStack parent, final RawField field) {
+            this.parent = parent;
+            this.field = field;
+            this.element = null;
+            this.pushed = null;
+            return this;
+        }
+
+        private PendingPath toElement(final WalkerStack parent, final RawElement element, final int index) {
+            this.parent = parent;
+            this.field = null;
+            this.element = element;
+            this.index = index;
+            this.pushed = null;
+            return this;
+        }
+
+        private WalkerStack materialise() {
+            if (pushed == null) {
+                pushed = field != null ? parent.push(field) : parent.push(element, index);
+            }
+            return pushed;
+        }
+
+        @Override
+        public String getPath() {
+            return getWalkPath().getPath();
+        }
+
+        @Override
+        public WalkPath getWalkPath() {
+            if (pushed != null) {
+                return pushed.getWalkPath();
+            }
+
+            final WalkPath parentPath = parent.getWalkPath();
+            return field != null ? parentPath.field(field.getName()) : parentPath.element(index);
+        }
+
+        @Override
+        public int getDepth() {
+            return parent.getDepth() + 1;
+        }
+    }
+
+    private static final class FlyweightFieldInfo extends FieldInfo {
+        private RawField field;
+        private Object owningInstance;
+        private TypeResolver typeResolver;
+        private PendingPath path;
+
+        private FieldInfo set(final RawField field, final Object owningInstance, final TypeResolver typeResolver,
+                              final PendingPath path) {
+            this.field = field;
+            this.owningInstance = owningInstance;
+            this.typeResolver = typeResolver;
+            this.path = path;
+            reset(field, owningInstance, typeResolver, path);
+            return this;
+        }
+
+        @Override
+        public FieldInfo snapshot() {
+            return new FieldInfo(field, owningInstance, typeResolver, path.getWalkPath());
+        }
+    }
+
+    private static final class FlyweightElementInfo extends ElementInfo {
+        private RawElement element;
+        private Type containerType;
+        private TypeResolver typeResolver;
+        private PendingPath path;
+
+        private ElementInfo set(final RawElement element, final Type containerType, final TypeResolver typeResolver,
+                                final PendingPath path) {
+            this.element = element;
+            this.containerType = containerType;
+            this.typeResolver = typeResolver;
+            this.path = path;
+            reset(element, containerType, typeResolver, path);
+            return this;
+        }
+
+        @Override
+        public ElementInfo snapshot() {
+            return new ElementInfo(element, containerType, typeResolver, path.getWalkPath());
+        }
+    }
+
+    /**
+     * The state of the walk of a single instance. Frames are reused as the cursor moves up and down the graph.
+     */
+    private static final class Frame {
+        private Type type;
+        private Object instance;
+        private WalkerStack stack;
+        private WalkPlan plan;
+        private RawElement owningElement;
+        private int fieldIndex;
+        private Iterator<RawElement> elements;
+        private int elementIndex;
+        private int elementEnd;
+        private List<ParallelWalk.WalkTask> forks;
+        private boolean detachable;
+        private boolean partial;
+        // Inline cache of the plan for the elements' values, kept as the frame is reused, as it is only used for values
+        // of the same type:
+        private WalkPlan elementValuePlan;
+
+        private void set(final Type type, final Object instance, final WalkerStack stack, final WalkPlan plan,
+                         final RawElement owningElement) {
+            this.type = type;
+            this.instance = instance;
+            this.stack = stack;
+            this.plan = plan;
+            this.owningElement = owningElement;
+            this.fieldIndex = 0;
+            this.elements = null;
+            this.elementIndex = 0;
+            this.elementEnd = -1;
+            if (forks != null) {
+                forks.clear();
+            }
+        }
+
+        private void addFork(final ParallelWalk.WalkTask task) {
+            if (forks == null) {
+                forks = new ArrayList<>();
+            }
+            forks.add(task);
+        }
+
+        private void clear() {
+            set(null, null, null, null, null);
+        }
+    }
+}
@@ -0,0 +1,186 @@
+/*
+ * Copyright (c) 2015 Andrew Coates
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.datalorax.populace.core.walk;
+
+import org.apache.commons.lang3.Validate;
+import org.datalorax.populace.core.metrics.WalkMetrics;
+import org.datalorax.populace.core.walk.field.FieldInfo;
+import org.datalorax.populace.core.walk.field.RawField;
+import org.datalorax.populace.core.walk.field.filter.FieldFilters;
+import org.datalorax.populace.core.walk.field.filter.StaticFieldFilter;
+import org.datalorax.populace.core.walk.inspector.Inspector;
+import org.datalorax.populace.core.walk.inspector.Inspectors;
+import org.datalorax.populace.core.walk.inspector.TerminalInspector;
+
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Predicate;
+
+/**
+ * Holds the parts of walking an instance that depend only on its concrete class, i.e. the
+ * {@link org.datalorax.populace.core.walk.inspector.Inspector inspector} to use and the ordered fields it exposes.
+ * <p>
+ * The plan also holds the walker's field filter specialised for each field, i.e. with any
+ * {@link StaticFieldFilter static} parts already evaluated. Filters are specialised the first time each field is
+ * encountered.
+ * <p>
+ * Each field also has an inline cache of the plan last used to walk its value. Fields typically hold values of a single
+ * class, so the cache saves looking the plan up by class for each value walked.
+ * <p>
+ * Plans are built once, the first time the walker encounters an instance of a class, and are cached by the
+ * {@link WalkerContext} for the life of the walker.
+ *
+ * @author Andrew Coates - 17/10/2026.
+ */
+final class WalkPlan {
+    static final Predicate<FieldInfo> INCLUDE_FIELD = constantFilter(true);
+    static final Predicate<FieldInfo> EXCLUDE_FIELD = constantFilter(false);
+
+    private final Class<?> type;
+    private final Inspector inspector;
+    private final RawField[] fields;
+    private final Predicate<FieldInfo> fieldFilter;
+    private final AtomicReferenceArray<Predicate<FieldInfo>> fieldFilters;
+    private final AtomicReferenceArray<WalkPlan> valuePlans;
+
+    /**
+     * @param type         the concrete class of the instances this plan will walk.
+     * @param inspectorKey the key to use to look up the inspector. This is either the class itself, or a parameterised
+     *                     version of it.
+     * @param inspectors   the set of inspectors configured on the walker.
+     * @param fieldFilter  the field filter configured on the walker.
+     * @param metrics      the metrics to record the building of the plan to, or {@code null} if not recording metrics.
+     */
+    WalkPlan(final Class<?> type, final Type inspectorKey, final Inspectors inspectors,
+             final Predicate<FieldInfo> fieldFilter, final WalkMetrics metrics) {
+        Validate.notNull(type, "type null");
+        Validate.notNull(inspectorKey, "inspectorKey null");
+        Validate.notNull(inspectors, "inspectors null");
+        Validate.notNull(fieldFilter, "fieldFilter null");
+        this.type = type;
+        this.fieldFilter = fieldFilter;
+        if (metrics == null) {
+            this.inspector = inspectors.get(inspectorKey);
+            this.fields = toArray(inspector.getFields(type, inspectors));
+            this.fieldFilters = new AtomicReferenceArray<>(fields.length);
+            this.valuePlans = new AtomicReferenceArray<>(fields.length);
+            return;
+        }
+
+        final long start = System.nanoTime();
+        this.inspector = inspectors.get(inspectorKey);
+        final long looked = System.nanoTime();
+        this.fields = toArray(inspector.getFields(type, inspectors));
+        this.fieldFilters = new AtomicReferenceArray<>(fields.length);
+        this.valuePlans = new AtomicReferenceArray<>(fields.length);
+        metrics.record(WalkMetrics.Step.INSPECTOR_LOOKUP, type, looked - start);
+        metrics.record(WalkMetrics.Step.GET_FIELDS, type, System.nanoTime() - looked);
+    }
+
+    /**
+     * @return the concrete class of the instances this plan walks.
+     */
+    Class<?> getType() {
+        return type;
+    }
+
+    Inspector getInspector() {
+        return inspector;
+    }
+
+    /**
+     * @return the fields of the type, in the order they should be walked. The array is shared and must not be modified.
+     */
+    RawField[] getFields() {
+        return fields;
+    }
+
+    /**
+     * @param index the index of the field in {@link #getFields()}.
+     * @return the filter to evaluate per instance for the field, {@link #INCLUDE_FIELD} or {@link #EXCLUDE_FIELD} if the
+     * field's inclusion does not depend on the instance, or {@code null} if the filter has not yet been specialised for
+     * the field.
+     */
+    Predicate<FieldInfo> getFieldFilter(final int index) {
+        return fieldFilters.get(index);
+    }
+
+    /**
+     * Specialise the walker's field filter for the field at the supplied {@code index}.
+     *
+     * @param index the index of the field in {@link #getFields()}.
+     * @param field the field info for the field, used to evaluate the static parts of the filter.
+     * @return the filter to evaluate per instance for the field.
+     * @see #getFieldFilter(int)
+     */
+    Predicate<FieldInfo> specialiseFieldFilter(final int index, final FieldInfo field) {
+        final Predicate<FieldInfo> specialised = FieldFilters.specialise(fieldFilter, field);
+        final Predicate<FieldInfo> filter = specialised instanceof StaticFieldFilter
+            ? (specialised.test(field) ? INCLUDE_FIELD : EXCLUDE_FIELD)
+            : specialised;
+        fieldFilters.lazySet(index, filter);
+        return filter;
+    }
+
+    /**
+     * @param index the index of the field in {@link #getFields()}.
+     * @return the plan last {@link #cacheValuePlan cached} for the value of the field, or {@code null} if none. The
+     * plan may be for a different class to the field's current value.
+     */
+    WalkPlan getValuePlan(final int index) {
+        return valuePlans.get(index);
+    }
+
+    /**
+     * Cache the plan used to walk the value of the field at the supplied {@code index}. Only plans that apply wherever
+     * their type is found in a graph, i.e. {@link WalkerContext#isCacheable cacheable} plans, should be cached.
+     *
+     * @param index the index of the field in {@link #getFields()}.
+     * @param plan  the plan used to walk the field's value.
+     */
+    void cacheValuePlan(final int index, final WalkPlan plan) {
+        valuePlans.lazySet(index, plan);
+    }
+
+    /**
+     * @return true if instances walked with this plan have no fields or child elements, i.e. they are leaves of the graph.
+     */
+    boolean isTerminal() {
+        return fields.length == 0 && inspector instanceof TerminalInspector;
+    }
+
+    @Override
+    public String toString() {
+        return "WalkPlan{" +
+            "type=" + type.getName() +
+            ", inspector=" + inspector +
+            ", fields=" + fields.length +
+            '}';
+    }
+
+    private static Predicate<FieldInfo> constantFilter(final boolean include) {
+        return field -> include;
+    }
+
+    private static RawField[] toArray(final Iterable<RawField> fields) {
+        final List<RawField> list = new ArrayList<>();
+        fields.forEach(list::add);
+        return list.toArray(new RawField[list.size()]);
+    }
+}
@@ -0,0 +1,59 @@
+/*
+ * Copyright (c) 2015 Andrew Coates
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.datalorax.populace.core.walk;
+
+import java.lang.reflect.Type;
+
+/**
+ * The starting point for a {@link WalkCursor cursor}: the instance to walk and its position in the graph. A seed either
+ * walks all the fields and elements of its instance, or, if it has an element range, just the elements in that range.
+ *
+ * @author Andrew Coates - 17/10/2026.
+ */
+final class WalkSeed {
+    final Type type;
+    final Object instance;
+    final WalkerStack stack;
+    final WalkPlan plan;        // null if not yet known
+    final int fromElement;
+    final int toElement;        // -1 if the seed has no element range
+
+    WalkSeed(final Type type, final Object instance, final WalkerStack stack, final WalkPlan plan,
+             final int fromElement, final int toElement) {
+        this.type = type;
+        this.instance = instance;
+        this.stack = stack;
+        this.plan = plan;
+        this.fromElement = fromElement;
+        this.toElement = toElement;
+    }
+
+    /**
+     * @param root the root of the graph to walk.
+     * @return a seed to walk the whole graph.
+     */
+    static WalkSeed root(final Object root) {
+        return new WalkSeed(root.getClass(), root, WalkerStack.newStack(root), null, 0, -1);
+    }
+
+    /**
+     * @return true if the seed walks a range of its instance's elements, rather than the whole instance.
+     */
+    boolean hasElementRange() {
+        return toElement >= 0;
+    }
+}
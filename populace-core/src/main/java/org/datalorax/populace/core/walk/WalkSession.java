@@ -0,0 +1,96 @@
+/*
+ * Copyright (c) 2015 Andrew Coates
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.datalorax.populace.core.walk;
+
+import org.apache.commons.lang3.Validate;
+import org.datalorax.populace.core.jfr.JfrEvents;
+import org.datalorax.populace.core.walk.visitor.ElementVisitor;
+import org.datalorax.populace.core.walk.visitor.FieldVisitor;
+
+/**
+ * A session for running many walks, one after another, with the same {@link GraphWalker}. Obtain one via
+ * {@link GraphWalker#newSession()}.
+ * <p>
+ * A session keeps the buffers it uses to track its position in a graph from one walk to the next. Where both the field
+ * and element visitors of a walk {@link org.datalorax.populace.core.walk.visitor.Visitor#acceptsFlyweights() accept
+ * flyweights}, and the walker's field and element filters are {@link FlyweightFilter flyweight filters}, the session
+ * passes them flyweight {@link org.datalorax.populace.core.walk.field.FieldInfo} and
+ * {@link org.datalorax.populace.core.walk.element.ElementInfo} instances, reused for each field and element visited.
+ * The path to a flyweight component is only recorded if its value is walked or its path is requested. Visitors and
+ * filters that need to keep hold of a component should take a {@code snapshot()} of it. Walks traced by a
+ * {@link GraphWalker.Builder#withWalkListener listener} never use flyweights.
+ * <p>
+ * Sessions are not thread-safe, and run one walk at a time. Walkers configured with
+ * {@link GraphWalker.Builder#withParallelism parallelism} or {@link GraphWalker.Builder#withVisitorOffload visitor
+ * offload} run each walk as {@link GraphWalker#walk} would, without reusing anything.
+ *
+ * @author Andrew Coates - 17/10/2026.
+ */
+public final class WalkSession {
+    private final GraphWalker walker;
+    private final WalkerContext context;
+    private final WalkCursor cursor;
+    private final boolean flyweights;
+    private GraphWalker.Visitors visitors;
+    private boolean walking;
+
+    WalkSession(final GraphWalker walker, final WalkerContext context) {
+        Validate.notNull(walker, "walker null");
+        Validate.notNull(context, "context null");
+        this.walker = walker;
+        this.context = context;
+        this.cursor = new WalkCursor(context);
+        this.flyweights = context.filtersAcceptFlyweights();
+    }
+
+    /**
+     * Walk the graph, as {@link GraphWalker#walk} does, reusing the session's buffers.
+     *
+     * @param instance       the instance to walk
+     * @param fieldVisitor   the visitor to call back on for each discovered field.
+     * @param elementVisitor the visitor to call back on for each element of a collection field.
+     * @throws IllegalStateException if called while the session is already walking, e.g. from a visitor.
+     */
+    public void walk(final Object instance, final FieldVisitor fieldVisitor, final ElementVisitor elementVisitor) {
+        if (!walker.isSequential()) {
+            walker.walk(instance, fieldVisitor, elementVisitor);
+            return;
+        }
+
+        Validate.validState(!walking, "session is already walking a graph");
+        if (visitors == null || !visitors.isFor(fieldVisitor, elementVisitor)) {
+            visitors = new GraphWalker.Visitors(fieldVisitor, elementVisitor, false, context);
+        }
+
+        walking = true;
+        final Object event = JfrEvents.beginWalk();
+        try {
+            cursor.start(instance, flyweights && visitors.acceptFlyweights());
+            walker.walkSequentially(cursor, visitors);
+        } finally {
+            walking = false;
+            JfrEvents.endWalk(event, instance);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "WalkSession{" +
+            "walker=" + walker +
+            '}';
+    }
+}
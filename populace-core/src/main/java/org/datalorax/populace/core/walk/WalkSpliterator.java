@@ -0,0 +1,111 @@
+/*
+ * Copyright (c) 2015 Andrew Coates
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.datalorax.populace.core.walk;
+
+import org.apache.commons.lang3.Validate;
+import org.datalorax.populace.core.walk.field.FieldInfo;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+
+/**
+ * A lazy, pull-based {@link Spliterator} over the {@link GraphComponent components} of a graph walk. The graph is only
+ * walked as far as components are requested.
+ * <p>
+ * The walk is read-only, leaving containers that are temporarily changed while their elements are walked, e.g. sets,
+ * untouched. So nothing needs restoring when the spliterator is abandoned part way through the walk.
+ * <p>
+ * Splitting divides the remaining elements of large {@link org.datalorax.populace.core.walk.inspector.IndexedInspector
+ * indexed} containers, e.g. lists and arrays, between spliterators. Where there is no such container to divide, a batch
+ * of the components ahead of the walk is split off instead.
+ *
+ * @author Andrew Coates - 17/10/2026.
+ */
+final class WalkSpliterator implements Spliterator<GraphComponent> {
+    /**
+     * The maximum number of components to split off when there is no container to divide.
+     */
+    static final int MAX_BATCH_SIZE = 1024;
+
+    private final WalkerContext context;
+    private final WalkCursor cursor;
+
+    /**
+     * @param context the walkers configuration
+     * @param root    the root of the graph to walk.
+     */
+    WalkSpliterator(final WalkerContext context, final Object root) {
+        this(context, WalkSeed.root(root));
+    }
+
+    private WalkSpliterator(final WalkerContext context, final WalkSeed seed) {
+        Validate.notNull(context, "context null");
+        this.context = context;
+        this.cursor = new WalkCursor(context, seed);
+    }
+
+    @Override
+    public boolean tryAdvance(final Consumer<? super GraphComponent> action) {
+        final GraphComponent component = next();
+        if (component == null) {
+            return false;
+        }
+
+        action.accept(component);
+        return true;
+    }
+
+    @Override
+    public Spliterator<GraphComponent> trySplit() {
+        final WalkSeed seed = cursor.trySplit(ParallelWalk.MIN_SPLIT_SIZE);
+        if (seed != null) {
+            return new WalkSpliterator(context, seed);
+        }
+
+        final List<GraphComponent> batch = new ArrayList<>();
+        while (batch.size() != MAX_BATCH_SIZE && !cursor.canSplit(ParallelWalk.MIN_SPLIT_SIZE)) {
+            final GraphComponent component = next();
+            if (component == null) {
+                break;
+            }
+            batch.add(component);
+        }
+
+        return batch.isEmpty() ? null : Spliterators.spliterator(batch, NONNULL);
+    }
+
+    @Override
+    public long estimateSize() {
+        return Long.MAX_VALUE;
+    }
+
+    @Override
+    public int characteristics() {
+        return NONNULL;
+    }
+
+    private GraphComponent next() {
+        final GraphComponent component = cursor.next();
+        if (component instanceof FieldInfo) {
+            ((FieldInfo) component).ensureAccessible();
+        }
+        return component;
+    }
+}
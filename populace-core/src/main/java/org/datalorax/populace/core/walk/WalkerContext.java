@@ -17,12 +17,22 @@
 package org.datalorax.populace.core.walk;
 
 import org.apache.commons.lang3.Validate;
+import org.datalorax.populace.core.metrics.WalkMetrics;
+import org.datalorax.populace.core.util.TypeResolver;
+import org.datalorax.populace.core.util.TypeUtils;
 import org.datalorax.populace.core.walk.element.ElementInfo;
 import org.datalorax.populace.core.walk.field.FieldInfo;
 import org.datalorax.populace.core.walk.inspector.Inspector;
 import org.datalorax.populace.core.walk.inspector.Inspectors;
+import org.datalorax.populace.core.walk.listener.WalkListener;
 
 import java.lang.reflect.Type;
+import java.lang.reflect.TypeVariable;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.Predicate;
 
 /**
@@ -33,16 +43,39 @@ public class WalkerContext {
     private final Predicate<FieldInfo> fieldFilter;
     private final Predicate<ElementInfo> elementFilter;
     private final Inspectors inspectors;
+    private final ForkJoinPool parallelism;
+    private final VisitorOffload visitorOffload;
+    private final WalkBudget walkBudget;
+    private final WalkMetrics metrics;
+    private final WalkListener walkListener;
+    private final ConcurrentMap<Class<?>, WalkPlan> plans = new ConcurrentHashMap<>();
+    private final ConcurrentMap<Type, WalkPlan> parameterisedPlans = new ConcurrentHashMap<>();
 
     public WalkerContext(final Predicate<FieldInfo> fieldFilter,
                          final Predicate<ElementInfo> elementFilter,
                          final Inspectors inspectors) {
+        this(fieldFilter, elementFilter, inspectors, null, null, null, null, null);
+    }
+
+    WalkerContext(final Predicate<FieldInfo> fieldFilter,
+                  final Predicate<ElementInfo> elementFilter,
+                  final Inspectors inspectors,
+                  final ForkJoinPool parallelism,
+                  final VisitorOffload visitorOffload,
+                  final WalkBudget walkBudget,
+                  final WalkMetrics metrics,
+                  final WalkListener walkListener) {
         Validate.notNull(fieldFilter, "fieldFilter null");
         Validate.notNull(elementFilter, "elementFilter null");
         Validate.notNull(inspectors, "inspector null");
         this.fieldFilter = fieldFilter;
         this.elementFilter = elementFilter;
         this.inspectors = inspectors;
+        this.parallelism = parallelism;
+        this.visitorOffload = visitorOffload;
+        this.walkBudget = walkBudget;
+        this.metrics = metrics;
+        this.walkListener = walkListener;
     }
 
     public boolean isExcludedField(final FieldInfo field) {
@@ -61,6 +94,124 @@ public class WalkerContext {
         return inspectors;
     }
 
+    /**
+     * @return the pool to walk graphs in parallel on, or {@code Optional.empty()} if graphs are walked sequentially.
+     */
+    public Optional<ForkJoinPool> getParallelism() {
+        return Optional.ofNullable(parallelism);
+    }
+
+    /**
+     * @return the configuration for offloading visitor calls, or {@code Optional.empty()} if visitors are called on the
+     * walking thread.
+     */
+    public Optional<VisitorOffload> getVisitorOffload() {
+        return Optional.ofNullable(visitorOffload);
+    }
+
+    /**
+     * @return the budget each walk is limited to, or {@code Optional.empty()} if walks are unlimited.
+     */
+    public Optional<WalkBudget> getWalkBudget() {
+        return Optional.ofNullable(walkBudget);
+    }
+
+    /**
+     * @return the metrics to record walks to, or {@code Optional.empty()} if metrics are not recorded.
+     */
+    public Optional<WalkMetrics> getMetrics() {
+        return Optional.ofNullable(metrics);
+    }
+
+    /**
+     * @return the listener to trace walks to, or {@code Optional.empty()} if walks are not traced.
+     */
+    public Optional<WalkListener> getWalkListener() {
+        return Optional.ofNullable(walkListener);
+    }
+
+    /**
+     * @return true if both the field and element filters {@link FlyweightFilter accept flyweights}.
+     */
+    boolean filtersAcceptFlyweights() {
+        return FlyweightFilter.acceptsFlyweights(fieldFilter) && FlyweightFilter.acceptsFlyweights(elementFilter);
+    }
+
+    /**
+     * Get the walk plan for instances of the supplied concrete {@code type}. Plans are built on first use and cached.
+     * <p>
+     * Where inspectors are registered against specific parameterisations of a generic type the inspector to use can
+     * depend on the type arguments resolved at the current point in the walk, so such plans are cached per resolved
+     * type.
+     *
+     * @param type  the concrete type of the instance being walked.
+     * @param stack the current position in the walk, used to resolve type arguments if required.
+     * @return the walk plan.
+     */
+    WalkPlan getWalkPlan(final Class<?> type, final WalkerStack stack) {
+        return getWalkPlan(type, stack.getTypeResolver());
+    }
+
+    /**
+     * Get the walk plan for instances of the supplied concrete {@code type}, using the supplied {@code cached} plan if
+     * it is for the same type.
+     *
+     * @param type         the concrete type of the instance being walked.
+     * @param typeResolver the type resolver at the current position in the walk, used to resolve type arguments if
+     *                     required.
+     * @param cached       a {@link #isCacheable cacheable} plan previously used at the same point in the graph, e.g. for
+     *                     the same field, or {@code null}.
+     * @return the walk plan.
+     */
+    WalkPlan getWalkPlan(final Class<?> type, final TypeResolver typeResolver, final WalkPlan cached) {
+        if (cached != null && cached.getType() == type) {
+            return cached;
+        }
+        return getWalkPlan(type, typeResolver);
+    }
+
+    private WalkPlan getWalkPlan(final Class<?> type, final TypeResolver typeResolver) {
+        final WalkPlan plan = plans.get(type);
+        if (plan != null) {
+            return plan;
+        }
+
+        if (isInspectorDependentOnTypeArguments(type)) {
+            final Type resolvedType = typeResolver.resolve(type);
+            final WalkPlan parameterisedPlan = parameterisedPlans.get(resolvedType);
+            if (parameterisedPlan != null) {
+                return parameterisedPlan;
+            }
+            return parameterisedPlans.computeIfAbsent(resolvedType, t -> new WalkPlan(type, t, inspectors, fieldFilter, metrics));
+        }
+
+        return plans.computeIfAbsent(type, t -> new WalkPlan(t, getUnresolvedType(t), inspectors, fieldFilter, metrics));
+    }
+
+    /**
+     * @param plan a plan returned from {@link #getWalkPlan(Class, WalkerStack)}.
+     * @return true if the plan applies to its type wherever it is found in a graph, i.e. it does not depend on the type
+     * arguments resolved at some point in the walk, and so can be cached by the caller.
+     */
+    boolean isCacheable(final WalkPlan plan) {
+        return plans.get(plan.getType()) == plan;
+    }
+
+    private boolean isInspectorDependentOnTypeArguments(final Class<?> type) {
+        return type.getTypeParameters().length != 0 && inspectors.hasSpecificParameterisationsOf(type);
+    }
+
+    private static Type getUnresolvedType(final Class<?> type) {
+        final TypeVariable<? extends Class<?>>[] typeParameters = type.getTypeParameters();
+        if (typeParameters.length == 0) {
+            return type;
+        }
+
+        // Generic types are always looked up as parameterised types. As no inspector is registered against any
+        // parameterisation of this type, the type arguments used make no difference:
+        return TypeUtils.parameterise(type, typeParameters);
+    }
+
     @Override
     public boolean equals(final Object o) {
         if (this == o) return true;
@@ -69,13 +220,23 @@ public class WalkerContext {
         final WalkerContext that = (WalkerContext) o;
         return fieldFilter.equals(that.fieldFilter)
             && elementFilter.equals(that.elementFilter)
-            && inspectors.equals(that.inspectors);
+            && inspectors.equals(that.inspectors)
+            && Objects.equals(parallelism, that.parallelism)
+            && Objects.equals(visitorOffload, that.visitorOffload)
+            && Objects.equals(walkBudget, that.walkBudget)
+            && Objects.equals(metrics, that.metrics)
+            && Objects.equals(walkListener, that.walkListener);
     }
 
     @Override
     public int hashCode() {
         int result = fieldFilter.hashCode();
         result = 31 * result + inspectors.hashCode();
+        result = 31 * result + Objects.hashCode(parallelism);
+        result = 31 * result + Objects.hashCode(visitorOffload);
+        result = 31 * result + Objects.hashCode(walkBudget);
+        result = 31 * result + Objects.hashCode(metrics);
+        result = 31 * result + Objects.hashCode(walkListener);
         return result;
     }
 
@@ -84,6 +245,11 @@ public class WalkerContext {
         return "WalkerContext{" +
                 "fieldFilter=" + fieldFilter +
                 ", inspectors=" + inspectors +
+                (parallelism == null ? "" : ", parallelism=" + parallelism) +
+                (visitorOffload == null ? "" : ", visitorOffload=" + visitorOffload) +
+                (walkBudget == null ? "" : ", walkBudget=" + walkBudget) +
+                (metrics == null ? "" : ", metrics=" + metrics) +
+                (walkListener == null ? "" : ", walkListener=" + walkListener) +
                 '}';
     }
 }
@@ -26,7 +26,7 @@ public class WalkerException extends RuntimeException {
 
     public WalkerException(final String message, final PathProvider path, final Throwable cause) {
         super(message, cause);
-        this.path = path;
+        this.path = WalkCursor.stablePath(path);     // The paths of flyweight components change as the walk progresses
     }
 
     public String getPath() {
@@ -16,17 +16,14 @@
 
 package org.datalorax.populace.core.walk;
 
-import com.google.common.reflect.TypeToken;
 import org.datalorax.populace.core.util.TypeResolver;
 import org.datalorax.populace.core.walk.field.PathProvider;
 import org.datalorax.populace.core.walk.field.RawField;
 import org.datalorax.populace.core.walk.field.TypeTable;
+import org.datalorax.populace.core.walk.field.WalkPath;
 
 import java.lang.reflect.Type;
 import java.lang.reflect.TypeVariable;
-import java.util.ArrayList;
-import java.util.List;
-import java.util.function.Consumer;
 
 /**
  * @author Andrew Coates - 04/03/2015.
@@ -34,15 +31,19 @@ import java.util.function.Consumer;
 public abstract class WalkerStack implements PathProvider, TypeTable {
     private final WalkerStack parent;
     private final int depth;
+    private final TypeContext typeContext;
+    private WalkPath walkPath;
 
     private WalkerStack() {
         this.parent = null;
         this.depth = 0;
+        this.typeContext = TypeContext.newRoot();
     }
 
-    private WalkerStack(final WalkerStack parent) {
+    private WalkerStack(final WalkerStack parent, final TypeContext typeContext) {
         this.parent = parent;
         this.depth = parent.getDepth() + 1;
+        this.typeContext = typeContext;
     }
 
     public static WalkerStack newStack(final Object root) {
@@ -58,9 +59,33 @@ public abstract class WalkerStack implements PathProvider, TypeTable {
     }
 
     public String getPath() {
-        final StringBuilder builder = new StringBuilder();
-        getFrames().forEach(frame -> builder.append(frame.getToken()));
-        return builder.toString();
+        return getWalkPath().getPath();
+    }
+
+    /**
+     * The path is built on first request, extending the paths of any parent frames that have already built theirs.
+     *
+     * @return the path to this point in the walk.
+     */
+    @Override
+    public WalkPath getWalkPath() {
+        if (walkPath != null) {
+            return walkPath;
+        }
+
+        final WalkerStack[] pending = new WalkerStack[depth + 1];
+        WalkerStack frame = this;
+        for (; frame != null && frame.walkPath == null; frame = frame.parent) {
+            pending[frame.depth] = frame;
+        }
+
+        // Frames are shared by parallel tasks, but paths are immutable and interned, so racing to build one is benign:
+        WalkPath path = frame == null ? null : frame.walkPath;
+        for (int i = frame == null ? 0 : frame.depth + 1; i <= depth; ++i) {
+            path = pending[i].extend(path);
+            pending[i].walkPath = path;
+        }
+        return path;
     }
 
     @Override
@@ -68,27 +93,36 @@ public abstract class WalkerStack implements PathProvider, TypeTable {
         return depth;
     }
 
-    public abstract Type resolveTypeVariable(final TypeVariable variable);
+    @Override
+    public Type resolveTypeVariable(final TypeVariable variable) {
+        return typeContext.resolveTypeVariable(variable);
+    }
 
+    /**
+     * Get a resolver for types at this point in the walk. Frames at the same generic position in the graph share a
+     * resolver, which caches the types it resolves.
+     *
+     * @return the type resolver.
+     */
     public TypeResolver getTypeResolver() {
-        return new TypeResolver(this);
+        return typeContext.getTypeResolver();
     }
 
-    protected WalkerStack getParent() { return parent; }
-
-    protected abstract String getToken();
-
-    private List<WalkerStack> getFrames() {
-        final List<WalkerStack> frames = new ArrayList<>();
-        forEachParent(frame -> frames.add(0, frame));
-        return frames;
+    /**
+     * @param field a field of the instance at this point in the walk.
+     * @return the type resolver of the frame {@link #push(RawField) pushed} for the field, without pushing it.
+     */
+    TypeResolver getFieldTypeResolver(final RawField field) {
+        return typeContext.push(field.getGenericType()).getTypeResolver();
     }
 
-    private void forEachParent(Consumer<WalkerStack> action) {
-        for (WalkerStack frame = this; frame != null; frame = frame.parent) {
-            action.accept(frame);
-        }
-    }
+    protected WalkerStack getParent() { return parent; }
+
+    /**
+     * @param parentPath the path to the parent frame, or null for the root frame.
+     * @return the path to this frame.
+     */
+    protected abstract WalkPath extend(WalkPath parentPath);
 
     private static final class RootFrame extends WalkerStack {
         private final Object root;
@@ -98,39 +132,22 @@ public abstract class WalkerStack implements PathProvider, TypeTable {
         }
 
         @Override
-        public Type resolveTypeVariable(final TypeVariable variable) {
-            return variable;    // Not enough type information to resolve
-        }
-
-        @Override
-        protected String getToken() {
-            return root.getClass().getSimpleName();
+        protected WalkPath extend(final WalkPath parentPath) {
+            return WalkPath.root(root.getClass().getSimpleName());
         }
     }
 
     private static final class FieldFrame extends WalkerStack {
         private final RawField field;
-        private final TypeToken<?> type;
 
         public FieldFrame(final WalkerStack parent, final RawField field) {
-            super(parent);
+            super(parent, parent.typeContext.push(field.getGenericType()));
             this.field = field;
-            this.type = TypeToken.of(field.getGenericType());
         }
 
         @Override
-        public Type resolveTypeVariable(final TypeVariable variable) {
-            final TypeToken<?> typeToken = type.resolveType(variable);
-            if (typeToken.getType().equals(variable)) {
-                return getParent().resolveTypeVariable(variable);
-            }
-
-            return typeToken.getType();
-        }
-
-        @Override
-        protected String getToken() {
-            return '.' + field.getName();
+        protected WalkPath extend(final WalkPath parentPath) {
+            return parentPath.field(field.getName());
         }
     }
 
@@ -139,18 +156,13 @@ public abstract class WalkerStack implements PathProvider, TypeTable {
 
         @SuppressWarnings("UnusedParameters")   // For future use
         public ElementFrame(final WalkerStack parent, final Object element, final int index) {
-            super(parent);
+            super(parent, parent.typeContext);
             this.index = index;
         }
 
         @Override
-        public Type resolveTypeVariable(final TypeVariable variable) {
-            return getParent().resolveTypeVariable(variable);
-        }
-
-        @Override
-        protected String getToken() {
-            return "[" + index + "]";
+        protected WalkPath extend(final WalkPath parentPath) {
+            return parentPath.element(index);
         }
     }
 }
@@ -20,29 +20,61 @@ import org.apache.commons.lang3.Validate;
 import org.datalorax.populace.core.util.TypeResolver;
 import org.datalorax.populace.core.walk.GraphComponent;
 import org.datalorax.populace.core.walk.field.PathProvider;
+import org.datalorax.populace.core.walk.field.WalkPath;
 
 import java.lang.reflect.Type;
 
 /**
+ * Walks run from a {@link org.datalorax.populace.core.walk.WalkSession session} may pass visitors that
+ * {@link org.datalorax.populace.core.walk.visitor.Visitor#acceptsFlyweights() accept flyweights} an instance that is
+ * reused for each element visited. Call {@link #snapshot()} to obtain an instance that can be kept beyond the visit.
+ *
  * @author Andrew Coates - 04/03/2015.
  */
 public class ElementInfo implements GraphComponent {
-    private final RawElement element;
-    private final TypeResolver typeResolver;
-    private final PathProvider path;
-    private final Type containerType;
+    private RawElement element;
+    private TypeResolver typeResolver;
+    private PathProvider path;
+    private Type containerType;
 
     public ElementInfo(final RawElement element, final Type containerType, final TypeResolver typeResolver, final PathProvider path) {
         Validate.notNull(element, "field null");
         Validate.notNull(containerType, "field containerType");
         Validate.notNull(typeResolver, "typeResolver null");
         Validate.notNull(path, "path null");
+        reset(element, containerType, typeResolver, path);
+    }
+
+    /**
+     * Construct a flyweight instance, which must be {@link #reset} before use.
+     */
+    protected ElementInfo() {
+    }
+
+    /**
+     * Point a flyweight instance at a different element. No validation is performed.
+     *
+     * @param element       the raw element this instance should augment
+     * @param containerType the generic type of the container the element belongs to
+     * @param typeResolver  the resolver to use to resolve generic types
+     * @param path          the provider of the path to this instance.
+     */
+    protected void reset(final RawElement element, final Type containerType, final TypeResolver typeResolver,
+                         final PathProvider path) {
         this.element = element;
         this.containerType = containerType;
         this.typeResolver = typeResolver;
         this.path = path;
     }
 
+    /**
+     * @return an instance that will not change as the walk progresses, which can be retained beyond the visit of the
+     * element. For instances that are not flyweights this is the instance itself.
+     */
+    public ElementInfo snapshot() {
+        return this;
+    }
+
     /**
      * Get the depth of this object into the walk
      *
@@ -52,6 +84,25 @@ public class ElementInfo implements GraphComponent {
         return path.getDepth();
     }
 
+    /**
+     * Get the path to this object from the root of the walk
+     *
+     * @return the path, e.g. {@code SomeType.someField[2]}
+     */
+    public String getPath() {
+        return path.getPath();
+    }
+
+    /**
+     * Get the path to this object from the root of the walk, without rendering it as text. Prefer this over
+     * {@link #getPath()} when keying maps by path.
+     *
+     * @return the interned path.
+     */
+    public WalkPath getWalkPath() {
+        return path.getWalkPath();
+    }
+
     /**
      * @return the generic type of the element
      * @see org.datalorax.populace.core.walk.element.RawElement#getGenericType(java.lang.reflect.Type)
@@ -83,14 +134,14 @@ public class ElementInfo implements GraphComponent {
         if (o == null || getClass() != o.getClass()) return false;
 
         final ElementInfo that = (ElementInfo) o;
-        return element.equals(that.element) && path.equals(that.path) && typeResolver.equals(that.typeResolver);
+        return element.equals(that.element) && path.getWalkPath().equals(that.path.getWalkPath()) && typeResolver.equals(that.typeResolver);
     }
 
     @Override
     public int hashCode() {
         int result = element.hashCode();
         result = 31 * result + typeResolver.hashCode();
-        result = 31 * result + path.hashCode();
+        result = 31 * result + path.getWalkPath().hashCode();
         return result;
     }
 
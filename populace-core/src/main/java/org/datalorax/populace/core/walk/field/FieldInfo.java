@@ -25,14 +25,24 @@ import java.lang.reflect.Type;
 
 /**
  * Represents the information and operations available for a particular field on a particular instance.
+ * <p>
+ * Walks run from a {@link org.datalorax.populace.core.walk.WalkSession session} may pass visitors that
+ * {@link org.datalorax.populace.core.walk.visitor.Visitor#acceptsFlyweights() accept flyweights} an instance that is
+ * reused for each field visited. Call {@link #snapshot()} to obtain an instance that can be kept beyond the visit.
  *
  * @author Andrew Coates - 04/03/2015.
  */
 public class FieldInfo implements GraphComponent {
-    private final RawField field;
-    private final Object owningInstance;
-    private final TypeResolver typeResolver;
-    private final PathProvider path;
+    private static final Object UNREAD = new Object();
+
+    private RawField field;
+    private Object owningInstance;
+    private TypeResolver typeResolver;
+    private PathProvider path;
+    // The value and generic type are each held in a single field, so racing reads, e.g. from offloaded visitors, see
+    // either a value that was read or UNREAD / null:
+    private Object value = UNREAD;
+    private Type genericType;
 
     /**
      * Construct a new FieldInfo object
@@ -48,10 +58,38 @@ public class FieldInfo implements GraphComponent {
         Validate.notNull(owningInstance, "owningInstance null");
         Validate.notNull(typeResolver, "typeResolver null");
         Validate.notNull(path, "path null");
+        reset(field, owningInstance, typeResolver, path);
+    }
+
+    /**
+     * Construct a flyweight instance, which must be {@link #reset} before use.
+     */
+    protected FieldInfo() {
+    }
+
+    /**
+     * Point a flyweight instance at a different field. No validation is performed.
+     *
+     * @param field          the raw field this instance should augment
+     * @param owningInstance the instance from which to get / set the current value of this field
+     * @param typeResolver   the resolver to use to resolve generic types
+     * @param path           the provider of the path to this instance.
+     */
+    protected void reset(final RawField field, final Object owningInstance,
+                         final TypeResolver typeResolver, final PathProvider path) {
         this.field = field;
         this.owningInstance = owningInstance;
         this.typeResolver = typeResolver;
         this.path = path;
+        invalidate();
+    }
+
+    /**
+     * @return an instance that will not change as the walk progresses, which can be retained beyond the visit of the
+     * field. For instances that are not flyweights this is the instance itself.
+     */
+    public FieldInfo snapshot() {
+        return this;
     }
 
     /**
@@ -63,6 +101,25 @@ public class FieldInfo implements GraphComponent {
         return path.getDepth();
     }
 
+    /**
+     * Get the path to this object from the root of the walk
+     *
+     * @return the path, e.g. {@code SomeType.someField[2]}
+     */
+    public String getPath() {
+        return path.getPath();
+    }
+
+    /**
+     * Get the path to this object from the root of the walk, without rendering it as text. Prefer this over
+     * {@link #getPath()} when keying maps by path.
+     *
+     * @return the interned path.
+     */
+    public WalkPath getWalkPath() {
+        return path.getWalkPath();
+    }
+
     /**
      * @return the name of the field
      * @see RawField#getName()
@@ -97,6 +154,9 @@ public class FieldInfo implements GraphComponent {
      * <li>For <b>non-primitive types with a non-null value</b> this method returns the resolved generic type of the value</li>
      * </ul>
      *
+     * The type is resolved once, and then reused until the value is changed through this instance or the field is made
+     * {@link #ensureAccessible() accessible}.
+     *
      * <b>Note: This method will make use of the runtime type information available within the fields value if the field
      * is accessible. It is strongly recommended that you install the
      * {@link org.datalorax.populace.core.walk.visitor.SetAccessibleFieldVisitor} so that Populace can make use of this
@@ -110,14 +170,11 @@ public class FieldInfo implements GraphComponent {
             return field.getType();
         }
 
-        if (isAccessible()) {
-            final Object value = getValue();
-            if (value != null) {
-                return typeResolver.resolve(value.getClass());
-            }
+        Type type = genericType;
+        if (type == null) {
+            type = genericType = resolveGenericType();
         }
-
-        return typeResolver.resolve(field.getGenericType());
+        return type;
     }
 
     /**
@@ -143,20 +200,29 @@ public class FieldInfo implements GraphComponent {
      * @see RawField#ensureAccessible()
      */
     public void ensureAccessible() {
+        genericType = null;     // May now be resolved using the field's value
         field.ensureAccessible();
     }
 
     /**
+     * The value is read from the field once, and the read value returned from subsequent calls until the value is
+     * changed through this instance, e.g. via {@link #setValue(Object)}. Changes made to the field by other means are not
+     * seen.
+     *
      * @return the current value of the {@code RawField} in the {@code owningInstance}.
      * @throws org.datalorax.populace.core.walk.field.FieldAccessException if the field is not accessible
      * @see RawField#getValue(Object)
      */
     public Object getValue() {
-        try {
-            return field.getValue(getOwningInstance());
-        } catch (ReflectiveOperationException e) {
-            throw new FieldAccessException(field, path, e);
+        Object value = this.value;
+        if (value == UNREAD) {
+            try {
+                value = this.value = field.getValue(getOwningInstance());
+            } catch (ReflectiveOperationException e) {
+                throw new FieldAccessException(field, path, e);
+            }
         }
+        return value;
     }
 
     /**
@@ -167,6 +233,7 @@ public class FieldInfo implements GraphComponent {
      * @see RawField#setValue(Object, Object)
      */
     public void setValue(Object value) {
+        invalidate();
         try {
             field.setValue(getOwningInstance(), value);
         } catch (ReflectiveOperationException e) {
@@ -174,6 +241,238 @@ public class FieldInfo implements GraphComponent {
         }
     }
 
+    /**
+     * @return the current value of the {@code boolean} field in the {@code owningInstance}, without boxing.
+     * @throws org.datalorax.populace.core.walk.field.FieldAccessException if the field is not accessible
+     * @see RawField#getBoolean(Object)
+     */
+    public boolean getBoolean() {
+        try {
+            return field.getBoolean(getOwningInstance());
+        } catch (ReflectiveOperationException e) {
+            throw new FieldAccessException(field, path, e);
+        }
+    }
+
+    /**
+     * Sets the current value of the {@code boolean} field in the {@code owningInstance}, without boxing.
+     *
+     * @param value the new value for the field of {@code owningInstance} being modified
+     * @throws org.datalorax.populace.core.walk.field.FieldAccessException if the field is not accessible
+     * @see RawField#setBoolean(Object, boolean)
+     */
+    public void setBoolean(final boolean value) {
+        invalidate();
+        try {
+            field.setBoolean(getOwningInstance(), value);
+        } catch (ReflectiveOperationException e) {
+            throw new FieldAccessException(field, path, e);
+        }
+    }
+
+    /**
+     * @return the current value of the {@code byte} field in the {@code owningInstance}, without boxing.
+     * @throws org.datalorax.populace.core.walk.field.FieldAccessException if the field is not accessible
+     * @see RawField#getByte(Object)
+     */
+    public byte getByte() {
+        try {
+            return field.getByte(getOwningInstance());
+        } catch (ReflectiveOperationException e) {
+            throw new FieldAccessException(field, path, e);
+        }
+    }
+
+    /**
+     * Sets the current value of the {@code byte} field in the {@code owningInstance}, without boxing.
+     *
+     * @param value the new value for the field of {@code owningInstance} being modified
+     * @throws org.datalorax.populace.core.walk.field.FieldAccessException if the field is not accessible
+     * @see RawField#setByte(Object, byte)
+     */
+    public void setByte(final byte value) {
+        invalidate();
+        try {
+            field.setByte(getOwningInstance(), value);
+        } catch (ReflectiveOperationException e) {
+            throw new FieldAccessException(field, path, e);
+        }
+    }
+
+    /**
+     * @return the current value of the {@code char} field in the {@code owningInstance}, without boxing.
+     * @throws org.datalorax.populace.core.walk.field.FieldAccessException if the field is not accessible
+     * @see RawField#getChar(Object)
+     */
+    public char getChar() {
+        try {
+            return field.getChar(getOwningInstance());
+        } catch (ReflectiveOperationException e) {
+            throw new FieldAccessException(field, path, e);
+        }
+    }
+
+    /**
+     * Sets the current value of the {@code char} field in the {@code owningInstance}, without boxing.
+     *
+     * @param value the new value for the field of {@code owningInstance} being modified
+     * @throws org.datalorax.populace.core.walk.field.FieldAccessException if the field is not accessible
+     * @see RawField#setChar(Object, char)
+     */
+    public void setChar(final char value) {
+        invalidate();
+        try {
+            field.setChar(getOwningInstance(), value);
+        } catch (ReflectiveOperationException e) {
+            throw new FieldAccessException(field, path, e);
+        }
+    }
+
+    /**
+     * @return the current value of the {@code short} field in the {@code owningInstance}, without boxing.
+     * @throws org.datalorax.populace.core.walk.field.FieldAccessException if the field is not accessible
+     * @see RawField#getShort(Object)
+     */
+    public short getShort() {
+        try {
+            return field.getShort(getOwningInstance());
+        } catch (ReflectiveOperationException e) {
+            throw new FieldAccessException(field, path, e);
+        }
+    }
+
+    /**
+     * Sets the current value of the {@code short} field in the {@code owningInstance}, without boxing.
+     *
+     * @param value the new value for the field of {@code owningInstance} being modified
+     * @throws org.datalorax.populace.core.walk.field.FieldAccessException if the field is not accessible
+     * @see RawField#setShort(Object, short)
+     */
+    public void setShort(final short value) {
+        invalidate();
+        try {
+            field.setShort(getOwningInstance(), value);
+        } catch (ReflectiveOperationException e) {
+            throw new FieldAccessException(field, path, e);
+        }
+    }
+
+    /**
+     * @return the current value of the {@code int} field in the {@code owningInstance}, without boxing.
+     * @throws org.datalorax.populace.core.walk.field.FieldAccessException if the field is not accessible
+     * @see RawField#getInt(Object)
+     */
+    public int getInt() {
+        try {
+            return field.getInt(getOwningInstance());
+        } catch (ReflectiveOperationException e) {
+            throw new FieldAccessException(field, path, e);
+        }
+    }
+
+    /**
+     * Sets the current value of the {@code int} field in the {@code owningInstance}, without boxing.
+     *
+     * @param value the new value for the field of {@code owningInstance} being modified
+     * @throws org.datalorax.populace.core.walk.field.FieldAccessException if the field is not accessible
+     * @see RawField#setInt(Object, int)
+     */
+    public void setInt(final int value) {
+        invalidate();
+        try {
+            field.setInt(getOwningInstance(), value);
+        } catch (ReflectiveOperationException e) {
+            throw new FieldAccessException(field, path, e);
+        }
+    }
+
+    /**
+     * @return the current value of the {@code long} field in the {@code owningInstance}, without boxing.
+     * @throws org.datalorax.populace.core.walk.field.FieldAccessException if the field is not accessible
+     * @see RawField#getLong(Object)
+     */
+    public long getLong() {
+        try {
+            return field.getLong(getOwningInstance());
+        } catch (ReflectiveOperationException e) {
+            throw new FieldAccessException(field, path, e);
+        }
+    }
+
+    /**
+     * Sets the current value of the {@code long} field in the {@code owningInstance}, without boxing.
+     *
+     * @param value the new value for the field of {@code owningInstance} being modified
+     * @throws org.datalorax.populace.core.walk.field.FieldAccessException if the field is not accessible
+     * @see RawField#setLong(Object, long)
+     */
+    public void setLong(final long value) {
+        invalidate();
+        try {
+            field.setLong(getOwningInstance(), value);
+        } catch (ReflectiveOperationException e) {
+            throw new FieldAccessException(field, path, e);
+        }
+    }
+
+    /**
+     * @return the current value of the {@code float} field in the {@code owningInstance}, without boxing.
+     * @throws org.datalorax.populace.core.walk.field.FieldAccessException if the field is not accessible
+     * @see RawField#getFloat(Object)
+     */
+    public float getFloat() {
+        try {
+            return field.getFloat(getOwningInstance());
+        } catch (ReflectiveOperationException e) {
+            throw new FieldAccessException(field, path, e);
+        }
+    }
+
+    /**
+     * Sets the current value of the {@code float} field in the {@code owningInstance}, without boxing.
+     *
+     * @param value the new value for the field of {@code owningInstance} being modified
+     * @throws org.datalorax.populace.core.walk.field.FieldAccessException if the field is not accessible
+     * @see RawField#setFloat(Object, float)
+     */
+    public void setFloat(final float value) {
+        invalidate();
+        try {
+            field.setFloat(getOwningInstance(), value);
+        } catch (ReflectiveOperationException e) {
+            throw new FieldAccessException(field, path, e);
+        }
+    }
+
+    /**
+     * @return the current value of the {@code double} field in the {@code owningInstance}, without boxing.
+     * @throws org.datalorax.populace.core.walk.field.FieldAccessException if the field is not accessible
+     * @see RawField#getDouble(Object)
+     */
+    public double getDouble() {
+        try {
+            return field.getDouble(getOwningInstance());
+        } catch (ReflectiveOperationException e) {
+            throw new FieldAccessException(field, path, e);
+        }
+    }
+
+    /**
+     * Sets the current value of the {@code double} field in the {@code owningInstance}, without boxing.
+     *
+     * @param value the new value for the field of {@code owningInstance} being modified
+     * @throws org.datalorax.populace.core.walk.field.FieldAccessException if the field is not accessible
+     * @see RawField#setDouble(Object, double)
+     */
+    public void setDouble(final double value) {
+        invalidate();
+        try {
+            field.setDouble(getOwningInstance(), value);
+        } catch (ReflectiveOperationException e) {
+            throw new FieldAccessException(field, path, e);
+        }
+    }
+
     /**
      * @param type the type of the {@link java.lang.annotation.Annotation Annotation} to retrieve.
      * @param <T>  the type of the {@link java.lang.annotation.Annotation Annotation} to retrieve.
@@ -208,18 +507,34 @@ public class FieldInfo implements GraphComponent {
         return field.isFinal();
     }
 
+    private Type resolveGenericType() {
+        if (isAccessible()) {
+            final Object value = getValue();
+            if (value != null) {
+                return typeResolver.resolve(value.getClass());
+            }
+        }
+
+        return typeResolver.resolve(field.getGenericType());
+    }
+
+    private void invalidate() {
+        genericType = null;
+        value = UNREAD;
+    }
+
     @Override
     public boolean equals(final Object o) {
         if (this == o) return true;
         if (o == null || getClass() != o.getClass()) return false;
 
         final FieldInfo that = (FieldInfo) o;
-        return path.getPath().equals(that.path.getPath());
+        return path.getWalkPath().equals(that.path.getWalkPath());
     }
 
     @Override
     public int hashCode() {
-        return path.getPath().hashCode();
+        return path.getWalkPath().hashCode();
     }
 
     @Override
@@ -122,8 +122,12 @@ public class GetterSetterRawField implements RawField {
      */
     @Override
     public void ensureAccessible() {
-        getter.setAccessible(true);
-        setter.setAccessible(true);
+        if (!getter.isAccessible()) {
+            getter.setAccessible(true);
+        }
+        if (!setter.isAccessible()) {
+            setter.setAccessible(true);
+        }
     }
 
     /**
@@ -118,7 +118,9 @@ public class ImmutableGetterRawField implements RawField {
      */
     @Override
     public void ensureAccessible() {
-        getter.setAccessible(true);
+        if (!getter.isAccessible()) {
+            getter.setAccessible(true);
+        }
     }
 
     /**
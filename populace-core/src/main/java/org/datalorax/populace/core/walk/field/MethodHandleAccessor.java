@@ -0,0 +1,388 @@
+/*
+ * Copyright (c) 2015 Andrew Coates
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.datalorax.populace.core.walk.field;
+
+import org.apache.commons.lang3.ClassUtils;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.invoke.WrongMethodTypeException;
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+
+/**
+ * Reads and writes the value of a field or property via {@link MethodHandle method handles}, which are created on first
+ * use and then cached.
+ * <p>
+ * Handles are looked up with the same access rules as core reflection, i.e. non-public members require their
+ * accessible flag to be set first. A failed lookup is not cached, so the lookup is retried once the member has been made
+ * accessible. The accessor checks arguments up front, so that it throws the same exceptions as
+ * {@link Field#get(Object)} and {@link Method#invoke(Object, Object...)} do.
+ *
+ * @author Andrew Coates - 17/10/2026.
+ */
+final class MethodHandleAccessor {
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+    private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+    private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+
+    private final Class<?> ownerType;
+    private final Class<?> rawValueType;
+    private final Class<?> valueType;
+    private final boolean primitive;
+    private final boolean wrapThrown;
+    private final HandleLoader getterLoader;
+    private final HandleLoader setterLoader;
+    private volatile MethodHandle getter;
+    private volatile MethodHandle setter;
+    private volatile MethodHandle primitiveGetter;
+    private volatile MethodHandle primitiveSetter;
+
+    private MethodHandleAccessor(final Class<?> ownerType, final Class<?> valueType, final boolean wrapThrown,
+                                 final HandleLoader getterLoader, final HandleLoader setterLoader) {
+        this.ownerType = ownerType;
+        this.rawValueType = valueType;
+        this.valueType = ClassUtils.primitiveToWrapper(valueType);
+        this.primitive = valueType.isPrimitive();
+        this.wrapThrown = wrapThrown;
+        this.getterLoader = getterLoader;
+        this.setterLoader = setterLoader;
+    }
+
+    static MethodHandleAccessor forField(final Field field) {
+        final boolean isStatic = Modifier.isStatic(field.getModifiers());
+        return new MethodHandleAccessor(isStatic ? null : field.getDeclaringClass(), field.getType(), false,
+            () -> {
+                final MethodHandle handle = LOOKUP.unreflectGetter(field);
+                return isStatic ? MethodHandles.dropArguments(handle, 0, Object.class) : handle;
+            },
+            () -> {
+                if (isStatic && Modifier.isFinal(field.getModifiers())) {
+                    // As with Field.set, even accessible static final fields can not be set:
+                    throw new IllegalAccessException("Can not set static final field " + field);
+                }
+                final MethodHandle handle = LOOKUP.unreflectSetter(field);
+                return isStatic ? MethodHandles.dropArguments(handle, 0, Object.class) : handle;
+            });
+    }
+
+    static MethodHandleAccessor forProperty(final Method getter, final Method setter) {
+        return new MethodHandleAccessor(getter.getDeclaringClass(), getter.getReturnType(), true,
+            () -> LOOKUP.unreflect(getter),
+            setter == null ? null : () -> LOOKUP.unreflect(setter));
+    }
+
+    Object get(final Object owningInstance) throws ReflectiveOperationException {
+        checkOwner(owningInstance);
+        MethodHandle handle = getter;
+        if (handle == null) {
+            getter = handle = getterLoader.load().asType(GETTER_TYPE);
+        }
+
+        try {
+            return handle.invokeExact(owningInstance);
+        } catch (Throwable t) {
+            throw handleThrown(t);
+        }
+    }
+
+    void set(final Object owningInstance, final Object value) throws ReflectiveOperationException {
+        checkOwner(owningInstance);
+        final Object converted = convertValue(value);
+        MethodHandle handle = setter;
+        if (handle == null) {
+            setter = handle = loadSetter().asType(SETTER_TYPE);
+        }
+
+        try {
+            handle.invokeExact(owningInstance, converted);
+        } catch (Throwable t) {
+            throw handleThrown(t);
+        }
+    }
+
+    boolean getBoolean(final Object owningInstance) throws ReflectiveOperationException {
+        checkOwner(owningInstance);
+        final MethodHandle handle = getPrimitiveGetter(boolean.class);
+        try {
+            return (boolean) handle.invokeExact(owningInstance);
+        } catch (Throwable t) {
+            throw handleThrown(t);
+        }
+    }
+
+    void setBoolean(final Object owningInstance, final boolean value) throws ReflectiveOperationException {
+        checkOwner(owningInstance);
+        final MethodHandle handle = getPrimitiveSetter(boolean.class);
+        try {
+            handle.invokeExact(owningInstance, value);
+        } catch (Throwable t) {
+            throw handleThrown(t);
+        }
+    }
+
+    byte getByte(final Object owningInstance) throws ReflectiveOperationException {
+        checkOwner(owningInstance);
+        final MethodHandle handle = getPrimitiveGetter(byte.class);
+        try {
+            return (byte) handle.invokeExact(owningInstance);
+        } catch (Throwable t) {
+            throw handleThrown(t);
+        }
+    }
+
+    void setByte(final Object owningInstance, final byte value) throws ReflectiveOperationException {
+        checkOwner(owningInstance);
+        final MethodHandle handle = getPrimitiveSetter(byte.class);
+        try {
+            handle.invokeExact(owningInstance, value);
+        } catch (Throwable t) {
+            throw handleThrown(t);
+        }
+    }
+
+    char getChar(final Object owningInstance) throws ReflectiveOperationException {
+        checkOwner(owningInstance);
+        final MethodHandle handle = getPrimitiveGetter(char.class);
+        try {
+            return (char) handle.invokeExact(owningInstance);
+        } catch (Throwable t) {
+            throw handleThrown(t);
+        }
+    }
+
+    void setChar(final Object owningInstance, final char value) throws ReflectiveOperationException {
+        checkOwner(owningInstance);
+        final MethodHandle handle = getPrimitiveSetter(char.class);
+        try {
+            handle.invokeExact(owningInstance, value);
+        } catch (Throwable t) {
+            throw handleThrown(t);
+        }
+    }
+
+    short getShort(final Object owningInstance) throws ReflectiveOperationException {
+        checkOwner(owningInstance);
+        final MethodHandle handle = getPrimitiveGetter(short.class);
+        try {
+            return (short) handle.invokeExact(owningInstance);
+        } catch (Throwable t) {
+            throw handleThrown(t);
+        }
+    }
+
+    void setShort(final Object owningInstance, final short value) throws ReflectiveOperationException {
+        checkOwner(owningInstance);
+        final MethodHandle handle = getPrimitiveSetter(short.class);
+        try {
+            handle.invokeExact(owningInstance, value);
+        } catch (Throwable t) {
+            throw handleThrown(t);
+        }
+    }
+
+    int getInt(final Object owningInstance) throws ReflectiveOperationException {
+        checkOwner(owningInstance);
+        final MethodHandle handle = getPrimitiveGetter(int.class);
+        try {
+            return (int) handle.invokeExact(owningInstance);
+        } catch (Throwable t) {
+            throw handleThrown(t);
+        }
+    }
+
+    void setInt(final Object owningInstance, final int value) throws ReflectiveOperationException {
+        checkOwner(owningInstance);
+        final MethodHandle handle = getPrimitiveSetter(int.class);
+        try {
+            handle.invokeExact(owningInstance, value);
+        } catch (Throwable t) {
+            throw handleThrown(t);
+        }
+    }
+
+    long getLong(final Object owningInstance) throws ReflectiveOperationException {
+        checkOwner(owningInstance);
+        final MethodHandle handle = getPrimitiveGetter(long.class);
+        try {
+            return (long) handle.invokeExact(owningInstance);
+        } catch (Throwable t) {
+            throw handleThrown(t);
+        }
+    }
+
+    void setLong(final Object owningInstance, final long value) throws ReflectiveOperationException {
+        checkOwner(owningInstance);
+        final MethodHandle handle = getPrimitiveSetter(long.class);
+        try {
+            handle.invokeExact(owningInstance, value);
+        } catch (Throwable t) {
+            throw handleThrown(t);
+        }
+    }
+
+    float getFloat(final Object owningInstance) throws ReflectiveOperationException {
+        checkOwner(owningInstance);
+        final MethodHandle handle = getPrimitiveGetter(float.class);
+        try {
+            return (float) handle.invokeExact(owningInstance);
+        } catch (Throwable t) {
+            throw handleThrown(t);
+        }
+    }
+
+    void setFloat(final Object owningInstance, final float value) throws ReflectiveOperationException {
+        checkOwner(owningInstance);
+        final MethodHandle handle = getPrimitiveSetter(float.class);
+        try {
+            handle.invokeExact(owningInstance, value);
+        } catch (Throwable t) {
+            throw handleThrown(t);
+        }
+    }
+
+    double getDouble(final Object owningInstance) throws ReflectiveOperationException {
+        checkOwner(owningInstance);
+        final MethodHandle handle = getPrimitiveGetter(double.class);
+        try {
+            return (double) handle.invokeExact(owningInstance);
+        } catch (Throwable t) {
+            throw handleThrown(t);
+        }
+    }
+
+    void setDouble(final Object owningInstance, final double value) throws ReflectiveOperationException {
+        checkOwner(owningInstance);
+        final MethodHandle handle = getPrimitiveSetter(double.class);
+        try {
+            handle.invokeExact(owningInstance, value);
+        } catch (Throwable t) {
+            throw handleThrown(t);
+        }
+    }
+
+    private MethodHandle loadSetter() throws IllegalAccessException {
+        if (setterLoader == null) {
+            throw new UnsupportedOperationException();
+        }
+        return setterLoader.load();
+    }
+
+    /**
+     * Get a getter handle of type {@code (Object)type}. The handle is cached where {@code type} matches the type of the
+     * field. Otherwise, the value is converted as per {@link MethodHandle#asType}, e.g. widened, or rejected.
+     */
+    private MethodHandle getPrimitiveGetter(final Class<?> type) throws IllegalAccessException {
+        if (type != rawValueType) {
+            return adapt(getterLoader.load(), MethodType.methodType(type, Object.class));
+        }
+
+        MethodHandle handle = primitiveGetter;
+        if (handle == null) {
+            primitiveGetter = handle = adapt(getterLoader.load(), MethodType.methodType(type, Object.class));
+        }
+        return handle;
+    }
+
+    /**
+     * Get a setter handle of type {@code (Object, type)void}, cached where {@code type} matches the type of the field.
+     */
+    private MethodHandle getPrimitiveSetter(final Class<?> type) throws IllegalAccessException {
+        if (type != rawValueType) {
+            return adapt(loadSetter(), MethodType.methodType(void.class, Object.class, type));
+        }
+
+        MethodHandle handle = primitiveSetter;
+        if (handle == null) {
+            primitiveSetter = handle = adapt(loadSetter(), MethodType.methodType(void.class, Object.class, type));
+        }
+        return handle;
+    }
+
+    private MethodHandle adapt(final MethodHandle handle, final MethodType type) {
+        try {
+            return handle.asType(type);
+        } catch (WrongMethodTypeException e) {
+            throw new IllegalArgumentException("Can not convert " + rawValueType.getName() + " field to " + type, e);
+        }
+    }
+
+    private void checkOwner(final Object owningInstance) {
+        if (ownerType == null) {
+            return;
+        }
+        if (owningInstance == null) {
+            throw new NullPointerException("owningInstance null");
+        }
+        if (!ownerType.isInstance(owningInstance)) {
+            throw new IllegalArgumentException("Object is not an instance of declaring class " + ownerType.getName());
+        }
+    }
+
+    /**
+     * As with {@link Field#set} and {@link Method#invoke}, primitive values are accepted boxed in the wrapper of any
+     * primitive type that widens to the type of the value, e.g. an {@code Integer} for a {@code long}.
+     */
+    private Object convertValue(final Object value) {
+        if (value == null ? primitive : !valueType.isInstance(value)) {
+            if (value == null || !primitive || !ClassUtils.isAssignable(value.getClass(), rawValueType, true)) {
+                throw new IllegalArgumentException("Can not set " + valueType.getName() + " value to " +
+                    (value == null ? "null" : value.getClass().getName()));
+            }
+            return widen(value);
+        }
+        return value;
+    }
+
+    private Object widen(final Object value) {
+        final Number number = value instanceof Character ? (int) (Character) value : (Number) value;
+        if (rawValueType == short.class) {
+            return number.shortValue();
+        }
+        if (rawValueType == int.class) {
+            return number.intValue();
+        }
+        if (rawValueType == long.class) {
+            return number.longValue();
+        }
+        if (rawValueType == float.class) {
+            return number.floatValue();
+        }
+        return number.doubleValue();
+    }
+
+    private ReflectiveOperationException handleThrown(final Throwable t) {
+        if (wrapThrown) {
+            return new InvocationTargetException(t);
+        }
+        if (t instanceof RuntimeException) {
+            throw (RuntimeException) t;
+        }
+        if (t instanceof Error) {
+            throw (Error) t;
+        }
+        return new InvocationTargetException(t);
+    }
+
+    @FunctionalInterface
+    private interface HandleLoader {
+        MethodHandle load() throws IllegalAccessException;
+    }
+}
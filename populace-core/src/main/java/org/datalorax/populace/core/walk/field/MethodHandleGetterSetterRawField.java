@@ -0,0 +1,127 @@
+/*
+ * Copyright (c) 2015 Andrew Coates
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.datalorax.populace.core.walk.field;
+
+import org.datalorax.populace.core.walk.inspector.annotation.AnnotationInspector;
+
+import java.lang.reflect.Method;
+
+/**
+ * A {@link GetterSetterRawField} that reads and writes its value via cached method handles, rather than core reflection.
+ *
+ * @author Andrew Coates - 17/10/2026.
+ * @see MethodHandleRawFieldFactory
+ */
+class MethodHandleGetterSetterRawField extends GetterSetterRawField {
+    private final MethodHandleAccessor accessor;
+
+    MethodHandleGetterSetterRawField(final String name, final Method getter, final Method setter,
+                                     final AnnotationInspector annotationInspector) {
+        super(name, getter, setter, annotationInspector);
+        this.accessor = MethodHandleAccessor.forProperty(getter, setter);
+    }
+
+    @Override
+    public Object getValue(final Object owningInstance) throws ReflectiveOperationException {
+        return accessor.get(owningInstance);
+    }
+
+    @Override
+    public void setValue(final Object owningInstance, final Object value) throws ReflectiveOperationException {
+        accessor.set(owningInstance, value);
+    }
+
+    @Override
+    public boolean getBoolean(final Object owningInstance) throws ReflectiveOperationException {
+        return accessor.getBoolean(owningInstance);
+    }
+
+    @Override
+    public void setBoolean(final Object owningInstance, final boolean value) throws ReflectiveOperationException {
+        accessor.setBoolean(owningInstance, value);
+    }
+
+    @Override
+    public byte getByte(final Object owningInstance) throws ReflectiveOperationException {
+        return accessor.getByte(owningInstance);
+    }
+
+    @Override
+    public void setByte(final Object owningInstance, final byte value) throws ReflectiveOperationException {
+        accessor.setByte(owningInstance, value);
+    }
+
+    @Override
+    public char getChar(final Object owningInstance) throws ReflectiveOperationException {
+        return accessor.getChar(owningInstance);
+    }
+
+    @Override
+    public void setChar(final Object owningInstance, final char value) throws ReflectiveOperationException {
+        accessor.setChar(owningInstance, value);
+    }
+
+    @Override
+    public short getShort(final Object owningInstance) throws ReflectiveOperationException {
+        return accessor.getShort(owningInstance);
+    }
+
+    @Override
+    public void setShort(final Object owningInstance, final short value) throws ReflectiveOperationException {
+        accessor.setShort(owningInstance, value);
+    }
+
+    @Override
+    public int getInt(final Object owningInstance) throws ReflectiveOperationException {
+        return accessor.getInt(owningInstance);
+    }
+
+    @Override
+    public void setInt(final Object owningInstance, final int value) throws ReflectiveOperationException {
+        accessor.setInt(owningInstance, value);
+    }
+
+    @Override
+    public long getLong(final Object owningInstance) throws ReflectiveOperationException {
+        return accessor.getLong(owningInstance);
+    }
+
+    @Override
+    public void setLong(final Object owningInstance, final long value) throws ReflectiveOperationException {
+        accessor.setLong(owningInstance, value);
+    }
+
+    @Override
+    public float getFloat(final Object owningInstance) throws ReflectiveOperationException {
+        return accessor.getFloat(owningInstance);
+    }
+
+    @Override
+    public void setFloat(final Object owningInstance, final float value) throws ReflectiveOperationException {
+        accessor.setFloat(owningInstance, value);
+    }
+
+    @Override
+    public double getDouble(final Object owningInstance) throws ReflectiveOperationException {
+        return accessor.getDouble(owningInstance);
+    }
+
+    @Override
+    public void setDouble(final Object owningInstance, final double value) throws ReflectiveOperationException {
+        accessor.setDouble(owningInstance, value);
+    }
+}
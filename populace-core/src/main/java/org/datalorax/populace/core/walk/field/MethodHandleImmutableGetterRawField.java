@@ -0,0 +1,81 @@
+/*
+ * Copyright (c) 2015 Andrew Coates
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.datalorax.populace.core.walk.field;
+
+import org.datalorax.populace.core.walk.inspector.annotation.AnnotationInspector;
+
+import java.lang.reflect.Method;
+
+/**
+ * A {@link ImmutableGetterRawField} that reads its value via a cached method handle, rather than core reflection.
+ *
+ * @author Andrew Coates - 17/10/2026.
+ * @see MethodHandleRawFieldFactory
+ */
+class MethodHandleImmutableGetterRawField extends ImmutableGetterRawField {
+    private final MethodHandleAccessor accessor;
+
+    MethodHandleImmutableGetterRawField(final String name, final Method getter, final AnnotationInspector annotationInspector) {
+        super(name, getter, annotationInspector);
+        this.accessor = MethodHandleAccessor.forProperty(getter, null);
+    }
+
+    @Override
+    public Object getValue(final Object owningInstance) throws ReflectiveOperationException {
+        return accessor.get(owningInstance);
+    }
+
+    @Override
+    public boolean getBoolean(final Object owningInstance) throws ReflectiveOperationException {
+        return accessor.getBoolean(owningInstance);
+    }
+
+    @Override
+    public byte getByte(final Object owningInstance) throws ReflectiveOperationException {
+        return accessor.getByte(owningInstance);
+    }
+
+    @Override
+    public char getChar(final Object owningInstance) throws ReflectiveOperationException {
+        return accessor.getChar(owningInstance);
+    }
+
+    @Override
+    public short getShort(final Object owningInstance) throws ReflectiveOperationException {
+        return accessor.getShort(owningInstance);
+    }
+
+    @Override
+    public int getInt(final Object owningInstance) throws ReflectiveOperationException {
+        return accessor.getInt(owningInstance);
+    }
+
+    @Override
+    public long getLong(final Object owningInstance) throws ReflectiveOperationException {
+        return accessor.getLong(owningInstance);
+    }
+
+    @Override
+    public float getFloat(final Object owningInstance) throws ReflectiveOperationException {
+        return accessor.getFloat(owningInstance);
+    }
+
+    @Override
+    public double getDouble(final Object owningInstance) throws ReflectiveOperationException {
+        return accessor.getDouble(owningInstance);
+    }
+}
@@ -0,0 +1,67 @@
+/*
+ * Copyright (c) 2015 Andrew Coates
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.datalorax.populace.core.walk.field;
+
+import org.datalorax.populace.core.walk.inspector.annotation.AnnotationInspector;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+
+/**
+ * A {@link RawFieldFactory} that creates raw fields that use {@link java.lang.invoke.MethodHandle method handles} to
+ * read and write values. Handles are created on first use of each field and then cached, avoiding the per call access
+ * checks and argument array allocations of core reflection.
+ * <p>
+ * This is the default factory.
+ *
+ * @author Andrew Coates - 17/10/2026.
+ */
+public class MethodHandleRawFieldFactory implements RawFieldFactory {
+    public static final MethodHandleRawFieldFactory INSTANCE = new MethodHandleRawFieldFactory();
+
+    @Override
+    public RawField createField(final Field field, final AnnotationInspector annotationInspector) {
+        return new MethodHandleRawField(field, annotationInspector);
+    }
+
+    @Override
+    public RawField createProperty(final String name, final Method getter, final Method setter,
+                                   final AnnotationInspector annotationInspector) {
+        return new MethodHandleGetterSetterRawField(name, getter, setter, annotationInspector);
+    }
+
+    @Override
+    public RawField createImmutableProperty(final String name, final Method getter,
+                                            final AnnotationInspector annotationInspector) {
+        return new MethodHandleImmutableGetterRawField(name, getter, annotationInspector);
+    }
+
+    @Override
+    public boolean equals(final Object that) {
+        return this == that || (that != null && getClass() == that.getClass());
+    }
+
+    @Override
+    public int hashCode() {
+        return getClass().hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName();
+    }
+}
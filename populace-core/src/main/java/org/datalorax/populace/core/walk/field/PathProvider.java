@@ -23,4 +23,16 @@ public interface PathProvider {
     String getPath();
 
     int getDepth();
+
+    /**
+     * Get the path as an interned {@link WalkPath}, whose equality checks and hash code do not require the path's text
+     * to be rendered.
+     * <p>
+     * The default implementation parses the text returned from {@link #getPath()}.
+     *
+     * @return the path.
+     */
+    default WalkPath getWalkPath() {
+        return WalkPath.parse(getPath());
+    }
 }
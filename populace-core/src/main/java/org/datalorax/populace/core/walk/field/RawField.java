@@ -90,6 +90,214 @@ public interface RawField {
      */
     void setValue(Object owningInstance, Object value) throws ReflectiveOperationException;
 
+    /**
+     * Returns the value of the field represented by this {@code RawField} as a {@code boolean}, avoiding boxing where
+     * the implementation supports it. The default implementation unboxes the result of {@link #getValue(Object)}.
+     *
+     * @param owningInstance object from which the represented field's value is to be extracted
+     * @return the value of the represented field in {@code owningInstance}
+     * @throws ReflectiveOperationException if the value can not be read
+     * @see java.lang.reflect.Field#getBoolean(Object)
+     */
+    default boolean getBoolean(final Object owningInstance) throws ReflectiveOperationException {
+        return (Boolean) getValue(owningInstance);
+    }
+
+    /**
+     * Sets the field represented by this {@code RawField} to the supplied {@code boolean} value, avoiding boxing where
+     * the implementation supports it. The default implementation boxes the value and calls {@link #setValue}.
+     *
+     * @param owningInstance the object whose field should be modified
+     * @param value          the new value for the field of {@code owningInstance} being modified
+     * @throws ReflectiveOperationException if the value can not be written
+     * @see java.lang.reflect.Field#setBoolean(Object, boolean)
+     */
+    default void setBoolean(final Object owningInstance, final boolean value) throws ReflectiveOperationException {
+        setValue(owningInstance, value);
+    }
+
+    /**
+     * Returns the value of the field represented by this {@code RawField} as a {@code byte}, avoiding boxing where
+     * the implementation supports it. The default implementation unboxes the result of {@link #getValue(Object)}.
+     *
+     * @param owningInstance object from which the represented field's value is to be extracted
+     * @return the value of the represented field in {@code owningInstance}
+     * @throws ReflectiveOperationException if the value can not be read
+     * @see java.lang.reflect.Field#getByte(Object)
+     */
+    default byte getByte(final Object owningInstance) throws ReflectiveOperationException {
+        return (Byte) getValue(owningInstance);
+    }
+
+    /**
+     * Sets the field represented by this {@code RawField} to the supplied {@code byte} value, avoiding boxing where
+     * the implementation supports it. The default implementation boxes the value and calls {@link #setValue}.
+     *
+     * @param owningInstance the object whose field should be modified
+     * @param value          the new value for the field of {@code owningInstance} being modified
+     * @throws ReflectiveOperationException if the value can not be written
+     * @see java.lang.reflect.Field#setByte(Object, byte)
+     */
+    default void setByte(final Object owningInstance, final byte value) throws ReflectiveOperationException {
+        setValue(owningInstance, value);
+    }
+
+    /**
+     * Returns the value of the field represented by this {@code RawField} as a {@code char}, avoiding boxing where
+     * the implementation supports it. The default implementation unboxes the result of {@link #getValue(Object)}.
+     *
+     * @param owningInstance object from which the represented field's value is to be extracted
+     * @return the value of the represented field in {@code owningInstance}
+     * @throws ReflectiveOperationException if the value can not be read
+     * @see java.lang.reflect.Field#getChar(Object)
+     */
+    default char getChar(final Object owningInstance) throws ReflectiveOperationException {
+        return (Character) getValue(owningInstance);
+    }
+
+    /**
+     * Sets the field represented by this {@code RawField} to the supplied {@code char} value, avoiding boxing where
+     * the implementation supports it. The default implementation boxes the value and calls {@link #setValue}.
+     *
+     * @param owningInstance the object whose field should be modified
+     * @param value          the new value for the field of {@code owningInstance} being modified
+     * @throws ReflectiveOperationException if the value can not be written
+     * @see java.lang.reflect.Field#setChar(Object, char)
+     */
+    default void setChar(final Object owningInstance, final char value) throws ReflectiveOperationException {
+        setValue(owningInstance, value);
+    }
+
+    /**
+     * Returns the value of the field represented by this {@code RawField} as a {@code short}, avoiding boxing where
+     * the implementation supports it. The default implementation unboxes the result of {@link #getValue(Object)}.
+     *
+     * @param owningInstance object from which the represented field's value is to be extracted
+     * @return the value of the represented field in {@code owningInstance}
+     * @throws ReflectiveOperationException if the value can not be read
+     * @see java.lang.reflect.Field#getShort(Object)
+     */
+    default short getShort(final Object owningInstance) throws ReflectiveOperationException {
+        return (Short) getValue(owningInstance);
+    }
+
+    /**
+     * Sets the field represented by this {@code RawField} to the supplied {@code short} value, avoiding boxing where
+     * the implementation supports it. The default implementation boxes the value and calls {@link #setValue}.
+     *
+     * @param owningInstance the object whose field should be modified
+     * @param value          the new value for the field of {@code owningInstance} being modified
+     * @throws ReflectiveOperationException if the value can not be written
+     * @see java.lang.reflect.Field#setShort(Object, short)
+     */
+    default void setShort(final Object owningInstance, final short value) throws ReflectiveOperationException {
+        setValue(owningInstance, value);
+    }
+
+    /**
+     * Returns the value of the field represented by this {@code RawField} as a {@code int}, avoiding boxing where
+     * the implementation supports it. The default implementation unboxes the result of {@link #getValue(Object)}.
+     *
+     * @param owningInstance object from which the represented field's value is to be extracted
+     * @return the value of the represented field in {@code owningInstance}
+     * @throws ReflectiveOperationException if the value can not be read
+     * @see java.lang.reflect.Field#getInt(Object)
+     */
+    default int getInt(final Object owningInstance) throws ReflectiveOperationException {
+        return (Integer) getValue(owningInstance);
+    }
+
+    /**
+     * Sets the field represented by this {@code RawField} to the supplied {@code int} value, avoiding boxing where
+     * the implementation supports it. The default implementation boxes the value and calls {@link #setValue}.
+     *
+     * @param owningInstance the object whose field should be modified
+     * @param value          the new value for the field of {@code owningInstance} being modified
+     * @throws ReflectiveOperationException if the value can not be written
+     * @see java.lang.reflect.Field#setInt(Object, int)
+     */
+    default void setInt(final Object owningInstance, final int value) throws ReflectiveOperationException {
+        setValue(owningInstance, value);
+    }
+
+    /**
+     * Returns the value of the field represented by this {@code RawField} as a {@code long}, avoiding boxing where
+     * the implementation supports it. The default implementation unboxes the result of {@link #getValue(Object)}.
+     *
+     * @param owningInstance object from which the represented field's value is to be extracted
+     * @return the value of the represented field in {@code owningInstance}
+     * @throws ReflectiveOperationException if the value can not be read
+     * @see java.lang.reflect.Field#getLong(Object)
+     */
+    default long getLong(final Object owningInstance) throws ReflectiveOperationException {
+        return (Long) getValue(owningInstance);
+    }
+
+    /**
+     * Sets the field represented by this {@code RawField} to the supplied {@code long} value, avoiding boxing where
+     * the implementation supports it. The default implementation boxes the value and calls {@link #setValue}.
+     *
+     * @param owningInstance the object whose field should be modified
+     * @param value          the new value for the field of {@code owningInstance} being modified
+     * @throws ReflectiveOperationException if the value can not be written
+     * @see java.lang.reflect.Field#setLong(Object, long)
+     */
+    default void setLong(final Object owningInstance, final long value) throws ReflectiveOperationException {
+        setValue(owningInstance, value);
+    }
+
+    /**
+     * Returns the value of the field represented by this {@code RawField} as a {@code float}, avoiding boxing where
+     * the implementation supports it. The default implementation unboxes the result of {@link #getValue(Object)}.
+     *
+     * @param owningInstance object from which the represented field's value is to be extracted
+     * @return the value of the represented field in {@code owningInstance}
+     * @throws ReflectiveOperationException if the value can not be read
+     * @see java.lang.reflect.Field#getFloat(Object)
+     */
+    default float getFloat(final Object owningInstance) throws ReflectiveOperationException {
+        return (Float) getValue(owningInstance);
+    }
+
+    /**
+     * Sets the field represented by this {@code RawField} to the supplied {@code float} value, avoiding boxing where
+     * the implementation supports it. The default implementation boxes the value and calls {@link #setValue}.
+     *
+     * @param owningInstance the object whose field should be modified
+     * @param value          the new value for the field of {@code owningInstance} being modified
+     * @throws ReflectiveOperationException if the value can not be written
+     * @see java.lang.reflect.Field#setFloat(Object, float)
+     */
+    default void setFloat(final Object owningInstance, final float value) throws ReflectiveOperationException {
+        setValue(owningInstance, value);
+    }
+
+    /**
+     * Returns the value of the field represented by this {@code RawField} as a {@code double}, avoiding boxing where
+     * the implementation supports it. The default implementation unboxes the result of {@link #getValue(Object)}.
+     *
+     * @param owningInstance object from which the represented field's value is to be extracted
+     * @return the value of the represented field in {@code owningInstance}
+     * @throws ReflectiveOperationException if the value can not be read
+     * @see java.lang.reflect.Field#getDouble(Object)
+     */
+    default double getDouble(final Object owningInstance) throws ReflectiveOperationException {
+        return (Double) getValue(owningInstance);
+    }
+
+    /**
+     * Sets the field represented by this {@code RawField} to the supplied {@code double} value, avoiding boxing where
+     * the implementation supports it. The default implementation boxes the value and calls {@link #setValue}.
+     *
+     * @param owningInstance the object whose field should be modified
+     * @param value          the new value for the field of {@code owningInstance} being modified
+     * @throws ReflectiveOperationException if the value can not be written
+     * @see java.lang.reflect.Field#setDouble(Object, double)
+     */
+    default void setDouble(final Object owningInstance, final double value) throws ReflectiveOperationException {
+        setValue(owningInstance, value);
+    }
+
     /**
      * return the instance of the annotation if it is present on the field represented by this {@code RawField} object,
      * or otherwise null.
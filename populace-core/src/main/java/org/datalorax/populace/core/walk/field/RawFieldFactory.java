@@ -0,0 +1,64 @@
+/*
+ * Copyright (c) 2015 Andrew Coates
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.datalorax.populace.core.walk.field;
+
+import org.datalorax.populace.core.walk.inspector.annotation.AnnotationInspector;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+
+/**
+ * Factory for the {@link RawField raw fields} that {@link org.datalorax.populace.core.walk.inspector.Inspector
+ * inspectors} expose. The factory controls how the values of fields and properties are read and written, e.g. via
+ * reflection or via method handles.
+ * <p>
+ * The factory is installed via
+ * {@link org.datalorax.populace.core.walk.inspector.Inspectors.Builder#withRawFieldFactory(RawFieldFactory)}.
+ *
+ * @author Andrew Coates - 17/10/2026.
+ */
+public interface RawFieldFactory {
+    /**
+     * Create a raw field that accesses the supplied {@code field} directly.
+     *
+     * @param field               the field.
+     * @param annotationInspector the annotation inspector to use to look up annotations on the field.
+     * @return the raw field.
+     */
+    RawField createField(Field field, AnnotationInspector annotationInspector);
+
+    /**
+     * Create a raw field that accesses a property via its {@code getter} and {@code setter} methods.
+     *
+     * @param name                the name of the property.
+     * @param getter              the method to call to get the value of the property.
+     * @param setter              the method to call to set the value of the property.
+     * @param annotationInspector the annotation inspector to use to look up annotations on the accessors.
+     * @return the raw field.
+     */
+    RawField createProperty(String name, Method getter, Method setter, AnnotationInspector annotationInspector);
+
+    /**
+     * Create a raw field that accesses a read-only property via its {@code getter} method.
+     *
+     * @param name                the name of the property.
+     * @param getter              the method to call to get the value of the property.
+     * @param annotationInspector the annotation inspector to use to look up annotations on the accessor.
+     * @return the raw field.
+     */
+    RawField createImmutableProperty(String name, Method getter, AnnotationInspector annotationInspector);
+}
@@ -88,6 +88,86 @@ public class StdRawField implements RawField {
         field.set(owningInstance, value);
     }
 
+    @Override
+    public boolean getBoolean(final Object owningInstance) throws ReflectiveOperationException {
+        return field.getBoolean(owningInstance);
+    }
+
+    @Override
+    public void setBoolean(final Object owningInstance, final boolean value) throws ReflectiveOperationException {
+        field.setBoolean(owningInstance, value);
+    }
+
+    @Override
+    public byte getByte(final Object owningInstance) throws ReflectiveOperationException {
+        return field.getByte(owningInstance);
+    }
+
+    @Override
+    public void setByte(final Object owningInstance, final byte value) throws ReflectiveOperationException {
+        field.setByte(owningInstance, value);
+    }
+
+    @Override
+    public char getChar(final Object owningInstance) throws ReflectiveOperationException {
+        return field.getChar(owningInstance);
+    }
+
+    @Override
+    public void setChar(final Object owningInstance, final char value) throws ReflectiveOperationException {
+        field.setChar(owningInstance, value);
+    }
+
+    @Override
+    public short getShort(final Object owningInstance) throws ReflectiveOperationException {
+        return field.getShort(owningInstance);
+    }
+
+    @Override
+    public void setShort(final Object owningInstance, final short value) throws ReflectiveOperationException {
+        field.setShort(owningInstance, value);
+    }
+
+    @Override
+    public int getInt(final Object owningInstance) throws ReflectiveOperationException {
+        return field.getInt(owningInstance);
+    }
+
+    @Override
+    public void setInt(final Object owningInstance, final int value) throws ReflectiveOperationException {
+        field.setInt(owningInstance, value);
+    }
+
+    @Override
+    public long getLong(final Object owningInstance) throws ReflectiveOperationException {
+        return field.getLong(owningInstance);
+    }
+
+    @Override
+    public void setLong(final Object owningInstance, final long value) throws ReflectiveOperationException {
+        field.setLong(owningInstance, value);
+    }
+
+    @Override
+    public float getFloat(final Object owningInstance) throws ReflectiveOperationException {
+        return field.getFloat(owningInstance);
+    }
+
+    @Override
+    public void setFloat(final Object owningInstance, final float value) throws ReflectiveOperationException {
+        field.setFloat(owningInstance, value);
+    }
+
+    @Override
+    public double getDouble(final Object owningInstance) throws ReflectiveOperationException {
+        return field.getDouble(owningInstance);
+    }
+
+    @Override
+    public void setDouble(final Object owningInstance, final double value) throws ReflectiveOperationException {
+        field.setDouble(owningInstance, value);
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -109,7 +189,9 @@ public class StdRawField implements RawField {
      */
     @Override
     public void ensureAccessible() {
-        field.setAccessible(true);
+        if (!field.isAccessible()) {
+            field.setAccessible(true);
+        }
     }
 
     /**
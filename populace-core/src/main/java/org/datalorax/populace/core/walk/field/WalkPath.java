@@ -0,0 +1,272 @@
+/*
+ * Copyright (c) 2015 Andrew Coates
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.datalorax.populace.core.walk.field;
+
+import com.google.common.collect.MapMaker;
+import org.apache.commons.lang3.Validate;
+
+import java.lang.ref.WeakReference;
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * An immutable path from the root of a walk to a field or element, e.g. {@code SomeType.someField[2]}.
+ * <p>
+ * Paths share the path of their parent, and are interned: extending the same path with the same field name or element
+ * index returns the same instance, making equality checks an identity check. Each path precomputes its hash code, and
+ * its text is only rendered when requested. This makes paths cheap to use as map keys.
+ * <p>
+ * A path holds its parent strongly, but its children, and the table of roots, hold paths weakly, so paths no longer in
+ * use, e.g. by a walk or as a map key, can be garbage collected.
+ * <p>
+ * Paths are interned concurrently, e.g. by the threads of a parallel walk. The paths to the elements of a container are
+ * held in chunks of an array indexed by element index, so that threads walking different parts of a large container
+ * intern their paths without locking, or boxing the index.
+ *
+ * @author Andrew Coates - 17/10/2026.
+ */
+public final class WalkPath implements PathProvider {
+    private static final int CHUNK_BITS = 6;
+    private static final int CHUNK_SIZE = 1 << CHUNK_BITS;
+    private static final ConcurrentMap<String, WalkPath> ROOTS = newInternTable();
+
+    private final WalkPath parent;
+    private final String name;      // Null for elements
+    private final int index;        // -1 for the root and fields
+    private final int depth;
+    private final int hash;
+    private volatile ConcurrentMap<String, WalkPath> fields;
+    private volatile AtomicReferenceArray<WeakReference<WalkPath>>[] elements;     // Chunks of CHUNK_SIZE, or null
+
+    private WalkPath(final WalkPath parent, final String name, final int index) {
+        this.parent = parent;
+        this.name = name;
+        this.index = index;
+        this.depth = parent == null ? 0 : parent.depth + 1;
+        this.hash = (parent == null ? 0 : 31 * parent.hash) + (name == null ? index : name.hashCode());
+    }
+
+    /**
+     * @param name the name of the root of the walk, i.e. the simple name of its type.
+     * @return the path to the root of a walk.
+     */
+    public static WalkPath root(final String name) {
+        Validate.notNull(name, "name null");
+        final WalkPath root = ROOTS.get(name);
+        if (root != null) {
+            return root;
+        }
+
+        final WalkPath created = new WalkPath(null, name, -1);
+        final WalkPath existing = ROOTS.putIfAbsent(name, created);
+        return existing == null ? created : existing;
+    }
+
+    /**
+     * Parse the text of a path, as returned from {@link #getPath()}.
+     *
+     * @param path the text of the path, e.g. {@code SomeType.someField[2]}
+     * @return the path.
+     * @throws IllegalArgumentException if the text is not a valid path.
+     */
+    public static WalkPath parse(final String path) {
+        Validate.notNull(path, "path null");
+        int pos = endOfRootName(path);
+        WalkPath result = root(path.substring(0, pos));
+
+        while (pos != path.length()) {
+            final char c = path.charAt(pos);
+            if (c == '.') {
+                final int end = endOfFieldName(path, pos + 1);
+                result = result.field(path.substring(pos + 1, end));
+                pos = end;
+            } else if (c == '[') {
+                final int end = path.indexOf(']', pos);
+                Validate.isTrue(end != -1, "Invalid path: %s", path);
+                try {
+                    result = result.element(Integer.parseInt(path.substring(pos + 1, end)));
+                } catch (NumberFormatException e) {
+                    throw new IllegalArgumentException("Invalid path: " + path, e);
+                }
+                pos = end + 1;
+            } else {
+                throw new IllegalArgumentException("Invalid path: " + path);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * @param name the name of a field of the instance at this path.
+     * @return the path to the field.
+     */
+    public WalkPath field(final String name) {
+        Validate.notNull(name, "name null");
+        ConcurrentMap<String, WalkPath> fields = this.fields;
+        if (fields != null) {
+            final WalkPath field = fields.get(name);
+            if (field != null) {
+                return field;
+            }
+        } else {
+            fields = getOrCreateFields();
+        }
+
+        final WalkPath created = new WalkPath(this, name, -1);
+        final WalkPath existing = fields.putIfAbsent(name, created);
+        return existing == null ? created : existing;
+    }
+
+    /**
+     * @param index the index of an element of the container at this path.
+     * @return the path to the element.
+     */
+    public WalkPath element(final int index) {
+        Validate.isTrue(index >= 0, "index negative");
+        final AtomicReferenceArray<WeakReference<WalkPath>> chunk = getElementChunk(index >>> CHUNK_BITS);
+        final int slot = index & (CHUNK_SIZE - 1);
+        while (true) {
+            final WeakReference<WalkPath> ref = chunk.get(slot);
+            final WalkPath existing = ref == null ? null : ref.get();
+            if (existing != null) {
+                return existing;
+            }
+
+            final WalkPath created = new WalkPath(this, null, index);
+            if (chunk.compareAndSet(slot, ref, new WeakReference<>(created))) {
+                return created;
+            }
+        }
+    }
+
+    /**
+     * @return the path to the parent of this path, or null if this is the path to the root of a walk.
+     */
+    public WalkPath getParent() {
+        return parent;
+    }
+
+    @Override
+    public String getPath() {
+        final WalkPath[] components = new WalkPath[depth + 1];
+        int length = 0;
+        for (WalkPath path = this; path != null; path = path.parent) {
+            components[path.depth] = path;
+            length += path.name == null ? 4 : path.name.length() + 1;
+        }
+
+        final StringBuilder builder = new StringBuilder(length);
+        for (WalkPath component : components) {
+            component.appendTo(builder);
+        }
+        return builder.toString();
+    }
+
+    @Override
+    public int getDepth() {
+        return depth;
+    }
+
+    @Override
+    public WalkPath getWalkPath() {
+        return this;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        return this == o;   // Paths are interned
+    }
+
+    @Override
+    public int hashCode() {
+        return hash;
+    }
+
+    @Override
+    public String toString() {
+        return getPath();
+    }
+
+    private synchronized ConcurrentMap<String, WalkPath> getOrCreateFields() {
+        if (fields == null) {
+            fields = newInternTable();
+        }
+        return fields;
+    }
+
+    private AtomicReferenceArray<WeakReference<WalkPath>> getElementChunk(final int chunk) {
+        final AtomicReferenceArray<WeakReference<WalkPath>>[] chunks = this.elements;
+        if (chunks != null && chunk < chunks.length && chunks[chunk] != null) {
+            return chunks[chunk];
+        }
+        return createElementChunk(chunk);
+    }
+
+    /**
+     * Chunks are never moved once created, so paths interned into a chunk are never lost as the array of chunks grows.
+     */
+    @SuppressWarnings("unchecked")
+    private synchronized AtomicReferenceArray<WeakReference<WalkPath>> createElementChunk(final int chunk) {
+        AtomicReferenceArray<WeakReference<WalkPath>>[] chunks = this.elements;
+        if (chunks == null) {
+            chunks = new AtomicReferenceArray[chunk + 1];
+        } else if (chunk >= chunks.length) {
+            chunks = Arrays.copyOf(chunks, Math.max(chunk + 1, chunks.length * 2));
+        } else if (chunks[chunk] != null) {
+            return chunks[chunk];
+        }
+
+        chunks[chunk] = new AtomicReferenceArray<>(CHUNK_SIZE);
+        this.elements = chunks;
+        return chunks[chunk];
+    }
+
+    private static <K> ConcurrentMap<K, WalkPath> newInternTable() {
+        return new MapMaker().weakValues().makeMap();
+    }
+
+    private void appendTo(final StringBuilder builder) {
+        if (parent == null) {
+            builder.append(name);
+        } else if (name != null) {
+            builder.append('.').append(name);
+        } else {
+            builder.append('[').append(index).append(']');
+        }
+    }
+
+    private static int endOfRootName(final String path) {
+        int pos = 0;
+        while (pos != path.length()) {
+            final char c = path.charAt(pos);
+            if (c == '.' || (c == '[' && (pos + 1 == path.length() || path.charAt(pos + 1) != ']'))) {
+                break;
+            }
+            pos += c == '[' ? 2 : 1;    // Array types, e.g. String[]
+        }
+        return pos;
+    }
+
+    private static int endOfFieldName(final String path, final int start) {
+        int pos = start;
+        while (pos != path.length() && path.charAt(pos) != '.' && path.charAt(pos) != '[') {
+            ++pos;
+        }
+        return pos;
+    }
+}
@@ -33,7 +33,7 @@ import java.util.function.Predicate;
  */
 @Deprecated
 @SuppressWarnings("deprecation")
-public class AllFieldFilter implements FieldFilter {
+public class AllFieldFilter implements FieldFilter, CompoundFieldFilter.Combination {
     private final List<Predicate<FieldInfo>> filters;
 
     @SafeVarargs
@@ -49,6 +49,11 @@ public class AllFieldFilter implements FieldFilter {
         filters = Collections.unmodifiableList(fieldFilters);
     }
 
+    @Override
+    public CompoundFieldFilter toCompound() {
+        return CompoundFieldFilter.all(filters);
+    }
+
     @Override
     public boolean include(final FieldInfo field) {
         return test(field);
@@ -31,7 +31,7 @@ import java.util.function.Predicate;
  */
 @SuppressWarnings("deprecation")
 @Deprecated
-public class AndFieldFilter implements FieldFilter {
+public class AndFieldFilter implements FieldFilter, CompoundFieldFilter.Combination {
     private final Predicate<FieldInfo> first;
     private final Predicate<FieldInfo> second;
 
@@ -42,6 +42,11 @@ public class AndFieldFilter implements FieldFilter {
         this.second = second;
     }
 
+    @Override
+    public CompoundFieldFilter toCompound() {
+        return CompoundFieldFilter.and(first, second);
+    }
+
     @Override
     public boolean include(final FieldInfo field) {
         return test(field);
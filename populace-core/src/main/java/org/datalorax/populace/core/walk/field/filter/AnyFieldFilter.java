@@ -33,7 +33,7 @@ import java.util.function.Predicate;
  */
 @SuppressWarnings("deprecation")
 @Deprecated
-public class AnyFieldFilter implements FieldFilter {
+public class AnyFieldFilter implements FieldFilter, CompoundFieldFilter.Combination {
     private final List<Predicate<FieldInfo>> filters;
 
     @SafeVarargs
@@ -49,6 +49,11 @@ public class AnyFieldFilter implements FieldFilter {
         filters = Collections.unmodifiableList(fieldFilters);
     }
 
+    @Override
+    public CompoundFieldFilter toCompound() {
+        return CompoundFieldFilter.any(filters);
+    }
+
     @Override
     public boolean include(final FieldInfo field) {
         return test(field);
@@ -0,0 +1,268 @@
+/*
+ * Copyright (c) 2015 Andrew Coates
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.datalorax.populace.core.walk.field.filter;
+
+import org.apache.commons.lang3.Validate;
+import org.datalorax.populace.core.walk.FlyweightFilter;
+import org.datalorax.populace.core.walk.field.FieldInfo;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+/**
+ * A field filter built from logical combinations of other filters, which, unlike those returned by the default methods
+ * on {@link java.util.function.Predicate}, can be split into its {@link StaticFieldFilter static} and dynamic parts.
+ * <p>
+ * Compound filters are created by combining a {@link StaticFieldFilter} with another filter, or by combining a compound
+ * filter with another filter, using {@link #and}, {@link #or} and {@link #negate}. The walker calls
+ * {@link #specialise(FieldInfo)} the first time it encounters each field of a class, evaluating the static parts
+ * there and then and keeping only the remaining dynamic parts to evaluate per instance.
+ * <p>
+ * Static parts of the filter are therefore evaluated ahead of any dynamic parts, regardless of the order in which they
+ * were combined, and dynamic parts are not evaluated at all for fields whose inclusion is decided by the static parts.
+ * <p>
+ * A compound filter {@link FlyweightFilter accepts flyweights} if all of its operands do.
+ *
+ * @author Andrew Coates - 17/10/2026.
+ */
+@SuppressWarnings("deprecation")
+public final class CompoundFieldFilter implements FieldFilter, FlyweightFilter {
+    private final Operator operator;
+    private final List<Predicate<FieldInfo>> operands;
+
+    private CompoundFieldFilter(final Operator operator, final List<Predicate<FieldInfo>> operands) {
+        this.operator = operator;
+        this.operands = Collections.unmodifiableList(operands);
+    }
+
+    /**
+     * Wrap the supplied {@code filter} in a compound filter, so that it can be combined with other filters without
+     * losing the ability to split out its static parts.
+     *
+     * @param filter the filter to wrap.
+     * @return the compound filter.
+     */
+    public static CompoundFieldFilter of(final Predicate<FieldInfo> filter) {
+        Validate.notNull(filter, "filter null");
+        if (filter instanceof CompoundFieldFilter) {
+            return (CompoundFieldFilter) filter;
+        }
+        return new CompoundFieldFilter(Operator.ALL, Collections.singletonList(filter));
+    }
+
+    static CompoundFieldFilter and(final Predicate<FieldInfo> first, final Predicate<? super FieldInfo> second) {
+        return combine(Operator.ALL, first, second);
+    }
+
+    static CompoundFieldFilter or(final Predicate<FieldInfo> first, final Predicate<? super FieldInfo> second) {
+        return combine(Operator.ANY, first, second);
+    }
+
+    static CompoundFieldFilter all(final List<Predicate<FieldInfo>> filters) {
+        return combine(Operator.ALL, filters);
+    }
+
+    static CompoundFieldFilter any(final List<Predicate<FieldInfo>> filters) {
+        return combine(Operator.ANY, filters);
+    }
+
+    static CompoundFieldFilter not(final Predicate<FieldInfo> filter) {
+        return new CompoundFieldFilter(Operator.NONE, Collections.singletonList(filter));
+    }
+
+    /**
+     * Evaluate the static parts of this filter for the supplied {@code field}.
+     *
+     * @param field the field to specialise the filter for.
+     * @return the parts of the filter that remain to be evaluated per instance of the field's declaring class. If the
+     * result is itself a {@link StaticFieldFilter} then the field's inclusion does not depend on the instance at all.
+     */
+    public Predicate<FieldInfo> specialise(final FieldInfo field) {
+        final List<Predicate<FieldInfo>> residual = new ArrayList<>(operands.size());
+        for (Predicate<FieldInfo> operand : operands) {
+            final Predicate<FieldInfo> specialised = FieldFilters.specialise(operand, field);
+            if (specialised == operator.shortCircuit) {
+                return operator.apply(operator.shortCircuit);
+            }
+            if (specialised != operator.identity) {
+                residual.add(specialised);
+            }
+        }
+
+        if (residual.isEmpty()) {
+            return operator.apply(operator.identity);
+        }
+        if (residual.equals(operands)) {
+            return this;
+        }
+        if (residual.size() == 1 && operator != Operator.NONE) {
+            return residual.get(0);
+        }
+        return new CompoundFieldFilter(operator, residual);
+    }
+
+    @Override
+    public boolean include(final FieldInfo field) {
+        return test(field);
+    }
+
+    @Override
+    public boolean test(final FieldInfo field) {
+        switch (operator) {
+            case ALL:
+                for (Predicate<FieldInfo> operand : operands) {
+                    if (!operand.test(field)) {
+                        return false;
+                    }
+                }
+                return true;
+            default:
+                for (Predicate<FieldInfo> operand : operands) {
+                    if (operand.test(field)) {
+                        return operator == Operator.ANY;
+                    }
+                }
+                return operator == Operator.NONE;
+        }
+    }
+
+    @Override
+    public boolean acceptsFlyweights() {
+        return operands.stream().allMatch(operand -> FlyweightFilter.acceptsFlyweights(operand));
+    }
+
+    @Override
+    public Predicate<FieldInfo> and(final Predicate<? super FieldInfo> other) {
+        return and(this, other);
+    }
+
+    @Override
+    public Predicate<FieldInfo> or(final Predicate<? super FieldInfo> other) {
+        return or(this, other);
+    }
+
+    @Override
+    public Predicate<FieldInfo> negate() {
+        if (operator == Operator.NONE && operands.size() == 1) {
+            return operands.get(0);
+        }
+        return not(this);
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        final CompoundFieldFilter that = (CompoundFieldFilter) o;
+        return operator == that.operator && operands.equals(that.operands);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = operator.hashCode();
+        result = 31 * result + operands.hashCode();
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        if (operator == Operator.NONE) {
+            return "!(" + operands.stream().map(Object::toString).collect(Collectors.joining(" || ")) + ")";
+        }
+        if (operands.size() == 1) {
+            return operands.get(0).toString();
+        }
+        return operands.stream().map(Object::toString).collect(Collectors.joining(operator.symbol, "(", ")"));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static CompoundFieldFilter combine(final Operator operator, final Predicate<FieldInfo> first,
+                                               final Predicate<? super FieldInfo> second) {
+        Validate.notNull(second, "other null");
+        final List<Predicate<FieldInfo>> operands = new ArrayList<>();
+        addOperand(operator, first, operands);
+        // Safe as the predicate only ever consumes the field:
+        addOperand(operator, (Predicate<FieldInfo>) second, operands);
+        return new CompoundFieldFilter(operator, operands);
+    }
+
+    private static CompoundFieldFilter combine(final Operator operator, final List<Predicate<FieldInfo>> filters) {
+        final List<Predicate<FieldInfo>> operands = new ArrayList<>();
+        filters.forEach(filter -> addOperand(operator, filter, operands));
+        return new CompoundFieldFilter(operator, operands);
+    }
+
+    private static void addOperand(final Operator operator, final Predicate<FieldInfo> operand,
+                                   final List<Predicate<FieldInfo>> operands) {
+        if (operand instanceof CompoundFieldFilter) {
+            final CompoundFieldFilter compound = (CompoundFieldFilter) operand;
+            if (compound.operator == operator || (compound.operator == Operator.ALL && compound.operands.size() == 1)) {
+                operands.addAll(compound.operands);
+                return;
+            }
+        }
+        operands.add(operand);
+    }
+
+    /**
+     * Implemented by the deprecated combination filters, e.g. {@link AndFieldFilter}, so that they can be split in the
+     * same way as compound filters.
+     */
+    interface Combination extends FlyweightFilter {
+        /**
+         * @return the equivalent compound filter.
+         */
+        CompoundFieldFilter toCompound();
+
+        @Override
+        default boolean acceptsFlyweights() {
+            return toCompound().acceptsFlyweights();
+        }
+    }
+
+    private enum Operator {
+        /**
+         * Logical AND of all operands.
+         */
+        ALL(ConstantFieldFilter.INCLUDE, ConstantFieldFilter.EXCLUDE, " && "),
+        /**
+         * Logical OR of all operands.
+         */
+        ANY(ConstantFieldFilter.EXCLUDE, ConstantFieldFilter.INCLUDE, " || "),
+        /**
+         * Logical NOT of the OR of all operands.
+         */
+        NONE(ConstantFieldFilter.EXCLUDE, ConstantFieldFilter.INCLUDE, " || ");
+
+        private final ConstantFieldFilter identity;
+        private final ConstantFieldFilter shortCircuit;
+        private final String symbol;
+
+        Operator(final ConstantFieldFilter identity, final ConstantFieldFilter shortCircuit, final String symbol) {
+            this.identity = identity;
+            this.shortCircuit = shortCircuit;
+            this.symbol = symbol;
+        }
+
+        private ConstantFieldFilter apply(final ConstantFieldFilter result) {
+            return this == NONE ? ConstantFieldFilter.of(result == ConstantFieldFilter.EXCLUDE) : result;
+        }
+    }
+}
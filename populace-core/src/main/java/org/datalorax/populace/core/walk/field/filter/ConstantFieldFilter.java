@@ -0,0 +1,44 @@
+/*
+ * Copyright (c) 2015 Andrew Coates
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.datalorax.populace.core.walk.field.filter;
+
+import org.datalorax.populace.core.walk.field.FieldInfo;
+
+/**
+ * The two possible results of specialising a field filter for a field whose inclusion does not depend on the instance.
+ *
+ * @author Andrew Coates - 17/10/2026.
+ */
+enum ConstantFieldFilter implements StaticFieldFilter {
+    INCLUDE(true),
+    EXCLUDE(false);
+
+    private final boolean include;
+
+    ConstantFieldFilter(final boolean include) {
+        this.include = include;
+    }
+
+    static ConstantFieldFilter of(final boolean include) {
+        return include ? INCLUDE : EXCLUDE;
+    }
+
+    @Override
+    public boolean test(final FieldInfo field) {
+        return include;
+    }
+}
@@ -25,7 +25,7 @@ import org.datalorax.populace.core.walk.field.FieldInfo;
  */
 @SuppressWarnings("deprecation")
 @Deprecated
-public class ExcludeFinalFieldsFilter implements FieldFilter {
+public class ExcludeFinalFieldsFilter implements FieldFilter, StaticFieldFilter {
     public static final ExcludeFinalFieldsFilter INSTANCE = new ExcludeFinalFieldsFilter();
 
     @Override
@@ -25,7 +25,7 @@ import org.datalorax.populace.core.walk.field.FieldInfo;
  */
 @SuppressWarnings("deprecation")
 @Deprecated
-public class ExcludeStaticFieldsFilter implements FieldFilter {
+public class ExcludeStaticFieldsFilter implements FieldFilter, StaticFieldFilter {
     public static final ExcludeStaticFieldsFilter INSTANCE = new ExcludeStaticFieldsFilter();
 
     @Override
@@ -25,7 +25,7 @@ import org.datalorax.populace.core.walk.field.FieldInfo;
  */
 @SuppressWarnings("deprecation")
 @Deprecated
-public class ExcludeTransientFieldsFilter implements FieldFilter {
+public class ExcludeTransientFieldsFilter implements FieldFilter, StaticFieldFilter {
     public static final ExcludeTransientFieldsFilter INSTANCE = new ExcludeTransientFieldsFilter();
 
     @Override
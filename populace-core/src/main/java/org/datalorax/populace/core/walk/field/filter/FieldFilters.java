@@ -23,6 +23,15 @@ import java.util.function.Predicate;
 /**
  * Utils class containing help methods for working with and combining
  * {@link FieldFilter fieldFilters}
+ * <p>
+ * The filters returned by {@link #excludeStaticFields()}, {@link #excludeTransientFields()} and
+ * {@link #excludeFinalFields()} are {@link StaticFieldFilter static}, so are evaluated once per field of each class
+ * walked. Combining them with other filters keeps them static only if the combination is started from a static
+ * filter, or from a {@link CompoundFieldFilter}: {@link java.util.function.Predicate#and} and
+ * {@link java.util.function.Predicate#or} called on any other predicate return an opaque predicate, which is evaluated
+ * in full for every instance. See {@link StaticFieldFilter} for details. The deprecated combinations, e.g.
+ * {@link #and(FieldFilter, FieldFilter)}, are split in the same way as compound filters.
+ *
  * @author Andrew Coates - 28/02/2015.
  */
 @SuppressWarnings("deprecation")
@@ -31,15 +40,37 @@ public class FieldFilters {
     }
 
     public static Predicate<FieldInfo> excludeStaticFields() {
-        return f -> !f.isStatic();
+        return (StaticFieldFilter) f -> !f.isStatic();
     }
 
     public static Predicate<FieldInfo> excludeTransientFields() {
-        return f -> !f.isTransient();
+        return (StaticFieldFilter) f -> !f.isTransient();
     }
 
     public static Predicate<FieldInfo> excludeFinalFields() {
-        return f -> !f.isFinal();
+        return (StaticFieldFilter) f -> !f.isFinal();
+    }
+
+    /**
+     * Evaluate the {@link StaticFieldFilter static} parts of the supplied {@code filter} for the supplied {@code field}.
+     *
+     * @param filter the filter to specialise.
+     * @param field  the field to specialise the filter for.
+     * @return the parts of the filter that remain to be evaluated per instance of the field's declaring class. If the
+     * result is itself a {@link StaticFieldFilter} then the field's inclusion does not depend on the instance at all.
+     * @see CompoundFieldFilter#specialise(FieldInfo)
+     */
+    public static Predicate<FieldInfo> specialise(final Predicate<FieldInfo> filter, final FieldInfo field) {
+        if (filter instanceof CompoundFieldFilter) {
+            return ((CompoundFieldFilter) filter).specialise(field);
+        }
+        if (filter instanceof CompoundFieldFilter.Combination) {
+            return ((CompoundFieldFilter.Combination) filter).toCompound().specialise(field);
+        }
+        if (filter instanceof StaticFieldFilter) {
+            return ConstantFieldFilter.of(filter.test(field));
+        }
+        return filter;
     }
 
     /**
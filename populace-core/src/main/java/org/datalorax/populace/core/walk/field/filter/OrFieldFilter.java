@@ -29,7 +29,7 @@ import java.util.function.Predicate;
  */
 @SuppressWarnings("deprecation")
 @Deprecated
-public class OrFieldFilter implements FieldFilter {
+public class OrFieldFilter implements FieldFilter, CompoundFieldFilter.Combination {
     private final Predicate<FieldInfo> first;
     private final Predicate<FieldInfo> second;
 
@@ -40,6 +40,11 @@ public class OrFieldFilter implements FieldFilter {
         this.second = second;
     }
 
+    @Override
+    public CompoundFieldFilter toCompound() {
+        return CompoundFieldFilter.or(first, second);
+    }
+
     @Override
     public boolean include(final FieldInfo field) {
         return test(field);
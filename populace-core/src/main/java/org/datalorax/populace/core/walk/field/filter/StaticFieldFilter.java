@@ -0,0 +1,61 @@
+/*
+ * Copyright (c) 2015 Andrew Coates
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.datalorax.populace.core.walk.field.filter;
+
+import org.datalorax.populace.core.walk.FlyweightFilter;
+import org.datalorax.populace.core.walk.field.FieldInfo;
+
+import java.util.function.Predicate;
+
+/**
+ * A field filter whose result depends only on the metadata of the field, i.e. its name, declaring class, declared type,
+ * modifiers and annotations, and never on the instance that owns the field or the point in the walk it is encountered.
+ * <p>
+ * The walker evaluates static filters once per field of each class it walks, rather than once per instance. Filters
+ * combined with {@link #and}, {@link #or} and {@link #negate} are split automatically, so that only the dynamic parts
+ * of the combined filter are evaluated per instance. See {@link CompoundFieldFilter} for details.
+ * <p>
+ * Splitting relies on the static filter's own {@link #and}, {@link #or} and {@link #negate} methods being called. A
+ * plain lambda's {@link Predicate#and} returns a new lambda the walker can't see into, so in
+ * {@code myFilter.and(FieldFilters.excludeStaticFields())} the static part is evaluated per instance. Either start
+ * with the static filter, e.g. {@code FieldFilters.excludeStaticFields().and(myFilter)}, or wrap the dynamic filter
+ * first, e.g. {@code CompoundFieldFilter.of(myFilter).and(FieldFilters.excludeStaticFields())}.
+ * <p>
+ * Implementations must not call {@link FieldInfo#getValue()}, {@link FieldInfo#getOwningInstance()},
+ * {@link FieldInfo#getGenericType()} or {@link FieldInfo#getPath()}, as the answers to these depend on the instance.
+ * Nor should they keep hold of the fields they are passed, as static filters {@link FlyweightFilter accept
+ * flyweights}.
+ *
+ * @author Andrew Coates - 17/10/2026.
+ */
+@FunctionalInterface
+public interface StaticFieldFilter extends Predicate<FieldInfo>, FlyweightFilter {
+    @Override
+    default Predicate<FieldInfo> and(final Predicate<? super FieldInfo> other) {
+        return CompoundFieldFilter.and(this, other);
+    }
+
+    @Override
+    default Predicate<FieldInfo> or(final Predicate<? super FieldInfo> other) {
+        return CompoundFieldFilter.or(this, other);
+    }
+
+    @Override
+    default Predicate<FieldInfo> negate() {
+        return CompoundFieldFilter.not(this);
+    }
+}
@@ -30,20 +30,26 @@ import java.util.NoSuchElementException;
  *
  * @author Andrew Coates - 27/02/2015.
  */
-public class ArrayInspector implements Inspector {
+public class ArrayInspector implements IndexedInspector {
     public static final ArrayInspector INSTANCE = new ArrayInspector();
 
     @Override
-    public Iterator<RawElement> getElements(final Object instance, final Inspectors inspectors) {
+    public int getElementCount(final Object instance) {
         Validate.isTrue(instance.getClass().isArray(), "Expected array type, got: " + instance.getClass());
-        final int length = Array.getLength(instance);
+        return Array.getLength(instance);
+    }
+
+    @Override
+    public Iterator<RawElement> getElements(final Object instance, final int from, final int to, final Inspectors inspectors) {
+        final int length = getElementCount(instance);
+        Validate.isTrue(0 <= from && from <= to && to <= length, "Invalid range [%d, %d) for array of length %d", from, to, length);
 
         return new Iterator<RawElement>() {
-            int index = 0;
+            int index = from;
 
             @Override
             public boolean hasNext() {
-                return index != length;
+                return index != to;
             }
 
             @Override
@@ -67,22 +67,26 @@ public class CollectionInspector implements Inspector {
     }
 
     private static Iterator<RawElement> toRawElements(final Collection<?> collection) {
+        final ContainerTypeMemo<Type> elementType =
+            new ContainerTypeMemo<>(containerType -> TypeUtils.getTypeArgument(containerType, COLLECTION_TYPE_VARIABLE));
         final List<RawElement> elements = collection.stream()
-            .map(CollectionElement::new)
+            .map(e -> new CollectionElement(e, elementType))
             .collect(Collectors.toList());
         return elements.iterator();
     }
 
     private static class CollectionElement implements RawElement {
         private final Object element;
+        private final ContainerTypeMemo<Type> elementType;
 
-        public CollectionElement(final Object element) {
+        public CollectionElement(final Object element, final ContainerTypeMemo<Type> elementType) {
             this.element = element;
+            this.elementType = elementType;
         }
 
         @Override
         public Type getGenericType(final Type containerType) {
-            return TypeUtils.getTypeArgument(containerType, COLLECTION_TYPE_VARIABLE);
+            return elementType.get(containerType);
         }
 
         @Override
@@ -0,0 +1,61 @@
+/*
+ * Copyright (c) 2015 Andrew Coates
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.datalorax.populace.core.walk.inspector;
+
+import java.lang.reflect.Type;
+import java.util.function.Function;
+
+/**
+ * Memoizes a value derived from the generic type of a container, e.g. the type of its elements, so that it is worked
+ * out once per container, rather than once per element. Shared by the elements of a single container.
+ *
+ * @param <T> the type of the derived value.
+ * @author Andrew Coates - 17/10/2026.
+ */
+final class ContainerTypeMemo<T> {
+    private final Function<Type, T> function;
+    private volatile Entry<T> last;     // Single volatile field, as elements can be visited on other threads
+
+    ContainerTypeMemo(final Function<Type, T> function) {
+        this.function = function;
+    }
+
+    /**
+     * @param containerType the generic type of the container.
+     * @return the value derived from {@code containerType}.
+     */
+    T get(final Type containerType) {
+        final Entry<T> entry = last;
+        if (entry != null && entry.containerType == containerType) {
+            return entry.value;
+        }
+
+        final T value = function.apply(containerType);
+        last = new Entry<>(containerType, value);
+        return value;
+    }
+
+    private static final class Entry<T> {
+        private final Type containerType;
+        private final T value;
+
+        private Entry(final Type containerType, final T value) {
+            this.containerType = containerType;
+            this.value = value;
+        }
+    }
+}
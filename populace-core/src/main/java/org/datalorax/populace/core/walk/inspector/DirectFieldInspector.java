@@ -0,0 +1,114 @@
+/*
+ * Copyright (c) 2015 Andrew Coates
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.datalorax.populace.core.walk.inspector;
+
+import com.google.common.collect.ImmutableSet;
+import org.apache.commons.lang3.Validate;
+import org.datalorax.populace.core.util.TypeUtils;
+import org.datalorax.populace.core.walk.field.RawField;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Base class for inspectors generated at build time, e.g. by the {@code populace-apt} annotation processor, for a single
+ * type.
+ * <p>
+ * Sub-classes list the fields the type declares, typically as {@link RawField}s that read and write the field directly,
+ * rather than via reflection. Fields of super classes are collected from the inspector installed for the super class,
+ * in the same way as {@link FieldInspector}.
+ * <p>
+ * Instances are also {@link InspectorRegistration registrations}, installing themselves as the specific inspector for
+ * their type, so they can be listed in {@code META-INF/services} and picked up by {@link Inspectors#defaults()}. Generic
+ * types are walked as parameterised types, so are also registered parameterised by their own type variables, which
+ * matches any parameterisation.
+ *
+ * @author Andrew Coates - 17/10/2026.
+ */
+public abstract class DirectFieldInspector implements Inspector, InspectorRegistration {
+    private final Class<?> type;
+    private final InspectionCache<Iterable<RawField>> fields = new InspectionCache<>(this::discoverFields);
+
+    /**
+     * @param type the type this inspector was generated for.
+     */
+    protected DirectFieldInspector(final Class<?> type) {
+        Validate.notNull(type, "type null");
+        this.type = type;
+    }
+
+    /**
+     * @return the type this inspector was generated for.
+     */
+    public Class<?> getType() {
+        return type;
+    }
+
+    @Override
+    public Iterable<RawField> getFields(final Class<?> type, final Inspectors inspectors) {
+        if (!this.type.equals(type)) {
+            // Installed for more than the type it was generated for:
+            return FieldInspector.INSTANCE.getFields(type, inspectors);
+        }
+
+        return fields.get(type, inspectors);
+    }
+
+    @Override
+    public void register(final Inspectors.Builder builder) {
+        builder.withSpecificInspector(type, this);
+        if (type.getTypeParameters().length != 0) {
+            builder.withSpecificInspector(TypeUtils.parameterise(type, type.getTypeParameters()), this);
+        }
+    }
+
+    @Override
+    public boolean equals(final Object that) {
+        return this == that || (that != null && getClass() == that.getClass());
+    }
+
+    @Override
+    public int hashCode() {
+        return getClass().hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + "{type=" + type.getName() + "}";
+    }
+
+    /**
+     * Collect the fields declared by the type this inspector was generated for.
+     *
+     * @param inspectors all the inspectors configured in the walker.
+     * @param collected  the list to add the fields to.
+     * @throws ReflectiveOperationException on failure to look up a field.
+     */
+    protected abstract void collectFields(Inspectors inspectors, List<RawField> collected)
+        throws ReflectiveOperationException;
+
+    private Iterable<RawField> discoverFields(final Class<?> type, final Inspectors inspectors) {
+        final List<RawField> collected = new ArrayList<>();
+        try {
+            collectFields(inspectors, collected);
+        } catch (ReflectiveOperationException e) {
+            throw new InspectionException("Failed to inspect fields of type: " + type, e);
+        }
+        FieldInspector.collectSuperFields(type, inspectors, collected);
+        return ImmutableSet.copyOf(collected);
+    }
+}
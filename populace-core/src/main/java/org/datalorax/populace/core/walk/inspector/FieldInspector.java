@@ -18,7 +18,6 @@ package org.datalorax.populace.core.walk.inspector;
 
 import com.google.common.collect.ImmutableSet;
 import org.datalorax.populace.core.walk.field.RawField;
-import org.datalorax.populace.core.walk.field.StdRawField;
 
 import java.lang.reflect.Field;
 import java.util.ArrayList;
@@ -26,18 +25,19 @@ import java.util.List;
 
 /**
  * An inspector that exposes instances as having fields, but no child elements.
+ * <p>
+ * The fields of each class are discovered once and cached, per set of {@link Inspectors}.
  *
  * @author Andrew Coates - 28/02/2015.
  */
 public class FieldInspector implements Inspector {
     public static final Inspector INSTANCE = new FieldInspector();
 
+    private static final InspectionCache<Iterable<RawField>> FIELDS = new InspectionCache<>(FieldInspector::discoverFields);
+
     @Override
     public Iterable<RawField> getFields(final Class<?> type, final Inspectors inspectors) {
-        final List<RawField> collected = new ArrayList<>();
-        collectFields(type, inspectors, collected);
-        collectSuperFields(type, inspectors, collected);
-        return ImmutableSet.copyOf(collected);
+        return FIELDS.get(type, inspectors);
     }
 
     @Override
@@ -55,17 +55,24 @@ public class FieldInspector implements Inspector {
         return getClass().getSimpleName();
     }
 
-    private void collectFields(final Class<?> type, final Inspectors inspectors, final List<RawField> collected) {
+    private static Iterable<RawField> discoverFields(final Class<?> type, final Inspectors inspectors) {
+        final List<RawField> collected = new ArrayList<>();
+        collectFields(type, inspectors, collected);
+        collectSuperFields(type, inspectors, collected);
+        return ImmutableSet.copyOf(collected);
+    }
+
+    private static void collectFields(final Class<?> type, final Inspectors inspectors, final List<RawField> collected) {
         for (Field field : type.getDeclaredFields()) {
             if (field.isSynthetic()) {
                 continue;
             }
 
-            collected.add(new StdRawField(field, inspectors.getAnnotationInspector()));
+            collected.add(inspectors.getRawFieldFactory().createField(field, inspectors.getAnnotationInspector()));
         }
     }
 
-    private void collectSuperFields(final Class<?> type, final Inspectors inspectors, final List<RawField> collected) {
+    static void collectSuperFields(final Class<?> type, final Inspectors inspectors, final List<RawField> collected) {
         final Class<?> superClass = type.getSuperclass();
         if (Object.class.equals(superClass)) {
             return;
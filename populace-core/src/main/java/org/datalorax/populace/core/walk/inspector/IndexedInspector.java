@@ -0,0 +1,54 @@
+/*
+ * Copyright (c) 2015 Andrew Coates
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.datalorax.populace.core.walk.inspector;
+
+import org.datalorax.populace.core.walk.element.RawElement;
+
+import java.util.Iterator;
+
+/**
+ * Extension to the {@link Inspector} interface for inspectors of containers whose child elements can be addressed by
+ * index, e.g. lists and arrays. Such containers can be split into ranges of elements, allowing them to be walked in
+ * parallel.
+ *
+ * @author Andrew Coates - 17/10/2026.
+ */
+public interface IndexedInspector extends Inspector {
+    /**
+     * Get the number of child elements the {@code instance} has.
+     *
+     * @param instance the instance to inspect.
+     * @return the number of child elements.
+     */
+    int getElementCount(final Object instance);
+
+    /**
+     * Get an iterator over a range of the child elements of the {@code instance}.
+     *
+     * @param instance   the instance to inspect.
+     * @param from       the index of the first element to include.
+     * @param to         the index one past the last element to include.
+     * @param inspectors the set of inspectors configured.
+     * @return an iterator over the elements in the range [from, to).
+     */
+    Iterator<RawElement> getElements(final Object instance, final int from, final int to, final Inspectors inspectors);
+
+    @Override
+    default Iterator<RawElement> getElements(final Object instance, final Inspectors inspectors) {
+        return getElements(instance, 0, getElementCount(instance), inspectors);
+    }
+}
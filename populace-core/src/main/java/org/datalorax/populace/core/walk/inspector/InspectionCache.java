@@ -0,0 +1,62 @@
+/*
+ * Copyright (c) 2015 Andrew Coates
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.datalorax.populace.core.walk.inspector;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+
+import java.util.function.BiFunction;
+
+/**
+ * A cache of what an inspector discovers about a class, e.g. its fields, for a given set of {@link Inspectors}.
+ * <p>
+ * Classes are held in a {@link ClassValue}, and inspectors are weakly held, so the cache never stops a class loader
+ * from unloading or the inspectors from being collected. Values are computed without locks, so concurrent first
+ * lookups may compute the same value more than once.
+ *
+ * @param <V> the type of the cached value.
+ * @author Andrew Coates - 17/10/2026.
+ */
+final class InspectionCache<V> {
+    private final BiFunction<Class<?>, Inspectors, V> loader;
+    private final ClassValue<Cache<Inspectors, V>> cache = new ClassValue<Cache<Inspectors, V>>() {
+        @Override
+        protected Cache<Inspectors, V> computeValue(final Class<?> type) {
+            // Typically only one set of inspectors is in use:
+            return CacheBuilder.newBuilder().weakKeys().concurrencyLevel(1).initialCapacity(1).build();
+        }
+    };
+
+    /**
+     * @param loader the function used to work out the value for a class and set of inspectors, not already cached.
+     */
+    InspectionCache(final BiFunction<Class<?>, Inspectors, V> loader) {
+        this.loader = loader;
+    }
+
+    V get(final Class<?> type, final Inspectors inspectors) {
+        final Cache<Inspectors, V> values = cache.get(type);
+        final V known = values.getIfPresent(inspectors);
+        if (known != null) {
+            return known;
+        }
+
+        final V value = loader.apply(type, inspectors);
+        values.put(inspectors, value);
+        return value;
+    }
+}
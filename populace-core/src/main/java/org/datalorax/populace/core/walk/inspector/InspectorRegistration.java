@@ -0,0 +1,36 @@
+/*
+ * Copyright (c) 2015 Andrew Coates
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.datalorax.populace.core.walk.inspector;
+
+/**
+ * Service provider interface for contributing inspectors to the {@link Inspectors#defaults() default inspectors}.
+ * <p>
+ * Implementations are discovered via {@link java.util.ServiceLoader}, i.e. by listing them in
+ * {@code META-INF/services/org.datalorax.populace.core.walk.inspector.InspectorRegistration}, and must have a public
+ * no-args constructor. Registrations are applied after the built-in defaults, so they can replace them.
+ *
+ * @author Andrew Coates - 17/10/2026.
+ */
+@FunctionalInterface
+public interface InspectorRegistration {
+    /**
+     * Install any inspectors into the supplied {@code builder}.
+     *
+     * @param builder the builder of the default inspectors.
+     */
+    void register(Inspectors.Builder builder);
+}
@@ -18,7 +18,10 @@ package org.datalorax.populace.core.walk.inspector;
 
 import org.apache.commons.lang3.Validate;
 import org.datalorax.populace.core.util.ImmutableTypeMap;
+import org.datalorax.populace.core.walk.field.MethodHandleRawFieldFactory;
+import org.datalorax.populace.core.walk.field.RawFieldFactory;
 import org.datalorax.populace.core.walk.inspector.annotation.AnnotationInspector;
+import org.datalorax.populace.core.walk.inspector.annotation.CachingAnnotationInspector;
 import org.datalorax.populace.core.walk.inspector.annotation.ChainedAnnotationInspector;
 
 import java.lang.reflect.Type;
@@ -32,15 +35,25 @@ import java.util.Optional;
 public class Inspectors {
     private final ImmutableTypeMap<Inspector> inspectors;
     private final AnnotationInspector annotationInspector;
+    private final CachingAnnotationInspector cachingAnnotationInspector;
+    private final RawFieldFactory rawFieldFactory;
 
     /**
      * Construct via {@link Inspectors#newBuilder()} and copy via {@link Inspectors#asBuilder(Inspectors)}
      */
     Inspectors(final ImmutableTypeMap<Inspector> inspectors, final AnnotationInspector annotationInspector) {
+        this(inspectors, annotationInspector, MethodHandleRawFieldFactory.INSTANCE);
+    }
+
+    Inspectors(final ImmutableTypeMap<Inspector> inspectors, final AnnotationInspector annotationInspector,
+               final RawFieldFactory rawFieldFactory) {
         Validate.notNull(inspectors, "inspectors null");
         Validate.notNull(annotationInspector, "annotationInspector null");
+        Validate.notNull(rawFieldFactory, "rawFieldFactory null");
         this.inspectors = inspectors;
         this.annotationInspector = annotationInspector;
+        this.cachingAnnotationInspector = CachingAnnotationInspector.of(annotationInspector);
+        this.rawFieldFactory = rawFieldFactory;
     }
 
     /**
@@ -64,7 +77,7 @@ public class Inspectors {
      * @return a new Inspectors builder, initialised with the inspectors in {@code source}
      */
     public static Builder asBuilder(final Inspectors source) {
-        return new InspectorsBuilder(source.inspectors, source.annotationInspector);
+        return new InspectorsBuilder(source.inspectors, source.annotationInspector, source.rawFieldFactory);
     }
 
     /**
@@ -101,6 +114,17 @@ public class Inspectors {
         return Optional.ofNullable(inspectors.getSpecific(type));
     }
 
+    /**
+     * Determine if any inspector is registered against a specific parameterisation of the {@code rawType} provided.
+     *
+     * @param rawType the raw class to check.
+     * @return true if an inspector is registered against a parameterised version of {@code rawType}, false otherwise.
+     * @see org.datalorax.populace.core.util.ImmutableTypeMap#hasSpecificParameterisationsOf(Class)
+     */
+    public boolean hasSpecificParameterisationsOf(final Class<?> rawType) {
+        return inspectors.hasSpecificParameterisationsOf(rawType);
+    }
+
     /**
      * Get the specific super inspector registered for the {@code type} provided, is present.
      *
@@ -145,11 +169,25 @@ public class Inspectors {
 
     /**
      * Get the {@link org.datalorax.populace.core.walk.inspector.annotation.AnnotationInspector}.
+     * <p>
+     * The returned inspector wraps the one installed on the builder in a
+     * {@link org.datalorax.populace.core.walk.inspector.annotation.CachingAnnotationInspector}, so that annotations
+     * are only looked up once per field or accessor.
      *
      * @return the annotation inspector
      */
     public AnnotationInspector getAnnotationInspector() {
-        return annotationInspector;
+        return cachingAnnotationInspector;
+    }
+
+    /**
+     * Get the {@link org.datalorax.populace.core.walk.field.RawFieldFactory} inspectors should use to create the
+     * {@link org.datalorax.populace.core.walk.field.RawField raw fields} they expose.
+     *
+     * @return the raw field factory
+     */
+    public RawFieldFactory getRawFieldFactory() {
+        return rawFieldFactory;
     }
 
     @Override
@@ -158,13 +196,15 @@ public class Inspectors {
         if (o == null || getClass() != o.getClass()) return false;
 
         final Inspectors that = (Inspectors) o;
-        return annotationInspector.equals(that.annotationInspector) && inspectors.equals(that.inspectors);
+        return annotationInspector.equals(that.annotationInspector) && inspectors.equals(that.inspectors)
+            && rawFieldFactory.equals(that.rawFieldFactory);
     }
 
     @Override
     public int hashCode() {
         int result = inspectors.hashCode();
         result = 31 * result + annotationInspector.hashCode();
+        result = 31 * result + rawFieldFactory.hashCode();
         return result;
     }
 
@@ -191,6 +231,19 @@ public class Inspectors {
 
         AnnotationInspector getAnnotationInspector();
 
+        /**
+         * Install the factory inspectors should use to create the raw fields they expose, which controls how field
+         * values are read and written. The default is
+         * {@link org.datalorax.populace.core.walk.field.MethodHandleRawFieldFactory}. Install
+         * {@link org.datalorax.populace.core.walk.field.ReflectionRawFieldFactory} to use core reflection instead.
+         *
+         * @param rawFieldFactory the factory to install.
+         * @return the builder
+         */
+        Builder withRawFieldFactory(final RawFieldFactory rawFieldFactory);
+
+        RawFieldFactory getRawFieldFactory();
+
         Inspectors build();
     }
 }
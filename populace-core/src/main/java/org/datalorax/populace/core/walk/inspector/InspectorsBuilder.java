@@ -17,14 +17,21 @@
 package org.datalorax.populace.core.walk.inspector;
 
 import org.apache.commons.lang3.Validate;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
 import org.datalorax.populace.core.util.ImmutableTypeMap;
+import org.datalorax.populace.core.walk.field.MethodHandleRawFieldFactory;
+import org.datalorax.populace.core.walk.field.RawFieldFactory;
 import org.datalorax.populace.core.walk.inspector.annotation.AnnotationInspector;
 import org.datalorax.populace.core.walk.inspector.annotation.SimpleAnnotationInspector;
 
 import java.lang.reflect.Type;
 import java.util.Collection;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.ServiceConfigurationError;
+import java.util.ServiceLoader;
 import java.util.Set;
 
 /**
@@ -33,19 +40,24 @@ import java.util.Set;
  * @author Andrew Coates - 01/03/2015.
  */
 final class InspectorsBuilder implements Inspectors.Builder {
+    private static final Log LOG = LogFactory.getLog(InspectorsBuilder.class);
     private static final Inspectors DEFAULT;
 
     private final ImmutableTypeMap.Builder<Inspector> inspectorsBuilder;
     private AnnotationInspector annotationInspector;
+    private RawFieldFactory rawFieldFactory;
 
-    InspectorsBuilder(final ImmutableTypeMap<Inspector> inspectors, final AnnotationInspector annotationInspector) {
+    InspectorsBuilder(final ImmutableTypeMap<Inspector> inspectors, final AnnotationInspector annotationInspector,
+                      final RawFieldFactory rawFieldFactory) {
         this.inspectorsBuilder = ImmutableTypeMap.asBuilder(inspectors);
         this.annotationInspector = annotationInspector;
+        this.rawFieldFactory = rawFieldFactory;
     }
 
     private InspectorsBuilder() {
         this.inspectorsBuilder = ImmutableTypeMap.newBuilder(FieldInspector.INSTANCE);
         this.annotationInspector = SimpleAnnotationInspector.INSTANCE;
+        this.rawFieldFactory = MethodHandleRawFieldFactory.INSTANCE;
     }
 
     static {
@@ -59,15 +71,37 @@ final class InspectorsBuilder implements Inspectors.Builder {
 
         builder.withPackageInspector("java", TerminalInspector.INSTANCE);
 
-        DEFAULT = builder
-            .withArrayDefaultInspector(ArrayInspector.INSTANCE)
-            .build();
+        builder.withArrayDefaultInspector(ArrayInspector.INSTANCE);
+
+        applyRegistrations(builder);
+
+        DEFAULT = builder.build();
     }
 
     public static Inspectors defaults() {
         return DEFAULT;
     }
 
+    private static void applyRegistrations(final Inspectors.Builder builder) {
+        final Iterator<InspectorRegistration> it = ServiceLoader.load(InspectorRegistration.class).iterator();
+        while (hasNextRegistration(it)) {
+            try {
+                it.next().register(builder);
+            } catch (ServiceConfigurationError e) {
+                LOG.warn("Skipping inspector registration that could not be loaded", e);
+            }
+        }
+    }
+
+    private static boolean hasNextRegistration(final Iterator<InspectorRegistration> it) {
+        try {
+            return it.hasNext();
+        } catch (ServiceConfigurationError e) {
+            LOG.warn("Failed to locate inspector registrations", e);
+            return false;
+        }
+    }
+
     @Override
     public Inspectors.Builder withSpecificInspector(final Type type, final Inspector inspector) {
         inspectorsBuilder.withSpecificType(type, inspector);
@@ -110,8 +144,20 @@ final class InspectorsBuilder implements Inspectors.Builder {
         return annotationInspector;
     }
 
+    @Override
+    public Inspectors.Builder withRawFieldFactory(final RawFieldFactory rawFieldFactory) {
+        Validate.notNull(rawFieldFactory, "rawFieldFactory null");
+        this.rawFieldFactory = rawFieldFactory;
+        return this;
+    }
+
+    @Override
+    public RawFieldFactory getRawFieldFactory() {
+        return rawFieldFactory;
+    }
+
     @Override
     public Inspectors build() {
-        return new Inspectors(inspectorsBuilder.build(), annotationInspector);
+        return new Inspectors(inspectorsBuilder.build(), annotationInspector, rawFieldFactory);
     }
 }
@@ -32,16 +32,21 @@ import java.util.NoSuchElementException;
  *
  * @author Andrew Coates - 01/03/2015.
  */
-public class ListInspector implements Inspector {
+public class ListInspector implements IndexedInspector {
     public static final ListInspector INSTANCE = new ListInspector();
     private static final TypeVariable<Class<List>> LIST_TYPE_VARIABLE = List.class.getTypeParameters()[0];
     private static final TypeVariable<Class<Collection>> COLLECTION_TYPE_VARIABLE = Collection.class.getTypeParameters()[0];
 
-    @SuppressWarnings("unchecked")
     @Override
-    public Iterator<RawElement> getElements(final Object instance, final Inspectors inspectors) {
-        final List<Object> collection = ensureList(instance);
-        return toRawElements(collection);
+    public int getElementCount(final Object instance) {
+        return ensureList(instance).size();
+    }
+
+    @Override
+    public Iterator<RawElement> getElements(final Object instance, final int from, final int to, final Inspectors inspectors) {
+        final List<Object> list = ensureList(instance);
+        Validate.isTrue(0 <= from && from <= to && to <= list.size(), "Invalid range [%d, %d) for list of size %d", from, to, list.size());
+        return toRawElements(list, from, to);
     }
 
     @Override
@@ -59,23 +64,22 @@ public class ListInspector implements Inspector {
         return getClass().getSimpleName();
     }
 
-    private Iterator<RawElement> toRawElements(final List<Object> list) {
-        final int size = list.size();
-
+    private Iterator<RawElement> toRawElements(final List<Object> list, final int from, final int to) {
+        final ContainerTypeMemo<Type> elementType = new ContainerTypeMemo<>(ListInspector::getElementType);
         return new Iterator<RawElement>() {
-            int index = 0;
+            int index = from;
 
             @Override
             public boolean hasNext() {
-                return index < size;
+                return index < to;
             }
 
             @Override
             public RawElement next() {
-                if (index >= size) {
+                if (index >= to) {
                     throw new NoSuchElementException();
                 }
-                return new ListElement(index++, list);
+                return new ListElement(index++, list, elementType);
             }
         };
     }
@@ -86,23 +90,29 @@ public class ListInspector implements Inspector {
         return (List<Object>) instance;
     }
 
+    private static Type getElementType(final Type containerType) {
+        final Class<?> rawType = TypeUtils.getRawType(containerType, null);
+        // Todo(ac): This is ugly and should be unnecessary
+        if (List.class.isAssignableFrom(rawType)) {
+            return TypeUtils.getTypeArgument(containerType, LIST_TYPE_VARIABLE);
+        }
+        return TypeUtils.getTypeArgument(containerType, COLLECTION_TYPE_VARIABLE);
+    }
+
     private static class ListElement implements RawElement {
         private final List<Object> list;
         private final int index;
+        private final ContainerTypeMemo<Type> elementType;
 
-        public ListElement(final int index, final List<Object> list) {
+        public ListElement(final int index, final List<Object> list, final ContainerTypeMemo<Type> elementType) {
             this.index = index;
             this.list = list;
+            this.elementType = elementType;
         }
 
         @Override
         public Type getGenericType(final Type containerType) {
-            final Class<?> rawType = TypeUtils.getRawType(containerType, null);
-            // Todo(ac): This is ugly and should be unnecessary
-            if (List.class.isAssignableFrom(rawType)) {
-                return TypeUtils.getTypeArgument(containerType, LIST_TYPE_VARIABLE);
-            }
-            return TypeUtils.getTypeArgument(containerType, COLLECTION_TYPE_VARIABLE);
+            return elementType.get(containerType);
         }
 
         @Override
@@ -18,8 +18,6 @@ package org.datalorax.populace.core.walk.inspector;
 
 import com.google.common.collect.ImmutableSet;
 import org.apache.commons.lang3.Validate;
-import org.datalorax.populace.core.walk.field.GetterSetterRawField;
-import org.datalorax.populace.core.walk.field.ImmutableGetterRawField;
 import org.datalorax.populace.core.walk.field.RawField;
 
 import java.lang.reflect.Method;
@@ -34,19 +32,19 @@ import java.util.Map;
  * <p>
  * Be careful if using this inspector with any code that mutates objects in the graph. Mutating the key of the entry
  * may invalidate the owning map and lead to undesirable and undefined behaviour.
+ * <p>
+ * The accessors of each entry class are discovered once and cached, per set of {@link Inspectors}.
  *
  * @author Andrew Coates - 01/03/2015.
  */
 public class MapEntryInspector implements Inspector {
     public static final MapEntryInspector INSTANCE = new MapEntryInspector();
 
+    private static final InspectionCache<Iterable<RawField>> FIELDS = new InspectionCache<>(MapEntryInspector::discoverFields);
+
     @Override
     public Iterable<RawField> getFields(final Class<?> type, final Inspectors inspectors) {
-        final Class<? extends Map.Entry<?, ?>> entryType = ensureMapEntry(type);
-        final List<RawField> collected = new ArrayList<>();
-        collected.add(createKeyField(entryType, inspectors));
-        collected.add(createValueField(entryType, inspectors));
-        return ImmutableSet.copyOf(collected);
+        return FIELDS.get(type, inspectors);
     }
 
     @Override
@@ -64,6 +62,14 @@ public class MapEntryInspector implements Inspector {
         return getClass().getSimpleName();
     }
 
+    private static Iterable<RawField> discoverFields(final Class<?> type, final Inspectors inspectors) {
+        final Class<? extends Map.Entry<?, ?>> entryType = ensureMapEntry(type);
+        final List<RawField> collected = new ArrayList<>();
+        collected.add(createKeyField(entryType, inspectors));
+        collected.add(createValueField(entryType, inspectors));
+        return ImmutableSet.copyOf(collected);
+    }
+
     @SuppressWarnings("unchecked")
     private static Class<? extends Map.Entry<?, ?>> ensureMapEntry(final Class<?> type) {
         Validate.isAssignableFrom(Map.Entry.class, type);
@@ -73,7 +79,8 @@ public class MapEntryInspector implements Inspector {
     private static RawField createKeyField(final Class<? extends Map.Entry<?, ?>> type, final Inspectors inspectors) {
         try {
             final Method getter = type.getDeclaredMethod("getKey");
-            return new ImmutableGetterRawField("key", getter, inspectors.getAnnotationInspector());
+            return inspectors.getRawFieldFactory()
+                .createImmutableProperty("key", getter, inspectors.getAnnotationInspector());
         } catch (NoSuchMethodException e) {
             throw new InspectionException("Expected method 'getKey()' not found on type: " + type, e);
         }
@@ -83,7 +90,8 @@ public class MapEntryInspector implements Inspector {
         try {
             final Method getter = type.getDeclaredMethod("getValue");
             final Method setter = type.getDeclaredMethod("setValue", getter.getReturnType());
-            return new GetterSetterRawField("value", getter, setter, inspectors.getAnnotationInspector());
+            return inspectors.getRawFieldFactory()
+                .createProperty("value", getter, setter, inspectors.getAnnotationInspector());
         } catch (NoSuchMethodException e) {
             throw new InspectionException("Expected method 'getKey()' not found on type: " + type, e);
         }
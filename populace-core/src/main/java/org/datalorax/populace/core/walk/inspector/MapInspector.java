@@ -61,8 +61,12 @@ public class MapInspector implements Inspector {
     }
 
     private Iterator<RawElement> toRawElements(final Map<?, ?> map) {
+        final ContainerTypeMemo<Type[]> typeArgs = new ContainerTypeMemo<>(containerType -> new Type[]{
+            TypeUtils.getTypeArgument(containerType, MAP_KEY_TYPE_VARIABLE),
+            TypeUtils.getTypeArgument(containerType, MAP_VALUE_TYPE_VARIABLE)
+        });
         final List<RawElement> elements = map.entrySet().stream()
-            .map(MapElement::new)
+            .map(e -> new MapElement(e, typeArgs))
             .collect(Collectors.toList());
         return elements.iterator();
     }
@@ -74,17 +78,18 @@ public class MapInspector implements Inspector {
 
     private class MapElement implements RawElement {
         private final Map.Entry<?, ?> entry;
+        private final ContainerTypeMemo<Type[]> typeArgs;   // key & value type arguments of the map
 
-        public MapElement(final Map.Entry<?, ?> entry) {
+        public MapElement(final Map.Entry<?, ?> entry, final ContainerTypeMemo<Type[]> typeArgs) {
             Validate.notNull(entry, "entry null");
             this.entry = entry;
+            this.typeArgs = typeArgs;
         }
 
         @Override
         public Type getGenericType(final Type containerType) {
-            final Type keyTypeArg = TypeUtils.getTypeArgument(containerType, MAP_KEY_TYPE_VARIABLE);
-            final Type valueTypeArg = TypeUtils.getTypeArgument(containerType, MAP_VALUE_TYPE_VARIABLE);
-            return TypeUtils.parameterise(entry.getClass(), keyTypeArg, valueTypeArg);
+            final Type[] args = typeArgs.get(containerType);
+            return TypeUtils.parameterise(entry.getClass(), args[0], args[1]);
         }
 
         @Override
@@ -58,8 +58,10 @@ public class MapValueInspector implements Inspector {
     }
 
     private Iterator<RawElement> toRawElements(final Map<?, Object> map) {
+        final ContainerTypeMemo<Type> valueType =
+            new ContainerTypeMemo<>(containerType -> TypeUtils.getTypeArgument(containerType, MAP_VALUE_TYPE_VARIABLE));
         final List<RawElement> elements = map.entrySet().stream()
-            .map(MapValueElement::new)
+            .map(e -> new MapValueElement(e, valueType))
             .collect(Collectors.toList());
         return elements.iterator();
     }
@@ -72,15 +74,17 @@ public class MapValueInspector implements Inspector {
 
     private class MapValueElement implements RawElement {
         private final Map.Entry<?, Object> entry;
+        private final ContainerTypeMemo<Type> valueType;
 
-        public MapValueElement(final Map.Entry<?, Object> entry) {
+        public MapValueElement(final Map.Entry<?, Object> entry, final ContainerTypeMemo<Type> valueType) {
             Validate.notNull(entry, "entry null");
             this.entry = entry;
+            this.valueType = valueType;
         }
 
         @Override
         public Type getGenericType(final Type containerType) {
-            return TypeUtils.getTypeArgument(containerType, MAP_VALUE_TYPE_VARIABLE);
+            return valueType.get(containerType);
         }
 
         @Override
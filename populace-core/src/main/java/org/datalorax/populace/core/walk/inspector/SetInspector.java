@@ -22,11 +22,10 @@ import org.datalorax.populace.core.walk.element.RawElement;
 
 import java.lang.reflect.Type;
 import java.lang.reflect.TypeVariable;
-import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Iterator;
-import java.util.List;
+import java.util.NoSuchElementException;
 import java.util.Set;
-import java.util.stream.Collectors;
 
 /**
  * An inspector that exposes {@code sets} as having no fields, just a collection of child elements.
@@ -34,9 +33,9 @@ import java.util.stream.Collectors;
  * The class returns a {@link org.datalorax.populace.core.walk.element.RawElement} implementation that can mutate
  * {@code set} elements.
  * <p>
- * To maintain the validity of the {@link Set} the implementation of {@link org.datalorax.populace.core.walk.element.RawElement#setValue(Object)}
- * used by this class must copy entire set into another set and back again, on each operation. This can be slow. If this
- * proves to be an issue for you, consider if it is possible to add a more specific inspector for your use-case.
+ * To maintain the validity of the {@link Set}, each element is removed from the set while it is walked, and added back,
+ * with any new value, once walked. As an element's walk may change other elements in-place, e.g. where they are reachable
+ * via some other path, the set is rebuilt, in a single pass, once all its elements have been walked.
  *
  * @author Andrew Coates - 01/03/2015.
  */
@@ -73,24 +72,72 @@ public class SetInspector implements Inspector {
     }
 
     private static Iterator<RawElement> toRawElements(final Set<Object> set) {
-        final ArrayList<RawElement> elements = set.stream()
-            .map(e -> new SetElement(e, set))
-            .collect(Collectors.toCollection(ArrayList::new));
-        return elements.iterator();
+        return new SetElements(set);
     }
 
-    private static class SetElement implements RawElement {
+    /**
+     * Iterates over a snapshot of the set's elements, so that the set can be changed as its elements are walked.
+     */
+    private static class SetElements implements Iterator<RawElement> {
         private final Set<Object> set;
+        private final Object[] snapshot;
+        private final ContainerTypeMemo<Type> elementType;
+        private int next;
+        private int walking;
+        private boolean changed;
+
+        public SetElements(final Set<Object> set) {
+            this.set = set;
+            this.snapshot = set.toArray();
+            this.elementType =
+                new ContainerTypeMemo<>(containerType -> TypeUtils.getTypeArgument(containerType, SET_TYPE_VARIABLE));
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (next < snapshot.length) {
+                return true;
+            }
+
+            rebuildIfWalked();
+            return false;
+        }
+
+        @Override
+        public RawElement next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            return new SetElement(snapshot[next++], this);
+        }
+
+        private void rebuildIfWalked() {
+            if (!changed || walking != 0 || next < snapshot.length) {
+                return;
+            }
+
+            // Elements may have been changed in-place while in the set. Copy all elements out and back in again to
+            // restore validity. Clearing hash based sets retains their capacity, so adding the elements back does not
+            // resize them:
+            changed = false;
+            final Object[] elements = set.toArray();
+            set.clear();
+            Collections.addAll(set, elements);
+        }
+    }
+
+    private static class SetElement implements RawElement {
+        private final SetElements elements;
         private Object element;
 
-        public SetElement(final Object element, final Set<Object> set) {
+        public SetElement(final Object element, final SetElements elements) {
             this.element = element;
-            this.set = set;
+            this.elements = elements;
         }
 
         @Override
         public Type getGenericType(final Type containerType) {
-            return TypeUtils.getTypeArgument(containerType, SET_TYPE_VARIABLE);
+            return elements.elementType.get(containerType);
         }
 
         @Override
@@ -107,17 +154,16 @@ public class SetInspector implements Inspector {
         @Override
         public void preWalk() {
             // To stop the set being invalid while it is being walked, and potentially changed, remove it from the set:
-            set.remove(element);
+            elements.set.remove(element);
+            elements.walking++;
+            elements.changed = true;
         }
 
         @Override
         public void postWalk() {
-            // The the element has been changed in-place then the set may be invalid.
-            // Copy all elements out and back in again to restore validity.
-            final List<Object> copy = new ArrayList<>(set);
-            set.clear();
-            set.addAll(copy);
-            set.add(element);
+            elements.set.add(element);
+            elements.walking--;
+            elements.rebuildIfWalked();
         }
     }
 }
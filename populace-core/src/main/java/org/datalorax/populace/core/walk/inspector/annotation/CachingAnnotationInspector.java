@@ -0,0 +1,148 @@
+/*
+ * Copyright (c) 2015 Andrew Coates
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.datalorax.populace.core.walk.inspector.annotation;
+
+import org.apache.commons.lang3.Validate;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * An annotation inspector that caches the results of another. The first lookup of each annotation type on a field, or
+ * set of accessor methods, is passed to the wrapped inspector. The result, including the absence of the annotation, is
+ * then held in an index for the field or accessors, so that subsequent lookups do not require any reflection.
+ * <p>
+ * The wrapped inspector must return the same result each time it is called with the same arguments, as is the case for
+ * any inspector that just reads annotations via reflection.
+ * <p>
+ * Indexes are held against the class that declares the field or accessors, so the cache does not prevent classes being
+ * unloaded.
+ *
+ * @author Andrew Coates - 17/10/2026.
+ */
+public class CachingAnnotationInspector implements AnnotationInspector {
+    private final AnnotationInspector delegate;
+    private final ClassValue<ConcurrentMap<Field, AnnotationIndex>> fieldIndexes = new IndexCache<>();
+    private final ClassValue<ConcurrentMap<List<Method>, AnnotationIndex>> accessorIndexes = new IndexCache<>();
+
+    /**
+     * @param delegate the inspector whose results should be cached.
+     */
+    public CachingAnnotationInspector(final AnnotationInspector delegate) {
+        Validate.notNull(delegate, "delegate null");
+        this.delegate = delegate;
+    }
+
+    /**
+     * Wrap the supplied {@code inspector} in a caching inspector, unless it is already one.
+     *
+     * @param inspector the inspector to wrap
+     * @return a caching inspector
+     */
+    public static CachingAnnotationInspector of(final AnnotationInspector inspector) {
+        return inspector instanceof CachingAnnotationInspector
+            ? (CachingAnnotationInspector) inspector
+            : new CachingAnnotationInspector(inspector);
+    }
+
+    /**
+     * @return the inspector whose results are cached.
+     */
+    public AnnotationInspector getDelegate() {
+        return delegate;
+    }
+
+    @Override
+    public <T extends Annotation> T getAnnotation(final Field field, final Class<T> type) {
+        final ConcurrentMap<Field, AnnotationIndex> indexes = fieldIndexes.get(field.getDeclaringClass());
+        AnnotationIndex index = indexes.get(field);
+        if (index == null) {
+            index = indexes.computeIfAbsent(field, f -> new AnnotationIndex());
+        }
+        final Optional<Annotation> cached = index.get(type);
+        return cached != null ? type.cast(cached.orElse(null)) : index.put(type, delegate.getAnnotation(field, type));
+    }
+
+    @Override
+    public <T extends Annotation> T getAnnotation(final Class<T> type, final Method... accessorMethods) {
+        if (accessorMethods.length == 0 || Arrays.asList(accessorMethods).contains(null)) {
+            return delegate.getAnnotation(type, accessorMethods);
+        }
+
+        final ConcurrentMap<List<Method>, AnnotationIndex> indexes =
+            accessorIndexes.get(accessorMethods[0].getDeclaringClass());
+        AnnotationIndex index = indexes.get(Arrays.asList(accessorMethods));
+        if (index == null) {
+            // Copy the key, as the caller owns the array:
+            index = indexes.computeIfAbsent(Arrays.asList(accessorMethods.clone()), m -> new AnnotationIndex());
+        }
+        final Optional<Annotation> cached = index.get(type);
+        return cached != null
+            ? type.cast(cached.orElse(null))
+            : index.put(type, delegate.getAnnotation(type, accessorMethods));
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        final CachingAnnotationInspector that = (CachingAnnotationInspector) o;
+        return delegate.equals(that.delegate);
+    }
+
+    @Override
+    public int hashCode() {
+        return delegate.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return "CachingAnnotationInspector{" +
+            "delegate=" + delegate +
+            '}';
+    }
+
+    private static final class IndexCache<K> extends ClassValue<ConcurrentMap<K, AnnotationIndex>> {
+        @Override
+        protected ConcurrentMap<K, AnnotationIndex> computeValue(final Class<?> type) {
+            return new ConcurrentHashMap<>();
+        }
+    }
+
+    private static final class AnnotationIndex {
+        private final ConcurrentMap<Class<? extends Annotation>, Optional<Annotation>> annotations =
+            new ConcurrentHashMap<>();
+
+        /**
+         * @return the cached result of looking up the annotation {@code type}, or {@code null} if not yet looked up.
+         */
+        Optional<Annotation> get(final Class<? extends Annotation> type) {
+            return annotations.get(type);
+        }
+
+        <T extends Annotation> T put(final Class<T> type, final T annotation) {
+            annotations.putIfAbsent(type, Optional.ofNullable(annotation));
+            return annotation;
+        }
+    }
+}
@@ -0,0 +1,35 @@
+/*
+ * Copyright (c) 2015 Andrew Coates
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.datalorax.populace.core.walk.instance;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A thread-safe {@link InstanceTracker}, suitable for use with
+ * {@link org.datalorax.populace.core.walk.GraphWalker graph walkers} that walk in parallel.
+ * <p>
+ * When walking in parallel the tracker guarantees each instance is walked at most once, though which of the paths to
+ * a shared instance it is walked via is not deterministic.
+ *
+ * @author Andrew Coates - 17/10/2026.
+ * @see org.datalorax.populace.core.walk.GraphWalker.Builder#withParallelism(java.util.concurrent.ForkJoinPool)
+ */
+public class ConcurrentInstanceTracker extends InstanceTracker {
+    public ConcurrentInstanceTracker() {
+        super(ConcurrentHashMap.newKeySet());
+    }
+}
@@ -16,6 +16,8 @@
 
 package org.datalorax.populace.core.walk.instance;
 
+import org.apache.commons.lang3.Validate;
+import org.datalorax.populace.core.walk.FlyweightFilter;
 import org.datalorax.populace.core.walk.element.ElementInfo;
 import org.datalorax.populace.core.walk.field.FieldInfo;
 
@@ -49,13 +51,27 @@ import java.util.function.Predicate;
  * InstanceTracker is stateful. If you don't want the result of one walk to affect another, then please call
  * {@link InstanceTracker#clear()} between walks.
  *
- * InstanceTracker is not thread-safe. If you need a thread-safe tracker, then please implement your own using a
- * thread-safe set implementation.
+ * InstanceTracker is not thread-safe. If you need a thread-safe tracker, e.g. when walking in parallel, then please use
+ * {@link ConcurrentInstanceTracker}.
  *
  * @author Andrew Coates - 29/04/2015.
  */
 public class InstanceTracker {
-    private final Set<InstanceIdentity> seen = new HashSet<>();
+    private final Set<InstanceIdentity> seen;
+
+    public InstanceTracker() {
+        this(new HashSet<>());
+    }
+
+    /**
+     * Construct a tracker that stores the instances it has seen in the supplied {@code seen} set.
+     *
+     * @param seen the set to track seen instances in. Should be empty.
+     */
+    protected InstanceTracker(final Set<InstanceIdentity> seen) {
+        Validate.notNull(seen, "seen null");
+        this.seen = seen;
+    }
 
     /**
      * Get the field filter of the tracker.
@@ -66,10 +82,10 @@ public class InstanceTracker {
      * <b>Note:</b> This method requires all fields to be accessible so that it can track their values. It therefore
      * calls {@link org.datalorax.populace.core.walk.field.FieldInfo#ensureAccessible()} on all visited fields.
      *
-     * @return the field filter of the tracker.
+     * @return the field filter of the tracker, which {@link FlyweightFilter accepts flyweights}.
      */
     public Predicate<FieldInfo> getFieldFilter() {
-        return f -> {
+        return (Predicate<FieldInfo> & FlyweightFilter) f -> {
             f.ensureAccessible();
             return include(f.getValue());
         };
@@ -81,10 +97,10 @@ public class InstanceTracker {
      * The filter will add the value of all elements it encounters to the set of seen instances, and exclude any instances
      * previously seen as either a field or element value.
      *
-     * @return the element filter of the tracker.
+     * @return the element filter of the tracker, which {@link FlyweightFilter accepts flyweights}.
      */
     public Predicate<ElementInfo> getElementFilter() {
-        return e -> include(e.getValue());
+        return (Predicate<ElementInfo> & FlyweightFilter) e -> include(e.getValue());
     }
 
     /**
@@ -0,0 +1,109 @@
+/*
+ * Copyright (c) 2015 Andrew Coates
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.datalorax.populace.core.walk.listener;
+
+import org.apache.commons.lang3.Validate;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.datalorax.populace.core.walk.GraphWalker;
+import org.datalorax.populace.core.walk.element.ElementInfo;
+import org.datalorax.populace.core.walk.field.FieldInfo;
+import org.datalorax.populace.core.walk.field.PathProvider;
+import org.datalorax.populace.core.walk.inspector.Inspector;
+
+import java.lang.reflect.Type;
+
+import static org.datalorax.populace.core.util.TypeUtils.abbreviatedName;
+
+/**
+ * A {@link WalkListener} that traces the walk to commons-logging: instances walked and components visited at INFO,
+ * components skipped at DEBUG. By default logs to the {@link GraphWalker} log.
+ *
+ * @author Andrew Coates - 17/10/2026.
+ */
+public class LoggingWalkListener implements WalkListener {
+    private final Log log;
+
+    public LoggingWalkListener() {
+        this(LogFactory.getLog(GraphWalker.class));
+    }
+
+    public LoggingWalkListener(final Log log) {
+        Validate.notNull(log, "log null");
+        this.log = log;
+    }
+
+    @Override
+    public void enterInstance(final Object instance, final Type type, final Inspector inspector, final PathProvider path) {
+        if (log.isInfoEnabled()) {
+            log.info(path.getPath() + " - Walking type: " + abbreviatedName(type) + ", inspector: " + abbreviatedName(inspector.getClass()));
+        }
+    }
+
+    @Override
+    public void visitField(final FieldInfo field) {
+        if (log.isInfoEnabled()) {
+            log.info(field.getPath() + " - Visiting field: " + field);
+        }
+    }
+
+    @Override
+    public void skipField(final FieldInfo field, final SkipReason reason) {
+        if (log.isDebugEnabled()) {
+            log.debug(field.getPath() + " - Skipping " + describe(reason) + " field: " + field.getName());
+        }
+    }
+
+    @Override
+    public void visitElement(final ElementInfo element) {
+        if (log.isInfoEnabled()) {
+            log.info(element.getPath() + " - Visiting element: " + element);
+        }
+    }
+
+    @Override
+    public void skipElement(final ElementInfo element, final SkipReason reason) {
+        if (log.isDebugEnabled()) {
+            log.debug(element.getPath() + " - Skipping " + describe(reason) + " element");
+        }
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+
+        final LoggingWalkListener that = (LoggingWalkListener) o;
+        return log.equals(that.log);
+    }
+
+    @Override
+    public int hashCode() {
+        return log.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return "LoggingWalkListener{" +
+            "log=" + log +
+            '}';
+    }
+
+    private static String describe(final SkipReason reason) {
+        return reason == SkipReason.EXCLUDED ? "excluded" : "null";
+    }
+}
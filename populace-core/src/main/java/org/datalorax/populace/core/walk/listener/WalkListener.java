@@ -0,0 +1,108 @@
+/*
+ * Copyright (c) 2015 Andrew Coates
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.datalorax.populace.core.walk.listener;
+
+import org.datalorax.populace.core.walk.element.ElementInfo;
+import org.datalorax.populace.core.walk.field.FieldInfo;
+import org.datalorax.populace.core.walk.field.PathProvider;
+import org.datalorax.populace.core.walk.inspector.Inspector;
+
+import java.lang.reflect.Type;
+
+/**
+ * Listener for tracing the progress of a walk. Installed via
+ * {@link org.datalorax.populace.core.walk.GraphWalker.Builder#withWalkListener(WalkListener)}.
+ * <p>
+ * Callbacks are passed the objects the walker already has to hand: no strings are built unless the listener builds
+ * them. Walkers without a listener installed make no calls at all. All methods default to doing nothing, so
+ * implementations need only override those they are interested in.
+ * <p>
+ * Listeners installed on walkers that walk in {@link org.datalorax.populace.core.walk.GraphWalker.Builder#withParallelism
+ * parallel} are called concurrently, and must be thread-safe.
+ *
+ * @author Andrew Coates - 17/10/2026.
+ */
+public interface WalkListener {
+    /**
+     * Called when the walker starts walking an instance, before any of its fields or elements.
+     *
+     * @param instance  the instance being walked.
+     * @param type      the declared type of the instance, e.g. the generic type of the field that holds it.
+     * @param inspector the inspector used to find the fields and elements of the instance.
+     * @param path      the path to the instance.
+     */
+    default void enterInstance(final Object instance, final Type type, final Inspector inspector, final PathProvider path) {
+    }
+
+    /**
+     * Called once the walker has walked all the fields and elements of an instance.
+     *
+     * @param instance the instance walked.
+     * @param path     the path to the instance.
+     */
+    default void exitInstance(final Object instance, final PathProvider path) {
+    }
+
+    /**
+     * Called before a field is passed to the visitor.
+     *
+     * @param field the field.
+     */
+    default void visitField(final FieldInfo field) {
+    }
+
+    /**
+     * Called when a field is excluded by the field filter, or the field is not walked into because its value is null.
+     *
+     * @param field  the field.
+     * @param reason why the field was skipped.
+     */
+    default void skipField(final FieldInfo field, final SkipReason reason) {
+    }
+
+    /**
+     * Called before an element is passed to the visitor.
+     *
+     * @param element the element.
+     */
+    default void visitElement(final ElementInfo element) {
+    }
+
+    /**
+     * Called when an element is excluded by the element filter, or the element is not walked into because its value is
+     * null.
+     *
+     * @param element the element.
+     * @param reason  why the element was skipped.
+     */
+    default void skipElement(final ElementInfo element, final SkipReason reason) {
+    }
+
+    /**
+     * The reason a field or element was skipped.
+     */
+    enum SkipReason {
+        /**
+         * Excluded by the walker's filter. The component is not visited.
+         */
+        EXCLUDED,
+        /**
+         * The component was visited, but its value is null, so there is nothing to walk into.
+         */
+        NULL_VALUE
+    }
+}
@@ -23,7 +23,7 @@ import org.datalorax.populace.core.walk.element.ElementInfo;
  *
  * @author Andrew Coates - 28/02/2015.
  */
-public interface ElementVisitor {
+public interface ElementVisitor extends Visitor {
     /**
      * Called on visiting a element of a collection
      *
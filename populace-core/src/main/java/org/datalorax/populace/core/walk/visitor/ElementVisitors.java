@@ -0,0 +1,45 @@
+/*
+ * Copyright (c) 2015 Andrew Coates
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.datalorax.populace.core.walk.visitor;
+
+import org.datalorax.populace.core.walk.element.ElementInfo;
+
+/**
+ * Utils class containing help methods for working with {@link ElementVisitor element visitors}
+ *
+ * @author Andrew Coates - 17/10/2026.
+ */
+public final class ElementVisitors {
+    private ElementVisitors() {
+    }
+
+    /**
+     * Visit the {@code element} with the {@code visitor}, returning how the walk should proceed.
+     *
+     * @param visitor the visitor.
+     * @param element the element to visit.
+     * @return the result of the visit, if the visitor is a {@link PruningElementVisitor}, else
+     * {@link VisitResult#CONTINUE}.
+     */
+    public static VisitResult visitWithResult(final ElementVisitor visitor, final ElementInfo element) {
+        if (visitor instanceof PruningElementVisitor) {
+            return ((PruningElementVisitor) visitor).visitWithResult(element);
+        }
+        visitor.visit(element);
+        return VisitResult.CONTINUE;
+    }
+}
@@ -23,7 +23,7 @@ import org.datalorax.populace.core.walk.field.FieldInfo;
  * Combination visitor: combines two field visitors. The visitors will be called in order.
  * @author Andrew Coates - 28/02/2015.
  */
-public class FieldVisitorPair implements FieldVisitor {
+public class FieldVisitorPair implements PruningFieldVisitor {
     private final FieldVisitor first;
     private final FieldVisitor second;
 
@@ -40,6 +40,34 @@ public class FieldVisitorPair implements FieldVisitor {
         second.visit(field);
     }
 
+    /**
+     * Visits the field with both visitors, unless the first returns {@link VisitResult#TERMINATE}.
+     *
+     * @param field the field being visited
+     * @return the result with the most effect on the walk.
+     */
+    @Override
+    public VisitResult visitWithResult(final FieldInfo field) {
+        final VisitResult result = FieldVisitors.visitWithResult(first, field);
+        if (result == VisitResult.TERMINATE) {
+            return result;
+        }
+        return result.combine(FieldVisitors.visitWithResult(second, field));
+    }
+
+    /**
+     * @return true if both visitors in the pair are thread-safe.
+     */
+    @Override
+    public boolean isThreadSafe() {
+        return first.isThreadSafe() && second.isThreadSafe();
+    }
+
+    @Override
+    public boolean acceptsFlyweights() {
+        return first.acceptsFlyweights() && second.acceptsFlyweights();
+    }
+
     @Override
     public boolean equals(final Object o) {
         if (this == o) return true;
@@ -16,6 +16,8 @@
 
 package org.datalorax.populace.core.walk.visitor;
 
+import org.datalorax.populace.core.walk.field.FieldInfo;
+
 /**
  * Utils class containing help methods for working with and combining
  * {@link FieldVisitor field visitors}
@@ -28,4 +30,19 @@ public final class FieldVisitors {
     public static FieldVisitor chain(final FieldVisitor first, final FieldVisitor second) {
         return new FieldVisitorPair(first, second);
     }
+
+    /**
+     * Visit the {@code field} with the {@code visitor}, returning how the walk should proceed.
+     *
+     * @param visitor the visitor.
+     * @param field   the field to visit.
+     * @return the result of the visit, if the visitor is a {@link PruningFieldVisitor}, else {@link VisitResult#CONTINUE}.
+     */
+    public static VisitResult visitWithResult(final FieldVisitor visitor, final FieldInfo field) {
+        if (visitor instanceof PruningFieldVisitor) {
+            return ((PruningFieldVisitor) visitor).visitWithResult(field);
+        }
+        visitor.visit(field);
+        return VisitResult.CONTINUE;
+    }
 }
@@ -0,0 +1,41 @@
+/*
+ * Copyright (c) 2015 Andrew Coates
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.datalorax.populace.core.walk.visitor;
+
+import org.datalorax.populace.core.walk.field.FieldInfo;
+
+/**
+ * Field visitor that returns how the walk should proceed after each visit. This allows visitors to prune the walk, e.g.
+ * to skip the subtree of a field they are not interested in, or to stop the walk once they've found what they're
+ * looking for.
+ *
+ * @author Andrew Coates - 17/10/2026.
+ */
+public interface PruningFieldVisitor extends FieldVisitor {
+    /**
+     * Called on visiting a field.
+     *
+     * @param field the field being visited
+     * @return how the walk should proceed.
+     */
+    VisitResult visitWithResult(final FieldInfo field);
+
+    @Override
+    default void visit(final FieldInfo field) {
+        visitWithResult(field);
+    }
+}
@@ -30,6 +30,16 @@ public class SetAccessibleFieldVisitor implements FieldVisitor {
         fieldInfo.ensureAccessible();
     }
 
+    @Override
+    public boolean isThreadSafe() {
+        return true;
+    }
+
+    @Override
+    public boolean acceptsFlyweights() {
+        return true;
+    }
+
     @Override
     public boolean equals(final Object that) {
         return this == that || (that != null && getClass() == that.getClass());
@@ -0,0 +1,52 @@
+/*
+ * Copyright (c) 2015 Andrew Coates
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.datalorax.populace.core.walk.visitor;
+
+/**
+ * The result of visiting a field or element, controlling how the walk proceeds.
+ *
+ * @author Andrew Coates - 17/10/2026.
+ * @see PruningFieldVisitor
+ * @see PruningElementVisitor
+ */
+public enum VisitResult {
+    /**
+     * Continue the walk as normal, walking the value of the visited field or element.
+     */
+    CONTINUE,
+
+    /**
+     * Continue the walk, but do not walk the value of the visited field or element.
+     */
+    SKIP_SUBTREE,
+
+    /**
+     * Stop the walk. {@link org.datalorax.populace.core.walk.GraphWalker#walk walk} returns normally, without visiting
+     * any more fields or elements.
+     */
+    TERMINATE;
+
+    /**
+     * Combine two results, returning whichever has the most effect on the walk.
+     *
+     * @param other the result to combine with.
+     * @return the combined result.
+     */
+    public VisitResult combine(final VisitResult other) {
+        return other.ordinal() > ordinal() ? other : this;
+    }
+}
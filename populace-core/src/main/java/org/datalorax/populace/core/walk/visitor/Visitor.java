@@ -0,0 +1,51 @@
+/*
+ * Copyright (c) 2015 Andrew Coates
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.datalorax.populace.core.walk.visitor;
+
+/**
+ * Base interface of {@link FieldVisitor field} and {@link ElementVisitor element} visitors, holding details common to
+ * both.
+ *
+ * @author Andrew Coates - 17/10/2026.
+ */
+public interface Visitor {
+    /**
+     * Visitors that can safely be called from multiple threads at the same time should return true. Walkers configured
+     * to walk in parallel will call such visitors concurrently. Calls to visitors that are not thread-safe are
+     * serialised.
+     *
+     * @return true if the visitor is thread-safe, false otherwise. Default is false.
+     * @see org.datalorax.populace.core.walk.GraphWalker.Builder#withParallelism(java.util.concurrent.ForkJoinPool)
+     */
+    default boolean isThreadSafe() {
+        return false;
+    }
+
+    /**
+     * Visitors that only use the {@link org.datalorax.populace.core.walk.field.FieldInfo fields} and
+     * {@link org.datalorax.populace.core.walk.element.ElementInfo elements} they are passed during the call to visit
+     * them should return true. Walks run from a {@link org.datalorax.populace.core.walk.WalkSession session} pass such
+     * visitors flyweight instances, which are reused for each field and element visited. A visitor that needs to keep
+     * hold of a field or element can take a stable copy by calling its {@code snapshot()} method.
+     *
+     * @return true if the visitor does not retain the fields and elements it visits, false otherwise. Default is false.
+     * @see org.datalorax.populace.core.walk.GraphWalker#newSession()
+     */
+    default boolean acceptsFlyweights() {
+        return false;
+    }
+}
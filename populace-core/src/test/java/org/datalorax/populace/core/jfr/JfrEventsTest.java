@@ -0,0 +1,131 @@
+/*
+ * Copyright (c) 2015 Andrew Coates
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.datalorax.populace.core.jfr;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.datalorax.populace.core.populate.GraphPopulator;
+import org.testng.SkipException;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+public class JfrEventsTest {
+    private Recording recording;
+    private Path file;
+
+    @BeforeMethod
+    public void setUp() throws Exception {
+        if (!JfrEvents.isAvailable()) {
+            throw new SkipException("JFR not supported by this JVM");
+        }
+
+        file = Files.createTempFile("populace", ".jfr");
+        recording = new Recording();
+        recording.enable(JfrEvents.WALK_EVENT).withThreshold(Duration.ZERO);
+        recording.enable(JfrEvents.MUTATE_EVENT).withThreshold(Duration.ZERO);
+        recording.enable(JfrEvents.CREATE_INSTANCE_EVENT).withThreshold(Duration.ZERO);
+    }
+
+    @AfterMethod
+    public void tearDown() throws Exception {
+        if (recording != null) {
+            recording.close();
+            Files.deleteIfExists(file);
+        }
+    }
+
+    @Test
+    public void shouldRecordWalkEvent() throws Exception {
+        // When:
+        final List<RecordedEvent> events = record(new WithFields());
+
+        // Then:
+        final List<RecordedEvent> walks = eventsOf(events, JfrEvents.WALK_EVENT);
+        assertThat(walks, hasSize(1));
+        assertThat(walks.get(0).getClass("rootClass").getName(), is(WithFields.class.getName()));
+    }
+
+    @Test
+    public void shouldRecordMutateEventsWithPathAndType() throws Exception {
+        // When:
+        final List<RecordedEvent> events = record(new WithFields());
+
+        // Then:
+        final List<String> mutations = eventsOf(events, JfrEvents.MUTATE_EVENT).stream()
+            .map(e -> e.getString("path") + ":" + e.getString("type"))
+            .collect(Collectors.toList());
+        assertThat(mutations, hasItems(
+            "WithFields.name:java.lang.String",
+            "WithFields.list:java.util.List<java.lang.String>"));
+    }
+
+    @Test
+    public void shouldRecordCreateInstanceEventsAgainstPathBeingMutated() throws Exception {
+        // When:
+        final List<RecordedEvent> events = record(new WithFields());
+
+        // Then:
+        final List<String> creations = eventsOf(events, JfrEvents.CREATE_INSTANCE_EVENT).stream()
+            .map(e -> e.getString("path") + ":" + e.getString("type"))
+            .collect(Collectors.toList());
+        assertThat(creations, hasItem(startsWith("WithFields.list:")));
+    }
+
+    @Test
+    public void shouldNotRecordDisabledEvents() throws Exception {
+        // Given:
+        recording.disable(JfrEvents.MUTATE_EVENT);
+
+        // When:
+        final List<RecordedEvent> events = record(new WithFields());
+
+        // Then:
+        assertThat(eventsOf(events, JfrEvents.MUTATE_EVENT), is(empty()));
+        assertThat(eventsOf(events, JfrEvents.CREATE_INSTANCE_EVENT), is(not(empty())));
+    }
+
+    private List<RecordedEvent> record(final Object instance) throws Exception {
+        recording.start();
+        GraphPopulator.newBuilder().build().populate(instance);
+        recording.stop();
+        recording.dump(file);
+        return RecordingFile.readAllEvents(file);
+    }
+
+    private static List<RecordedEvent> eventsOf(final List<RecordedEvent> events, final String name) {
+        return events.stream()
+            .filter(e -> e.getEventType().getName().equals(name))
+            .collect(Collectors.toList());
+    }
+
+    @SuppressWarnings("UnusedDeclaration")
+    public static class WithFields {
+        private String name;
+        private List<String> list;
+    }
+}
@@ -0,0 +1,53 @@
+/*
+ * Copyright (c) 2015 Andrew Coates
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.datalorax.populace.core.metrics;
+
+import com.google.common.testing.EqualsTester;
+import org.testng.annotations.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+public class TimingTest {
+    @Test
+    public void shouldCalculateMean() throws Exception {
+        assertThat(new Timing(4, 10).getMeanNanos(), is(2.5));
+    }
+
+    @Test
+    public void shouldHaveZeroMeanIfNeverTaken() throws Exception {
+        assertThat(Timing.ZERO.getMeanNanos(), is(0.0));
+    }
+
+    @Test
+    public void shouldAddTimings() throws Exception {
+        assertThat(new Timing(1, 10).plus(new Timing(2, 5)), is(new Timing(3, 15)));
+    }
+
+    @Test
+    public void shouldTestEqualsAndHashCode() throws Exception {
+        new EqualsTester()
+            .addEqualityGroup(
+                new Timing(1, 10),
+                new Timing(1, 10))
+            .addEqualityGroup(
+                new Timing(2, 10))
+            .addEqualityGroup(
+                new Timing(1, 11))
+            .testEquals();
+    }
+}
@@ -0,0 +1,169 @@
+/*
+ * Copyright (c) 2015 Andrew Coates
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.datalorax.populace.core.metrics;
+
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import javax.management.openmbean.CompositeData;
+import javax.management.openmbean.TabularData;
+import java.lang.management.ManagementFactory;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+public class WalkMetricsTest {
+    private WalkMetrics metrics;
+
+    @BeforeMethod
+    public void setUp() throws Exception {
+        metrics = new WalkMetrics();
+    }
+
+    @Test
+    public void shouldStartEmpty() throws Exception {
+        // When:
+        final MetricsSnapshot snapshot = metrics.snapshot();
+
+        // Then:
+        assertThat(snapshot.getTypes(), is(empty()));
+        assertThat(snapshot.getTotal(WalkMetrics.Step.MUTATE), is(Timing.ZERO));
+    }
+
+    @Test
+    public void shouldAccumulateRecordedSteps() throws Exception {
+        // When:
+        metrics.record(WalkMetrics.Step.MUTATE, String.class, 10);
+        metrics.record(WalkMetrics.Step.MUTATE, String.class, 5);
+        metrics.record(WalkMetrics.Step.VISIT_FIELD, String.class, 7);
+        metrics.record(WalkMetrics.Step.MUTATE, Integer.class, 1);
+
+        // Then:
+        final MetricsSnapshot snapshot = metrics.snapshot();
+        assertThat(snapshot.getTypes(), containsInAnyOrder(String.class, Integer.class));
+        assertThat(snapshot.get(String.class, WalkMetrics.Step.MUTATE), is(new Timing(2, 15)));
+        assertThat(snapshot.get(String.class, WalkMetrics.Step.VISIT_FIELD), is(new Timing(1, 7)));
+        assertThat(snapshot.get(Integer.class, WalkMetrics.Step.VISIT_FIELD), is(Timing.ZERO));
+        assertThat(snapshot.getTotal(WalkMetrics.Step.MUTATE), is(new Timing(3, 16)));
+    }
+
+    @Test
+    public void shouldNotChangeSnapshotOnceTaken() throws Exception {
+        // Given:
+        metrics.record(WalkMetrics.Step.MUTATE, String.class, 10);
+        final MetricsSnapshot snapshot = metrics.snapshot();
+
+        // When:
+        metrics.record(WalkMetrics.Step.MUTATE, String.class, 10);
+
+        // Then:
+        assertThat(snapshot.get(String.class, WalkMetrics.Step.MUTATE), is(new Timing(1, 10)));
+    }
+
+    @Test
+    public void shouldDiscardMetricsOnReset() throws Exception {
+        // Given:
+        metrics.record(WalkMetrics.Step.MUTATE, String.class, 10);
+
+        // When:
+        metrics.reset();
+
+        // Then:
+        assertThat(metrics.snapshot().getTypes(), is(empty()));
+    }
+
+    @Test
+    public void shouldRecordConcurrently() throws Exception {
+        // Given:
+        final int threads = 4;
+        final int recordsPerThread = 10000;
+        final ExecutorService executor = Executors.newFixedThreadPool(threads);
+
+        // When:
+        for (int t = 0; t != threads; ++t) {
+            executor.execute(() -> {
+                for (int i = 0; i != recordsPerThread; ++i) {
+                    metrics.record(WalkMetrics.Step.VISIT_ELEMENT, Object.class, 1);
+                }
+            });
+        }
+        executor.shutdown();
+        assertThat(executor.awaitTermination(30, TimeUnit.SECONDS), is(true));
+
+        // Then:
+        final long expected = threads * recordsPerThread;
+        assertThat(metrics.snapshot().get(Object.class, WalkMetrics.Step.VISIT_ELEMENT), is(new Timing(expected, expected)));
+    }
+
+    @Test
+    public void shouldExposeMetricsViaMXBean() throws Exception {
+        // Given:
+        metrics.record(WalkMetrics.Step.MUTATE, String.class, 10);
+        final WalkMetricsMXBean mxBean = metrics.asMXBean();
+
+        // When:
+        final Map<String, Timing> totals = mxBean.getTotals();
+        final Map<String, Map<String, Timing>> byType = mxBean.getTimingsByType();
+
+        // Then:
+        assertThat(totals, hasEntry("MUTATE", new Timing(1, 10)));
+        assertThat(totals, hasEntry("VISIT_FIELD", Timing.ZERO));
+        assertThat(byType, is(Collections.singletonMap(String.class.getName(), Collections.singletonMap("MUTATE", new Timing(1, 10)))));
+    }
+
+    @Test
+    public void shouldResetViaMXBean() throws Exception {
+        // Given:
+        metrics.record(WalkMetrics.Step.MUTATE, String.class, 10);
+
+        // When:
+        metrics.asMXBean().reset();
+
+        // Then:
+        assertThat(metrics.snapshot().getTypes(), is(empty()));
+    }
+
+    @Test
+    public void shouldBeRegistrableWithPlatformMBeanServer() throws Exception {
+        // Given:
+        metrics.record(WalkMetrics.Step.MUTATE, String.class, 10);
+        final MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        final ObjectName name = new ObjectName("org.datalorax.populace:type=WalkMetrics,name=" + getClass().getSimpleName());
+        server.registerMBean(metrics.asMXBean(), name);
+
+        try {
+            // When:
+            final TabularData totals = (TabularData) server.getAttribute(name, "Totals");
+            final TabularData byType = (TabularData) server.getAttribute(name, "TimingsByType");
+
+            // Then:
+            final CompositeData mutate = (CompositeData) totals.get(new Object[]{"MUTATE"}).get("value");
+            assertThat(mutate.get("count"), is(1L));
+            assertThat(mutate.get("totalNanos"), is(10L));
+            assertThat(byType.size(), is(1));
+        } finally {
+            server.unregisterMBean(name);
+        }
+    }
+}
@@ -17,11 +17,15 @@
 package org.datalorax.populace.core.populate;
 
 import org.datalorax.populace.core.CustomCollection;
+import org.datalorax.populace.core.metrics.MetricsSnapshot;
+import org.datalorax.populace.core.metrics.WalkMetrics;
 import org.datalorax.populace.core.populate.instance.InstanceFactories;
 import org.datalorax.populace.core.populate.instance.InstanceFactory;
 import org.datalorax.populace.core.populate.instance.NullObjectStrategy;
 import org.datalorax.populace.core.populate.mutator.Mutators;
 import org.datalorax.populace.core.populate.mutator.NoOpMutator;
+import org.datalorax.populace.core.walk.WalkBudget;
+import org.datalorax.populace.core.walk.WalkBudgetExceededException;
 import org.datalorax.populace.core.walk.WalkerException;
 import org.hamcrest.Matchers;
 import org.testng.annotations.BeforeMethod;
@@ -30,6 +34,7 @@ import org.testng.annotations.Test;
 import java.lang.reflect.Type;
 import java.math.BigDecimal;
 import java.util.*;
+import java.util.concurrent.ForkJoinPool;
 
 import static org.hamcrest.CoreMatchers.equalTo;
 import static org.hamcrest.CoreMatchers.notNullValue;
@@ -44,6 +49,7 @@ import static org.mockito.Matchers.anyObject;
 import static org.mockito.Matchers.eq;
 import static org.mockito.Matchers.isA;
 import static org.mockito.Mockito.*;
+import static org.testng.Assert.fail;
 
 /**
  * @author Andrew Coates - 25/02/2015.
@@ -411,6 +417,81 @@ public class GraphPopulatorFunctionTest {
         assertThat(populated._list, is(not(original._list)));
     }
 
+    @Test
+    public void shouldRecordMetricsIfInstalled() throws Exception {
+        // Given:
+        class WithList {
+            public List<TypeThatCanBeMutated> _list;
+        }
+
+        final WalkMetrics metrics = new WalkMetrics();
+        populator = GraphPopulator.newBuilder().withMetrics(metrics).build();
+
+        // When:
+        populator.populate(new WithList());
+
+        // Then:
+        final MetricsSnapshot snapshot = metrics.snapshot();
+        assertThat(snapshot.get(WithList.class, WalkMetrics.Step.VISIT_FIELD).getCount(), is(1L));
+        assertThat(snapshot.get(ArrayList.class, WalkMetrics.Step.CREATE_INSTANCE).getCount(), is(greaterThan(0L)));
+        assertThat(snapshot.get(ArrayList.class, WalkMetrics.Step.MUTATE).getCount(), is(1L));
+        assertThat(snapshot.get(ArrayList.class, WalkMetrics.Step.VISIT_ELEMENT).getCount(), is(greaterThan(0L)));
+        assertThat(snapshot.get(TypeThatCanBeMutated.class, WalkMetrics.Step.VISIT_FIELD).getCount(), is(greaterThan(0L)));
+    }
+
+    @Test
+    public void shouldPopulateInParallel() throws Exception {
+        // Given:
+        class WithLargeList {
+            public List<TypeThatCanBeMutated> _list = new ArrayList<>();
+            public TypeThatCanBeMutated[] _array = new TypeThatCanBeMutated[1000];
+
+            WithLargeList() {
+                for (int i = 0; i != 1000; ++i) {
+                    _list.add(new TypeThatCanBeMutated(String.valueOf(i)));
+                    _array[i] = new TypeThatCanBeMutated(String.valueOf(i));
+                }
+            }
+        }
+
+        final GraphPopulator parallel = GraphPopulator.newBuilder()
+            .withParallelism(ForkJoinPool.commonPool())
+            .build();
+
+        // When:
+        final WithLargeList expected = populator.populate(new WithLargeList());
+        final WithLargeList populated = parallel.populate(new WithLargeList());
+
+        // Then:
+        assertThat(populated._list, is(expected._list));
+        assertThat(populated._array, is(expected._array));
+    }
+
+    @Test
+    public void shouldStopPopulatingWhenBudgetExceeded() throws Exception {
+        // Given:
+        class WithFields {
+            public String _first;
+            public String _second;
+        }
+
+        final GraphPopulator limited = GraphPopulator.newBuilder()
+            .withWalkBudget(WalkBudget.newBuilder().withMaxNodes(1).build())
+            .build();
+        final WithFields instance = new WithFields();
+
+        try {
+            // When:
+            limited.populate(instance);
+            fail("should throw");
+        } catch (WalkBudgetExceededException e) {
+            // Then:
+            assertThat(e.getLimit(), is(WalkBudget.Limit.MAX_NODES));
+            assertThat(instance._first, is(not(nullValue())));
+            assertThat(instance._second, is(nullValue()));
+        }
+    }
+
     @Test
     public void shouldHandleListsWithNulls() throws Exception {
         // Given:
@@ -1058,6 +1139,29 @@ public class GraphPopulatorFunctionTest {
         assertThat(populated._list, is(not(original._list)));
     }
 
+    @Test
+    public void shouldPopulateManyInstancesWithSession() throws Exception {
+        // Given:
+        class SomeType {
+            private String name;
+            private int count;
+            private List<String> list;
+            private Map<Integer, String> map;
+        }
+        final PopulatorSession session = populator.newSession();
+
+        for (int i = 0; i != 3; ++i) {
+            // When:
+            final SomeType populated = session.populate(new SomeType());
+
+            // Then:
+            assertThat(populated.name, is(notNullValue()));
+            assertThat(populated.count, is(not(0)));
+            assertThat(populated.list, is(not(empty())));
+            assertThat(populated.map.size(), is(not(0)));
+        }
+    }
+
     @Test(expectedExceptions = WalkerException.class)
     public void shouldWrapExceptionsThrownDuringFieldVisit() throws Exception {
         // Given:
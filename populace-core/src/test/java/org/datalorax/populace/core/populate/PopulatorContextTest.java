@@ -18,10 +18,12 @@ package org.datalorax.populace.core.populate;
 
 import com.google.common.testing.EqualsTester;
 import com.google.common.testing.NullPointerTester;
+import org.datalorax.populace.core.metrics.WalkMetrics;
 import org.datalorax.populace.core.populate.instance.InstanceFactories;
 import org.datalorax.populace.core.populate.instance.InstanceFactory;
 import org.datalorax.populace.core.populate.mutator.Mutators;
 import org.datalorax.populace.core.util.TypeUtils;
+import org.datalorax.populace.core.walk.field.FieldInfo;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 import org.testng.annotations.BeforeMethod;
@@ -58,6 +60,37 @@ public class PopulatorContextTest {
         context = new PopulatorContext(mutators, instanceFactories);
     }
 
+    @Test
+    public void shouldMutatePrimitiveFieldWithoutBoxing() throws Exception {
+        // Given:
+        final Object owner = new Object();
+        final FieldInfo field = givenIntField(owner, 1);
+        final PrimitiveMutator mutator = mock(PrimitiveMutator.class);
+        when(mutator.mutateInt(1, owner, context)).thenReturn(43);
+
+        // When:
+        context.mutatePrimitive(field, mutator);
+
+        // Then:
+        verify(field).setInt(43);
+        verify(mutator, never()).mutate(any(Type.class), anyObject(), anyObject(), any(PopulatorContext.class));
+    }
+
+    @Test
+    public void shouldNotWriteBackUnchangedPrimitive() throws Exception {
+        // Given:
+        final Object owner = new Object();
+        final FieldInfo field = givenIntField(owner, 1);
+        final PrimitiveMutator mutator = mock(PrimitiveMutator.class);
+        when(mutator.mutateInt(1, owner, context)).thenReturn(1);
+
+        // When:
+        context.mutatePrimitive(field, mutator);
+
+        // Then:
+        verify(field, never()).setInt(anyInt());
+    }
+
     @Test
     public void shouldUseInstanceFactoriesToCreateInstance() throws Exception {
         // Given:
@@ -281,8 +314,55 @@ public class PopulatorContextTest {
         verify(factory).createInstance(eq(Object.class), anyObject(), any(InstanceFactories.class));
     }
 
+    @Test
+    public void shouldMutateUsingMutatorRegisteredForType() throws Exception {
+        // Given:
+        final Mutator mutator = mock(Mutator.class);
+        final Object parent = new Object();
+        when(mutators.get(String.class)).thenReturn(mutator);
+        when(mutator.mutate(String.class, "current", parent, context)).thenReturn("mutated");
+
+        // When:
+        final Object mutated = context.mutate(String.class, "current", parent);
+
+        // Then:
+        assertThat(mutated, is("mutated"));
+    }
+
+    @Test
+    public void shouldRecordMutateMetricsIfInstalled() throws Exception {
+        // Given:
+        final WalkMetrics metrics = new WalkMetrics();
+        final Mutator mutator = mock(Mutator.class);
+        context = new PopulatorContext(mutators, instanceFactories, metrics);
+        when(mutators.get(String.class)).thenReturn(mutator);
+        when(mutator.mutate(String.class, null, null, context)).thenReturn("mutated");
+
+        // When:
+        context.mutate(String.class, null, null);
+
+        // Then:
+        assertThat(metrics.snapshot().get(String.class, WalkMetrics.Step.MUTATE).getCount(), is(1L));
+    }
+
+    @Test
+    public void shouldRecordCreateInstanceMetricsIfInstalled() throws Exception {
+        // Given:
+        final WalkMetrics metrics = new WalkMetrics();
+        givenInstanceFactoryInstalled("value");
+        context = new PopulatorContext(mutators, instanceFactories, metrics);
+
+        // When:
+        context.createInstance(String.class, null);
+
+        // Then:
+        assertThat(metrics.snapshot().get(String.class, WalkMetrics.Step.CREATE_INSTANCE).getCount(), is(1L));
+    }
+
     @Test
     public void shouldTestEqualsAndHashCode() throws Exception {
+        final WalkMetrics metrics = new WalkMetrics();
+
         new EqualsTester()
             .addEqualityGroup(
                 new PopulatorContext(mutators, instanceFactories),
@@ -291,6 +371,9 @@ public class PopulatorContextTest {
                 new PopulatorContext(mock(Mutators.class, "other"), instanceFactories))
             .addEqualityGroup(
                 new PopulatorContext(mutators, mock(InstanceFactories.class, "other")))
+            .addEqualityGroup(
+                new PopulatorContext(mutators, instanceFactories, metrics),
+                new PopulatorContext(mutators, instanceFactories, metrics))
             .testEquals();
     }
 
@@ -327,4 +410,12 @@ public class PopulatorContextTest {
         when(instanceFactories.getSpecific(type)).thenReturn(Optional.of(factory));
         return factory;
     }
+
+    private static FieldInfo givenIntField(final Object owner, final int value) {
+        final FieldInfo field = mock(FieldInfo.class);
+        doReturn(int.class).when(field).getType();
+        when(field.getOwningInstance()).thenReturn(owner);
+        when(field.getInt()).thenReturn(value);
+        return field;
+    }
 }
\ No newline at end of file
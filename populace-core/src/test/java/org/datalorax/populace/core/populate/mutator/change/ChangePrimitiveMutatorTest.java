@@ -19,6 +19,7 @@ package org.datalorax.populace.core.populate.mutator.change;
 import com.google.common.testing.EqualsTester;
 import org.datalorax.populace.core.populate.Mutator;
 import org.datalorax.populace.core.populate.PopulatorContext;
+import org.datalorax.populace.core.populate.PrimitiveMutator;
 import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.DataProvider;
 import org.testng.annotations.Test;
@@ -168,6 +169,19 @@ public class ChangePrimitiveMutatorTest {
             .testEquals();
     }
 
+    @Test
+    public void shouldMutateUnboxedValuesAsBoxed() throws Exception {
+        // Given:
+        final PrimitiveMutator primitiveMutator = (PrimitiveMutator) mutator;
+
+        // Then:
+        assertThat(primitiveMutator.mutateBoolean(true, null, config), is(mutator.mutate(boolean.class, true, null, config)));
+        assertThat(primitiveMutator.mutateChar('a', null, config), is(mutator.mutate(char.class, 'a', null, config)));
+        assertThat(primitiveMutator.mutateInt(29, null, config), is(mutator.mutate(int.class, 29, null, config)));
+        assertThat(primitiveMutator.mutateLong(29L, null, config), is(mutator.mutate(long.class, 29L, null, config)));
+        assertThat(primitiveMutator.mutateDouble(2.9, null, config), is(mutator.mutate(double.class, 2.9, null, config)));
+    }
+
     @DataProvider
     private Object[][] primitives() {
         Object[][] objects = new Object[PRIMITIVES.size()][];
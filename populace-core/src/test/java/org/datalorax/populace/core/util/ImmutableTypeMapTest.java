@@ -29,6 +29,7 @@ import java.util.concurrent.ConcurrentHashMap;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
 
 /**
  * @author Andrew Coates - 27/02/2015.
@@ -99,6 +100,46 @@ public class ImmutableTypeMapTest {
         assertThat(value, is("specific"));
     }
 
+    @Test
+    public void shouldReportSpecificParameterisationsOfRawType() throws Exception {
+        // Given:
+        final ImmutableTypeMap<String> collection = ImmutableTypeMap.newBuilder("default")
+            .withSpecificType(TypeUtils.parameterise(HashSet.class, String.class), "specific")
+            .withSpecificType(List.class, "raw")
+            .build();
+
+        // Then:
+        assertThat(collection.hasSpecificParameterisationsOf(HashSet.class), is(true));
+        assertThat(collection.hasSpecificParameterisationsOf(List.class), is(false));
+        assertThat(collection.hasSpecificParameterisationsOf(Set.class), is(false));
+    }
+
+    @Test
+    public void shouldMatchAnyParameterisationIfRegisteredWithOwnTypeVariables() throws Exception {
+        // Given:
+        final ImmutableTypeMap<String> collection = ImmutableTypeMap.newBuilder("default")
+            .withSpecificType(TypeUtils.parameterise(HashSet.class, HashSet.class.getTypeParameters()), "any")
+            .withSpecificType(TypeUtils.parameterise(HashSet.class, String.class), "String")
+            .withSuperType(Set.class, "Set")
+            .build();
+
+        // Then:
+        assertThat(collection.get(TypeUtils.parameterise(HashSet.class, Integer.class)), is("any"));
+        assertThat(collection.get(TypeUtils.parameterise(HashSet.class, String.class)), is("String"));
+        assertThat(collection.get(TypeUtils.parameterise(HashSet.class, HashSet.class.getTypeParameters())), is("any"));
+    }
+
+    @Test
+    public void shouldNotReportOwnTypeVariablesAsSpecificParameterisation() throws Exception {
+        // Given:
+        final ImmutableTypeMap<String> collection = ImmutableTypeMap.newBuilder("default")
+            .withSpecificType(TypeUtils.parameterise(HashSet.class, HashSet.class.getTypeParameters()), "any")
+            .build();
+
+        // Then:
+        assertThat(collection.hasSpecificParameterisationsOf(HashSet.class), is(false));
+    }
+
     @Test
     public void shouldGetSpecificOverSuperValue() throws Exception {
         // Given:
@@ -406,6 +447,67 @@ public class ImmutableTypeMapTest {
         assertThat(value, is("specific"));
     }
 
+    @Test
+    public void shouldGetSuperValueRegisteredAgainstInterfaceOfSuperClass() throws Exception {
+        // Given:
+        final ImmutableTypeMap<String> collection = ImmutableTypeMap.newBuilder("default")
+            .withSuperType(Collection.class, "Collection")
+            .withSuperType(Number.class, "Number")
+            .build();
+
+        // When:
+        final String value = collection.get(ArrayList.class);
+
+        // Then:
+        assertThat(value, is("Collection"));
+    }
+
+    @Test
+    public void shouldGetObjectSuperValueForInterfaceKey() throws Exception {
+        // Given:
+        final ImmutableTypeMap<String> collection = ImmutableTypeMap.newBuilder("default")
+            .withSuperType(Object.class, "Object")
+            .build();
+
+        // When:
+        final String value = collection.get(Runnable.class);
+
+        // Then:
+        assertThat(value, is("Object"));
+    }
+
+    @Test
+    public void shouldGetSuperValueForPrimitiveKeyThroughAutoboxing() throws Exception {
+        // Given:
+        final ImmutableTypeMap<String> collection = ImmutableTypeMap.newBuilder("default")
+            .withSuperType(Number.class, "Number")
+            .build();
+
+        // When:
+        final String value = collection.get(int.class);
+
+        // Then:
+        assertThat(value, is("Number"));
+    }
+
+    @Test
+    public void shouldReturnSameValueOnRepeatedLookUps() throws Exception {
+        // Given:
+        final ImmutableTypeMap<String> collection = ImmutableTypeMap.newBuilder("default")
+            .withSuperType(List.class, "List")
+            .withPackageType("java.util", "java.util")
+            .build();
+
+        // When:
+        collection.get(ArrayList.class);
+        final String value = collection.get(ArrayList.class);
+
+        // Then:
+        assertThat(value, is("List"));
+        assertThat(collection.get(HashMap.class), is("java.util"));
+        assertThat(collection.getSuper(HashMap.class), is(nullValue()));
+    }
+
     @Test
     public void shouldTestEqualsAndHashCode() throws Exception {
         final Map<Type, String> specificVs = Collections.singletonMap(Integer.class, "specific");
@@ -0,0 +1,73 @@
+/*
+ * Copyright (c) 2015 Andrew Coates
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.datalorax.populace.core.util;
+
+import com.google.common.reflect.TypeToken;
+import org.testng.annotations.Test;
+
+import java.lang.reflect.Type;
+import java.util.List;
+import java.util.Map;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+public class TypeInternerTest {
+    @Test
+    public void shouldReturnClassesUnchanged() throws Exception {
+        assertThat(TypeInterner.intern(String.class), is(sameInstance((Type) String.class)));
+    }
+
+    @Test
+    public void shouldInternEqualTypesToSameInstance() throws Exception {
+        // Given:
+        final Type first = TypeUtils.parameterise(Map.class, String.class, Integer.class);
+        final Type second = TypeUtils.parameterise(Map.class, String.class, Integer.class);
+
+        // Then:
+        assertThat(TypeInterner.intern(first), is(sameInstance(TypeInterner.intern(second))));
+    }
+
+    @Test
+    public void shouldInternTypesFromDifferentImplementationsToSameInstance() throws Exception {
+        // Given:
+        final Type jdkType = new TypeToken<List<String>>() {}.getType();
+        final Type commonsType = TypeUtils.parameterise(List.class, String.class);
+
+        // Then:
+        assertThat(TypeInterner.intern(jdkType), is(sameInstance(TypeInterner.intern(commonsType))));
+    }
+
+    @Test
+    public void shouldInternToEqualType() throws Exception {
+        // Given:
+        final Type type = TypeUtils.parameterise(List.class, TypeUtils.wildcardTypeWithUpperBounds(Number.class));
+
+        // Then:
+        assertThat(TypeInterner.intern(type), is(equalTo(type)));
+    }
+
+    @Test
+    public void shouldNotInternDifferentTypesToSameInstance() throws Exception {
+        // Given:
+        final Type first = TypeUtils.parameterise(List.class, String.class);
+        final Type second = TypeUtils.parameterise(List.class, Integer.class);
+
+        // Then:
+        assertThat(TypeInterner.intern(first), is(not(sameInstance(TypeInterner.intern(second)))));
+    }
+}
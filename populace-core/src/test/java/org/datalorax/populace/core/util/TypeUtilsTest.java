@@ -30,7 +30,9 @@ import java.util.Map;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.sameInstance;
 import static org.mockito.Mockito.mock;
+import static org.testng.Assert.fail;
 
 public class TypeUtilsTest {
     @Test
@@ -81,6 +83,32 @@ public class TypeUtilsTest {
         TypeUtils.getTypeArgument(String.class, Map.class.getTypeParameters()[0]);
     }
 
+    @Test
+    public void shouldReturnSameTypeArgumentOnRepeatedCalls() throws Exception {
+        // Given:
+        final Type type = TypeUtils.parameterise(Map.class, String.class, Integer.class);
+        final Type first = TypeUtils.getTypeArgument(type, Map.class.getTypeParameters()[0]);
+
+        // When:
+        final Type second = TypeUtils.getTypeArgument(type, Map.class.getTypeParameters()[0]);
+
+        // Then:
+        assertThat(second, is(sameInstance(first)));
+        assertThat(TypeUtils.getTypeArgument(type, Map.class.getTypeParameters()[1]), is(equalTo(Integer.class)));
+    }
+
+    @Test
+    public void shouldThrowOnEveryCallIfTypesNotAssignable() throws Exception {
+        for (int i = 0; i != 2; ++i) {
+            try {
+                TypeUtils.getTypeArgument(String.class, Map.class.getTypeParameters()[0]);
+                fail("should throw");
+            } catch (IllegalArgumentException e) {
+                // Expected
+            }
+        }
+    }
+
     @Test
     public void shouldAbbreviateClassName() throws Exception {
         assertThat(TypeUtils.abbreviatedName(getClass()), is("o.d.p.c.u.TypeUtilsTest"));
@@ -0,0 +1,287 @@
+/*
+ * Copyright (c) 2015 Andrew Coates
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.datalorax.populace.core.walk;
+
+import org.datalorax.populace.core.walk.element.ElementInfo;
+import org.datalorax.populace.core.walk.field.FieldInfo;
+import org.datalorax.populace.core.walk.visitor.ElementVisitor;
+import org.datalorax.populace.core.walk.visitor.FieldVisitor;
+import org.datalorax.populace.core.walk.visitor.FieldVisitors;
+import org.datalorax.populace.core.walk.visitor.SetAccessibleFieldVisitor;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.testng.Assert.fail;
+
+public class GraphWalkerBudgetFunctionalTest {
+    private static final int SIZE = 200;
+
+    private ForkJoinPool pool;
+    private Level originalLogLevel;
+
+    @BeforeClass
+    public void setUpClass() throws Exception {
+        pool = new ForkJoinPool(4);
+
+        final Logger logger = Logger.getLogger(GraphWalker.class.getName());
+        originalLogLevel = logger.getLevel();
+        logger.setLevel(Level.WARNING);
+    }
+
+    @AfterClass
+    public void tearDownClass() throws Exception {
+        pool.shutdown();
+        Logger.getLogger(GraphWalker.class.getName()).setLevel(originalLogLevel);
+    }
+
+    @Test
+    public void shouldWalkWholeGraphWithinBudget() throws Exception {
+        // Given:
+        final AtomicInteger visits = new AtomicInteger();
+        final GraphWalker walker = givenWalker(WalkBudget.newBuilder()
+            .withMaxNodes(2 * SIZE + 1)
+            .withMaxDepth(3)
+            .withTimeout(Duration.ofMinutes(1))
+            .withCancellation(() -> false)
+            .build());
+
+        // When:
+        walker.walk(new WithList(), countingFieldVisitor(visits), countingElementVisitor(visits));
+
+        // Then:
+        assertThat(visits.get(), is(2 * SIZE + 1));
+    }
+
+    @Test
+    public void shouldStopWalkWhenMaxNodesExceeded() throws Exception {
+        // Given:
+        final AtomicInteger visits = new AtomicInteger();
+        final GraphWalker walker = givenWalker(WalkBudget.newBuilder().withMaxNodes(5).build());
+
+        try {
+            // When:
+            walker.walk(new WithList(), countingFieldVisitor(visits), countingElementVisitor(visits));
+            fail("should throw");
+        } catch (WalkBudgetExceededException e) {
+            // Then:
+            assertThat(e.getLimit(), is(WalkBudget.Limit.MAX_NODES));
+            assertThat(e.getNodesVisited(), is(5L));
+            assertThat(e.getPath(), is("WithList.list[2]"));
+            assertThat(visits.get(), is(5));
+        }
+    }
+
+    @Test
+    public void shouldStopWalkWhenMaxDepthExceeded() throws Exception {
+        // Given:
+        final AtomicInteger visits = new AtomicInteger();
+        final GraphWalker walker = givenWalker(WalkBudget.newBuilder().withMaxDepth(3).build());
+
+        try {
+            // When:
+            walker.walk(new Chain(10), countingFieldVisitor(visits), countingElementVisitor(visits));
+            fail("should throw");
+        } catch (WalkBudgetExceededException e) {
+            // Then:
+            assertThat(e.getLimit(), is(WalkBudget.Limit.MAX_DEPTH));
+            assertThat(e.getPath(), is("Chain.next.next.next.next"));
+            assertThat(visits.get(), is(3));
+        }
+    }
+
+    @Test
+    public void shouldStopWalkWhenTimeoutExceeded() throws Exception {
+        // Given:
+        final GraphWalker walker = givenWalker(WalkBudget.newBuilder().withTimeout(Duration.ofMillis(10)).build());
+        final ElementVisitor slowVisitor = element -> sleep(1);
+
+        try {
+            // When:
+            walker.walk(new WithList(), SetAccessibleFieldVisitor.INSTANCE, slowVisitor);
+            fail("should throw");
+        } catch (WalkBudgetExceededException e) {
+            // Then:
+            assertThat(e.getLimit(), is(WalkBudget.Limit.TIMEOUT));
+            assertThat(e.getNodesVisited(), is(lessThan(2L * SIZE + 1)));
+        }
+    }
+
+    @Test
+    public void shouldStopWalkWhenCancelled() throws Exception {
+        // Given:
+        final AtomicBoolean cancelled = new AtomicBoolean();
+        final GraphWalker walker = givenWalker(WalkBudget.newBuilder().withCancellation(cancelled::get).build());
+        final ElementVisitor cancellingVisitor = element -> cancelled.set(true);
+
+        try {
+            // When:
+            walker.walk(new WithList(), SetAccessibleFieldVisitor.INSTANCE, cancellingVisitor);
+            fail("should throw");
+        } catch (WalkBudgetExceededException e) {
+            // Then:
+            assertThat(e.getLimit(), is(WalkBudget.Limit.CANCELLED));
+            assertThat(e.getNodesVisited(), is((long) WalkBudget.CLOCK_CHECK_INTERVAL));
+        }
+    }
+
+    @Test
+    public void shouldRestoreContainersWhenBudgetExceeded() throws Exception {
+        // Given:
+        final WithSet instance = new WithSet();
+        final GraphWalker walker = givenWalker(WalkBudget.newBuilder().withMaxNodes(2).build());
+
+        try {
+            // When:
+            walker.walk(instance, SetAccessibleFieldVisitor.INSTANCE, element -> {});
+            fail("should throw");
+        } catch (WalkBudgetExceededException e) {
+            // Then:
+            assertThat(e.getPath(), is("WithSet.set[0].name"));
+            assertThat("set element should be restored", instance.set, contains(new Leaf("0")));
+        }
+    }
+
+    @Test
+    public void shouldStopParallelWalkWhenBudgetExceeded() throws Exception {
+        // Given:
+        final AtomicInteger visits = new AtomicInteger();
+        final GraphWalker walker = GraphWalker.newBuilder()
+            .withParallelism(pool)
+            .withWalkBudget(WalkBudget.newBuilder().withMaxNodes(50).build())
+            .build();
+
+        try {
+            // When:
+            walker.walk(new WithList(), countingFieldVisitor(visits), countingElementVisitor(visits));
+            fail("should throw");
+        } catch (WalkBudgetExceededException e) {
+            // Then:
+            assertThat(e.getLimit(), is(WalkBudget.Limit.MAX_NODES));
+            assertThat(visits.get(), is(50));
+        }
+    }
+
+    @Test
+    public void shouldStopOffloadedWalkWhenBudgetExceeded() throws Exception {
+        // Given:
+        final AtomicInteger visits = new AtomicInteger();
+        final GraphWalker walker = GraphWalker.newBuilder()
+            .withVisitorOffload(VisitorOffload.defaults())
+            .withWalkBudget(WalkBudget.newBuilder().withMaxNodes(50).build())
+            .build();
+
+        try {
+            // When:
+            walker.walk(new WithList(), countingFieldVisitor(visits), countingElementVisitor(visits));
+            fail("should throw");
+        } catch (WalkBudgetExceededException e) {
+            // Then:
+            assertThat(e.getLimit(), is(WalkBudget.Limit.MAX_NODES));
+            assertThat(visits.get(), is(50));
+        }
+    }
+
+    private static GraphWalker givenWalker(final WalkBudget budget) {
+        return GraphWalker.newBuilder().withWalkBudget(budget).build();
+    }
+
+    private static FieldVisitor countingFieldVisitor(final AtomicInteger visits) {
+        final ThreadSafeFieldVisitor counter = field -> visits.incrementAndGet();
+        return FieldVisitors.chain(SetAccessibleFieldVisitor.INSTANCE, counter);
+    }
+
+    private static ElementVisitor countingElementVisitor(final AtomicInteger visits) {
+        final ThreadSafeElementVisitor counter = element -> visits.incrementAndGet();
+        return counter;
+    }
+
+    private static void sleep(final long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private interface ThreadSafeFieldVisitor extends FieldVisitor {
+        @Override
+        default boolean isThreadSafe() {
+            return true;
+        }
+    }
+
+    private interface ThreadSafeElementVisitor extends ElementVisitor {
+        @Override
+        default boolean isThreadSafe() {
+            return true;
+        }
+    }
+
+    @SuppressWarnings("UnusedDeclaration")
+    private static class WithList {
+        private final List<Leaf> list = new ArrayList<>();
+
+        WithList() {
+            for (int i = 0; i != SIZE; ++i) {
+                list.add(new Leaf(String.valueOf(i)));
+            }
+        }
+    }
+
+    @SuppressWarnings("UnusedDeclaration")
+    private static class WithSet {
+        private final Set<Leaf> set = new HashSet<>(Collections.singletonList(new Leaf("0")));
+    }
+
+    @SuppressWarnings("UnusedDeclaration")
+    private static class Chain {
+        private final Chain next;
+
+        Chain(final int length) {
+            this.next = length == 1 ? null : new Chain(length - 1);
+        }
+    }
+
+    private static class Leaf {
+        private final String name;
+
+        Leaf(final String name) {
+            this.name = name;
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            return this == o || (o instanceof Leaf && name.equals(((Leaf) o).name));
+        }
+
+        @Override
+        public int hashCode() {
+            return name.hashCode();
+        }
+    }
+}
@@ -17,23 +17,39 @@
 package org.datalorax.populace.core.walk;
 
 import org.datalorax.populace.core.CustomCollection;
+import org.datalorax.populace.core.metrics.MetricsSnapshot;
+import org.datalorax.populace.core.metrics.WalkMetrics;
+import org.datalorax.populace.core.util.TypeUtils;
+import org.datalorax.populace.core.walk.element.ElementInfo;
 import org.datalorax.populace.core.walk.field.FieldInfo;
 import org.datalorax.populace.core.walk.field.FieldInfoMatcher;
+import org.datalorax.populace.core.walk.field.PathProvider;
+import org.datalorax.populace.core.walk.field.WalkPath;
+import org.datalorax.populace.core.walk.field.filter.StaticFieldFilter;
+import org.datalorax.populace.core.walk.inspector.Inspector;
 import org.datalorax.populace.core.walk.inspector.Inspectors;
 import org.datalorax.populace.core.walk.inspector.TerminalInspector;
 import org.datalorax.populace.core.walk.instance.InstanceTracker;
+import org.datalorax.populace.core.walk.listener.WalkListener;
 import org.datalorax.populace.core.walk.visitor.ElementVisitor;
 import org.datalorax.populace.core.walk.visitor.FieldVisitor;
 import org.datalorax.populace.core.walk.visitor.FieldVisitors;
+import org.datalorax.populace.core.walk.visitor.PruningElementVisitor;
+import org.datalorax.populace.core.walk.visitor.PruningFieldVisitor;
 import org.datalorax.populace.core.walk.visitor.SetAccessibleFieldVisitor;
+import org.datalorax.populace.core.walk.visitor.VisitResult;
 import org.hamcrest.Matchers;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Test;
 
+import java.lang.reflect.Type;
 import java.util.*;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Predicate;
+import java.util.logging.Level;
+import java.util.logging.Logger;
 
 import static org.datalorax.populace.core.walk.element.ElementInfoMatcher.elementOfType;
 import static org.datalorax.populace.core.walk.element.ElementInfoMatcher.elementWithValue;
@@ -42,8 +58,10 @@ import static org.datalorax.populace.core.walk.field.FieldInfoMatcher.fieldWithV
 import static org.hamcrest.CoreMatchers.equalTo;
 import static org.hamcrest.CoreMatchers.nullValue;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsInAnyOrder;
 import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
 import static org.mockito.Matchers.any;
 import static org.mockito.Mockito.*;
 import static org.testng.Assert.fail;
@@ -593,6 +611,30 @@ public class GraphWalkerFunctionalTest {
         verify(fieldVisitor, never()).visit(argThat(fieldInfo("_nested", NestedType.class)));
     }
 
+    @Test
+    public void shouldHonourCustomInspectorsForParameterisedTypes() throws Exception {
+        // Given:
+        @SuppressWarnings("UnusedDeclaration")
+        class TypeWithLists {
+            ArrayList<String> strings = new ArrayList<>(Collections.singletonList("terminal"));
+            ArrayList<Long> longs = new ArrayList<>(Collections.singletonList(1L));
+        }
+
+        walker = GraphWalker.newBuilder()
+            .withInspectors(Inspectors.newBuilder()
+                .withSpecificInspector(TypeUtils.parameterise(ArrayList.class, String.class), TerminalInspector.INSTANCE)
+                .build())
+            .build();
+
+        // When:
+        walker.walk(new TypeWithLists(), accessibleFieldVisitor, elementVisitor);
+        walker.walk(new TypeWithLists(), accessibleFieldVisitor, elementVisitor);
+
+        // Then:
+        verify(elementVisitor, never()).visit(argThat(elementWithValue("terminal")));
+        verify(elementVisitor, times(2)).visit(argThat(elementWithValue(1L)));
+    }
+
     @Test
     public void shouldVisitPrivateFieldsIfSomethingSetsAccessible() throws Exception {
         // Given:
@@ -675,6 +717,271 @@ public class GraphWalkerFunctionalTest {
         // It didn't stack overflow.
     }
 
+    @Test
+    public void shouldWalkVeryDeepGraphsWithoutStackOverflow() throws Exception {
+        // Given:
+        final int depth = 100_000;
+        final ChainNode root = new ChainNode();
+        ChainNode node = root;
+        for (int i = 1; i != depth; ++i) {
+            node = node.next = new ChainNode();
+        }
+
+        final List<Integer> depths = new ArrayList<>();
+        final Logger logger = Logger.getLogger(GraphWalker.class.getName());
+        final Level level = logger.getLevel();
+        logger.setLevel(Level.WARNING);     // Logging each of the deep paths would take an age
+
+        // When:
+        try {
+            walker.walk(root, field -> depths.add(field.getDepth()), elementVisitor);
+        } finally {
+            logger.setLevel(level);
+        }
+
+        // Then:
+        assertThat(depths.size(), is(depth));
+        assertThat(depths.get(depth - 1), is(depth));
+    }
+
+    @Test
+    public void shouldIncludePathInExceptionsFromDeepInTheGraph() throws Exception {
+        // Given:
+        final ChainNode root = new ChainNode();
+        root.next = new ChainNode();
+        root.next.next = new ChainNode();
+        doThrow(new RuntimeException()).when(fieldVisitor).visit(argThat(fieldWithValue("next", null)));
+
+        // When:
+        try {
+            walker.walk(root, accessibleFieldVisitor, elementVisitor);
+            fail("should of thrown exception");
+        } catch (WalkerException e) {
+            // Then:
+            assertThat(e.getPath(), is("ChainNode.next.next.next"));
+        }
+    }
+
+    @Test
+    public void shouldCallPostWalkAfterWalkingElementsChildren() throws Exception {
+        // Given:
+        @SuppressWarnings("UnusedDeclaration")
+        class TypeWithSet {
+            Set<TypeWithNestedObject> set = new HashSet<>(Collections.singletonList(new TypeWithNestedObject()));
+        }
+        final TypeWithSet instance = new TypeWithSet();
+        final List<String> visited = new ArrayList<>();
+
+        // When:
+        walker.walk(instance,
+            FieldVisitors.chain(SetAccessibleFieldVisitor.INSTANCE, field -> visited.add(field.getName() + ":" + instance.set.size())),
+            element -> visited.add("element:" + instance.set.size()));
+
+        // Then:
+        assertThat(visited, is(Arrays.asList("set:1", "element:0", "_nested:0", "_nested:0")));
+        assertThat(instance.set.size(), is(1));
+    }
+
+    @Test
+    public void shouldNotWalkSubtreeOfFieldIfVisitorSaysSkip() throws Exception {
+        // Given:
+        final ChainNode root = new ChainNode();
+        root.next = new ChainNode();
+        root.next.next = new ChainNode();
+        final List<Integer> depths = new ArrayList<>();
+        final PruningFieldVisitor visitor = field -> {
+            depths.add(field.getDepth());
+            return field.getDepth() == 2 ? VisitResult.SKIP_SUBTREE : VisitResult.CONTINUE;
+        };
+
+        // When:
+        walker.walk(root, visitor, elementVisitor);
+
+        // Then:
+        assertThat(depths, is(Arrays.asList(1, 2)));
+    }
+
+    @Test
+    public void shouldNotWalkSubtreeOfElementIfVisitorSaysSkip() throws Exception {
+        // Given:
+        @SuppressWarnings("UnusedDeclaration")
+        class TypeWithSet {
+            Set<TypeWithNestedObject> set = new HashSet<>(Collections.singletonList(new TypeWithNestedObject()));
+        }
+        final TypeWithSet instance = new TypeWithSet();
+        final List<String> visited = new ArrayList<>();
+
+        // When:
+        walker.walk(instance,
+            FieldVisitors.chain(SetAccessibleFieldVisitor.INSTANCE, field -> visited.add(field.getName())),
+            (PruningElementVisitor) element -> {
+                visited.add("element");
+                return VisitResult.SKIP_SUBTREE;
+            });
+
+        // Then:
+        assertThat(visited, is(Arrays.asList("set", "element")));
+        assertThat(instance.set.size(), is(1));
+    }
+
+    @Test
+    public void shouldStopWalkIfVisitorSaysTerminate() throws Exception {
+        // Given:
+        @SuppressWarnings("UnusedDeclaration")
+        class TypeWithSet {
+            Set<TypeWithNestedObject> set = new HashSet<>(Collections.singletonList(new TypeWithNestedObject()));
+            String after = "after";
+        }
+        final TypeWithSet instance = new TypeWithSet();
+        final List<String> visited = new ArrayList<>();
+        final PruningFieldVisitor visitor = field -> {
+            visited.add(field.getName());
+            return field.getName().equals("_nested") ? VisitResult.TERMINATE : VisitResult.CONTINUE;
+        };
+
+        // When:
+        walker.walk(instance, FieldVisitors.chain(SetAccessibleFieldVisitor.INSTANCE, visitor), elementVisitor);
+
+        // Then:
+        assertThat(visited, is(Arrays.asList("set", "_nested")));
+        assertThat("set element should be restored", instance.set.size(), is(1));
+    }
+
+    @Test
+    public void shouldRecordMetricsIfInstalled() throws Exception {
+        // Given:
+        final WalkMetrics metrics = new WalkMetrics();
+        walker = GraphWalker.newBuilder().withMetrics(metrics).build();
+
+        // When:
+        walker.walk(new TypeWithNestedObject(), accessibleFieldVisitor, elementVisitor);
+
+        // Then:
+        final MetricsSnapshot snapshot = metrics.snapshot();
+        assertThat(snapshot.getTypes(), containsInAnyOrder(TypeWithNestedObject.class, NestedType.class));
+        assertThat(snapshot.get(TypeWithNestedObject.class, WalkMetrics.Step.INSPECTOR_LOOKUP).getCount(), is(1L));
+        assertThat(snapshot.get(TypeWithNestedObject.class, WalkMetrics.Step.GET_FIELDS).getCount(), is(1L));
+        assertThat(snapshot.get(TypeWithNestedObject.class, WalkMetrics.Step.FIELD_FILTER).getCount(), is(1L));
+        assertThat(snapshot.get(TypeWithNestedObject.class, WalkMetrics.Step.VISIT_FIELD).getCount(), is(1L));
+        assertThat(snapshot.get(NestedType.class, WalkMetrics.Step.VISIT_FIELD).getCount(), is(1L));
+    }
+
+    @Test
+    public void shouldTraceWalkToListenerIfInstalled() throws Exception {
+        // Given:
+        final List<String> trace = new ArrayList<>();
+        walker = GraphWalker.newBuilder()
+            .withFieldFilter(field -> !field.getName().equals("excluded"))
+            .withWalkListener(new WalkListener() {
+                @Override
+                public void enterInstance(final Object instance, final Type type, final Inspector inspector, final PathProvider path) {
+                    trace.add("enter " + path.getPath());
+                }
+
+                @Override
+                public void exitInstance(final Object instance, final PathProvider path) {
+                    trace.add("exit " + path.getPath());
+                }
+
+                @Override
+                public void visitField(final FieldInfo field) {
+                    trace.add("visit " + field.getPath());
+                }
+
+                @Override
+                public void skipField(final FieldInfo field, final SkipReason reason) {
+                    trace.add("skip " + reason + " " + field.getPath());
+                }
+
+                @Override
+                public void visitElement(final ElementInfo element) {
+                    trace.add("visit " + element.getPath());
+                }
+
+                @Override
+                public void skipElement(final ElementInfo element, final SkipReason reason) {
+                    trace.add("skip " + reason + " " + element.getPath());
+                }
+            })
+            .build();
+
+        // When:
+        walker.walk(new TracedType(), accessibleFieldVisitor, elementVisitor);
+
+        // Then:
+        assertThat(trace, is(Arrays.asList(
+            "enter TracedType",
+            "skip EXCLUDED TracedType.excluded",
+            "visit TracedType.nullField",
+            "skip NULL_VALUE TracedType.nullField",
+            "visit TracedType.list",
+            "enter TracedType.list",
+            "visit TracedType.list[0]",
+            "skip NULL_VALUE TracedType.list[0]",
+            "visit TracedType.list[1]",
+            "enter TracedType.list[1]",
+            "exit TracedType.list[1]",
+            "exit TracedType.list",
+            "exit TracedType")));
+    }
+
+    @Test
+    public void shouldEvaluateStaticFieldFiltersOncePerField() throws Exception {
+        // Given:
+        final AtomicInteger staticCalls = new AtomicInteger();
+        final List<String> dynamicCalls = new ArrayList<>();
+        final StaticFieldFilter staticFilter = field -> {
+            staticCalls.incrementAndGet();
+            return !field.getName().equals("excluded");
+        };
+        walker = GraphWalker.newBuilder()
+            .withFieldFilter(staticFilter.and(field -> dynamicCalls.add(field.getPath())))
+            .build();
+
+        // When:
+        walker.walk(new TypeWithRepeatedFields(), accessibleFieldVisitor, elementVisitor);
+
+        // Then:
+        assertThat(staticCalls.get(), is(4));
+        assertThat(dynamicCalls, containsInAnyOrder(
+            "TypeWithRepeatedFields.first", "TypeWithRepeatedFields.first.included",
+            "TypeWithRepeatedFields.second", "TypeWithRepeatedFields.second.included"));
+    }
+
+    @Test
+    public void shouldWalkValuesOfDifferentClassesHeldBySameFieldAndContainer() throws Exception {
+        // Given:
+        @SuppressWarnings("UnusedDeclaration")
+        class TypeA {
+            String a = "a";
+        }
+        @SuppressWarnings("UnusedDeclaration")
+        class TypeB {
+            String b = "b";
+        }
+        @SuppressWarnings("UnusedDeclaration")
+        class Holder {
+            final Object value;
+
+            Holder(final Object value) {
+                this.value = value;
+            }
+        }
+        @SuppressWarnings("UnusedDeclaration")
+        class TypeWithMixedValues {
+            List<Object> elements = new ArrayList<>(Arrays.asList(new TypeA(), new TypeB(), "c", new TypeA()));
+            List<Holder> holders = new ArrayList<>(Arrays.asList(new Holder(new TypeA()), new Holder(new TypeB())));
+        }
+
+        // When:
+        walker.walk(new TypeWithMixedValues(), accessibleFieldVisitor, elementVisitor);
+
+        // Then:
+        verify(fieldVisitor, times(3)).visit(argThat(fieldInfo("a", TypeA.class)));
+        verify(fieldVisitor, times(2)).visit(argThat(fieldInfo("b", TypeB.class)));
+        verify(elementVisitor, times(6)).visit(any(ElementInfo.class));
+    }
+
     @Test
     public void shouldNotWalkSyntheticFields() throws Exception {
         // Given:
@@ -692,6 +999,24 @@ public class GraphWalkerFunctionalTest {
         verify(fieldVisitor).visit(argThat(fieldInfo("child", InnerClassType.class)));
     }
 
+    @SuppressWarnings("UnusedDeclaration")
+    public static class TracedType {
+        public String excluded = "excluded";
+        public String nullField;
+        public List<String> list = new ArrayList<>(Arrays.asList(null, "value"));
+    }
+
+    @SuppressWarnings("UnusedDeclaration")
+    public static class TypeWithRepeatedFields {
+        public RepeatedType first = new RepeatedType();
+        public RepeatedType second = new RepeatedType();
+
+        public static class RepeatedType {
+            public String included = "included";
+            public String excluded = "excluded";
+        }
+    }
+
     @SuppressWarnings("UnusedDeclaration")
     public static class TypeWithNestedObject {
         public NestedType _nested = new NestedType();
@@ -702,6 +1027,11 @@ public class GraphWalkerFunctionalTest {
         public NestedType _nested = null;
     }
 
+    @SuppressWarnings("UnusedDeclaration")
+    public static class ChainNode {
+        public ChainNode next;
+    }
+
     @SuppressWarnings("UnusedDeclaration")
     public static class AnotherNestedType {
         public AnotherNestedType _nested = null;
@@ -754,6 +1084,37 @@ public class GraphWalkerFunctionalTest {
         }};
     }
 
+    @Test
+    public void shouldStillInternPathsAfterWalkingLargeGraph() throws Exception {
+        // Given:
+        final List<SomeType> large = new ArrayList<>();
+        for (int i = 0; i != 70_000; ++i) {
+            large.add(new SomeType("value"));
+        }
+        final List<WalkPath> earlier = new ArrayList<>();
+        walker.walk(large, FieldVisitors.chain(SetAccessibleFieldVisitor.INSTANCE, field -> earlier.add(field.getWalkPath())),
+            element -> earlier.add(element.getWalkPath()));
+
+        final List<WalkPath> first = new ArrayList<>();
+        final List<WalkPath> second = new ArrayList<>();
+
+        // When:
+        walker.walk(new WalkedLater(),
+            FieldVisitors.chain(SetAccessibleFieldVisitor.INSTANCE, field -> first.add(field.getWalkPath())), elementVisitor);
+        walker.walk(new WalkedLater(),
+            FieldVisitors.chain(SetAccessibleFieldVisitor.INSTANCE, field -> second.add(field.getWalkPath())), elementVisitor);
+
+        // Then:
+        assertThat(earlier.size(), is(140_000));
+        assertThat(first.size(), is(1));
+        assertThat(second.get(0), is(sameInstance(first.get(0))));
+    }
+
+    @SuppressWarnings("UnusedDeclaration")
+    private static class WalkedLater {     // Not walked by any other test, so its paths are not yet interned
+        private String field = "value";
+    }
+
     @SuppressWarnings("UnusedDeclaration")
     public static class SuperType {
         public String _superField;
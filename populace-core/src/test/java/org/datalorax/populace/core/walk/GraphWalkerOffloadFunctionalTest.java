@@ -0,0 +1,244 @@
+/*
+ * Copyright (c) 2015 Andrew Coates
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.datalorax.populace.core.walk;
+
+import org.datalorax.populace.core.walk.element.ElementInfo;
+import org.datalorax.populace.core.walk.field.FieldInfo;
+import org.datalorax.populace.core.walk.visitor.ElementVisitor;
+import org.datalorax.populace.core.walk.visitor.FieldVisitor;
+import org.datalorax.populace.core.walk.visitor.FieldVisitors;
+import org.datalorax.populace.core.walk.visitor.PruningElementVisitor;
+import org.datalorax.populace.core.walk.visitor.SetAccessibleFieldVisitor;
+import org.datalorax.populace.core.walk.visitor.VisitResult;
+import org.testng.annotations.Test;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.testng.Assert.fail;
+
+public class GraphWalkerOffloadFunctionalTest {
+    private static final int SIZE = 50;
+
+    @Test
+    public void shouldOverlapBlockingVisits() throws Exception {
+        // Given:
+        final int overlap = 10;
+        final CountDownLatch allBlocked = new CountDownLatch(overlap);
+        final GraphWalker walker = GraphWalker.newBuilder()
+            .withVisitorOffload(VisitorOffload.newBuilder().withMaxInFlight(overlap).build())
+            .build();
+
+        final ThreadSafeElementVisitor elementVisitor = element -> {
+            allBlocked.countDown();
+            try {
+                // Only completes if 'overlap' visits are blocked at the same time:
+                assertThat("visits did not overlap", allBlocked.await(10, TimeUnit.SECONDS), is(true));
+            } catch (InterruptedException e) {
+                throw new RuntimeException(e);
+            }
+        };
+
+        // When:
+        walker.walk(givenGraph(), SetAccessibleFieldVisitor.INSTANCE, elementVisitor);
+
+        // Then:
+        assertThat(allBlocked.getCount(), is(0L));
+    }
+
+    @Test
+    public void shouldLimitVisitsInFlight() throws Exception {
+        // Given:
+        final AtomicInteger active = new AtomicInteger();
+        final AtomicInteger maxActive = new AtomicInteger();
+        final GraphWalker walker = GraphWalker.newBuilder()
+            .withVisitorOffload(VisitorOffload.newBuilder().withMaxInFlight(2).build())
+            .build();
+
+        final ThreadSafeElementVisitor elementVisitor = element -> {
+            maxActive.accumulateAndGet(active.incrementAndGet(), Math::max);
+            sleep(1);
+            active.decrementAndGet();
+        };
+
+        // When:
+        walker.walk(givenGraph(), SetAccessibleFieldVisitor.INSTANCE, elementVisitor);
+
+        // Then:
+        assertThat(maxActive.get(), is(lessThanOrEqualTo(2)));
+    }
+
+    @Test
+    public void shouldCompleteAllVisitsBeforeReturning() throws Exception {
+        // Given:
+        final AtomicInteger visited = new AtomicInteger();
+        final GraphWalker walker = GraphWalker.newBuilder()
+            .withVisitorOffload(VisitorOffload.defaults())
+            .build();
+
+        final ThreadSafeElementVisitor elementVisitor = element -> {
+            sleep(5);
+            visited.incrementAndGet();
+        };
+
+        // When:
+        walker.walk(givenGraph(), SetAccessibleFieldVisitor.INSTANCE, elementVisitor);
+
+        // Then:
+        assertThat(visited.get(), is(SIZE));
+    }
+
+    @Test
+    public void shouldVisitInWalkOrderIfConfigured() throws Exception {
+        // Given:
+        final List<String> expected = new ArrayList<>();
+        final List<String> actual = Collections.synchronizedList(new ArrayList<>());
+        final GraphWalker sequential = GraphWalker.newBuilder().build();
+        final GraphWalker offloaded = GraphWalker.newBuilder()
+            .withVisitorOffload(VisitorOffload.newBuilder().withOrdering(VisitorOffload.Ordering.WALK_ORDER).build())
+            .build();
+
+        // When:
+        sequential.walk(givenGraph(),
+            FieldVisitors.chain(SetAccessibleFieldVisitor.INSTANCE, field -> expected.add(field.getName())),
+            element -> expected.add(String.valueOf(element.getValue())));
+        offloaded.walk(givenGraph(),
+            (ThreadSafeFieldVisitor) field -> actual.add(field.getName()),
+            (ThreadSafeElementVisitor) element -> {
+                sleep(ThreadLocalRandom.current().nextInt(2));
+                actual.add(String.valueOf(element.getValue()));
+            });
+
+        // Then:
+        assertThat(actual, is(expected));
+    }
+
+    @Test
+    public void shouldRethrowVisitorExceptionsWithPath() throws Exception {
+        // Given:
+        final GraphWalker walker = GraphWalker.newBuilder()
+            .withVisitorOffload(VisitorOffload.defaults())
+            .build();
+
+        final ThreadSafeElementVisitor elementVisitor = element -> {
+            if (Integer.valueOf(7).equals(element.getValue())) {
+                throw new IllegalStateException("bang");
+            }
+        };
+
+        try {
+            // When:
+            walker.walk(givenGraph(), SetAccessibleFieldVisitor.INSTANCE, elementVisitor);
+            fail("should throw");
+        } catch (WalkerException e) {
+            // Then:
+            assertThat(e.getMessage(), containsString("Root.values[7]"));
+            assertThat(e.getCause(), is(instanceOf(IllegalStateException.class)));
+        }
+    }
+
+    @Test
+    public void shouldStopWalkIfVisitorSaysTerminate() throws Exception {
+        // Given:
+        final AtomicInteger visits = new AtomicInteger();
+        final GraphWalker walker = GraphWalker.newBuilder()
+            .withVisitorOffload(VisitorOffload.newBuilder().withOrdering(VisitorOffload.Ordering.WALK_ORDER).build())
+            .build();
+
+        final PruningElementVisitor elementVisitor = element -> {
+            visits.incrementAndGet();
+            sleep(5);
+            return VisitResult.TERMINATE;
+        };
+
+        // When:
+        walker.walk(givenGraph(), SetAccessibleFieldVisitor.INSTANCE, elementVisitor);
+
+        // Then:
+        assertThat(visits.get(), is(1));
+    }
+
+    @Test
+    public void shouldUseSuppliedExecutor() throws Exception {
+        // Given:
+        final Set<String> threadNames = Collections.newSetFromMap(new ConcurrentHashMap<>());
+        final ExecutorService executor = Executors.newSingleThreadExecutor(r -> new Thread(r, "custom-visitor"));
+        final GraphWalker walker = GraphWalker.newBuilder()
+            .withVisitorOffload(VisitorOffload.newBuilder().withExecutor(executor).build())
+            .build();
+
+        try {
+            // When:
+            walker.walk(givenGraph(),
+                (ThreadSafeFieldVisitor) field -> threadNames.add(Thread.currentThread().getName()),
+                (ThreadSafeElementVisitor) element -> threadNames.add(Thread.currentThread().getName()));
+
+            // Then:
+            assertThat(threadNames, contains("custom-visitor"));
+            assertThat(executor.isShutdown(), is(false));
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test(expectedExceptions = IllegalStateException.class)
+    public void shouldThrowIfCombinedWithParallelism() throws Exception {
+        GraphWalker.newBuilder()
+            .withParallelism(ForkJoinPool.commonPool())
+            .withVisitorOffload(VisitorOffload.defaults())
+            .build();
+    }
+
+    private static Root givenGraph() {
+        final Root root = new Root();
+        for (int i = 0; i != SIZE; ++i) {
+            root.values.add(i);
+        }
+        return root;
+    }
+
+    private static void sleep(final long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private interface ThreadSafeFieldVisitor extends FieldVisitor {
+        @Override
+        default boolean isThreadSafe() {
+            return true;
+        }
+    }
+
+    private interface ThreadSafeElementVisitor extends ElementVisitor {
+        @Override
+        default boolean isThreadSafe() {
+            return true;
+        }
+    }
+
+    @SuppressWarnings("UnusedDeclaration")
+    private static class Root {
+        private final String name = "root";
+        private final List<Integer> values = new ArrayList<>();
+    }
+}
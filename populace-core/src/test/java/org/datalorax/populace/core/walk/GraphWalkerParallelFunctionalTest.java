@@ -0,0 +1,300 @@
+/*
+ * Copyright (c) 2015 Andrew Coates
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.datalorax.populace.core.walk;
+
+import org.datalorax.populace.core.walk.element.ElementInfo;
+import org.datalorax.populace.core.walk.field.FieldInfo;
+import org.datalorax.populace.core.walk.instance.ConcurrentInstanceTracker;
+import org.datalorax.populace.core.walk.visitor.ElementVisitor;
+import org.datalorax.populace.core.walk.visitor.FieldVisitor;
+import org.datalorax.populace.core.walk.visitor.FieldVisitors;
+import org.datalorax.populace.core.walk.visitor.PruningElementVisitor;
+import org.datalorax.populace.core.walk.visitor.SetAccessibleFieldVisitor;
+import org.datalorax.populace.core.walk.visitor.VisitResult;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.testng.Assert.fail;
+
+public class GraphWalkerParallelFunctionalTest {
+    private static final int LARGE_SIZE = 8 * ParallelWalk.MIN_SPLIT_SIZE;
+
+    private ForkJoinPool pool;
+    private Level originalLogLevel;
+    private GraphWalker sequentialWalker;
+    private GraphWalker parallelWalker;
+
+    @BeforeClass
+    public void setUpClass() throws Exception {
+        pool = new ForkJoinPool(4);
+
+        final Logger logger = Logger.getLogger(GraphWalker.class.getName());
+        originalLogLevel = logger.getLevel();
+        logger.setLevel(Level.WARNING);
+    }
+
+    @AfterClass
+    public void tearDownClass() throws Exception {
+        pool.shutdown();
+        Logger.getLogger(GraphWalker.class.getName()).setLevel(originalLogLevel);
+    }
+
+    @BeforeMethod
+    public void setUp() throws Exception {
+        sequentialWalker = GraphWalker.newBuilder().build();
+        parallelWalker = GraphWalker.newBuilder().withParallelism(pool).build();
+    }
+
+    @Test
+    public void shouldVisitSameFieldsAndElementsAsSequentialWalk() throws Exception {
+        // Given:
+        final Root root = givenLargeGraph();
+        final RecordingVisitor sequential = new RecordingVisitor();
+        final RecordingVisitor parallel = new RecordingVisitor();
+
+        // When:
+        sequentialWalker.walk(root, FieldVisitors.chain(SetAccessibleFieldVisitor.INSTANCE, sequential), sequential);
+        parallelWalker.walk(root, FieldVisitors.chain(SetAccessibleFieldVisitor.INSTANCE, parallel), parallel);
+
+        // Then:
+        assertThat(parallel.getSortedVisits(), is(sequential.getSortedVisits()));
+    }
+
+    @Test
+    public void shouldVisitOnPoolThreads() throws Exception {
+        // Given:
+        final Root root = givenLargeGraph();
+        final Set<Thread> threads = Collections.newSetFromMap(new ConcurrentHashMap<>());
+        final ThreadSafeElementVisitor elementVisitor = element -> threads.add(Thread.currentThread());
+
+        // When:
+        parallelWalker.walk(root, SetAccessibleFieldVisitor.INSTANCE, elementVisitor);
+
+        // Then:
+        assertThat(threads, is(not(empty())));
+        threads.forEach(thread -> assertThat(thread, is(instanceOf(ForkJoinWorkerThread.class))));
+    }
+
+    @Test
+    public void shouldNotCallVisitorsThatAreNotThreadSafeConcurrently() throws Exception {
+        // Given:
+        final Root root = givenGraph(4 * ParallelWalk.MIN_SPLIT_SIZE);
+        final AtomicInteger active = new AtomicInteger();
+        final AtomicInteger maxActive = new AtomicInteger();
+        final FieldVisitor fieldVisitor = field -> trackConcurrency(active, maxActive);
+        final ElementVisitor elementVisitor = element -> trackConcurrency(active, maxActive);
+
+        // When:
+        parallelWalker.walk(root, FieldVisitors.chain(SetAccessibleFieldVisitor.INSTANCE, fieldVisitor), elementVisitor);
+
+        // Then:
+        assertThat(maxActive.get(), is(1));
+    }
+
+    @Test
+    public void shouldPropagateExceptionsThrownByVisitorsWithPath() throws Exception {
+        // Given:
+        final Root root = givenLargeGraph();
+        final int badIndex = LARGE_SIZE - 3;
+        final ThreadSafeElementVisitor elementVisitor = element -> {
+            if (element.getValue() == root.nodes.get(badIndex)) {
+                throw new IllegalStateException("bang");
+            }
+        };
+
+        try {
+            // When:
+            parallelWalker.walk(root, SetAccessibleFieldVisitor.INSTANCE, elementVisitor);
+            fail("should throw");
+        } catch (WalkerException e) {
+            // Then:
+            assertThat(e.getMessage(), containsString("Root.nodes[" + badIndex + "]"));
+            assertThat(e.getCause(), is(instanceOf(IllegalStateException.class)));
+        }
+    }
+
+    @Test
+    public void shouldWalkSharedInstancesOnceWithConcurrentInstanceTracker() throws Exception {
+        // Given:
+        final Root root = givenLargeGraph();
+        final Node shared = new Node(-1);
+        root.nodes.replaceAll(n -> shared);
+
+        final ConcurrentInstanceTracker tracker = new ConcurrentInstanceTracker();
+        final GraphWalker.Builder builder = GraphWalker.newBuilder().withParallelism(pool);
+        final GraphWalker walker = builder
+            .withFieldFilter(builder.getFieldFilter().and(tracker.getFieldFilter()))
+            .withElementFilter(builder.getElementFilter().and(tracker.getElementFilter()))
+            .build();
+
+        final AtomicInteger sharedFieldVisits = new AtomicInteger();
+        final ThreadSafeFieldVisitor fieldVisitor = field -> {
+            if (field.getOwningInstance() == shared && field.getName().equals("id")) {
+                sharedFieldVisits.incrementAndGet();
+            }
+        };
+
+        // When:
+        walker.walk(root, fieldVisitor, element -> {});
+
+        // Then:
+        assertThat(sharedFieldVisits.get(), is(1));
+    }
+
+    @Test
+    public void shouldStopParallelWalkIfVisitorSaysTerminate() throws Exception {
+        // Given:
+        final Root root = givenLargeGraph();
+        final AtomicInteger visits = new AtomicInteger();
+        final PruningElementVisitor elementVisitor = new PruningElementVisitor() {
+            @Override
+            public VisitResult visitWithResult(final ElementInfo element) {
+                visits.incrementAndGet();
+                return VisitResult.TERMINATE;
+            }
+
+            @Override
+            public boolean isThreadSafe() {
+                return true;
+            }
+        };
+
+        // When:
+        parallelWalker.walk(root, SetAccessibleFieldVisitor.INSTANCE, elementVisitor);
+
+        // Then:
+        assertThat(visits.get(), is(lessThan(LARGE_SIZE)));
+    }
+
+    @Test
+    public void shouldWalkArraysInParallel() throws Exception {
+        // Given:
+        final Node[] array = givenLargeGraph().nodes.toArray(new Node[LARGE_SIZE]);
+        final RecordingVisitor sequential = new RecordingVisitor();
+        final RecordingVisitor parallel = new RecordingVisitor();
+
+        // When:
+        sequentialWalker.walk(new WithArray(array), FieldVisitors.chain(SetAccessibleFieldVisitor.INSTANCE, sequential), sequential);
+        parallelWalker.walk(new WithArray(array), FieldVisitors.chain(SetAccessibleFieldVisitor.INSTANCE, parallel), parallel);
+
+        // Then:
+        assertThat(parallel.getSortedVisits(), is(sequential.getSortedVisits()));
+    }
+
+    private static void trackConcurrency(final AtomicInteger active, final AtomicInteger maxActive) {
+        final int current = active.incrementAndGet();
+        maxActive.accumulateAndGet(current, Math::max);
+        active.decrementAndGet();
+    }
+
+    private static Root givenLargeGraph() {
+        return givenGraph(LARGE_SIZE);
+    }
+
+    private static Root givenGraph(final int size) {
+        final Root root = new Root();
+        for (int i = 0; i != size; ++i) {
+            final Node node = new Node(i);
+            node.child = new Node(-i);
+            node.values = Arrays.asList("a" + i, "b" + i);
+            root.nodes.add(node);
+        }
+        return root;
+    }
+
+    private interface ThreadSafeFieldVisitor extends FieldVisitor {
+        @Override
+        default boolean isThreadSafe() {
+            return true;
+        }
+    }
+
+    private interface ThreadSafeElementVisitor extends ElementVisitor {
+        @Override
+        default boolean isThreadSafe() {
+            return true;
+        }
+    }
+
+    private static class RecordingVisitor implements FieldVisitor, ElementVisitor {
+        private final Queue<String> visits = new ConcurrentLinkedQueue<>();
+
+        @Override
+        public void visit(final FieldInfo field) {
+            visits.add(field.getName() + "=" + field.getValue());
+        }
+
+        @Override
+        public void visit(final ElementInfo element) {
+            visits.add("element=" + element.getValue());
+        }
+
+        @Override
+        public boolean isThreadSafe() {
+            return true;
+        }
+
+        public List<String> getSortedVisits() {
+            final List<String> sorted = new ArrayList<>(visits);
+            Collections.sort(sorted);
+            return sorted;
+        }
+    }
+
+    @SuppressWarnings("UnusedDeclaration")
+    private static class Root {
+        private final List<Node> nodes = new ArrayList<>();
+    }
+
+    @SuppressWarnings("UnusedDeclaration")
+    private static class WithArray {
+        private final Node[] nodes;
+
+        WithArray(final Node[] nodes) {
+            this.nodes = nodes;
+        }
+    }
+
+    @SuppressWarnings("UnusedDeclaration")
+    private static class Node {
+        private final int id;
+        private Node child;
+        private List<String> values;
+
+        Node(final int id) {
+            this.id = id;
+        }
+
+        @Override
+        public String toString() {
+            return "Node{id=" + id + '}';
+        }
+    }
+}
@@ -0,0 +1,265 @@
+/*
+ * Copyright (c) 2015 Andrew Coates
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.datalorax.populace.core.walk;
+
+import org.datalorax.populace.core.walk.element.ElementInfo;
+import org.datalorax.populace.core.walk.field.FieldInfo;
+import org.datalorax.populace.core.walk.visitor.ElementVisitor;
+import org.datalorax.populace.core.walk.visitor.FieldVisitor;
+import org.datalorax.populace.core.walk.visitor.FieldVisitors;
+import org.datalorax.populace.core.walk.visitor.SetAccessibleFieldVisitor;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Predicate;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.testng.Assert.fail;
+
+public class GraphWalkerSessionFunctionalTest {
+    private GraphWalker walker;
+    private WalkSession session;
+
+    @BeforeMethod
+    public void setUp() throws Exception {
+        walker = GraphWalker.newBuilder().build();
+        session = walker.newSession();
+    }
+
+    @Test
+    public void shouldVisitSameFieldsAndElementsAsWalker() throws Exception {
+        // Given:
+        final Recorder expected = new Recorder(false);
+        final Recorder actual = new Recorder(true);
+        walker.walk(new Root(), chain(expected), expected);
+
+        // When:
+        session.walk(new Root(), chain(actual), actual);
+
+        // Then:
+        assertThat(actual.paths, is(expected.paths));
+        assertThat(actual.paths, hasItem(containsString("list")));
+    }
+
+    @Test
+    public void shouldReuseFlyweightsIfVisitorsAcceptThem() throws Exception {
+        // Given:
+        final Recorder visitor = new Recorder(true);
+
+        // When:
+        session.walk(new Root(), chain(visitor), visitor);
+
+        // Then:
+        assertThat(visitor.fields.size(), is(greaterThan(1)));
+        assertThat(visitor.fields.stream().distinct().count(), is(1L));
+        assertThat(visitor.elements.size(), is(greaterThan(1)));
+        assertThat(visitor.elements.stream().distinct().count(), is(1L));
+    }
+
+    @Test
+    public void shouldNotPassFlyweightsIfVisitorsDoNotAcceptThem() throws Exception {
+        // Given:
+        final Recorder visitor = new Recorder(false);
+
+        // When:
+        session.walk(new Root(), chain(visitor), visitor);
+
+        // Then:
+        assertThat(visitor.fields.stream().distinct().count(), is((long) visitor.fields.size()));
+        assertThat(visitor.elements.stream().distinct().count(), is((long) visitor.elements.size()));
+    }
+
+    @Test
+    public void shouldNotPassFlyweightsIfFiltersDoNotAcceptThem() throws Exception {
+        // Given:
+        final List<FieldInfo> filteredFields = new ArrayList<>();
+        final List<ElementInfo> filteredElements = new ArrayList<>();
+        final GraphWalker.Builder builder = GraphWalker.newBuilder();
+        session = builder
+            .withFieldFilter(builder.getFieldFilter().and(filteredFields::add))
+            .withElementFilter(filteredElements::add)
+            .build()
+            .newSession();
+        final Recorder visitor = new Recorder(true);
+
+        // When:
+        session.walk(new Root(), chain(visitor), visitor);
+
+        // Then:
+        assertThat(filteredFields.size(), is(greaterThan(1)));
+        assertThat(filteredFields.stream().distinct().count(), is((long) filteredFields.size()));
+        assertThat(filteredElements.size(), is(greaterThan(1)));
+        assertThat(filteredElements.stream().distinct().count(), is((long) filteredElements.size()));
+        assertThat(visitor.fields.stream().distinct().count(), is((long) visitor.fields.size()));
+    }
+
+    @Test
+    public void shouldPassFlyweightsIfFiltersAcceptThem() throws Exception {
+        // Given:
+        final List<FieldInfo> filteredFields = new ArrayList<>();
+        final List<ElementInfo> filteredElements = new ArrayList<>();
+        final GraphWalker.Builder builder = GraphWalker.newBuilder();
+        session = builder
+            .withFieldFilter(builder.getFieldFilter().and((Predicate<FieldInfo> & FlyweightFilter) filteredFields::add))
+            .withElementFilter((Predicate<ElementInfo> & FlyweightFilter) filteredElements::add)
+            .build()
+            .newSession();
+        final Recorder visitor = new Recorder(true);
+
+        // When:
+        session.walk(new Root(), chain(visitor), visitor);
+
+        // Then:
+        assertThat(filteredFields.size(), is(greaterThan(1)));
+        assertThat(filteredFields.stream().distinct().count(), is(1L));
+        assertThat(filteredElements.size(), is(greaterThan(1)));
+        assertThat(filteredElements.stream().distinct().count(), is(1L));
+    }
+
+    @Test
+    public void shouldTakeStableSnapshotsOfFlyweights() throws Exception {
+        // Given:
+        final Recorder visitor = new Recorder(true);
+        final List<String> snapshotPaths = new ArrayList<>();
+        final List<FieldInfo> snapshots = new ArrayList<>();
+        final FieldVisitor snapshotting = new FlyweightFieldVisitor() {
+            @Override
+            public void visit(final FieldInfo field) {
+                final FieldInfo snapshot = field.snapshot();
+                snapshots.add(snapshot);
+                snapshotPaths.add(snapshot.getPath());
+            }
+        };
+
+        // When:
+        session.walk(new Root(), FieldVisitors.chain(SetAccessibleFieldVisitor.INSTANCE, snapshotting), visitor);
+
+        // Then:
+        assertThat(snapshots.stream().distinct().count(), is((long) snapshots.size()));
+        for (int i = 0; i != snapshots.size(); ++i) {
+            assertThat(snapshots.get(i).getPath(), is(snapshotPaths.get(i)));
+        }
+    }
+
+    @Test
+    public void shouldRunManyWalks() throws Exception {
+        // Given:
+        final Recorder first = new Recorder(true);
+        final Recorder second = new Recorder(true);
+        session.walk(new Root(), chain(first), first);
+
+        // When:
+        session.walk(new Root(), chain(second), second);
+
+        // Then:
+        assertThat(second.paths, is(first.paths));
+    }
+
+    @Test
+    public void shouldRecoverIfVisitorThrows() throws Exception {
+        // Given:
+        final Recorder visitor = new Recorder(true);
+        final FlyweightFieldVisitor throwing = field -> {
+            throw new IllegalArgumentException("boom");
+        };
+        try {
+            session.walk(new Root(), chain(throwing), visitor);
+            fail("should throw");
+        } catch (WalkerException e) {
+            assertThat(e.getPath(), is(not(isEmptyString())));
+        }
+
+        // When:
+        session.walk(new Root(), chain(visitor), visitor);
+
+        // Then:
+        final Recorder expected = new Recorder(false);
+        walker.walk(new Root(), chain(expected), expected);
+        assertThat(visitor.paths, is(expected.paths));
+    }
+
+    @Test(expectedExceptions = IllegalStateException.class)
+    public void shouldThrowIfUsedReentrantly() throws Exception {
+        // Given:
+        final Recorder visitor = new Recorder(true);
+        final FlyweightFieldVisitor reentrant = field -> session.walk(new Root(), chain(visitor), visitor);
+
+        // When:
+        try {
+            session.walk(new Root(), chain(reentrant), visitor);
+        } catch (WalkerException e) {
+            throw (Exception) e.getCause();
+        }
+    }
+
+    private static FieldVisitor chain(final FieldVisitor visitor) {
+        return FieldVisitors.chain(SetAccessibleFieldVisitor.INSTANCE, visitor);
+    }
+
+    private interface FlyweightFieldVisitor extends FieldVisitor {
+        @Override
+        default boolean acceptsFlyweights() {
+            return true;
+        }
+    }
+
+    private static final class Recorder implements FieldVisitor, ElementVisitor {
+        private final boolean acceptsFlyweights;
+        private final List<String> paths = new ArrayList<>();
+        private final List<FieldInfo> fields = new ArrayList<>();
+        private final List<ElementInfo> elements = new ArrayList<>();
+
+        Recorder(final boolean acceptsFlyweights) {
+            this.acceptsFlyweights = acceptsFlyweights;
+        }
+
+        @Override
+        public void visit(final FieldInfo field) {
+            fields.add(field);
+            paths.add(field.getPath());
+        }
+
+        @Override
+        public void visit(final ElementInfo element) {
+            elements.add(element);
+            paths.add(element.getPath());
+        }
+
+        @Override
+        public boolean acceptsFlyweights() {
+            return acceptsFlyweights;
+        }
+    }
+
+    @SuppressWarnings("UnusedDeclaration")
+    private static class Root {
+        private String name = "root";
+        private long id = 42;
+        private Child child = new Child();
+        private List<Child> list = new ArrayList<>(Arrays.asList(new Child(), new Child()));
+    }
+
+    @SuppressWarnings("UnusedDeclaration")
+    private static class Child {
+        private String name = "child";
+        private int[] values = {1, 2, 3};
+    }
+}
@@ -0,0 +1,279 @@
+/*
+ * Copyright (c) 2015 Andrew Coates
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.datalorax.populace.core.walk;
+
+import org.datalorax.populace.core.walk.element.ElementInfo;
+import org.datalorax.populace.core.walk.field.FieldInfo;
+import org.datalorax.populace.core.walk.field.filter.FieldFilters;
+import org.datalorax.populace.core.walk.inspector.Inspectors;
+import org.datalorax.populace.core.walk.visitor.FieldVisitors;
+import org.datalorax.populace.core.walk.visitor.SetAccessibleFieldVisitor;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.util.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+import java.util.stream.StreamSupport;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+public class GraphWalkerStreamFunctionalTest {
+    private static final int LARGE_SIZE = 8 * ParallelWalk.MIN_SPLIT_SIZE;
+
+    private Level originalLogLevel;
+
+    @BeforeClass
+    public void setUpClass() throws Exception {
+        final Logger logger = Logger.getLogger(GraphWalker.class.getName());
+        originalLogLevel = logger.getLevel();
+        logger.setLevel(Level.WARNING);
+    }
+
+    @AfterClass
+    public void tearDownClass() throws Exception {
+        Logger.getLogger(GraphWalker.class.getName()).setLevel(originalLogLevel);
+    }
+
+    @Test
+    public void shouldStreamComponentsInWalkOrder() throws Exception {
+        // Given:
+        final GraphWalker walker = GraphWalker.newBuilder().build();
+        final Root root = givenGraph(3);
+        final List<String> walked = new ArrayList<>();
+        walker.walk(root,
+            FieldVisitors.chain(SetAccessibleFieldVisitor.INSTANCE, field -> walked.add(describe(field))),
+            element -> walked.add(describe(element)));
+
+        // When:
+        final List<String> streamed = walker.stream(root)
+            .map(GraphWalkerStreamFunctionalTest::describe)
+            .collect(Collectors.toList());
+
+        // Then:
+        assertThat(streamed, is(walked));
+    }
+
+    @Test
+    public void shouldOnlyWalkAsFarAsRequired() throws Exception {
+        // Given:
+        final AtomicInteger fieldsWalked = new AtomicInteger();
+        final GraphWalker.Builder builder = GraphWalker.newBuilder();
+        final GraphWalker walker = builder
+            .withFieldFilter(builder.getFieldFilter().and(field -> fieldsWalked.incrementAndGet() > 0))
+            .build();
+
+        // When:
+        final Optional<GraphComponent> first = walker.stream(givenGraph(LARGE_SIZE))
+            .filter(c -> c instanceof FieldInfo && ((FieldInfo) c).getName().equals("id"))
+            .findFirst();
+
+        // Then:
+        assertThat(first.isPresent(), is(true));
+        assertThat(fieldsWalked.get(), is(lessThan(10)));
+    }
+
+    @Test
+    public void shouldWalkValuesChangedByConsumer() throws Exception {
+        // Given:
+        final GraphWalker walker = GraphWalker.newBuilder().build();
+        final Node node = new Node(1);
+
+        // When:
+        final List<String> names = walker.stream(node)
+            .peek(c -> {
+                if (c instanceof FieldInfo && ((FieldInfo) c).getName().equals("child") && c.getValue() == null) {
+                    c.setValue(new Node(2));
+                }
+            })
+            .filter(c -> c instanceof FieldInfo)
+            .map(c -> ((FieldInfo) c).getName())
+            .limit(4)
+            .collect(Collectors.toList());
+
+        // Then:
+        assertThat(names, is(Arrays.asList("id", "child", "id", "child")));
+    }
+
+    @Test
+    public void shouldNotChangeSetsWhenStoppedEarly() throws Exception {
+        // Given:
+        final GraphWalker walker = GraphWalker.newBuilder().build();
+        final WithSet withSet = new WithSet();
+        final Set<Node> original = new HashSet<>(withSet.nodes);
+
+        // When:
+        walker.stream(withSet).filter(c -> c instanceof ElementInfo).findFirst();
+
+        // Then:
+        assertThat(withSet.nodes, is(original));
+    }
+
+    @Test
+    public void shouldNotChangeNestedSetsWhenShortCircuited() throws Exception {
+        // Given:
+        final GraphWalker walker = GraphWalker.newBuilder().build();
+        final Outer outer = new Outer();
+        final Holder holder = outer.holders.iterator().next();
+
+        // When:
+        final boolean found = walker.stream(outer).anyMatch(c -> c.getValue() instanceof Node);
+
+        // Then:
+        assertThat(found, is(true));
+        assertThat(outer.holders, contains(holder));
+        assertThat(holder.nodes, containsInAnyOrder(new Node(1), new Node(2)));
+    }
+
+    @Test
+    public void shouldStreamSameComponentsInParallel() throws Exception {
+        // Given:
+        final GraphWalker walker = GraphWalker.newBuilder().build();
+        final Root root = givenGraph(LARGE_SIZE);
+
+        // When:
+        final List<String> sequential = walker.stream(root)
+            .map(GraphWalkerStreamFunctionalTest::describe)
+            .sorted()
+            .collect(Collectors.toList());
+        final List<String> parallel = walker.stream(root).parallel()
+            .map(GraphWalkerStreamFunctionalTest::describe)
+            .sorted()
+            .collect(Collectors.toList());
+
+        // Then:
+        assertThat(parallel, is(sequential));
+    }
+
+    @Test
+    public void shouldSplitLargeIndexedContainers() throws Exception {
+        // Given:
+        final Root root = givenGraph(LARGE_SIZE);
+        final WalkSpliterator spliterator = new WalkSpliterator(givenContext(), root);
+        spliterator.tryAdvance(c -> {});  // Root.nodes
+        spliterator.tryAdvance(c -> {});  // Root.nodes[0]
+
+        // When:
+        final Spliterator<GraphComponent> split = spliterator.trySplit();
+
+        // Then:
+        assertThat(split, is(instanceOf(WalkSpliterator.class)));
+        final Set<String> paths = new HashSet<>();
+        StreamSupport.stream(split, false).filter(c -> c instanceof ElementInfo).forEach(c -> paths.add(describe(c)));
+        assertThat(paths, hasItem("element=Node{id=" + (LARGE_SIZE - 1) + "}"));
+        assertThat(paths, not(hasItem("element=Node{id=1}")));
+    }
+
+    @Test
+    public void shouldNotSplitIndexedContainersWithinNonIndexedContainers() throws Exception {
+        // Given:
+        final WithSetOfLists root = new WithSetOfLists();
+        final WalkSpliterator spliterator = new WalkSpliterator(givenContext(), root);
+        spliterator.tryAdvance(c -> {});  // WithSetOfLists.lists
+        spliterator.tryAdvance(c -> {});  // WithSetOfLists.lists[0]
+        spliterator.tryAdvance(c -> {});  // WithSetOfLists.lists[0][0]
+
+        // When:
+        final Spliterator<GraphComponent> split = spliterator.trySplit();
+
+        // Then:
+        assertThat(split, is(not(instanceOf(WalkSpliterator.class))));
+    }
+
+    private static WalkerContext givenContext() {
+        return new WalkerContext(FieldFilters.excludeStaticFields(), e -> true, Inspectors.defaults());
+    }
+
+    private static String describe(final GraphComponent component) {
+        if (component instanceof FieldInfo) {
+            return ((FieldInfo) component).getName() + "=" + component.getValue();
+        }
+        return "element=" + component.getValue();
+    }
+
+    private static Root givenGraph(final int size) {
+        final Root root = new Root();
+        for (int i = 0; i != size; ++i) {
+            final Node node = new Node(i);
+            node.child = new Node(-i);
+            root.nodes.add(node);
+        }
+        return root;
+    }
+
+    @SuppressWarnings("UnusedDeclaration")
+    private static class Root {
+        private final List<Node> nodes = new ArrayList<>();
+    }
+
+    @SuppressWarnings("UnusedDeclaration")
+    private static class WithSet {
+        private final Set<Node> nodes = new HashSet<>(Arrays.asList(new Node(1), new Node(2), new Node(3)));
+    }
+
+    @SuppressWarnings("UnusedDeclaration")
+    private static class Outer {
+        private final Set<Holder> holders = new HashSet<>(Collections.singleton(new Holder()));
+    }
+
+    @SuppressWarnings("UnusedDeclaration")
+    private static class Holder {
+        private final Set<Node> nodes = new HashSet<>(Arrays.asList(new Node(1), new Node(2)));
+    }
+
+    @SuppressWarnings("UnusedDeclaration")
+    private static class WithSetOfLists {
+        private final Set<List<Integer>> lists = new HashSet<>();
+
+        WithSetOfLists() {
+            final List<Integer> list = new ArrayList<>();
+            for (int i = 0; i != LARGE_SIZE; ++i) {
+                list.add(i);
+            }
+            lists.add(list);
+        }
+    }
+
+    @SuppressWarnings("UnusedDeclaration")
+    private static class Node {
+        private final int id;
+        private Node child;
+
+        Node(final int id) {
+            this.id = id;
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            return this == o || (o instanceof Node && id == ((Node) o).id);
+        }
+
+        @Override
+        public int hashCode() {
+            return id;
+        }
+
+        @Override
+        public String toString() {
+            return "Node{id=" + id + '}';
+        }
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright (c) 2015 Andrew Coates
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.datalorax.populace.core.walk;
+
+import org.datalorax.populace.core.util.TypeUtils;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.lang.reflect.Type;
+import java.lang.reflect.TypeVariable;
+import java.util.List;
+import java.util.Map;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+public class TypeContextTest {
+    private static final TypeVariable<?> LIST_E = List.class.getTypeParameters()[0];
+    private static final TypeVariable<?> MAP_K = Map.class.getTypeParameters()[0];
+    private static final Type LIST_OF_STRING = TypeUtils.parameterise(List.class, String.class);
+    private static final Type MAP_OF_INTEGER_TO_LIST_E = TypeUtils.parameterise(Map.class, Integer.class, LIST_E);
+
+    private TypeContext root;
+
+    @BeforeMethod
+    public void setUp() throws Exception {
+        root = TypeContext.newRoot();
+    }
+
+    @Test
+    public void shouldNotResolveVariablesInRootContext() throws Exception {
+        assertThat(root.resolveTypeVariable(LIST_E), is((Type) LIST_E));
+    }
+
+    @Test
+    public void shouldResolveVariableFromFieldType() throws Exception {
+        // When:
+        final TypeContext context = root.push(LIST_OF_STRING);
+
+        // Then:
+        assertThat(context.resolveTypeVariable(LIST_E), is((Type) String.class));
+    }
+
+    @Test
+    public void shouldResolveVariableFromOuterFieldType() throws Exception {
+        // When:
+        final TypeContext context = root.push(LIST_OF_STRING).push(MAP_OF_INTEGER_TO_LIST_E);
+
+        // Then:
+        assertThat(context.resolveTypeVariable(MAP_K), is((Type) Integer.class));
+        assertThat(context.getTypeResolver().resolve(MAP_OF_INTEGER_TO_LIST_E),
+            is(TypeUtils.parameterise(Map.class, Integer.class, String.class)));
+    }
+
+    @Test
+    public void shouldShareContextForFieldsOfSameType() throws Exception {
+        assertThat(root.push(LIST_OF_STRING), is(sameInstance(root.push(TypeUtils.parameterise(List.class, String.class)))));
+    }
+
+    @Test
+    public void shouldNotShareContextForFieldsOfDifferentType() throws Exception {
+        assertThat(root.push(LIST_OF_STRING), is(not(sameInstance(root.push(List.class)))));
+    }
+
+    @Test
+    public void shouldNotShareContextsBetweenRoots() throws Exception {
+        assertThat(root.push(LIST_OF_STRING), is(not(sameInstance(TypeContext.newRoot().push(LIST_OF_STRING)))));
+    }
+
+    @Test
+    public void shouldCacheResolvedTypes() throws Exception {
+        // Given:
+        final TypeContext context = root.push(LIST_OF_STRING).push(MAP_OF_INTEGER_TO_LIST_E);
+
+        // When:
+        final Type first = context.getTypeResolver().resolve(MAP_OF_INTEGER_TO_LIST_E);
+        final Type second = context.getTypeResolver().resolve(MAP_OF_INTEGER_TO_LIST_E);
+
+        // Then:
+        assertThat(second, is(sameInstance(first)));
+    }
+}
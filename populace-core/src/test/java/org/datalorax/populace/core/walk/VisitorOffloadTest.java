@@ -0,0 +1,109 @@
+/*
+ * Copyright (c) 2015 Andrew Coates
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.datalorax.populace.core.walk;
+
+import com.google.common.testing.EqualsTester;
+import org.testng.annotations.Test;
+
+import java.util.Optional;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.mockito.Mockito.mock;
+
+public class VisitorOffloadTest {
+    @Test
+    public void shouldHaveSensibleDefaults() throws Exception {
+        // When:
+        final VisitorOffload offload = VisitorOffload.defaults();
+
+        // Then:
+        assertThat(offload.getMaxInFlight(), is(VisitorOffload.DEFAULT_MAX_IN_FLIGHT));
+        assertThat(offload.getOrdering(), is(VisitorOffload.Ordering.UNORDERED));
+        assertThat(offload.getExecutor(), is(Optional.empty()));
+    }
+
+    @Test
+    public void shouldBuildCustomConfiguration() throws Exception {
+        // Given:
+        final Executor executor = mock(Executor.class);
+
+        // When:
+        final VisitorOffload offload = VisitorOffload.newBuilder()
+            .withMaxInFlight(7)
+            .withOrdering(VisitorOffload.Ordering.WALK_ORDER)
+            .withExecutor(executor)
+            .build();
+
+        // Then:
+        assertThat(offload.getMaxInFlight(), is(7));
+        assertThat(offload.getOrdering(), is(VisitorOffload.Ordering.WALK_ORDER));
+        assertThat(offload.getExecutor(), is(Optional.of(executor)));
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void shouldThrowOnNonPositiveMaxInFlight() throws Exception {
+        VisitorOffload.newBuilder().withMaxInFlight(0);
+    }
+
+    @Test(expectedExceptions = NullPointerException.class)
+    public void shouldThrowOnNullOrdering() throws Exception {
+        VisitorOffload.newBuilder().withOrdering(null);
+    }
+
+    @Test(expectedExceptions = NullPointerException.class)
+    public void shouldThrowOnNullExecutor() throws Exception {
+        VisitorOffload.newBuilder().withExecutor(null);
+    }
+
+    @Test
+    public void shouldCreateWorkingExecutor() throws Exception {
+        // Given:
+        final ExecutorService executor = VisitorOffload.newBuilder().withMaxInFlight(2).build().newExecutor();
+
+        try {
+            // When:
+            final Future<String> result = executor.submit(() -> "done");
+
+            // Then:
+            assertThat(result.get(), is("done"));
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void shouldTestEqualsAndHashCode() throws Exception {
+        final Executor executor = mock(Executor.class);
+
+        new EqualsTester()
+            .addEqualityGroup(
+                VisitorOffload.defaults(),
+                VisitorOffload.newBuilder().build())
+            .addEqualityGroup(
+                VisitorOffload.newBuilder().withMaxInFlight(1).build())
+            .addEqualityGroup(
+                VisitorOffload.newBuilder().withOrdering(VisitorOffload.Ordering.WALK_ORDER).build())
+            .addEqualityGroup(
+                VisitorOffload.newBuilder().withExecutor(executor).build(),
+                VisitorOffload.newBuilder().withExecutor(executor).build())
+            .testEquals();
+    }
+}
@@ -0,0 +1,169 @@
+/*
+ * Copyright (c) 2015 Andrew Coates
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.datalorax.populace.core.walk;
+
+import com.google.common.testing.EqualsTester;
+import org.datalorax.populace.core.walk.field.PathProvider;
+import org.testng.annotations.Test;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.OptionalLong;
+import java.util.function.BooleanSupplier;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class WalkBudgetTest {
+    @Test
+    public void shouldBeUnlimitedByDefault() throws Exception {
+        // When:
+        final WalkBudget budget = WalkBudget.newBuilder().build();
+
+        // Then:
+        assertThat(budget.getMaxNodes(), is(OptionalLong.empty()));
+        assertThat(budget.getMaxDepth(), is(OptionalInt.empty()));
+        assertThat(budget.getTimeout(), is(Optional.empty()));
+        assertThat(budget.getCancellation(), is(Optional.empty()));
+    }
+
+    @Test
+    public void shouldBuildCustomBudget() throws Exception {
+        // Given:
+        final BooleanSupplier cancellation = () -> false;
+
+        // When:
+        final WalkBudget budget = WalkBudget.newBuilder()
+            .withMaxNodes(10)
+            .withMaxDepth(3)
+            .withTimeout(Duration.ofSeconds(1))
+            .withCancellation(cancellation)
+            .build();
+
+        // Then:
+        assertThat(budget.getMaxNodes(), is(OptionalLong.of(10)));
+        assertThat(budget.getMaxDepth(), is(OptionalInt.of(3)));
+        assertThat(budget.getTimeout(), is(Optional.of(Duration.ofSeconds(1))));
+        assertThat(budget.getCancellation(), is(Optional.of(cancellation)));
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void shouldThrowOnNonPositiveMaxNodes() throws Exception {
+        WalkBudget.newBuilder().withMaxNodes(0);
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void shouldThrowOnNonPositiveMaxDepth() throws Exception {
+        WalkBudget.newBuilder().withMaxDepth(0);
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void shouldThrowOnNonPositiveTimeout() throws Exception {
+        WalkBudget.newBuilder().withTimeout(Duration.ZERO);
+    }
+
+    @Test(expectedExceptions = NullPointerException.class)
+    public void shouldThrowOnNullTimeout() throws Exception {
+        WalkBudget.newBuilder().withTimeout(null);
+    }
+
+    @Test(expectedExceptions = NullPointerException.class)
+    public void shouldThrowOnNullCancellation() throws Exception {
+        WalkBudget.newBuilder().withCancellation(null);
+    }
+
+    @Test
+    public void shouldNotThrowWithinBudget() throws Exception {
+        // Given:
+        final WalkBudget.Tracker tracker = WalkBudget.newBuilder().withMaxNodes(2).withMaxDepth(2).build().start();
+
+        // When:
+        tracker.charge(givenPath(2));
+        tracker.charge(givenPath(1));
+
+        // Then: no exception
+    }
+
+    @Test
+    public void shouldThrowOnceMaxNodesExceeded() throws Exception {
+        // Given:
+        final PathProvider path = givenPath(1);
+        final WalkBudget.Tracker tracker = WalkBudget.newBuilder().withMaxNodes(1).build().start();
+        tracker.charge(path);
+
+        try {
+            // When:
+            tracker.charge(path);
+        } catch (WalkBudgetExceededException e) {
+            // Then:
+            assertThat(e.getLimit(), is(WalkBudget.Limit.MAX_NODES));
+            assertThat(e.getNodesVisited(), is(1L));
+            assertThat(e.getPath(), is("path"));
+            return;
+        }
+        throw new AssertionError("should throw");
+    }
+
+    @Test(expectedExceptions = WalkBudgetExceededException.class)
+    public void shouldThrowIfMaxDepthExceeded() throws Exception {
+        // Given:
+        final WalkBudget.Tracker tracker = WalkBudget.newBuilder().withMaxDepth(2).build().start();
+
+        // When:
+        tracker.charge(givenPath(3));
+    }
+
+    @Test(expectedExceptions = WalkBudgetExceededException.class)
+    public void shouldThrowOnFirstChargeIfCancelled() throws Exception {
+        // Given:
+        final WalkBudget.Tracker tracker = WalkBudget.newBuilder().withCancellation(() -> true).build().start();
+
+        // When:
+        tracker.charge(givenPath(1));
+    }
+
+    @Test
+    public void shouldTestEqualsAndHashCode() throws Exception {
+        final BooleanSupplier cancellation = () -> false;
+
+        new EqualsTester()
+            .addEqualityGroup(
+                WalkBudget.newBuilder().build(),
+                WalkBudget.newBuilder().build())
+            .addEqualityGroup(
+                WalkBudget.newBuilder().withMaxNodes(1).build())
+            .addEqualityGroup(
+                WalkBudget.newBuilder().withMaxDepth(1).build())
+            .addEqualityGroup(
+                WalkBudget.newBuilder().withTimeout(Duration.ofSeconds(1)).build(),
+                WalkBudget.newBuilder().withTimeout(Duration.ofSeconds(1)).build())
+            .addEqualityGroup(
+                WalkBudget.newBuilder().withCancellation(cancellation).build(),
+                WalkBudget.newBuilder().withCancellation(cancellation).build())
+            .testEquals();
+    }
+
+    private static PathProvider givenPath(final int depth) {
+        final PathProvider path = mock(PathProvider.class);
+        when(path.getDepth()).thenReturn(depth);
+        when(path.getPath()).thenReturn("path");
+        return path;
+    }
+}
@@ -18,22 +18,29 @@ package org.datalorax.populace.core.walk;
 
 import com.google.common.testing.EqualsTester;
 import com.google.common.testing.NullPointerTester;
+import org.datalorax.populace.core.metrics.WalkMetrics;
+import org.datalorax.populace.core.util.TypeUtils;
 import org.datalorax.populace.core.walk.element.ElementInfo;
 import org.datalorax.populace.core.walk.field.FieldInfo;
+import org.datalorax.populace.core.walk.field.RawField;
 import org.datalorax.populace.core.walk.inspector.Inspector;
 import org.datalorax.populace.core.walk.inspector.Inspectors;
+import org.datalorax.populace.core.walk.listener.WalkListener;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Test;
 
 import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.Predicate;
 
 import static org.hamcrest.MatcherAssert.assertThat;
-import static org.hamcrest.Matchers.is;
-import static org.mockito.Mockito.mock;
-import static org.mockito.Mockito.when;
+import static org.hamcrest.Matchers.*;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.*;
 
 public class WalkerContextTest {
     @Mock(name = "main")
@@ -108,8 +115,129 @@ public class WalkerContextTest {
         assertThat(inspector, is(expected));
     }
 
+    @Test
+    public void shouldBuildWalkPlanFromInspector() throws Exception {
+        // Given:
+        final RawField field = mock(RawField.class);
+        final Inspector inspector = givenInspectorFor(getClass(), field);
+
+        // When:
+        final WalkPlan plan = context.getWalkPlan(getClass(), WalkerStack.newStack(this));
+
+        // Then:
+        assertThat(plan.getInspector(), is(inspector));
+        assertThat(plan.getFields(), is(arrayContaining(field)));
+    }
+
+    @Test
+    public void shouldReuseWalkPlanForSameClass() throws Exception {
+        // Given:
+        final Inspector inspector = givenInspectorFor(getClass());
+
+        // When:
+        final WalkPlan first = context.getWalkPlan(getClass(), WalkerStack.newStack(this));
+        final WalkPlan second = context.getWalkPlan(getClass(), WalkerStack.newStack(this));
+
+        // Then:
+        assertThat(second, is(sameInstance(first)));
+        verify(inspectors, times(1)).get(any(Type.class));
+        verify(inspector, times(1)).getFields(getClass(), inspectors);
+    }
+
+    @Test
+    public void shouldLookUpGenericTypesAsParameterisedTypes() throws Exception {
+        // Given:
+        final Type parameterised = TypeUtils.parameterise(ArrayList.class, ArrayList.class.getTypeParameters());
+        final Inspector inspector = givenInspectorFor(parameterised);
+
+        // When:
+        final WalkPlan plan = context.getWalkPlan(ArrayList.class, WalkerStack.newStack(this));
+
+        // Then:
+        assertThat(plan.getInspector(), is(inspector));
+    }
+
+    @Test
+    public void shouldBuildWalkPlanPerResolvedTypeIfInspectorsRegisteredForParameterisedTypes() throws Exception {
+        // Given:
+        final Type stringList = TypeUtils.parameterise(ArrayList.class, String.class);
+        final Type integerList = TypeUtils.parameterise(ArrayList.class, Integer.class);
+        final Inspector stringInspector = givenInspectorFor(stringList);
+        final Inspector integerInspector = givenInspectorFor(integerList);
+        when(inspectors.hasSpecificParameterisationsOf(ArrayList.class)).thenReturn(true);
+
+        // When:
+        final WalkPlan stringPlan = context.getWalkPlan(ArrayList.class, givenStackWithFieldOfType(stringList));
+        final WalkPlan integerPlan = context.getWalkPlan(ArrayList.class, givenStackWithFieldOfType(integerList));
+        final WalkPlan stringPlanAgain = context.getWalkPlan(ArrayList.class, givenStackWithFieldOfType(stringList));
+
+        // Then:
+        assertThat(stringPlan.getInspector(), is(stringInspector));
+        assertThat(integerPlan.getInspector(), is(integerInspector));
+        assertThat(stringPlanAgain, is(sameInstance(stringPlan)));
+    }
+
+    @Test
+    public void shouldUseCachedWalkPlanForSameClass() throws Exception {
+        // Given:
+        givenInspectorFor(getClass());
+        final WalkPlan cached = context.getWalkPlan(getClass(), WalkerStack.newStack(this));
+        reset(inspectors);
+
+        // When:
+        final WalkPlan plan = context.getWalkPlan(getClass(), WalkerStack.newStack(this).getTypeResolver(), cached);
+
+        // Then:
+        assertThat(plan, is(sameInstance(cached)));
+        verify(inspectors, never()).get(any(Type.class));
+    }
+
+    @Test
+    public void shouldIgnoreCachedWalkPlanForOtherClass() throws Exception {
+        // Given:
+        givenInspectorFor(getClass());
+        final Inspector inspector = givenInspectorFor(String.class);
+        final WalkPlan cached = context.getWalkPlan(getClass(), WalkerStack.newStack(this));
+
+        // When:
+        final WalkPlan plan = context.getWalkPlan(String.class, WalkerStack.newStack(this).getTypeResolver(), cached);
+
+        // Then:
+        assertThat(plan.getType(), is(equalTo((Object) String.class)));
+        assertThat(plan.getInspector(), is(inspector));
+    }
+
+    @Test
+    public void shouldReportWalkPlanForClassAsCacheable() throws Exception {
+        // Given:
+        givenInspectorFor(getClass());
+
+        // When:
+        final WalkPlan plan = context.getWalkPlan(getClass(), WalkerStack.newStack(this));
+
+        // Then:
+        assertThat(context.isCacheable(plan), is(true));
+    }
+
+    @Test
+    public void shouldNotReportWalkPlanPerResolvedTypeAsCacheable() throws Exception {
+        // Given:
+        final Type stringList = TypeUtils.parameterise(ArrayList.class, String.class);
+        givenInspectorFor(stringList);
+        when(inspectors.hasSpecificParameterisationsOf(ArrayList.class)).thenReturn(true);
+
+        // When:
+        final WalkPlan plan = context.getWalkPlan(ArrayList.class, givenStackWithFieldOfType(stringList));
+
+        // Then:
+        assertThat(context.isCacheable(plan), is(false));
+    }
+
     @Test
     public void shouldTestEqualsAndHashCode() throws Exception {
+        final WalkMetrics metrics = new WalkMetrics();
+        final WalkListener listener = mock(WalkListener.class);
+
         new EqualsTester()
             .addEqualityGroup(
                 new WalkerContext(fieldFilter, elementFilter, inspectors),
@@ -120,6 +248,21 @@ public class WalkerContextTest {
                 new WalkerContext(fieldFilter, elementFilter2, inspectors))
             .addEqualityGroup(
                 new WalkerContext(fieldFilter, elementFilter, mock(Inspectors.class)))
+            .addEqualityGroup(
+                new WalkerContext(fieldFilter, elementFilter, inspectors, ForkJoinPool.commonPool(), null, null, null, null),
+                new WalkerContext(fieldFilter, elementFilter, inspectors, ForkJoinPool.commonPool(), null, null, null, null))
+            .addEqualityGroup(
+                new WalkerContext(fieldFilter, elementFilter, inspectors, null, VisitorOffload.defaults(), null, null, null),
+                new WalkerContext(fieldFilter, elementFilter, inspectors, null, VisitorOffload.defaults(), null, null, null))
+            .addEqualityGroup(
+                new WalkerContext(fieldFilter, elementFilter, inspectors, null, null, WalkBudget.newBuilder().withMaxNodes(1).build(), null, null),
+                new WalkerContext(fieldFilter, elementFilter, inspectors, null, null, WalkBudget.newBuilder().withMaxNodes(1).build(), null, null))
+            .addEqualityGroup(
+                new WalkerContext(fieldFilter, elementFilter, inspectors, null, null, null, metrics, null),
+                new WalkerContext(fieldFilter, elementFilter, inspectors, null, null, null, metrics, null))
+            .addEqualityGroup(
+                new WalkerContext(fieldFilter, elementFilter, inspectors, null, null, null, null, listener),
+                new WalkerContext(fieldFilter, elementFilter, inspectors, null, null, null, null, listener))
             .testEquals();
     }
 
@@ -129,4 +272,17 @@ public class WalkerContextTest {
             .setDefault(Inspectors.class, inspectors)
             .testAllPublicConstructors(WalkerContext.class);
     }
-}
\ No newline at end of file
+
+    private Inspector givenInspectorFor(final Type type, final RawField... fields) {
+        final Inspector inspector = mock(Inspector.class);
+        when(inspector.getFields(any(Class.class), any(Inspectors.class))).thenReturn(Arrays.asList(fields));
+        when(inspectors.get(type)).thenReturn(inspector);
+        return inspector;
+    }
+
+    private WalkerStack givenStackWithFieldOfType(final Type type) {
+        final RawField field = mock(RawField.class);
+        when(field.getGenericType()).thenReturn(type);
+        return WalkerStack.newStack(this).push(field);
+    }
+}
@@ -22,6 +22,7 @@ import org.testng.annotations.Test;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.endsWith;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
@@ -96,4 +97,51 @@ public class WalkerStackTest {
         // Then:
         assertThat(stack.getDepth(), is(1));
     }
-}
\ No newline at end of file
+
+    @Test
+    public void shouldShareInternedWalkPathBetweenFramesAtSamePosition() throws Exception {
+        // Given:
+        final RawField field = mock(RawField.class);
+        when(field.getGenericType()).thenReturn(Number.class);
+        when(field.getName()).thenReturn("fred");
+
+        // When:
+        final WalkerStack first = WalkerStack.newStack(new Object()).push(new Object(), 2).push(field);
+        final WalkerStack second = WalkerStack.newStack(new Object()).push(new Object(), 2).push(field);
+
+        // Then:
+        assertThat(second.getWalkPath(), is(sameInstance(first.getWalkPath())));
+        assertThat(first.getWalkPath().getPath(), is("Object[2].fred"));
+    }
+
+    @Test
+    public void shouldBuildPathOfDeepStack() throws Exception {
+        // Given:
+        WalkerStack stack = WalkerStack.newStack(new Object());
+        for (int i = 0; i != 10_000; ++i) {
+            stack = stack.push(new Object(), 0);
+        }
+
+        // When:
+        final String path = stack.getPath();
+
+        // Then:
+        assertThat(path.length(), is("Object".length() + 10_000 * "[0]".length()));
+        assertThat(stack.getWalkPath().getDepth(), is(10_000));
+    }
+
+    @Test
+    public void shouldShareTypeResolverBetweenFramesAtSameGenericPosition() throws Exception {
+        // Given:
+        final WalkerStack root = WalkerStack.newStack(new Object());
+        final RawField field = mock(RawField.class);
+        when(field.getGenericType()).thenReturn(Number.class);
+
+        // When:
+        final WalkerStack first = root.push(new Object(), 0).push(field);
+        final WalkerStack second = root.push(new Object(), 1).push(field);
+
+        // Then:
+        assertThat(second.getTypeResolver(), is(sameInstance(first.getTypeResolver())));
+    }
+}
@@ -20,6 +20,7 @@ import com.google.common.testing.EqualsTester;
 import com.google.common.testing.NullPointerTester;
 import org.datalorax.populace.core.util.TypeResolver;
 import org.datalorax.populace.core.walk.field.PathProvider;
+import org.datalorax.populace.core.walk.field.WalkPath;
 import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Test;
 
@@ -42,7 +43,7 @@ public class ElementInfoTest {
     public void setUp() throws Exception {
         element = mock(RawElement.class);
         typeResolver = mock(TypeResolver.class);
-        pathProvider = mock(PathProvider.class);
+        pathProvider = givenPath("List[0]");
 
         elementInfo = new ElementInfo(element, List.class, typeResolver, pathProvider);
     }
@@ -120,10 +121,29 @@ public class ElementInfoTest {
             .addEqualityGroup(
                 new ElementInfo(element, Set.class, mock(TypeResolver.class, "different"), pathProvider))
             .addEqualityGroup(
-                new ElementInfo(element, List.class, typeResolver, mock(PathProvider.class, "different")))
+                new ElementInfo(element, List.class, typeResolver, givenPath("List[1]")))
             .testEquals();
     }
 
+    @Test
+    public void shouldNotRenderPathInEqualsOrHashCode() throws Exception {
+        // Given:
+        final ElementInfo another = new ElementInfo(element, List.class, typeResolver, givenPath("List[0]"));
+
+        // When:
+        elementInfo.equals(another);
+        elementInfo.hashCode();
+
+        // Then:
+        verify(pathProvider, never()).getPath();
+    }
+
+    @Test
+    public void shouldBeItsOwnSnapshot() throws Exception {
+        // Then:
+        assertThat(elementInfo.snapshot(), is(sameInstance(elementInfo)));
+    }
+
     @Test
     public void shouldThrowNPEsOnConstructorParams() throws Exception {
         new NullPointerTester()
@@ -140,4 +160,10 @@ public class ElementInfoTest {
         // Then:
         assertThat(elementInfo.getDepth(), is(19));
     }
+
+    private static PathProvider givenPath(final String path) {
+        final PathProvider provider = mock(PathProvider.class, path);
+        when(provider.getWalkPath()).thenReturn(WalkPath.parse(path));
+        return provider;
+    }
 }
\ No newline at end of file
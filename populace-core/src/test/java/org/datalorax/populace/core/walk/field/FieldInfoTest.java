@@ -119,6 +119,124 @@ public class FieldInfoTest {
         verify(field).getValue(owningInstance);
     }
 
+    @Test
+    public void shouldOnlyReadValueOnce() throws Exception {
+        // Given:
+        when(field.getValue(anyObject())).thenReturn("expected");
+        fieldInfo.getValue();
+
+        // When:
+        final Object value = fieldInfo.getValue();
+
+        // Then:
+        assertThat(value, is("expected"));
+        verify(field, times(1)).getValue(owningInstance);
+    }
+
+    @Test
+    public void shouldOnlyReadNullValueOnce() throws Exception {
+        // Given:
+        fieldInfo.getValue();
+
+        // When:
+        final Object value = fieldInfo.getValue();
+
+        // Then:
+        assertThat(value, is(nullValue()));
+        verify(field, times(1)).getValue(owningInstance);
+    }
+
+    @Test
+    public void shouldReadValueAgainAfterSettingValue() throws Exception {
+        // Given:
+        when(field.getValue(anyObject())).thenReturn("old", "new");
+        fieldInfo.getValue();
+
+        // When:
+        fieldInfo.setValue("new");
+
+        // Then:
+        assertThat(fieldInfo.getValue(), is("new"));
+        verify(field, times(2)).getValue(owningInstance);
+    }
+
+    @Test
+    public void shouldReadValueAgainAfterSettingPrimitiveValue() throws Exception {
+        // Given:
+        when(field.getValue(anyObject())).thenReturn(1, 2);
+        fieldInfo.getValue();
+
+        // When:
+        fieldInfo.setInt(2);
+
+        // Then:
+        assertThat(fieldInfo.getValue(), is(2));
+    }
+
+    @Test
+    public void shouldReadValueAgainAfterReset() throws Exception {
+        // Given:
+        final Object otherInstance = new Object();
+        when(field.getValue(owningInstance)).thenReturn("first");
+        when(field.getValue(otherInstance)).thenReturn("second");
+        fieldInfo.getValue();
+
+        // When:
+        fieldInfo.reset(field, otherInstance, typeResolver, pathProvider);
+
+        // Then:
+        assertThat(fieldInfo.getValue(), is("second"));
+    }
+
+    @Test
+    public void shouldOnlyResolveGenericTypeOnce() throws Exception {
+        // Given:
+        givenFieldIsAccessible();
+        givenFieldHasValue(new ArrayList<>(), List.class);
+        when(typeResolver.resolve(ArrayList.class)).thenReturn(genericType);
+        fieldInfo.getGenericType();
+
+        // When:
+        final Type type = fieldInfo.getGenericType();
+
+        // Then:
+        assertThat(type, is(genericType));
+        verify(typeResolver, times(1)).resolve(any(Type.class));
+        verify(field, times(1)).getValue(owningInstance);
+    }
+
+    @Test
+    public void shouldResolveGenericTypeAgainAfterSettingValue() throws Exception {
+        // Given:
+        givenFieldIsAccessible();
+        givenFieldHasType(Object.class);
+        when(field.getValue(anyObject())).thenReturn("value", 1);
+        fieldInfo.getGenericType();
+
+        // When:
+        fieldInfo.setValue(1);
+
+        // Then:
+        fieldInfo.getGenericType();
+        verify(typeResolver).resolve(Integer.class);
+    }
+
+    @Test
+    public void shouldResolveGenericTypeAgainOnceAccessible() throws Exception {
+        // Given:
+        givenFieldIsNotAccessible();
+        givenFieldHasValue("value", Object.class);
+        fieldInfo.getGenericType();
+        givenFieldIsAccessible();
+
+        // When:
+        fieldInfo.ensureAccessible();
+
+        // Then:
+        fieldInfo.getGenericType();
+        verify(typeResolver).resolve(String.class);
+    }
+
     @Test(expectedExceptions = FieldAccessException.class)
     public void shouldThrowFieldAccessExceptionIfNoAccessWhenGettingValue() throws Exception {
         // Given:
@@ -306,24 +424,38 @@ public class FieldInfoTest {
     @Test
     public void shouldOnlyTakePathIntoAccountInEqualsAsPathIsUnique() throws Exception {
         // Given:
-        when(pathProvider.getPath()).thenReturn("some/path");
+        when(pathProvider.getWalkPath()).thenReturn(WalkPath.parse("Some.path"));
         final FieldInfo another = new FieldInfo(field, owningInstance, typeResolver, pathProvider);
 
         // When:
         final boolean result = fieldInfo.equals(another);
 
         // Then:
-        verify(pathProvider, times(2)).getPath();
+        verify(pathProvider, times(2)).getWalkPath();
         assertThat(result, is(true));
         verifyNoMoreInteractions(field, typeResolver);
     }
 
+    @Test
+    public void shouldNotRenderPathInEqualsOrHashCode() throws Exception {
+        // Given:
+        when(pathProvider.getWalkPath()).thenReturn(WalkPath.parse("Some.path"));
+        final FieldInfo another = new FieldInfo(field, owningInstance, typeResolver, pathProvider);
+
+        // When:
+        fieldInfo.equals(another);
+        fieldInfo.hashCode();
+
+        // Then:
+        verify(pathProvider, never()).getPath();
+    }
+
     @Test
     public void shouldNotBeEqualIfDifferentPaths() throws Exception {
         // Given:
-        when(pathProvider.getPath()).thenReturn("some/path");
+        when(pathProvider.getWalkPath()).thenReturn(WalkPath.parse("Some.path"));
         final PathProvider otherPath = mock(PathProvider.class);
-        when(otherPath.getPath()).thenReturn("different/path");
+        when(otherPath.getWalkPath()).thenReturn(WalkPath.parse("Different.path"));
         final FieldInfo another = new FieldInfo(field, owningInstance, typeResolver, otherPath);
 
         // When:
@@ -336,13 +468,14 @@ public class FieldInfoTest {
     @Test
     public void shouldOnlyUsePathInHashCode() throws Exception {
         // Given:
-        when(pathProvider.getPath()).thenReturn("some/path");
+        final WalkPath path = WalkPath.parse("Some.path");
+        when(pathProvider.getWalkPath()).thenReturn(path);
 
         // When:
         final int hashCode = fieldInfo.hashCode();
 
         // Then:
-        assertThat(hashCode, is("some/path".hashCode()));
+        assertThat(hashCode, is(path.hashCode()));
     }
 
     @Test
@@ -470,8 +603,8 @@ public class FieldInfoTest {
         givenFieldHasValue("value");
 
         final PathProvider otherPathProvider = mock(PathProvider.class, "other");
-        when(pathProvider.getPath()).thenReturn("somePath");
-        when(otherPathProvider.getPath()).thenReturn("differentPath");
+        when(pathProvider.getWalkPath()).thenReturn(WalkPath.parse("Some.path"));
+        when(otherPathProvider.getWalkPath()).thenReturn(WalkPath.parse("Different.path"));
 
         final RawField otherField = mock(RawField.class, "other");
         when(otherField.getType()).thenReturn((Class) long.class);
@@ -489,6 +622,22 @@ public class FieldInfoTest {
             .testEquals();
     }
 
+    @Test
+    public void shouldGetWalkPathFromProvider() throws Exception {
+        // Given:
+        final WalkPath path = WalkPath.parse("Some.path");
+        when(pathProvider.getWalkPath()).thenReturn(path);
+
+        // Then:
+        assertThat(fieldInfo.getWalkPath(), is(sameInstance(path)));
+    }
+
+    @Test
+    public void shouldBeItsOwnSnapshot() throws Exception {
+        // Then:
+        assertThat(fieldInfo.snapshot(), is(sameInstance(fieldInfo)));
+    }
+
     @Test
     public void shouldThrowNPEsOnConstructorParams() throws Exception {
         new NullPointerTester()
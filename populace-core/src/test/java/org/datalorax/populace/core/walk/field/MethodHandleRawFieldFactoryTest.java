@@ -0,0 +1,340 @@
+/*
+ * Copyright (c) 2015 Andrew Coates
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.datalorax.populace.core.walk.field;
+
+import com.google.common.testing.EqualsTester;
+import org.datalorax.populace.core.walk.inspector.annotation.AnnotationInspector;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.mockito.Mockito.mock;
+
+public class MethodHandleRawFieldFactoryTest {
+    private AnnotationInspector annotationInspector;
+    private MethodHandleRawFieldFactory factory;
+    private SomeType instance;
+
+    @BeforeMethod
+    public void setUp() throws Exception {
+        annotationInspector = mock(AnnotationInspector.class);
+        factory = MethodHandleRawFieldFactory.INSTANCE;
+        instance = new SomeType();
+    }
+
+    @Test
+    public void shouldGetAndSetFieldValue() throws Exception {
+        // Given:
+        final RawField field = factory.createField(SomeType.class.getDeclaredField("value"), annotationInspector);
+        field.ensureAccessible();
+
+        // When:
+        field.setValue(instance, "new");
+
+        // Then:
+        assertThat(field.getValue(instance), is("new"));
+        assertThat(instance.value, is("new"));
+    }
+
+    @Test
+    public void shouldGetAndSetPrimitiveFieldValue() throws Exception {
+        // Given:
+        final RawField field = factory.createField(SomeType.class.getDeclaredField("primitive"), annotationInspector);
+        field.ensureAccessible();
+
+        // When:
+        field.setValue(instance, 42);
+
+        // Then:
+        assertThat(field.getValue(instance), is(42));
+    }
+
+    @Test
+    public void shouldGetAndSetPrimitiveFieldWithoutBoxing() throws Exception {
+        // Given:
+        final RawField field = factory.createField(SomeType.class.getDeclaredField("primitive"), annotationInspector);
+        field.ensureAccessible();
+
+        // When:
+        field.setInt(instance, 42);
+
+        // Then:
+        assertThat(field.getInt(instance), is(42));
+        assertThat(instance.primitive, is(42));
+    }
+
+    @Test
+    public void shouldWidenPrimitiveValues() throws Exception {
+        // Given:
+        final RawField field = factory.createField(SomeType.class.getDeclaredField("primitive"), annotationInspector);
+        field.ensureAccessible();
+        instance.primitive = 42;
+
+        // Then:
+        assertThat(field.getLong(instance), is(42L));
+    }
+
+    @Test
+    public void shouldWidenBoxedIntWhenSettingLongField() throws Exception {
+        // Given:
+        final RawField field = factory.createField(SomeType.class.getDeclaredField("longValue"), annotationInspector);
+        field.ensureAccessible();
+
+        // When:
+        field.setValue(instance, 4);
+
+        // Then:
+        assertThat(instance.longValue, is(4L));
+    }
+
+    @Test
+    public void shouldWidenBoxedCharWhenSettingIntField() throws Exception {
+        // Given:
+        final RawField field = factory.createField(SomeType.class.getDeclaredField("primitive"), annotationInspector);
+        field.ensureAccessible();
+
+        // When:
+        field.setValue(instance, 'a');
+
+        // Then:
+        assertThat(instance.primitive, is((int) 'a'));
+    }
+
+    @Test
+    public void shouldWidenBoxedFloatWhenSettingDoubleField() throws Exception {
+        // Given:
+        final RawField field = factory.createField(SomeType.class.getDeclaredField("doubleValue"), annotationInspector);
+        field.ensureAccessible();
+
+        // When:
+        field.setValue(instance, 1.5f);
+
+        // Then:
+        assertThat(instance.doubleValue, is(1.5));
+    }
+
+    @Test
+    public void shouldWidenBoxedIntWhenSettingLongProperty() throws Exception {
+        // Given:
+        final Method getter = SomeType.class.getDeclaredMethod("getLongValue");
+        final Method setter = SomeType.class.getDeclaredMethod("setLongValue", long.class);
+        final RawField field = factory.createProperty("longValue", getter, setter, annotationInspector);
+        field.ensureAccessible();
+
+        // When:
+        field.setValue(instance, 4);
+
+        // Then:
+        assertThat(instance.longValue, is(4L));
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void shouldThrowOnSettingNarrowerBoxedValue() throws Exception {
+        // Given:
+        final RawField field = factory.createField(SomeType.class.getDeclaredField("primitive"), annotationInspector);
+        field.ensureAccessible();
+
+        // When:
+        field.setValue(instance, 4L);
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void shouldThrowOnNarrowingPrimitiveValues() throws Exception {
+        // Given:
+        final RawField field = factory.createField(SomeType.class.getDeclaredField("primitive"), annotationInspector);
+        field.ensureAccessible();
+
+        // When:
+        field.getShort(instance);
+    }
+
+    @Test
+    public void shouldGetPrimitiveFromProperty() throws Exception {
+        // Given:
+        final RawField field = factory.createImmutableProperty("primitive",
+            SomeType.class.getDeclaredMethod("getPrimitive"), annotationInspector);
+        instance.primitive = 7;
+
+        // Then:
+        assertThat(field.getInt(instance), is(7));
+    }
+
+    @Test(expectedExceptions = IllegalAccessException.class)
+    public void shouldThrowIfFieldNotAccessible() throws Exception {
+        // Given:
+        final RawField field = factory.createField(PrivateType.class.getDeclaredField("value"), annotationInspector);
+
+        // When:
+        field.getValue(new PrivateType());
+    }
+
+    @Test
+    public void shouldGetValueOnceMadeAccessible() throws Exception {
+        // Given:
+        final RawField field = factory.createField(PrivateType.class.getDeclaredField("value"), annotationInspector);
+        try {
+            field.getValue(new PrivateType());
+        } catch (IllegalAccessException e) {
+            // expected
+        }
+
+        // When:
+        field.ensureAccessible();
+
+        // Then:
+        assertThat(field.getValue(new PrivateType()), is("private"));
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void shouldThrowOnSettingValueOfWrongType() throws Exception {
+        // Given:
+        final RawField field = factory.createField(SomeType.class.getDeclaredField("value"), annotationInspector);
+        field.ensureAccessible();
+
+        // When:
+        field.setValue(instance, 1);
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void shouldThrowOnSettingPrimitiveToNull() throws Exception {
+        // Given:
+        final RawField field = factory.createField(SomeType.class.getDeclaredField("primitive"), annotationInspector);
+        field.ensureAccessible();
+
+        // When:
+        field.setValue(instance, null);
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void shouldThrowOnInstanceOfWrongType() throws Exception {
+        // Given:
+        final RawField field = factory.createField(SomeType.class.getDeclaredField("value"), annotationInspector);
+        field.ensureAccessible();
+
+        // When:
+        field.getValue(new PrivateType());
+    }
+
+    @Test
+    public void shouldGetAndSetPropertyValue() throws Exception {
+        // Given:
+        final Method getter = SomeType.class.getDeclaredMethod("getValue");
+        final Method setter = SomeType.class.getDeclaredMethod("setValue", String.class);
+        final RawField field = factory.createProperty("value", getter, setter, annotationInspector);
+        field.ensureAccessible();
+
+        // When:
+        field.setValue(instance, "new");
+
+        // Then:
+        assertThat(field.getValue(instance), is("new"));
+    }
+
+    @Test
+    public void shouldWrapExceptionsThrownByAccessors() throws Exception {
+        // Given:
+        final RawField field = factory.createImmutableProperty("value",
+            SomeType.class.getDeclaredMethod("getThrows"), annotationInspector);
+        field.ensureAccessible();
+
+        try {
+            // When:
+            field.getValue(instance);
+        } catch (InvocationTargetException e) {
+            // Then:
+            assertThat(e.getCause(), is(instanceOf(UnsupportedOperationException.class)));
+            return;
+        }
+        throw new AssertionError("should have thrown");
+    }
+
+    @Test(expectedExceptions = UnsupportedOperationException.class)
+    public void shouldThrowOnSetOfImmutableProperty() throws Exception {
+        // Given:
+        final RawField field = factory.createImmutableProperty("value",
+            SomeType.class.getDeclaredMethod("getValue"), annotationInspector);
+
+        // When:
+        field.setValue(instance, "new");
+    }
+
+    @Test
+    public void shouldNotEqualReflectionBasedField() throws Exception {
+        // Given:
+        final Field field = SomeType.class.getDeclaredField("value");
+
+        // Then:
+        assertThat(factory.createField(field, annotationInspector),
+            is(not(ReflectionRawFieldFactory.INSTANCE.createField(field, annotationInspector))));
+    }
+
+    @Test
+    public void shouldTestEqualsAndHashCode() throws Exception {
+        final Field field = SomeType.class.getDeclaredField("value");
+        new EqualsTester()
+            .addEqualityGroup(
+                factory.createField(field, annotationInspector),
+                factory.createField(SomeType.class.getDeclaredField("value"), annotationInspector))
+            .addEqualityGroup(
+                factory.createField(SomeType.class.getDeclaredField("primitive"), annotationInspector))
+            .testEquals();
+    }
+
+    @SuppressWarnings("UnusedDeclaration")
+    public static class SomeType {
+        public String value = "initial";
+        public int primitive;
+        public long longValue;
+        public double doubleValue;
+
+        public String getValue() {
+            return value;
+        }
+
+        public void setValue(final String value) {
+            this.value = value;
+        }
+
+        public int getPrimitive() {
+            return primitive;
+        }
+
+        public long getLongValue() {
+            return longValue;
+        }
+
+        public void setLongValue(final long longValue) {
+            this.longValue = longValue;
+        }
+
+        public String getThrows() {
+            throw new UnsupportedOperationException();
+        }
+    }
+
+    @SuppressWarnings("UnusedDeclaration")
+    private static class PrivateType {
+        private String value = "private";
+    }
+}
@@ -0,0 +1,251 @@
+/*
+ * Copyright (c) 2015 Andrew Coates
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.datalorax.populace.core.walk.field;
+
+import com.google.common.testing.EqualsTester;
+import com.google.common.testing.NullPointerTester;
+import org.testng.annotations.Test;
+
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+
+public class WalkPathTest {
+    @Test
+    public void shouldInternRoots() throws Exception {
+        assertThat(WalkPath.root("SomeType"), is(sameInstance(WalkPath.root("SomeType"))));
+    }
+
+    @Test
+    public void shouldInternFieldsAndElements() throws Exception {
+        // Given:
+        final WalkPath root = WalkPath.root("SomeType");
+
+        // Then:
+        assertThat(root.field("someField").element(2), is(sameInstance(root.field("someField").element(2))));
+    }
+
+    @Test
+    public void shouldStillInternPathsAfterManyPathsInterned() throws Exception {
+        // Given:
+        final List<WalkPath> earlier = new ArrayList<>();
+        final WalkPath list = WalkPath.root("SomeType").field("list");
+        for (int i = 0; i != 100_000; ++i) {
+            earlier.add(list.element(i).field("someField"));
+        }
+
+        // When:
+        final WalkPath path = WalkPath.root("Later").field("someField").element(1);
+
+        // Then:
+        assertThat(WalkPath.root("Later").field("someField").element(1), is(sameInstance(path)));
+        assertThat(earlier, hasSize(100_000));
+    }
+
+    @Test
+    public void shouldInternElementsWithLargeAndSparseIndexes() throws Exception {
+        // Given:
+        final WalkPath list = WalkPath.root("SomeType").field("sparse");
+        final WalkPath high = list.element(1_000_000);
+
+        // When:
+        final WalkPath low = list.element(3);
+
+        // Then:
+        assertThat(list.element(1_000_000), is(sameInstance(high)));
+        assertThat(list.element(3), is(sameInstance(low)));
+        assertThat(high.getPath(), is("SomeType.sparse[1000000]"));
+    }
+
+    @Test
+    public void shouldInternElementsConsistentlyAcrossThreads() throws Exception {
+        // Given:
+        final int threads = 4;
+        final int size = 10_000;
+        final WalkPath list = WalkPath.root("SomeType").field("shared");
+        final ExecutorService executor = Executors.newFixedThreadPool(threads);
+        final CountDownLatch start = new CountDownLatch(1);
+        final List<Future<WalkPath[]>> results = new ArrayList<>();
+
+        // When:
+        try {
+            for (int t = 0; t != threads; ++t) {
+                results.add(executor.submit(() -> {
+                    start.await();
+                    final WalkPath[] paths = new WalkPath[size];
+                    for (int i = 0; i != size; ++i) {
+                        paths[i] = list.element(i);
+                    }
+                    return paths;
+                }));
+            }
+            start.countDown();
+
+            // Then:
+            final WalkPath[] first = results.get(0).get();
+            for (Future<WalkPath[]> result : results) {
+                final WalkPath[] paths = result.get();
+                for (int i = 0; i != size; ++i) {
+                    assertThat(paths[i], is(sameInstance(first[i])));
+                }
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void shouldAllowUnusedPathsToBeCollected() throws Exception {
+        // Given:
+        final WalkPath root = WalkPath.root("SomeType");
+        final WeakReference<WalkPath> unused = new WeakReference<>(root.field("unused").element(7));
+
+        // When:
+        for (int i = 0; i != 100 && unused.get() != null; ++i) {
+            System.gc();
+            Thread.sleep(10);
+        }
+
+        // Then:
+        assertThat(unused.get(), is(nullValue()));
+        assertThat(root.field("unused").element(7).getPath(), is("SomeType.unused[7]"));
+    }
+
+    @Test
+    public void shouldRenderPath() throws Exception {
+        // When:
+        final WalkPath path = WalkPath.root("SomeType").field("someField").element(2).field("other");
+
+        // Then:
+        assertThat(path.getPath(), is("SomeType.someField[2].other"));
+        assertThat(path.toString(), is("SomeType.someField[2].other"));
+    }
+
+    @Test
+    public void shouldTrackDepth() throws Exception {
+        // Given:
+        final WalkPath root = WalkPath.root("SomeType");
+
+        // Then:
+        assertThat(root.getDepth(), is(0));
+        assertThat(root.field("someField").element(2).getDepth(), is(2));
+    }
+
+    @Test
+    public void shouldTrackParent() throws Exception {
+        // Given:
+        final WalkPath root = WalkPath.root("SomeType");
+
+        // Then:
+        assertThat(root.getParent(), is(nullValue()));
+        assertThat(root.field("someField").getParent(), is(sameInstance(root)));
+    }
+
+    @Test
+    public void shouldBeItsOwnWalkPath() throws Exception {
+        // Given:
+        final WalkPath path = WalkPath.root("SomeType").field("someField");
+
+        // Then:
+        assertThat(path.getWalkPath(), is(sameInstance(path)));
+    }
+
+    @Test
+    public void shouldParseRenderedPath() throws Exception {
+        // Given:
+        final WalkPath path = WalkPath.root("SomeType").field("someField").element(12).element(0).field("other");
+
+        // Then:
+        assertThat(WalkPath.parse(path.getPath()), is(sameInstance(path)));
+    }
+
+    @Test
+    public void shouldParsePathOfArrayRoot() throws Exception {
+        // Given:
+        final WalkPath path = WalkPath.root("String[][]").element(1).element(0);
+
+        // Then:
+        assertThat(WalkPath.parse("String[][][1][0]"), is(sameInstance(path)));
+    }
+
+    @Test
+    public void shouldParsePathOfAnonymousRoot() throws Exception {
+        // Given:
+        final WalkPath path = WalkPath.root("").field("someField");
+
+        // Then:
+        assertThat(WalkPath.parse(".someField"), is(sameInstance(path)));
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void shouldThrowOnNonNumericIndex() throws Exception {
+        WalkPath.parse("SomeType[a]");
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void shouldThrowOnUnterminatedIndex() throws Exception {
+        WalkPath.parse("SomeType[1");
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void shouldThrowOnTextAfterIndex() throws Exception {
+        WalkPath.parse("SomeType[1]a");
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void shouldThrowOnNegativeIndex() throws Exception {
+        WalkPath.root("SomeType").element(-1);
+    }
+
+    @Test
+    public void shouldTestEqualsAndHashCode() throws Exception {
+        final WalkPath root = WalkPath.root("SomeType");
+
+        new EqualsTester()
+            .addEqualityGroup(
+                root.field("someField"),
+                root.field("someField"),
+                WalkPath.parse("SomeType.someField"))
+            .addEqualityGroup(
+                root.field("other"))
+            .addEqualityGroup(
+                WalkPath.root("Other").field("someField"))
+            .addEqualityGroup(
+                root.element(1))
+            .addEqualityGroup(
+                root.element(1).field("someField"))
+            .addEqualityGroup(
+                root)
+            .testEquals();
+    }
+
+    @Test
+    public void shouldThrowNPEsOnStaticMethodParams() throws Exception {
+        new NullPointerTester()
+            .testAllPublicStaticMethods(WalkPath.class);
+    }
+}
@@ -0,0 +1,238 @@
+/*
+ * Copyright (c) 2015 Andrew Coates
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.datalorax.populace.core.walk.field.filter;
+
+import com.google.common.testing.EqualsTester;
+import org.datalorax.populace.core.walk.FlyweightFilter;
+import org.datalorax.populace.core.walk.field.FieldInfo;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.util.function.Predicate;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class CompoundFieldFilterTest {
+    private FieldInfo field;
+    private boolean staticResult;
+    private StaticFieldFilter staticFilter;
+    private Predicate<FieldInfo> dynamicFilter;
+
+    @SuppressWarnings("unchecked")
+    @BeforeMethod
+    public void setUp() throws Exception {
+        field = mock(FieldInfo.class);
+        staticFilter = f -> staticResult;
+        dynamicFilter = mock(Predicate.class, "dynamic");
+    }
+
+    @Test
+    public void shouldEvaluateLogicalAnd() throws Exception {
+        // Given:
+        final Predicate<FieldInfo> filter = staticFilter.and(dynamicFilter);
+        staticResult = true;
+        when(dynamicFilter.test(field)).thenReturn(false);
+
+        // Then:
+        assertThat(filter.test(field), is(false));
+    }
+
+    @Test
+    public void shouldEvaluateLogicalOr() throws Exception {
+        // Given:
+        final Predicate<FieldInfo> filter = staticFilter.or(dynamicFilter);
+        staticResult = false;
+        when(dynamicFilter.test(field)).thenReturn(true);
+
+        // Then:
+        assertThat(filter.test(field), is(true));
+    }
+
+    @Test
+    public void shouldEvaluateLogicalNot() throws Exception {
+        // Given:
+        final Predicate<FieldInfo> filter = staticFilter.negate();
+        staticResult = false;
+
+        // Then:
+        assertThat(filter.test(field), is(true));
+    }
+
+    @Test
+    public void shouldSpecialiseAndToExcludeIfStaticPartExcludes() throws Exception {
+        // Given:
+        staticResult = false;
+
+        // When:
+        final Predicate<FieldInfo> result = FieldFilters.specialise(staticFilter.and(dynamicFilter), field);
+
+        // Then:
+        assertThat(result, is(instanceOf(StaticFieldFilter.class)));
+        assertThat(result.test(field), is(false));
+        verify(dynamicFilter, never()).test(field);
+    }
+
+    @Test
+    public void shouldSpecialiseAndToDynamicPartIfStaticPartIncludes() throws Exception {
+        // Given:
+        staticResult = true;
+
+        // When:
+        final Predicate<FieldInfo> result = FieldFilters.specialise(staticFilter.and(dynamicFilter), field);
+
+        // Then:
+        assertThat(result, is(sameInstance(dynamicFilter)));
+    }
+
+    @Test
+    public void shouldSpecialiseOrToIncludeIfStaticPartIncludes() throws Exception {
+        // Given:
+        staticResult = true;
+
+        // When:
+        final Predicate<FieldInfo> result = FieldFilters.specialise(staticFilter.or(dynamicFilter), field);
+
+        // Then:
+        assertThat(result, is(instanceOf(StaticFieldFilter.class)));
+        assertThat(result.test(field), is(true));
+    }
+
+    @Test
+    public void shouldSpecialiseOrToDynamicPartIfStaticPartExcludes() throws Exception {
+        // Given:
+        staticResult = false;
+
+        // When:
+        final Predicate<FieldInfo> result = FieldFilters.specialise(staticFilter.or(dynamicFilter), field);
+
+        // Then:
+        assertThat(result, is(sameInstance(dynamicFilter)));
+    }
+
+    @Test
+    public void shouldSpecialiseNestedCombinations() throws Exception {
+        // Given:
+        final StaticFieldFilter other = f -> false;
+        final Predicate<FieldInfo> filter = CompoundFieldFilter.of(dynamicFilter).and(staticFilter.negate().or(other));
+        staticResult = true;
+
+        // When:
+        final Predicate<FieldInfo> result = FieldFilters.specialise(filter, field);
+
+        // Then:
+        assertThat(result, is(instanceOf(StaticFieldFilter.class)));
+        assertThat(result.test(field), is(false));
+    }
+
+    @SuppressWarnings("deprecation")
+    @Test
+    public void shouldSpecialiseDeprecatedAndFilter() throws Exception {
+        // Given:
+        staticResult = false;
+
+        // When:
+        final Predicate<FieldInfo> result = FieldFilters.specialise(new AndFieldFilter(dynamicFilter, staticFilter), field);
+
+        // Then:
+        assertThat(result, is(instanceOf(StaticFieldFilter.class)));
+        assertThat(result.test(field), is(false));
+        verify(dynamicFilter, never()).test(field);
+    }
+
+    @SuppressWarnings({"deprecation", "unchecked"})
+    @Test
+    public void shouldSpecialiseDeprecatedAnyFilter() throws Exception {
+        // Given:
+        staticResult = false;
+
+        // When:
+        final Predicate<FieldInfo> result =
+            FieldFilters.specialise(new AnyFieldFilter(staticFilter, dynamicFilter, staticFilter), field);
+
+        // Then:
+        assertThat(result, is(sameInstance(dynamicFilter)));
+    }
+
+    @SuppressWarnings("deprecation")
+    @Test
+    public void shouldSpecialiseDeprecatedDefaultsToStaticFilter() throws Exception {
+        // When:
+        final Predicate<FieldInfo> result = FieldFilters.specialise(FieldFilters.defaults(), field);
+
+        // Then:
+        assertThat(result, is(instanceOf(StaticFieldFilter.class)));
+        assertThat(result.test(field), is(true));
+    }
+
+    @Test
+    public void shouldAcceptFlyweightsIfAllOperandsDo() throws Exception {
+        // Given:
+        final Predicate<FieldInfo> dynamic = (Predicate<FieldInfo> & FlyweightFilter) f -> true;
+
+        // When:
+        final Predicate<FieldInfo> filter = staticFilter.and(dynamic).or(staticFilter.negate());
+
+        // Then:
+        assertThat(FlyweightFilter.acceptsFlyweights(filter), is(true));
+    }
+
+    @Test
+    public void shouldNotAcceptFlyweightsIfAnyOperandDoesNot() throws Exception {
+        // When:
+        final Predicate<FieldInfo> filter = staticFilter.or(staticFilter.and(dynamicFilter));
+
+        // Then:
+        assertThat(FlyweightFilter.acceptsFlyweights(filter), is(false));
+    }
+
+    @Test
+    public void shouldAcceptFlyweightsIfDeprecatedCombinationOfStaticFilters() throws Exception {
+        // Then:
+        assertThat(FlyweightFilter.acceptsFlyweights(FieldFilters.defaults()), is(true));
+    }
+
+    @Test
+    public void shouldLeaveDynamicFiltersUnchanged() throws Exception {
+        // When:
+        final Predicate<FieldInfo> result = FieldFilters.specialise(dynamicFilter, field);
+
+        // Then:
+        assertThat(result, is(sameInstance(dynamicFilter)));
+    }
+
+    @Test
+    public void shouldTestEqualsAndHashCode() throws Exception {
+        new EqualsTester()
+            .addEqualityGroup(
+                CompoundFieldFilter.and(staticFilter, dynamicFilter),
+                CompoundFieldFilter.and(staticFilter, dynamicFilter))
+            .addEqualityGroup(
+                CompoundFieldFilter.or(staticFilter, dynamicFilter))
+            .addEqualityGroup(
+                CompoundFieldFilter.not(staticFilter))
+            .addEqualityGroup(
+                CompoundFieldFilter.of(dynamicFilter))
+            .testEquals();
+    }
+}
@@ -23,6 +23,7 @@ import org.testng.annotations.Test;
 import java.util.function.Predicate;
 
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.instanceOf;
 import static org.hamcrest.Matchers.is;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
@@ -49,6 +50,11 @@ public class ExcludeFinalFieldsFilterTest {
         assertThat(ExcludeFinalFieldsFilter.INSTANCE.test(fieldInfo), is(true));
     }
 
+    @Test
+    public void shouldBeStaticFilter() throws Exception {
+        assertThat(ExcludeFinalFieldsFilter.INSTANCE, is(instanceOf(StaticFieldFilter.class)));
+    }
+
     @Test
     public void shouldTestEqualsAndHashCode() throws Exception {
         new EqualsTester()
@@ -23,6 +23,7 @@ import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Test;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Iterator;
 import java.util.List;
 import java.util.NoSuchElementException;
@@ -90,6 +91,30 @@ public class ArrayInspectorTest {
         assertThat(array[0], is("new"));
     }
 
+    @Test
+    public void shouldReturnElementCount() throws Exception {
+        assertThat(inspector.getElementCount(new String[]{"a", "b", "c", "d"}), is(4));
+    }
+
+    @Test
+    public void shouldExposeRangeOfElements() throws Exception {
+        // Given:
+        final Object array = new String[]{"a", "b", "c", "d"};
+
+        // When:
+        final List<RawElement> elements = toList(inspector.getElements(array, 1, 3, inspectors));
+
+        // Then:
+        assertThat(elements, hasSize(2));
+        assertThat(elements.get(0).getValue(), is("b"));
+        assertThat(elements.get(1).getValue(), is("c"));
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void shouldThrowIfRangeOutOfBounds() throws Exception {
+        inspector.getElements(new String[]{"a", "b"}, 1, 3, inspectors);
+    }
+
     @Test
     public void shouldTestEqualsAndHashCode() throws Exception {
         new EqualsTester()
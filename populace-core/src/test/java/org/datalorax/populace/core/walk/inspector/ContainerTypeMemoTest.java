@@ -0,0 +1,65 @@
+/*
+ * Copyright (c) 2015 Andrew Coates
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.datalorax.populace.core.walk.inspector;
+
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.lang.reflect.Type;
+import java.util.List;
+import java.util.function.Function;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.mockito.Mockito.*;
+
+public class ContainerTypeMemoTest {
+    private Function<Type, String> function;
+    private ContainerTypeMemo<String> memo;
+
+    @SuppressWarnings("unchecked")
+    @BeforeMethod
+    public void setUp() throws Exception {
+        function = mock(Function.class);
+        when(function.apply(List.class)).thenReturn("list");
+        when(function.apply(String.class)).thenReturn("string");
+        memo = new ContainerTypeMemo<>(function);
+    }
+
+    @Test
+    public void shouldOnlyCallFunctionOnceForSameContainerType() throws Exception {
+        // When:
+        memo.get(List.class);
+        final String result = memo.get(List.class);
+
+        // Then:
+        assertThat(result, is("list"));
+        verify(function, times(1)).apply(List.class);
+    }
+
+    @Test
+    public void shouldCallFunctionAgainIfContainerTypeChanges() throws Exception {
+        // Given:
+        memo.get(List.class);
+
+        // When:
+        final String result = memo.get(String.class);
+
+        // Then:
+        assertThat(result, is("string"));
+    }
+}
@@ -0,0 +1,211 @@
+/*
+ * Copyright (c) 2015 Andrew Coates
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.datalorax.populace.core.walk.inspector;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.testing.EqualsTester;
+import org.datalorax.populace.core.util.TypeUtils;
+import org.datalorax.populace.core.walk.field.MethodHandleRawFieldFactory;
+import org.datalorax.populace.core.walk.field.RawField;
+import org.datalorax.populace.core.walk.field.StdRawField;
+import org.datalorax.populace.core.walk.inspector.annotation.AnnotationInspector;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.util.List;
+
+import static org.datalorax.populace.core.walk.field.filter.RawFieldMatcher.rawField;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.mockito.Mockito.*;
+
+@SuppressWarnings({"UnusedDeclaration", "unchecked"})
+public class DirectFieldInspectorTest {
+    private Inspectors inspectors;
+    private AnnotationInspector annotationInspector;
+    private DirectFieldInspector inspector;
+
+    @BeforeMethod
+    public void setUp() throws Exception {
+        inspectors = mock(Inspectors.class);
+        annotationInspector = mock(AnnotationInspector.class);
+        inspector = new SomeTypeInspector();
+
+        when(inspectors.getAnnotationInspector()).thenReturn(annotationInspector);
+        when(inspectors.getRawFieldFactory()).thenReturn(MethodHandleRawFieldFactory.INSTANCE);
+        when(inspectors.get(SuperType.class)).thenReturn(FieldInspector.INSTANCE);
+    }
+
+    @Test(expectedExceptions = NullPointerException.class)
+    public void shouldThrowOnNullType() throws Exception {
+        new DirectFieldInspector(null) {
+            @Override
+            protected void collectFields(final Inspectors inspectors, final List<RawField> collected) {
+            }
+        };
+    }
+
+    @Test
+    public void shouldReturnCollectedAndSuperFields() throws Exception {
+        // When:
+        final Iterable<RawField> fields = inspector.getFields(SomeType.class, inspectors);
+
+        // Then:
+        assertThat(ImmutableList.copyOf(fields), contains(
+            rawField(SomeType.class, "field"),
+            rawField(SuperType.class, "superField")
+        ));
+    }
+
+    @Test
+    public void shouldCacheFieldsPerInspectors() throws Exception {
+        // Given:
+        final Iterable<RawField> first = inspector.getFields(SomeType.class, inspectors);
+
+        // When:
+        final Iterable<RawField> second = inspector.getFields(SomeType.class, inspectors);
+
+        // Then:
+        assertThat(second, is(sameInstance(first)));
+    }
+
+    @Test
+    public void shouldFallBackToFieldInspectorForOtherTypes() throws Exception {
+        // Given:
+        class OtherType {
+            public String other;
+        }
+
+        // When:
+        final Iterable<RawField> fields = inspector.getFields(OtherType.class, inspectors);
+
+        // Then:
+        assertThat(ImmutableList.copyOf(fields), contains(rawField(OtherType.class, "other")));
+    }
+
+    @Test(expectedExceptions = InspectionException.class)
+    public void shouldThrowIfFieldLookupFails() throws Exception {
+        // Given:
+        final DirectFieldInspector broken = new DirectFieldInspector(SomeType.class) {
+            @Override
+            protected void collectFields(final Inspectors inspectors, final List<RawField> collected)
+                throws ReflectiveOperationException {
+                SomeType.class.getDeclaredField("unknown");
+            }
+        };
+
+        // When:
+        broken.getFields(SomeType.class, inspectors);
+    }
+
+    @Test
+    public void shouldRegisterAsSpecificInspectorForType() throws Exception {
+        // Given:
+        final Inspectors.Builder builder = mock(Inspectors.Builder.class);
+
+        // When:
+        inspector.register(builder);
+
+        // Then:
+        verify(builder).withSpecificInspector(SomeType.class, inspector);
+        verifyNoMoreInteractions(builder);
+    }
+
+    @Test
+    public void shouldAlsoRegisterGenericTypeParameterisedByItsTypeVariables() throws Exception {
+        // Given:
+        final Inspectors.Builder builder = mock(Inspectors.Builder.class);
+        final DirectFieldInspector generic = new DirectFieldInspector(GenericType.class) {
+            @Override
+            protected void collectFields(final Inspectors inspectors, final List<RawField> collected) {
+            }
+        };
+
+        // When:
+        generic.register(builder);
+
+        // Then:
+        verify(builder).withSpecificInspector(GenericType.class, generic);
+        verify(builder).withSpecificInspector(
+            TypeUtils.parameterise(GenericType.class, GenericType.class.getTypeParameters()), generic);
+    }
+
+    @Test
+    public void shouldBeFoundForAnyParameterisationOfGenericType() throws Exception {
+        // Given:
+        final DirectFieldInspector generic = new DirectFieldInspector(GenericType.class) {
+            @Override
+            protected void collectFields(final Inspectors inspectors, final List<RawField> collected) {
+            }
+        };
+
+        final Inspectors.Builder builder = Inspectors.newBuilder();
+
+        // When:
+        generic.register(builder);
+        final Inspectors inspectors = builder.build();
+
+        // Then:
+        assertThat(inspectors.get(TypeUtils.parameterise(GenericType.class, String.class)), is(generic));
+        assertThat(inspectors.hasSpecificParameterisationsOf(GenericType.class), is(false));
+    }
+
+    @Test
+    public void shouldTestEqualsAndHashCode() throws Exception {
+        new EqualsTester()
+            .addEqualityGroup(
+                new SomeTypeInspector(),
+                new SomeTypeInspector())
+            .addEqualityGroup(
+                new OtherTypeInspector())
+            .testEquals();
+    }
+
+    private static class SuperType {
+        public long superField;
+    }
+
+    private static class SomeType extends SuperType {
+        public String field;
+    }
+
+    private static class GenericType<T> {
+        public T field;
+    }
+
+    private static final class SomeTypeInspector extends DirectFieldInspector {
+        SomeTypeInspector() {
+            super(SomeType.class);
+        }
+
+        @Override
+        protected void collectFields(final Inspectors inspectors, final List<RawField> collected)
+            throws ReflectiveOperationException {
+            collected.add(new StdRawField(SomeType.class.getDeclaredField("field"), inspectors.getAnnotationInspector()));
+        }
+    }
+
+    private static final class OtherTypeInspector extends DirectFieldInspector {
+        OtherTypeInspector() {
+            super(SuperType.class);
+        }
+
+        @Override
+        protected void collectFields(final Inspectors inspectors, final List<RawField> collected) {
+        }
+    }
+}
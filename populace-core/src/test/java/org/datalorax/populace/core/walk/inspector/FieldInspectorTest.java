@@ -17,6 +17,7 @@
 package org.datalorax.populace.core.walk.inspector;
 
 import com.google.common.testing.EqualsTester;
+import org.datalorax.populace.core.walk.field.MethodHandleRawFieldFactory;
 import org.datalorax.populace.core.walk.field.RawField;
 import org.datalorax.populace.core.walk.inspector.annotation.AnnotationInspector;
 import org.testng.annotations.BeforeMethod;
@@ -40,6 +41,7 @@ public class FieldInspectorTest {
 
         final AnnotationInspector annotationInspector = mock(AnnotationInspector.class);
         when(inspectors.getAnnotationInspector()).thenReturn(annotationInspector);
+        when(inspectors.getRawFieldFactory()).thenReturn(MethodHandleRawFieldFactory.INSTANCE);
     }
 
     @Test
@@ -60,6 +62,26 @@ public class FieldInspectorTest {
         ));
     }
 
+    @Test
+    public void shouldCacheFieldsPerClassAndInspectors() throws Exception {
+        // Given:
+        class SomeType {
+            public String field;
+        }
+        final Inspectors otherInspectors = mock(Inspectors.class);
+        when(otherInspectors.getAnnotationInspector()).thenReturn(mock(AnnotationInspector.class));
+        when(otherInspectors.getRawFieldFactory()).thenReturn(MethodHandleRawFieldFactory.INSTANCE);
+        final Iterable<RawField> first = inspector.getFields(SomeType.class, inspectors);
+
+        // When:
+        final Iterable<RawField> second = inspector.getFields(SomeType.class, inspectors);
+        final Iterable<RawField> other = inspector.getFields(SomeType.class, otherInspectors);
+
+        // Then:
+        assertThat(second, is(sameInstance(first)));
+        assertThat(other, is(not(sameInstance(first))));
+    }
+
     @Test
     public void shouldReturnPrivateFields() throws Exception {
         // Given:
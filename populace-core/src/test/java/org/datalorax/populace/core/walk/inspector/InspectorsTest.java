@@ -142,6 +142,16 @@ public class InspectorsTest {
         assertThat(factory, is(Optional.of(expected)));
     }
 
+    @Test
+    public void shouldReportSpecificParameterisationsIfRegistered() throws Exception {
+        // Given:
+        inspectors = builder.withSpecificInspector(TypeUtils.parameterise(Collection.class, Integer.class), mock(Inspector.class)).build();
+
+        // Then:
+        assertThat(inspectors.hasSpecificParameterisationsOf(Collection.class), is(true));
+        assertThat(inspectors.hasSpecificParameterisationsOf(Optional.class), is(false));
+    }
+
     @Test
     public void shouldReturnNotPresentFromGetSuperIfNoSuperRegistered() throws Exception {
         // When:
@@ -89,6 +89,30 @@ public class ListInspectorTest {
         assertThat(list.get(0), is("new"));
     }
 
+    @Test
+    public void shouldReturnElementCount() throws Exception {
+        assertThat(inspector.getElementCount(Arrays.asList("a", "b", "c", "d")), is(4));
+    }
+
+    @Test
+    public void shouldExposeRangeOfElements() throws Exception {
+        // Given:
+        final Object list = Arrays.asList("a", "b", "c", "d");
+
+        // When:
+        final List<RawElement> elements = toList(inspector.getElements(list, 1, 3, inspectors));
+
+        // Then:
+        assertThat(elements, hasSize(2));
+        assertThat(elements.get(0).getValue(), is("b"));
+        assertThat(elements.get(1).getValue(), is("c"));
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void shouldThrowIfRangeOutOfBounds() throws Exception {
+        inspector.getElements(Arrays.asList("a", "b"), 1, 3, inspectors);
+    }
+
     @Test
     public void shouldTestEqualsAndHashCode() throws Exception {
         new EqualsTester()
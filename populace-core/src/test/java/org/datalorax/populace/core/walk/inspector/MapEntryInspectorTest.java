@@ -17,6 +17,7 @@
 package org.datalorax.populace.core.walk.inspector;
 
 import com.google.common.testing.EqualsTester;
+import org.datalorax.populace.core.walk.field.MethodHandleRawFieldFactory;
 import org.datalorax.populace.core.walk.field.RawField;
 import org.datalorax.populace.core.walk.inspector.annotation.AnnotationInspector;
 import org.mockito.Mock;
@@ -52,6 +53,7 @@ public class MapEntryInspectorTest {
         MockitoAnnotations.initMocks(this);
 
         when(inspectors.getAnnotationInspector()).thenReturn(annotationInspector);
+        when(inspectors.getRawFieldFactory()).thenReturn(MethodHandleRawFieldFactory.INSTANCE);
 
         inspector = MapEntryInspector.INSTANCE;
     }
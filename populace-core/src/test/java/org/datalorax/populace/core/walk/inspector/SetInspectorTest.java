@@ -149,6 +149,78 @@ public class SetInspectorTest {
         assertThat(copy, is(equalTo(set)));
     }
 
+    @SuppressWarnings("unchecked")
+    @Test
+    public void shouldRebuildSetOnceAllElementsWalkedIfElementChangedInPlaceWhileInSet() throws Exception {
+        // Given:
+        final Set<List<String>> set = new HashSet<>();
+        final List<String> one = new ArrayList<>(Collections.singletonList("one"));
+        final List<String> two = new ArrayList<>(Collections.singletonList("two"));
+        set.add(one);
+        set.add(two);
+
+        final Iterator<RawElement> elements = inspector.getElements(set, null);
+        final RawElement first = elements.next();
+        final List<?> other = first.getValue() == one ? two : one;
+
+        // When:
+        first.preWalk();
+        ((List<String>) other).add("changed");     // e.g. via another path through the graph
+        first.postWalk();
+        walkAll(elements);
+
+        // Then:
+        assertThat(set, hasSize(2));
+        assertThat(set.contains(other), is(true));
+    }
+
+    @Test
+    public void shouldNotChangeSetIfNoElementsWalked() throws Exception {
+        // Given:
+        final Set<String> set = new LinkedHashSet<>(Arrays.asList("one", "two"));
+
+        // When:
+        collectAll(inspector.getElements(set, null));
+
+        // Then:
+        assertThat(set, contains("one", "two"));
+    }
+
+    @Test
+    public void shouldMaintainOrderOfOrderedSets() throws Exception {
+        // Given:
+        final Set<String> set = new LinkedHashSet<>(Arrays.asList("one", "two", "three"));
+
+        // When:
+        walkAll(inspector.getElements(set, null));
+
+        // Then:
+        assertThat(set, contains("one", "two", "three"));
+    }
+
+    @Test(timeOut = 10_000)
+    public void shouldWalkLargeSetsInLinearTime() throws Exception {
+        // Given:
+        final Set<Integer> set = new HashSet<>();
+        for (int i = 0; i != 100_000; ++i) {
+            set.add(i);
+        }
+
+        // When:
+        final Iterator<RawElement> elements = inspector.getElements(set, null);
+        while (elements.hasNext()) {
+            final RawElement element = elements.next();
+            element.preWalk();
+            element.setValue(-1 - (Integer) element.getValue());
+            element.postWalk();
+        }
+
+        // Then:
+        assertThat(set, hasSize(100_000));
+        assertThat(set, hasItems(-1, -100_000));
+        assertThat(set, not(hasItem(0)));
+    }
+
     @Test
     public void shouldHandleReadingExistingNullElements() throws Exception {
         // Given:
@@ -206,6 +278,14 @@ public class SetInspectorTest {
             .testEquals();
     }
 
+    private static void walkAll(final Iterator<RawElement> it) {
+        while (it.hasNext()) {
+            final RawElement element = it.next();
+            element.preWalk();
+            element.postWalk();
+        }
+    }
+
     private static List<RawElement> collectAll(Iterator<RawElement> it) {
         final List<RawElement> elements = new ArrayList<>();
         while (it.hasNext()) {
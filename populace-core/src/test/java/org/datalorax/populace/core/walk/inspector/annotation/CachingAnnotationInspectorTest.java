@@ -0,0 +1,148 @@
+/*
+ * Copyright (c) 2015 Andrew Coates
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.datalorax.populace.core.walk.inspector.annotation;
+
+import com.google.common.testing.EqualsTester;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class CachingAnnotationInspectorTest {
+    @SuppressWarnings("UnusedDeclaration")
+    private String value;
+    private final Field field;
+    private final Test annotation;
+    private final Method getter;
+    private final Method setter;
+    private AnnotationInspector delegate;
+    private CachingAnnotationInspector inspector;
+
+    public CachingAnnotationInspectorTest() throws Exception {
+        this.field = getClass().getDeclaredField("value");
+        this.annotation = getClass().getDeclaredMethod("shouldTestEqualsAndHashCode").getAnnotation(Test.class);
+        this.getter = getClass().getDeclaredMethod("getValue");
+        this.setter = getClass().getDeclaredMethod("setValue", String.class);
+    }
+
+    @BeforeMethod
+    public void setUp() throws Exception {
+        delegate = mock(AnnotationInspector.class);
+        inspector = new CachingAnnotationInspector(delegate);
+    }
+
+    @Test
+    public void shouldOnlyLookUpFieldAnnotationOnce() throws Exception {
+        // Given:
+        when(delegate.getAnnotation(field, Test.class)).thenReturn(annotation);
+
+        // When:
+        inspector.getAnnotation(field, Test.class);
+        final Test result = inspector.getAnnotation(field, Test.class);
+
+        // Then:
+        assertThat(result, is(sameInstance(annotation)));
+        verify(delegate, times(1)).getAnnotation(field, Test.class);
+    }
+
+    @Test
+    public void shouldCacheAbsenceOfFieldAnnotation() throws Exception {
+        // When:
+        inspector.getAnnotation(field, Test.class);
+        final Test result = inspector.getAnnotation(field, Test.class);
+
+        // Then:
+        assertThat(result, is(nullValue()));
+        verify(delegate, times(1)).getAnnotation(field, Test.class);
+    }
+
+    @Test
+    public void shouldShareIndexBetweenEqualFields() throws Exception {
+        // Given:
+        final Field copy = getClass().getDeclaredField("value");
+
+        // When:
+        inspector.getAnnotation(field, Test.class);
+        inspector.getAnnotation(copy, Test.class);
+
+        // Then:
+        verify(delegate, times(1)).getAnnotation(field, Test.class);
+    }
+
+    @Test
+    public void shouldOnlyLookUpAccessorAnnotationOnce() throws Exception {
+        // Given:
+        when(delegate.getAnnotation(Test.class, getter, setter)).thenReturn(annotation);
+
+        // When:
+        inspector.getAnnotation(Test.class, getter, setter);
+        final Test result = inspector.getAnnotation(Test.class, getter, setter);
+
+        // Then:
+        assertThat(result, is(sameInstance(annotation)));
+        verify(delegate, times(1)).getAnnotation(Test.class, getter, setter);
+    }
+
+    @Test
+    public void shouldIndexAccessorsSeparately() throws Exception {
+        // Given:
+        when(delegate.getAnnotation(Test.class, getter, setter)).thenReturn(annotation);
+
+        // When:
+        final Test result = inspector.getAnnotation(Test.class, getter);
+
+        // Then:
+        assertThat(result, is(nullValue()));
+    }
+
+    @Test
+    public void shouldNotDoubleWrap() throws Exception {
+        assertThat(CachingAnnotationInspector.of(inspector), is(sameInstance(inspector)));
+    }
+
+    @Test
+    public void shouldTestEqualsAndHashCode() throws Exception {
+        final AnnotationInspector other = mock(AnnotationInspector.class);
+        new EqualsTester()
+            .addEqualityGroup(
+                new CachingAnnotationInspector(delegate),
+                new CachingAnnotationInspector(delegate))
+            .addEqualityGroup(
+                new CachingAnnotationInspector(other))
+            .testEquals();
+    }
+
+    @SuppressWarnings("UnusedDeclaration")
+    private String getValue() {
+        return value;
+    }
+
+    @SuppressWarnings("UnusedDeclaration")
+    private void setValue(final String value) {
+        this.value = value;
+    }
+}
@@ -0,0 +1,64 @@
+/*
+ * Copyright (c) 2015 Andrew Coates
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.datalorax.populace.core.walk.instance;
+
+import org.datalorax.populace.core.walk.element.ElementInfo;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.function.Predicate;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class ConcurrentInstanceTrackerTest {
+    @Test
+    public void shouldIncludeInstanceOnceWhenSeenConcurrently() throws Exception {
+        // Given:
+        final int threads = 8;
+        final Object value = new Object();
+        final ElementInfo elementInfo = mock(ElementInfo.class);
+        when(elementInfo.getValue()).thenReturn(value);
+        final Predicate<ElementInfo> filter = new ConcurrentInstanceTracker().getElementFilter();
+        final CyclicBarrier barrier = new CyclicBarrier(threads);
+        final ExecutorService executor = Executors.newFixedThreadPool(threads);
+
+        try {
+            // When:
+            final List<Future<Boolean>> results = new ArrayList<>();
+            for (int i = 0; i != threads; ++i) {
+                results.add(executor.submit(() -> {
+                    barrier.await();
+                    return filter.test(elementInfo);
+                }));
+            }
+
+            // Then:
+            int included = 0;
+            for (Future<Boolean> result : results) {
+                included += result.get() ? 1 : 0;
+            }
+            assertThat(included, is(1));
+        } finally {
+            executor.shutdown();
+        }
+    }
+}
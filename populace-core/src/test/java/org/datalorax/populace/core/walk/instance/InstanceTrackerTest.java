@@ -18,6 +18,7 @@ package org.datalorax.populace.core.walk.instance;
 
 import com.google.common.testing.EqualsTester;
 import com.google.common.testing.NullPointerTester;
+import org.datalorax.populace.core.walk.FlyweightFilter;
 import org.datalorax.populace.core.walk.element.ElementInfo;
 import org.datalorax.populace.core.walk.field.FieldInfo;
 import org.testng.annotations.BeforeMethod;
@@ -42,6 +43,13 @@ public class InstanceTrackerTest {
         elementFilter = tracker.getElementFilter();
     }
 
+    @Test
+    public void shouldAcceptFlyweights() throws Exception {
+        // Then:
+        assertThat(FlyweightFilter.acceptsFlyweights(fieldFilter), is(true));
+        assertThat(FlyweightFilter.acceptsFlyweights(elementFilter), is(true));
+    }
+
     @Test
     public void shouldIncludeFieldWithUnseenValue() throws Exception {
         // Given:
@@ -0,0 +1,116 @@
+/*
+ * Copyright (c) 2015 Andrew Coates
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.datalorax.populace.core.walk.listener;
+
+import com.google.common.testing.EqualsTester;
+import org.apache.commons.logging.Log;
+import org.datalorax.populace.core.walk.element.ElementInfo;
+import org.datalorax.populace.core.walk.field.FieldInfo;
+import org.datalorax.populace.core.walk.field.PathProvider;
+import org.datalorax.populace.core.walk.inspector.TerminalInspector;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import static org.mockito.Mockito.*;
+
+public class LoggingWalkListenerTest {
+    private Log log;
+    private FieldInfo field;
+    private ElementInfo element;
+    private LoggingWalkListener listener;
+
+    @BeforeMethod
+    public void setUp() throws Exception {
+        log = mock(Log.class);
+        field = mock(FieldInfo.class);
+        element = mock(ElementInfo.class);
+
+        when(field.getPath()).thenReturn("Type.field");
+        when(field.getName()).thenReturn("field");
+        when(element.getPath()).thenReturn("Type.list[0]");
+
+        listener = new LoggingWalkListener(log);
+    }
+
+    @Test
+    public void shouldLogVisitsAtInfo() throws Exception {
+        // Given:
+        when(log.isInfoEnabled()).thenReturn(true);
+
+        // When:
+        listener.visitField(field);
+        listener.visitElement(element);
+
+        // Then:
+        verify(log).info(startsWith("Type.field - Visiting field: "));
+        verify(log).info(startsWith("Type.list[0] - Visiting element: "));
+    }
+
+    @Test
+    public void shouldLogEnterInstanceAtInfo() throws Exception {
+        // Given:
+        final PathProvider path = mock(PathProvider.class);
+        when(path.getPath()).thenReturn("Type.field");
+        when(log.isInfoEnabled()).thenReturn(true);
+
+        // When:
+        listener.enterInstance("value", String.class, TerminalInspector.INSTANCE, path);
+
+        // Then:
+        verify(log).info("Type.field - Walking type: j.l.String, inspector: o.d.p.c.w.i.TerminalInspector");
+    }
+
+    @Test
+    public void shouldLogSkipsAtDebug() throws Exception {
+        // Given:
+        when(log.isDebugEnabled()).thenReturn(true);
+
+        // When:
+        listener.skipField(field, WalkListener.SkipReason.EXCLUDED);
+        listener.skipElement(element, WalkListener.SkipReason.NULL_VALUE);
+
+        // Then:
+        verify(log).debug("Type.field - Skipping excluded field: field");
+        verify(log).debug("Type.list[0] - Skipping null element");
+    }
+
+    @Test
+    public void shouldNotBuildMessagesIfLevelNotEnabled() throws Exception {
+        // When:
+        listener.visitField(field);
+        listener.visitElement(element);
+        listener.skipField(field, WalkListener.SkipReason.EXCLUDED);
+        listener.skipElement(element, WalkListener.SkipReason.EXCLUDED);
+
+        // Then:
+        verify(field, never()).getPath();
+        verify(element, never()).getPath();
+        verify(log, never()).info(any());
+        verify(log, never()).debug(any());
+    }
+
+    @Test
+    public void shouldTestEqualsAndHashCode() throws Exception {
+        new EqualsTester()
+            .addEqualityGroup(
+                new LoggingWalkListener(log),
+                new LoggingWalkListener(log))
+            .addEqualityGroup(
+                new LoggingWalkListener(mock(Log.class)))
+            .testEquals();
+    }
+}
@@ -23,8 +23,13 @@ import org.mockito.InOrder;
 import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Test;
 
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
 import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 public class FieldVisitorPairTest {
     private FieldVisitor first;
@@ -52,6 +57,89 @@ public class FieldVisitorPairTest {
         inOrder.verify(second).visit(field);
     }
 
+    @Test
+    public void shouldContinueIfNeitherVisitorIsPruning() throws Exception {
+        // When:
+        final VisitResult result = FieldVisitors.visitWithResult(visitor, field);
+
+        // Then:
+        assertThat(result, is(VisitResult.CONTINUE));
+        verify(first).visit(field);
+        verify(second).visit(field);
+    }
+
+    @Test
+    public void shouldReturnResultWithMostEffect() throws Exception {
+        // Given:
+        final PruningFieldVisitor skip = mock(PruningFieldVisitor.class);
+        when(skip.visitWithResult(field)).thenReturn(VisitResult.SKIP_SUBTREE);
+        visitor = new FieldVisitorPair(skip, second);
+
+        // When:
+        final VisitResult result = FieldVisitors.visitWithResult(visitor, field);
+
+        // Then:
+        assertThat(result, is(VisitResult.SKIP_SUBTREE));
+        verify(second).visit(field);
+    }
+
+    @Test
+    public void shouldNotCallSecondVisitorIfFirstTerminates() throws Exception {
+        // Given:
+        final PruningFieldVisitor terminate = mock(PruningFieldVisitor.class);
+        when(terminate.visitWithResult(field)).thenReturn(VisitResult.TERMINATE);
+        visitor = new FieldVisitorPair(terminate, second);
+
+        // When:
+        final VisitResult result = FieldVisitors.visitWithResult(visitor, field);
+
+        // Then:
+        assertThat(result, is(VisitResult.TERMINATE));
+        verify(second, never()).visit(field);
+    }
+
+    @Test
+    public void shouldBeThreadSafeIfBothVisitorsAre() throws Exception {
+        // Given:
+        when(first.isThreadSafe()).thenReturn(true);
+        when(second.isThreadSafe()).thenReturn(true);
+
+        // Then:
+        assertThat(visitor.isThreadSafe(), is(true));
+    }
+
+    @Test
+    public void shouldNotBeThreadSafeIfEitherVisitorIsNot() throws Exception {
+        // Given:
+        when(first.isThreadSafe()).thenReturn(true);
+        when(second.isThreadSafe()).thenReturn(false);
+
+        // Then:
+        assertThat(visitor.isThreadSafe(), is(false));
+        assertThat(new FieldVisitorPair(second, first).isThreadSafe(), is(false));
+    }
+
+    @Test
+    public void shouldAcceptFlyweightsIfBothVisitorsDo() throws Exception {
+        // Given:
+        when(first.acceptsFlyweights()).thenReturn(true);
+        when(second.acceptsFlyweights()).thenReturn(true);
+
+        // Then:
+        assertThat(visitor.acceptsFlyweights(), is(true));
+    }
+
+    @Test
+    public void shouldNotAcceptFlyweightsIfEitherVisitorDoesNot() throws Exception {
+        // Given:
+        when(first.acceptsFlyweights()).thenReturn(true);
+        when(second.acceptsFlyweights()).thenReturn(false);
+
+        // Then:
+        assertThat(visitor.acceptsFlyweights(), is(false));
+        assertThat(new FieldVisitorPair(second, first).acceptsFlyweights(), is(false));
+    }
+
     @Test
     public void shouldTestEqualsAndHashCode() throws Exception {
         new EqualsTester()
@@ -20,6 +20,8 @@ import com.google.common.testing.EqualsTester;
 import org.datalorax.populace.core.walk.field.FieldInfo;
 import org.testng.annotations.Test;
 
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 
@@ -39,6 +41,11 @@ public class SetAccessibleFieldVisitorTest {
         verify(fieldInfo).ensureAccessible();
     }
 
+    @Test
+    public void shouldBeThreadSafe() throws Exception {
+        assertThat(SetAccessibleFieldVisitor.INSTANCE.isThreadSafe(), is(true));
+    }
+
     @Test
     public void shouldTestEqualsAndHashCode() throws Exception {
         new EqualsTester()
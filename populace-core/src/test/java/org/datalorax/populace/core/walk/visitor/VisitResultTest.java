@@ -0,0 +1,34 @@
+/*
+ * Copyright (c) 2015 Andrew Coates
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.datalorax.populace.core.walk.visitor;
+
+import org.testng.annotations.Test;
+
+import static org.datalorax.populace.core.walk.visitor.VisitResult.*;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+public class VisitResultTest {
+    @Test
+    public void shouldCombineToResultWithMostEffect() throws Exception {
+        assertThat(CONTINUE.combine(CONTINUE), is(CONTINUE));
+        assertThat(CONTINUE.combine(SKIP_SUBTREE), is(SKIP_SUBTREE));
+        assertThat(SKIP_SUBTREE.combine(CONTINUE), is(SKIP_SUBTREE));
+        assertThat(SKIP_SUBTREE.combine(TERMINATE), is(TERMINATE));
+        assertThat(TERMINATE.combine(CONTINUE), is(TERMINATE));
+    }
+}
@@ -17,6 +17,7 @@
 package org.datalorax.populace.jaxb.field.filter;
 
 import org.datalorax.populace.core.walk.field.FieldInfo;
+import org.datalorax.populace.core.walk.field.filter.StaticFieldFilter;
 
 import javax.xml.bind.annotation.XmlTransient;
 import java.util.function.Predicate;
@@ -26,7 +27,7 @@ import java.util.function.Predicate;
  */
 public class FieldFilters extends org.datalorax.populace.core.walk.field.filter.FieldFilters {
     public static Predicate<FieldInfo> excludeXmlTransient() {
-        return f -> fieldNotXmlTransient(f) && fieldTypeNotXmlTransient(f);
+        return (StaticFieldFilter) f -> fieldNotXmlTransient(f) && fieldTypeNotXmlTransient(f);
     }
 
     private static boolean fieldNotXmlTransient(final FieldInfo field) {
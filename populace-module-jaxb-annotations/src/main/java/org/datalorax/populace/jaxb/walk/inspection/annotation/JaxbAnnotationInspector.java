@@ -26,6 +26,8 @@ import java.lang.reflect.Method;
 import java.lang.reflect.Type;
 import java.util.Arrays;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 /**
  * An {@link org.datalorax.populace.core.walk.inspector.annotation.AnnotationInspector} that will search for annotations not just
@@ -37,6 +39,14 @@ import java.util.Set;
 public class JaxbAnnotationInspector implements AnnotationInspector {
     public static final JaxbAnnotationInspector INSTANCE = new JaxbAnnotationInspector();
 
+    private static final ClassValue<ConcurrentMap<Field, Accessors>> ACCESSORS =
+        new ClassValue<ConcurrentMap<Field, Accessors>>() {
+            @Override
+            protected ConcurrentMap<Field, Accessors> computeValue(final Class<?> type) {
+                return new ConcurrentHashMap<>();
+            }
+        };
+
     @Override
     public <T extends Annotation> T getAnnotation(final Field field, final Class<T> type) {
         if (!type.getCanonicalName().startsWith("javax.xml.bind.annotation")) {
@@ -85,7 +95,7 @@ public class JaxbAnnotationInspector implements AnnotationInspector {
             return null;
         }
 
-        final Method method = findGetter(field);
+        final Method method = getAccessors(field).getter;
         return method == null ? null : method.getAnnotation(type);
     }
 
@@ -94,10 +104,19 @@ public class JaxbAnnotationInspector implements AnnotationInspector {
             return null;
         }
 
-        final Method method = findSetter(field);
+        final Method method = getAccessors(field).setter;
         return method == null ? null : method.getAnnotation(type);
     }
 
+    private Accessors getAccessors(final Field field) {
+        final ConcurrentMap<Field, Accessors> accessors = ACCESSORS.get(field.getDeclaringClass());
+        final Accessors found = accessors.get(field);
+        if (found != null) {
+            return found;
+        }
+        return accessors.computeIfAbsent(field, f -> new Accessors(findGetter(f), findSetter(f)));
+    }
+
     private Method findGetter(final Field field) {
         final Set<String> validGetters = getValidGetterNames(field);
         for (Method method : field.getDeclaringClass().getDeclaredMethods()) {
@@ -153,4 +172,17 @@ public class JaxbAnnotationInspector implements AnnotationInspector {
         final String name = field.getName();
         return Character.toUpperCase(name.charAt(0)) + name.substring(1);
     }
+
+    /**
+     * The getter and setter, if any, of a field, as found by the first lookup of an annotation on the field.
+     */
+    private static final class Accessors {
+        private final Method getter;
+        private final Method setter;
+
+        private Accessors(final Method getter, final Method setter) {
+            this.getter = getter;
+            this.setter = setter;
+        }
+    }
 }